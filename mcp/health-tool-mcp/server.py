@@ -17,6 +17,7 @@
 from fastmcp import FastMCP
 import subprocess
 import os
+import socket
 import shutil
 import json
 import uuid
@@ -50,6 +51,12 @@ def _int_env(name: str, default: int) -> int:
         return default
 
 SUBPROCESS_TIMEOUT = _int_env("MCP_SUBPROCESS_TIMEOUT", 300)
+# Forward commands to a running `bal health serve` instance ("auto") or always spawn `bal` ("off")
+HEALTH_SERVER_MODE = (os.environ.get("MCP_HEALTH_SERVER") or "auto").strip().lower()
+HEALTH_SERVER_STATE_FILE = os.environ.get("MCP_HEALTH_SERVER_STATE") or os.path.join(
+    os.path.expanduser("~"), ".ballerina", "health-tool", "serve.json"
+)
+HEALTH_SERVER_CONNECT_TIMEOUT = 5
 MIN_FREE_DISK_MB = _int_env("MCP_MIN_FREE_DISK_MB", 100)
 
 # Ballerina identifier: must start with lowercase letter, then lowercase alphanumeric/underscore
@@ -188,6 +195,69 @@ def find_bal_executable() -> Optional[str]:
 
     return None
 
+def _run_on_health_server(cmd: list[str], cwd: str) -> Optional[subprocess.CompletedProcess]:
+    """Forward a `bal health <sub-command> ...` command to a running `bal health serve` instance.
+
+    Returns None when no server is available, in which case the caller runs the command as a subprocess.
+    Raises subprocess.TimeoutExpired if the server does not respond within SUBPROCESS_TIMEOUT.
+    """
+    if HEALTH_SERVER_MODE == "off":
+        return None
+    try:
+        with open(HEALTH_SERVER_STATE_FILE, "r", encoding="utf-8") as f:
+            state = json.load(f)
+        address = (state.get("host") or "127.0.0.1", int(state["port"]))
+        token = state["token"]
+    except (OSError, ValueError, KeyError, TypeError):
+        return None
+
+    # cmd is [bal, "health", <sub-command>, <args>...]
+    request = {
+        "token": token,
+        "command": cmd[2],
+        "args": cmd[3:],
+        "workingDirectory": os.path.abspath(cwd),
+    }
+    try:
+        sock = socket.create_connection(address, timeout=HEALTH_SERVER_CONNECT_TIMEOUT)
+    except OSError:
+        # stale state file, the server is not running
+        return None
+    try:
+        with sock:
+            sock.settimeout(SUBPROCESS_TIMEOUT)
+            sock.sendall((json.dumps(request) + "\n").encode("utf-8"))
+            with sock.makefile("r", encoding="utf-8") as reader:
+                line = reader.readline()
+    except socket.timeout:
+        raise subprocess.TimeoutExpired(cmd, SUBPROCESS_TIMEOUT)
+    except OSError:
+        return None
+    if not line:
+        return None
+    try:
+        response = json.loads(line)
+    except ValueError:
+        return None
+    return subprocess.CompletedProcess(cmd, int(response.get("exitCode", 1)), response.get("output") or "", "")
+
+def run_health_command(cmd: list[str], cwd: str) -> subprocess.CompletedProcess:
+    """Run a `bal health` command on the health tool server if one is running, otherwise as a subprocess."""
+    result = _run_on_health_server(cmd, cwd)
+    if result is not None:
+        return result
+    # Auto-confirm overwrite prompts so generation can replace existing packages
+    return subprocess.run(
+        cmd,
+        capture_output=True,
+        text=True,
+        timeout=SUBPROCESS_TIMEOUT,
+        env=os.environ.copy(),
+        shell=False,
+        input="y\ny\n",
+        cwd=cwd,
+    )
+
 def get_user_workspace() -> Optional[str]:
     """Get the user's workspace directory from environment variables.
     
@@ -702,20 +772,7 @@ def fhirPackageGeneration(
         return disk_err
 
     try:
-        # Create environment with full PATH
-        env = os.environ.copy()
-
-        # Auto-confirm overwrite prompts so generation can replace existing packages
-        result = subprocess.run(
-            cmd,
-            capture_output=True,
-            text=True,
-            timeout=SUBPROCESS_TIMEOUT,
-            env=env,
-            shell=False,
-            input="y\ny\n",
-            cwd=working_directory
-        )
+        result = run_health_command(cmd, working_directory)
         response = format_tool_output(
             tool_name="fhirPackageGeneration",
             cmd=cmd,
@@ -1030,9 +1087,6 @@ def fhirTemplateGeneration(
         return disk_err
 
     try:
-        # Create environment with full PATH
-        env = os.environ.copy()
-
         # Capture file mtimes before generation to detect overwrites
         output_path = Path(output_location)
         mtime_before = {}
@@ -1045,17 +1099,7 @@ def fhirTemplateGeneration(
                 pass
 
         # Execute the command
-        # Auto-confirm overwrite prompts so generation can replace existing packages
-        result = subprocess.run(
-            cmd,
-            capture_output=True,
-            text=True,
-            timeout=SUBPROCESS_TIMEOUT,
-            env=env,
-            shell=False,
-            input="y\ny\n",
-            cwd=working_directory,
-        )
+        result = run_health_command(cmd, working_directory)
 
         # Check for overwritten files by comparing mtimes
         was_overwritten = False
@@ -1325,19 +1369,7 @@ def cdsTemplateGeneration(
         return disk_err
 
     try:
-        env = os.environ.copy()
-
-        # Auto-confirm overwrite prompts so generation can replace existing packages
-        result = subprocess.run(
-            cmd,
-            capture_output=True,
-            text=True,
-            timeout=SUBPROCESS_TIMEOUT,
-            env=env,
-            shell=False,
-            input="y\ny\n",
-            cwd=working_directory
-        )
+        result = run_health_command(cmd, working_directory)
         response = format_tool_output(
             tool_name="cdsTemplateGeneration",
             cmd=cmd,
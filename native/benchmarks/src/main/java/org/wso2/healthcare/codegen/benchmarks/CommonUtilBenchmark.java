@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.codegen.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.CommonUtil;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the string utilities applied to every element and file name of a generated package.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommonUtilBenchmark {
+
+    // definition of Patient.communication.language in US Core, a typical multiline element description
+    private static final String MULTILINE_DESCRIPTION = "The ISO-639-1 alpha 2 code in lower case for the " +
+            "language,\noptionally followed by a hyphen and the ISO-3166-1 alpha 2 code for the region in upper " +
+            "case;\r\ne.g. \"en\" for English, or \"en-US\" for American English versus \"en-EN\" for England " +
+            "English.  The  \\\"language\\\" element\n\n    is    required.";
+
+    @Benchmark
+    public String camelToSnake(ResourceNames resourceNames) {
+        return CommonUtil.camelToSnake(resourceNames.resourceName);
+    }
+
+    @Benchmark
+    public String parseMultilineString() {
+        return CommonUtil.parseMultilineString(MULTILINE_DESCRIPTION);
+    }
+
+    /**
+     * Resource names converted to the file names of the generated resources.
+     */
+    @State(Scope.Benchmark)
+    public static class ResourceNames {
+
+        @Param({"USCorePatientProfile", "USCoreBloodPressureProfile", "ExplanationOfBenefitItemAdjudication"})
+        public String resourceName;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.codegen.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.common.FHIRSpecificationData;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.GenerationSession;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.config.BallerinaPackageGenToolConfig;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen.CoreContextBundle;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen.versions.r4.R4DatatypeContextGenerator;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen.versions.r4.R4ExtensionContextGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the data type and extension template context build of a specification, with the contexts of the core
+ * definitions restored from the bundle of the library and with all the definitions processed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CoreContextBenchmark {
+
+    @Param({"true", "false"})
+    public boolean bundled;
+
+    private BallerinaPackageGenToolConfig toolConfig;
+    private FHIRSpecificationData specificationData;
+
+    @Setup
+    public void setup() throws IOException {
+        UsCoreSpecification specification = UsCoreSpecification.getInstance();
+        toolConfig = specification.createPackageGenToolConfig(Files.createTempDirectory("core-context"));
+        specificationData = specification.getSpecificationData();
+    }
+
+    @Benchmark
+    public void buildDatatypeAndExtensionContexts(Blackhole blackhole) {
+        // data types are registered per session, hence each build starts with a new one
+        GenerationSession session = new GenerationSession(toolConfig);
+        CoreContextBundle coreContexts = bundled ? CoreContextBundle.getBundle(session, "r4") :
+                CoreContextBundle.emptyBundle();
+        try (GenerationSession.Binding ignored = session.bind()) {
+            blackhole.consume(new R4DatatypeContextGenerator(session, specificationData, coreContexts)
+                    .getDatatypeTemplateContextMap());
+            blackhole.consume(new R4ExtensionContextGenerator(session, specificationData, coreContexts)
+                    .getExtensionTemplateContext());
+        }
+    }
+}
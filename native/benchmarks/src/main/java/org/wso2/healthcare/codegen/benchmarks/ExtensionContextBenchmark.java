@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.codegen.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.common.FHIRSpecificationData;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.GenerationSession;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.config.BallerinaPackageGenToolConfig;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.ExtensionTemplateContext;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen.versions.r4.R4ExtensionContextGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the extension template context build of a specification. The base extension contexts are built
+ * first, followed by a context for each sub-extension slice of the complex extensions. IGs shipping many complex
+ * extensions, e.g. Da Vinci PAS or mCODE, or a synthetic IG written with {@code -Dsynthetic.extensionSlices}, can be
+ * benchmarked with {@code -Dbenchmark.specification}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExtensionContextBenchmark {
+
+    private BallerinaPackageGenToolConfig toolConfig;
+    private FHIRSpecificationData specificationData;
+
+    @Setup
+    public void setup() throws IOException {
+        UsCoreSpecification specification = UsCoreSpecification.getInstance();
+        toolConfig = specification.createPackageGenToolConfig(Files.createTempDirectory("extension-context"));
+        specificationData = specification.getSpecificationData();
+    }
+
+    @Benchmark
+    public ExtensionTemplateContext buildExtensionContexts() {
+        // data types are registered per session, hence each build starts with a new one
+        GenerationSession session = new GenerationSession(toolConfig);
+        try (GenerationSession.Binding ignored = session.bind()) {
+            return new R4ExtensionContextGenerator(session, specificationData).getExtensionTemplateContext();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.codegen.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.GenerationSession;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.Element;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.GeneratorUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the identifier utilities of the package generator, called for each profile, element and extended
+ * element of a package.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratorUtilsBenchmark {
+
+    @Benchmark
+    public String resolveSpecialCharacters(Identifiers identifiers) {
+        return identifiers.generatorUtils.resolveSpecialCharacters(identifiers.identifier);
+    }
+
+    @Benchmark
+    public String getUniqueIdentifierFromId(Identifiers identifiers) {
+        return identifiers.generatorUtils.getUniqueIdentifierFromId(identifiers.identifier);
+    }
+
+    /**
+     * Allocate the identifiers of the given number of extended elements sharing the same path, as done for the
+     * extensions of a resource. Each allocation probes the identifiers allocated before it.
+     */
+    @Benchmark
+    public String generateExtendedElementIdentifier(ExtendedElements extendedElements) {
+        GeneratorUtils generatorUtils = newGeneratorUtils();
+        String identifier = null;
+        for (int i = 0; i < extendedElements.elementCount; i++) {
+            identifier = generatorUtils.generateExtendedElementIdentifier(extendedElements.element, "USCorePatient");
+        }
+        return identifier;
+    }
+
+    private static GeneratorUtils newGeneratorUtils() {
+        // the benchmarked methods do not read the tool config
+        return new GenerationSession(null).getGeneratorUtils();
+    }
+
+    /**
+     * Profile ids and element names as found in US Core.
+     */
+    @State(Scope.Benchmark)
+    public static class Identifiers {
+
+        @Param({"us-core-blood-pressure", "StructureDefinition-us-core-observation-lab", "value[x]"})
+        public String identifier;
+
+        private GeneratorUtils generatorUtils;
+
+        @Setup
+        public void setup() {
+            generatorUtils = newGeneratorUtils();
+        }
+    }
+
+    /**
+     * Extended elements of a resource sharing the same path.
+     */
+    @State(Scope.Benchmark)
+    public static class ExtendedElements {
+
+        @Param({"1", "10", "100"})
+        public int elementCount;
+
+        private Element element;
+
+        @Setup
+        public void setup() {
+            element = new Element();
+            element.setName("extension");
+            element.setPath("Patient.extension");
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.codegen.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRImplementationGuide;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.GenerationSession;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.config.BallerinaPackageGenToolConfig;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.ResourceTemplateContext;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen.versions.r4.R4ResourceContextGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the resource template context build of the US Core profiles. Each profile is built from its
+ * snapshot: the element definitions are sorted and placed in the snapshot element map, and the resource, slice and
+ * extended elements are derived from that map.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResourceContextBenchmark {
+
+    private BallerinaPackageGenToolConfig toolConfig;
+    private FHIRImplementationGuide implementationGuide;
+
+    @Setup
+    public void setup() throws IOException {
+        UsCoreSpecification specification = UsCoreSpecification.getInstance();
+        toolConfig = specification.createPackageGenToolConfig(Files.createTempDirectory("resource-context"));
+        implementationGuide = specification.getImplementationGuides().values().iterator().next();
+    }
+
+    @Benchmark
+    public Map<String, ResourceTemplateContext> buildResourceContexts() {
+        // data types are registered per session, hence each build starts with a new one
+        GenerationSession session = new GenerationSession(toolConfig);
+        try (GenerationSession.Binding ignored = session.bind()) {
+            return new R4ResourceContextGenerator(session, implementationGuide, new HashMap<>())
+                    .getResourceTemplateContextMap();
+        }
+    }
+}
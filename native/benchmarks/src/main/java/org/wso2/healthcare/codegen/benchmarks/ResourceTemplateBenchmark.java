@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.codegen.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.healthcare.codegen.output.OutputSink;
+import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.GenerationSession;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.config.BallerinaPackageGenToolConfig;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.PackageTemplateContext;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen.AbstractPackageContextGenerator;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen.PackageContextGeneratorFactory;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.templategen.ResourceTemplateGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of rendering {@code fhir_resource.vm} for the resources of the US Core package. The package context is
+ * built once and the rendered sources are discarded, hence the benchmark covers the template context creation and
+ * the rendering only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResourceTemplateBenchmark {
+
+    private final Map<String, Object> generatorProperties = new HashMap<>();
+    private String targetDir;
+
+    @Setup
+    public void setup() throws IOException {
+        UsCoreSpecification specification = UsCoreSpecification.getInstance();
+        Path targetPath = Files.createTempDirectory("resource-template");
+        targetDir = targetPath.toString();
+        BallerinaPackageGenToolConfig toolConfig = specification.createPackageGenToolConfig(targetPath);
+        GenerationSession session = new GenerationSession(toolConfig);
+        AbstractPackageContextGenerator packageContextGenerator =
+                PackageContextGeneratorFactory.getPackageContextGenerator(
+                        toolConfig.getPackageConfig().getFhirVersion(), session,
+                        specification.getImplementationGuides(), specification.getSpecificationData());
+        PackageTemplateContext packageContext = packageContextGenerator.getPackageContext();
+
+        generatorProperties.put("toolConfig", toolConfig);
+        generatorProperties.put("session", session);
+        generatorProperties.put(OutputSink.PROPERTY_NAME, new DiscardingOutputSink());
+        generatorProperties.put("packageContext", packageContext);
+        generatorProperties.put("datatypeContext", packageContext.getDatatypeTemplateContextMap());
+        generatorProperties.put("extensionContext", packageContext.getExtensionTemplateContext());
+    }
+
+    @Benchmark
+    public ResourceTemplateGenerator renderResources() throws CodeGenException {
+        ResourceTemplateGenerator resourceTemplateGenerator = new ResourceTemplateGenerator(targetDir);
+        resourceTemplateGenerator.generate(null, generatorProperties);
+        return resourceTemplateGenerator;
+    }
+
+    /**
+     * Output sink which renders the templates without writing the rendered sources. Only the size of the sources is
+     * kept, so that the rendering cannot be optimized away.
+     */
+    private static class DiscardingOutputSink extends OutputSink {
+
+        private long renderedBytes;
+
+        @Override
+        public void writeFile(Path filePath, byte[] content) {
+            renderedBytes += content.length;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.codegen.benchmarks;
+
+import org.apache.velocity.VelocityContext;
+import org.apache.velocity.app.VelocityEngine;
+import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.healthcare.codegen.output.TemplateCache;
+import org.wso2.healthcare.codegen.output.TemplateRenderContext;
+import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of rendering the templates of a template mode generation of the given number of resource types. Each
+ * resource type renders the service, Ballerina.toml, Package.md, .gitignore, api config and component.yaml templates.
+ * <p>
+ * {@code perGeneratorEngine} sets up a Velocity engine for each generator of each resource type, which loads and
+ * parses the templates of the generator again, as the template generators did before the {@link TemplateCache}.
+ * {@code templateCache} renders through the parsed templates of the cache. The contexts only hold the identifiers of
+ * the resource type, hence the benchmark covers the engine setup and the template parsing saved by the cache rather
+ * than the merge of a full service model.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateCacheBenchmark {
+
+    private static final String TEMPLATE_PATH = "template/";
+
+    // templates of each generator run for a resource type: service, toml, meta and component yaml generators
+    private static final List<List<String>> GENERATOR_TEMPLATES = List.of(
+            List.of("balService.vm"),
+            List.of("ballerinaToml.vm"),
+            List.of("r4ModuleMd.vm", "gitignore.vm", "apiConfig.vm"),
+            List.of("componentYaml.vm"));
+
+    @Benchmark
+    public long perGeneratorEngine(ResourceTypes resourceTypes) {
+        long length = 0;
+        for (int i = 0; i < resourceTypes.resourceTypeCount; i++) {
+            String resourceType = "Resource" + i;
+            for (List<String> templates : GENERATOR_TEMPLATES) {
+                VelocityEngine velocityEngine = createVelocityEngine();
+                for (String template : templates) {
+                    VelocityContext velocityContext = new VelocityContext();
+                    setProperties(resourceType, velocityContext::put);
+                    StringWriter writer = new StringWriter();
+                    velocityEngine.getTemplate(TEMPLATE_PATH + template, StandardCharsets.UTF_8.name())
+                            .merge(velocityContext, writer);
+                    length += writer.getBuffer().length();
+                }
+            }
+        }
+        return length;
+    }
+
+    @Benchmark
+    public long templateCache(ResourceTypes resourceTypes) throws CodeGenException {
+        long length = 0;
+        for (int i = 0; i < resourceTypes.resourceTypeCount; i++) {
+            String resourceType = "Resource" + i;
+            for (List<String> templates : GENERATOR_TEMPLATES) {
+                for (String template : templates) {
+                    TemplateRenderContext templateContext = new TemplateRenderContext();
+                    setProperties(resourceType, templateContext::setProperty);
+                    length += TemplateCache.render(TEMPLATE_PATH + template, templateContext).length();
+                }
+            }
+        }
+        return length;
+    }
+
+    private static void setProperties(String resourceType, PropertySetter propertySetter) {
+        propertySetter.setProperty("resourceType", resourceType + "API");
+        propertySetter.setProperty("apiName", resourceType + "API");
+        propertySetter.setProperty("templateName", "FHIRServerTemplate");
+        propertySetter.setProperty("basePackage", "ballerinax/health.fhir.r4");
+        propertySetter.setProperty("basePackageImportIdentifier", "r4");
+        propertySetter.setProperty("servicePackageImportIdentifier", "fhirr4");
+        propertySetter.setProperty("dependentPackageImportIdentifier", "international401");
+    }
+
+    private static VelocityEngine createVelocityEngine() {
+        VelocityEngine velocityEngine = new VelocityEngine();
+        velocityEngine.setProperty(RuntimeConstants.RESOURCE_LOADERS, "class");
+        velocityEngine.setProperty("resource.loader.class.class", ClasspathResourceLoader.class.getName());
+        velocityEngine.init();
+        return velocityEngine;
+    }
+
+    private interface PropertySetter {
+
+        void setProperty(String key, Object value);
+    }
+
+    /**
+     * Number of resource types of the generation.
+     */
+    @State(Scope.Benchmark)
+    public static class ResourceTypes {
+
+        @Param({"150"})
+        public int resourceTypeCount;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.codegen.benchmarks;
+
+import com.google.gson.JsonObject;
+import io.ballerina.health.cmd.core.config.HealthCmdConfig;
+import io.ballerina.health.cmd.core.exception.BallerinaHealthException;
+import io.ballerina.health.cmd.core.utils.HealthCmdConstants;
+import io.ballerina.health.cmd.core.utils.HealthCmdUtils;
+import io.ballerina.health.cmd.handler.Handler;
+import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
+import org.wso2.healthcare.codegen.tool.framework.commons.model.JsonConfigType;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.FHIRTool;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.common.FHIRSpecificationData;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRImplementationGuide;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.config.BallerinaPackageGenToolConfig;
+
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+/**
+ * US Core specification shared by the benchmarks. The specification is parsed once per JVM the same way the
+ * {@code fhir} command parses it, without the specification cache.
+ * <p>
+ * The specification directory defaults to the US Core profiles of the health-cli tests, resolved against the
+ * working directory of the benchmarks module, and can be changed with the {@code benchmark.specification} system
+ * property.
+ */
+public final class UsCoreSpecification {
+
+    public static final String SPECIFICATION_PROPERTY = "benchmark.specification";
+    private static final Path DEFAULT_SPECIFICATION_PATH =
+            Paths.get("..", "health-cli", "src", "test", "resources", "profiles.USCore");
+
+    private static UsCoreSpecification instance;
+
+    private final JsonObject configJson;
+    private final FHIRTool fhirTool;
+
+    private UsCoreSpecification(JsonObject configJson, FHIRTool fhirTool) {
+        this.configJson = configJson;
+        this.fhirTool = fhirTool;
+    }
+
+    /**
+     * Returns the parsed specification, parsing it on the first call.
+     *
+     * @return parsed specification
+     */
+    public static synchronized UsCoreSpecification getInstance() {
+        if (instance == null) {
+            instance = load();
+        }
+        return instance;
+    }
+
+    public FHIRSpecificationData getSpecificationData() {
+        return (FHIRSpecificationData) fhirTool.getToolContext().getSpecificationData();
+    }
+
+    public Map<String, FHIRImplementationGuide> getImplementationGuides() {
+        return getSpecificationData().getFhirImplementationGuides();
+    }
+
+    /**
+     * Create the package generation config of the {@code fhir} command with the defaults of the tool config.
+     *
+     * @param targetDir target directory of the generated package
+     * @return package generation config
+     */
+    public BallerinaPackageGenToolConfig createPackageGenToolConfig(Path targetDir) {
+        JsonObject packageConfig = configJson.getAsJsonObject("fhir").getAsJsonObject("tools")
+                .getAsJsonObject(HealthCmdConstants.CMD_MODE_PACKAGE).getAsJsonObject("config");
+        BallerinaPackageGenToolConfig toolConfig = new BallerinaPackageGenToolConfig();
+        toolConfig.setTargetDir(targetDir.toString());
+        toolConfig.setToolName(HealthCmdConstants.CMD_MODE_PACKAGE);
+        try {
+            toolConfig.configure(new JsonConfigType(packageConfig));
+        } catch (CodeGenException e) {
+            throw new IllegalStateException("Unable to configure the package generation tool", e);
+        }
+        return toolConfig;
+    }
+
+    private static UsCoreSpecification load() {
+        Path specificationPath = Paths.get(System.getProperty(SPECIFICATION_PROPERTY,
+                DEFAULT_SPECIFICATION_PATH.toString())).toAbsolutePath().normalize();
+        if (!Files.isDirectory(specificationPath)) {
+            throw new IllegalStateException("Specification directory not found: " + specificationPath + ". Run " +
+                    "the benchmarks from the benchmarks module or set -D" + SPECIFICATION_PROPERTY);
+        }
+        JsonObject configJson;
+        try {
+            configJson = HealthCmdConfig.getParsedConfigFromStream(HealthCmdUtils.getResourceFile(
+                    Handler.class, HealthCmdConstants.CMD_CONFIG_FILENAME));
+        } catch (BallerinaHealthException e) {
+            throw new IllegalStateException("Unable to read the tool config", e);
+        }
+        FHIRTool fhirTool = (FHIRTool) new SpecificationLoader().initializeLib(HealthCmdConstants.CMD_SUB_FHIR,
+                System.out, configJson, specificationPath.toString(), false);
+        if (fhirTool == null) {
+            throw new IllegalStateException("Unable to parse the specification: " + specificationPath);
+        }
+        return new UsCoreSpecification(configJson, fhirTool);
+    }
+
+    /**
+     * Handler used only for the library initialization shared by the tool handlers.
+     */
+    private static class SpecificationLoader implements Handler {
+
+        @Override
+        public void init(PrintStream printStream, String specificationPath) {
+        }
+
+        @Override
+        public void setArgs(Map<String, Object> argsMap) {
+        }
+
+        @Override
+        public boolean execute(String specificationPath, String targetOutputPath) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.codegen.benchmarks.scale;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpServer;
+import io.ballerina.cli.launcher.BLauncherException;
+import io.ballerina.health.cmd.core.utils.HealthCmdConstants;
+import io.ballerina.health.cmd.fhir.FhirSubCmd;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Manual scale benchmark of the FHIR generators. Synthetic implementation guides of increasing profile counts are
+ * generated with {@link SyntheticIgGenerator} and the {@code fhir} command is run over each of them in package,
+ * template and connector modes, recording the wall time and the peak heap of each run.
+ * <p>
+ * Its numbers depend on the machine it runs on. It only flags a run whose time or peak heap divided by its profile
+ * count exceeds that of the previous size by more than the tolerance, and exits with an error in that case. The
+ * verify phase of the benchmarks profile runs it over 100 and 1,000 profiles; the larger sizes are run manually.
+ * <p>
+ * Configured through system properties:
+ * <ul>
+ *     <li>{@code scale.profiles}: comma separated profile counts, defaults to 100,1000,5000</li>
+ *     <li>{@code scale.modes}: comma separated generation modes, defaults to package,template,connector</li>
+ *     <li>{@code scale.tolerance}: allowed growth of the per profile cost between sizes, defaults to 2.0</li>
+ *     <li>{@code scale.workDir}: directory of the generated IGs, outputs and report, defaults to
+ *     target/scale-benchmark</li>
+ *     <li>{@code synthetic.*}: shape of the generated profiles, see {@link SyntheticIgGenerator}</li>
+ * </ul>
+ */
+public class ScaleBenchmark {
+
+    private static final String REPORT_FILENAME = "scale-report.json";
+    private static final String LOG_FILENAME = "scale-benchmark.log";
+    private static final String METADATA_CONTEXT = "/fhir/metadata";
+
+    private final List<Integer> profileCounts;
+    private final List<String> modes;
+    private final double tolerance;
+    private final Path workDir;
+
+    public ScaleBenchmark(List<Integer> profileCounts, List<String> modes, double tolerance, Path workDir) {
+        this.profileCounts = profileCounts.stream().sorted().toList();
+        this.modes = modes;
+        this.tolerance = tolerance;
+        this.workDir = workDir;
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<Integer> profileCounts = Arrays.stream(System.getProperty("scale.profiles", "100,1000,5000").split(","))
+                .map(String::trim).map(Integer::parseInt).toList();
+        List<String> modes = Arrays.stream(System.getProperty("scale.modes",
+                        String.join(",", HealthCmdConstants.CMD_MODE_PACKAGE, HealthCmdConstants.CMD_MODE_TEMPLATE,
+                                HealthCmdConstants.CMD_MODE_CONNECTOR)).split(","))
+                .map(String::trim).toList();
+        double tolerance = Double.parseDouble(System.getProperty("scale.tolerance", "2.0"));
+        Path workDir = Paths.get(System.getProperty("scale.workDir", Paths.get("target", "scale-benchmark").toString()))
+                .toAbsolutePath().normalize();
+
+        List<String> regressions = new ScaleBenchmark(profileCounts, modes, tolerance, workDir).run();
+        if (!regressions.isEmpty()) {
+            throw new IllegalStateException("Super-linear growth detected:" + System.lineSeparator() +
+                    String.join(System.lineSeparator(), regressions));
+        }
+    }
+
+    /**
+     * Run the generation of each mode over each profile count and write the report.
+     *
+     * @return regressions found, empty if the generation scales linearly
+     * @throws IOException if the synthetic IGs or the report cannot be written
+     */
+    public List<String> run() throws IOException {
+        Files.createDirectories(workDir);
+        List<Result> results = new ArrayList<>();
+        List<String> regressions = new ArrayList<>();
+        try (PrintStream log = new PrintStream(Files.newOutputStream(workDir.resolve(LOG_FILENAME)), true,
+                StandardCharsets.UTF_8)) {
+            for (int profileCount : profileCounts) {
+                SyntheticIgGenerator generator = SyntheticIgGenerator.fromSystemProperties()
+                        .setProfileCount(profileCount);
+                Path igDirectory = workDir.resolve("ig-" + profileCount);
+                deleteDirectory(igDirectory);
+                generator.generate(igDirectory);
+                Path capabilityStatement = workDir.resolve("capability-statement-" + profileCount + ".json");
+                generator.generateCapabilityStatement(capabilityStatement);
+
+                for (String mode : modes) {
+                    Result result = runGeneration(mode, profileCount, igDirectory, capabilityStatement, log);
+                    System.out.printf(Locale.ROOT, "[INFO] %-9s %6d profiles: %8d ms, peak heap %6d MB%s%n", mode,
+                            profileCount, result.wallTimeMillis, result.peakHeapBytes / (1024 * 1024),
+                            result.succeeded ? "" : " (FAILED)");
+                    if (!result.succeeded) {
+                        regressions.add(mode + " generation of " + profileCount + " profiles failed, see " +
+                                workDir.resolve(LOG_FILENAME));
+                    }
+                    results.add(result);
+                }
+                deleteDirectory(igDirectory);
+            }
+        }
+        regressions.addAll(findRegressions(results));
+        writeReport(results, regressions);
+        return regressions;
+    }
+
+    private Result runGeneration(String mode, int profileCount, Path igDirectory, Path capabilityStatement,
+                                 PrintStream log) throws IOException {
+        Path outputDirectory = workDir.resolve("out-" + mode + "-" + profileCount);
+        deleteDirectory(outputDirectory);
+        Files.createDirectories(outputDirectory);
+
+        List<String> args = new ArrayList<>(List.of("--mode", mode, "-o", outputDirectory.toString()));
+        HttpServer server = null;
+        switch (mode) {
+            case HealthCmdConstants.CMD_MODE_PACKAGE:
+                args.addAll(List.of("--package-name", "synthetic" + profileCount, "--full-rebuild", "--no-cache",
+                        igDirectory.toString()));
+                break;
+            case HealthCmdConstants.CMD_MODE_TEMPLATE:
+                args.addAll(List.of("--dependent-package", "ballerinax/health.fhir.r4.synthetic" + profileCount,
+                        "--no-cache", igDirectory.toString()));
+                break;
+            case HealthCmdConstants.CMD_MODE_CONNECTOR:
+                server = startCapabilityStatementServer(capabilityStatement);
+                Path config = workDir.resolve("connector-config-" + profileCount + ".json");
+                writeConnectorConfig(config, server);
+                args.addAll(List.of("--config", config.toString()));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown generation mode: " + mode);
+        }
+
+        log.println("[INFO] Running: fhir " + String.join(" ", args));
+        boolean succeeded;
+        resetPeakHeapUsage();
+        long start = System.nanoTime();
+        try {
+            FhirSubCmd fhirSubCmd = new FhirSubCmd(log, false, workDir);
+            fhirSubCmd.setInteractive(false);
+            new CommandLine(fhirSubCmd).parseArgs(args.toArray(new String[0]));
+            fhirSubCmd.execute();
+            succeeded = fhirSubCmd.isSucceeded();
+        } catch (BLauncherException | CommandLine.ParameterException e) {
+            log.println(e);
+            succeeded = false;
+        } finally {
+            if (server != null) {
+                server.stop(0);
+            }
+        }
+        long wallTimeMillis = (System.nanoTime() - start) / 1_000_000;
+        long peakHeapBytes = getPeakHeapUsage();
+        deleteDirectory(outputDirectory);
+        return new Result(mode, profileCount, wallTimeMillis, peakHeapBytes, succeeded);
+    }
+
+    /**
+     * Compare the per profile cost of each size against the previous size of the same mode.
+     */
+    private List<String> findRegressions(List<Result> results) {
+        List<String> regressions = new ArrayList<>();
+        for (String mode : modes) {
+            Result previous = null;
+            for (Result result : results) {
+                if (!result.mode.equals(mode) || !result.succeeded) {
+                    continue;
+                }
+                if (previous != null) {
+                    double sizeRatio = (double) result.profileCount / previous.profileCount;
+                    double timeRatio = (double) Math.max(result.wallTimeMillis, 1) /
+                            Math.max(previous.wallTimeMillis, 1);
+                    double heapRatio = (double) result.peakHeapBytes / Math.max(previous.peakHeapBytes, 1);
+                    if (timeRatio > sizeRatio * tolerance) {
+                        regressions.add(String.format(Locale.ROOT, "%s generation time grew %.1fx from %d to %d " +
+                                "profiles (%.1fx allowed)", mode, timeRatio, previous.profileCount,
+                                result.profileCount, sizeRatio * tolerance));
+                    }
+                    if (heapRatio > sizeRatio * tolerance) {
+                        regressions.add(String.format(Locale.ROOT, "%s generation peak heap grew %.1fx from %d to " +
+                                "%d profiles (%.1fx allowed)", mode, heapRatio, previous.profileCount,
+                                result.profileCount, sizeRatio * tolerance));
+                    }
+                }
+                previous = result;
+            }
+        }
+        return regressions;
+    }
+
+    private void writeReport(List<Result> results, List<String> regressions) throws IOException {
+        JsonArray runs = new JsonArray();
+        for (Result result : results) {
+            JsonObject run = new JsonObject();
+            run.addProperty("mode", result.mode);
+            run.addProperty("profiles", result.profileCount);
+            run.addProperty("wallTimeMillis", result.wallTimeMillis);
+            run.addProperty("peakHeapBytes", result.peakHeapBytes);
+            run.addProperty("succeeded", result.succeeded);
+            runs.add(run);
+        }
+        JsonArray regressionArray = new JsonArray();
+        regressions.forEach(regressionArray::add);
+
+        JsonObject report = new JsonObject();
+        report.addProperty("javaVersion", System.getProperty("java.version"));
+        report.addProperty("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.addProperty("maxHeapBytes", Runtime.getRuntime().maxMemory());
+        report.addProperty("tolerance", tolerance);
+        report.add("runs", runs);
+        report.add("regressions", regressionArray);
+        Path reportPath = workDir.resolve(REPORT_FILENAME);
+        Files.writeString(reportPath, new GsonBuilder().setPrettyPrinting().create().toJson(report),
+                StandardCharsets.UTF_8);
+        System.out.println("[INFO] Scale benchmark report written to: " + reportPath);
+    }
+
+    /**
+     * Serve the CapabilityStatement on the loopback interface, as the connector generator fetches it from the FHIR
+     * server.
+     */
+    private static HttpServer startCapabilityStatementServer(Path capabilityStatement) throws IOException {
+        byte[] body = Files.readAllBytes(capabilityStatement);
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(METADATA_CONTEXT, exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/fhir+json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private static void writeConnectorConfig(Path config, HttpServer server) throws IOException {
+        String serverUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+        // no profile packages, hence Ballerina Central is not queried
+        JsonObject central = new JsonObject();
+        central.addProperty("url", serverUrl);
+        central.addProperty("orgName", "ballerinax");
+        central.add("profilePackages", new JsonArray());
+        JsonObject connectorConfig = new JsonObject();
+        connectorConfig.addProperty("fhirServerUrl", serverUrl + METADATA_CONTEXT);
+        connectorConfig.add("central", central);
+        JsonObject configJson = new JsonObject();
+        configJson.add("config", connectorConfig);
+        Files.writeString(config, configJson.toString(), StandardCharsets.UTF_8);
+    }
+
+    private static void resetPeakHeapUsage() {
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    /**
+     * Returns the peak heap usage since the last reset, as the sum of the peaks of the heap pools.
+     */
+    private static long getPeakHeapUsage() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static class Result {
+
+        private final String mode;
+        private final int profileCount;
+        private final long wallTimeMillis;
+        private final long peakHeapBytes;
+        private final boolean succeeded;
+
+        private Result(String mode, int profileCount, long wallTimeMillis, long peakHeapBytes, boolean succeeded) {
+            this.mode = mode;
+            this.profileCount = profileCount;
+            this.wallTimeMillis = wallTimeMillis;
+            this.peakHeapBytes = peakHeapBytes;
+            this.succeeded = succeeded;
+        }
+    }
+}
@@ -0,0 +1,576 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.codegen.benchmarks.scale;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Generates a synthetic FHIR implementation guide directory of a configurable size, for scale and stress testing of
+ * the generators. The directory holds an ImplementationGuide resource together with the profiles, the extension
+ * definitions and the search parameters, laid out the same way as a downloaded IG definitions directory.
+ * <p>
+ * Profiles constrain a rotating set of base resource types. Each profile carries
+ * <ul>
+ *     <li>the configured number of elements, of rotating data types</li>
+ *     <li>a nested backbone element sliced at each level down to the configured slice depth</li>
+ *     <li>the configured number of elements referring to the sliced backbone element through contentReference</li>
+ *     <li>extension slices bound to the extension definitions of the IG</li>
+ * </ul>
+ * Extensions are simple extensions of a rotating value type, or complex extensions of the configured number of
+ * sub-extension slices.
+ * The generated IG is deterministic for a given configuration.
+ * <pre>
+ * new SyntheticIgGenerator().setProfileCount(1000).setElementCount(50).generate(igDirectory);
+ * </pre>
+ */
+public class SyntheticIgGenerator {
+
+    public static final String BASE_URL = "http://example.org/fhir/synthetic";
+    private static final String STRUCTURE_DEFINITION_URL = BASE_URL + "/StructureDefinition/";
+    private static final String SEARCH_PARAMETER_URL = BASE_URL + "/SearchParameter/";
+    private static final String CORE_STRUCTURE_DEFINITION_URL = "http://hl7.org/fhir/StructureDefinition/";
+    private static final String SYSTEM_STRING = "http://hl7.org/fhirpath/System.String";
+    private static final String SLICED_ELEMENT = "group";
+
+    private static final String[] BASE_RESOURCE_TYPES = {"Patient", "Observation", "Encounter", "Condition",
+            "Procedure", "Practitioner", "Organization", "Location", "MedicationRequest", "AllergyIntolerance"};
+    private static final String[] ELEMENT_TYPES = {"string", "boolean", "dateTime", "integer", "code",
+            "CodeableConcept", "Reference", "Period", "Identifier", "Quantity"};
+    private static final String[] EXTENSION_VALUE_TYPES = {"string", "code", "boolean", "CodeableConcept"};
+
+    private final Gson gson = new Gson();
+    private int profileCount = 100;
+    private int elementCount = 50;
+    private int sliceDepth = 3;
+    private int contentReferenceCount = 2;
+    private int extensionCount = 20;
+    private int extensionsPerProfile = 3;
+    private int extensionSliceCount = 0;
+    private int searchParameterCount = 100;
+    private String fhirVersion = "4.0.1";
+
+    public SyntheticIgGenerator setProfileCount(int profileCount) {
+        this.profileCount = profileCount;
+        return this;
+    }
+
+    public SyntheticIgGenerator setElementCount(int elementCount) {
+        this.elementCount = elementCount;
+        return this;
+    }
+
+    public SyntheticIgGenerator setSliceDepth(int sliceDepth) {
+        this.sliceDepth = sliceDepth;
+        return this;
+    }
+
+    public SyntheticIgGenerator setContentReferenceCount(int contentReferenceCount) {
+        this.contentReferenceCount = contentReferenceCount;
+        return this;
+    }
+
+    public SyntheticIgGenerator setExtensionCount(int extensionCount) {
+        this.extensionCount = extensionCount;
+        return this;
+    }
+
+    public SyntheticIgGenerator setExtensionsPerProfile(int extensionsPerProfile) {
+        this.extensionsPerProfile = extensionsPerProfile;
+        return this;
+    }
+
+    /**
+     * @param extensionSliceCount number of sub-extension slices of each extension, 0 for simple extensions
+     */
+    public SyntheticIgGenerator setExtensionSliceCount(int extensionSliceCount) {
+        this.extensionSliceCount = extensionSliceCount;
+        return this;
+    }
+
+    public SyntheticIgGenerator setSearchParameterCount(int searchParameterCount) {
+        this.searchParameterCount = searchParameterCount;
+        return this;
+    }
+
+    /**
+     * @param fhirVersion FHIR version of the generated resources, e.g. 4.0.1 or 5.0.0
+     */
+    public SyntheticIgGenerator setFhirVersion(String fhirVersion) {
+        this.fhirVersion = fhirVersion;
+        return this;
+    }
+
+    public int getProfileCount() {
+        return profileCount;
+    }
+
+    /**
+     * Write the implementation guide into the given directory.
+     *
+     * @param igDirectory target directory, created if it does not exist
+     * @throws IOException if the files cannot be written
+     */
+    public void generate(Path igDirectory) throws IOException {
+        Files.createDirectories(igDirectory);
+        JsonArray igResources = new JsonArray();
+        for (int i = 0; i < extensionCount; i++) {
+            String id = getExtensionId(i);
+            writeResource(igDirectory, "StructureDefinition-" + id + ".json", createExtension(i));
+            igResources.add(createIgResourceReference("StructureDefinition/" + id));
+        }
+        for (int i = 0; i < profileCount; i++) {
+            String id = getProfileId(i);
+            writeResource(igDirectory, "StructureDefinition-" + id + ".json", createProfile(i));
+            igResources.add(createIgResourceReference("StructureDefinition/" + id));
+        }
+        for (int i = 0; i < searchParameterCount; i++) {
+            String id = getSearchParameterId(i);
+            writeResource(igDirectory, "SearchParameter-" + id + ".json", createSearchParameter(i));
+            igResources.add(createIgResourceReference("SearchParameter/" + id));
+        }
+        writeResource(igDirectory, "ImplementationGuide-synthetic.json", createImplementationGuide(igResources));
+    }
+
+    /**
+     * Write a CapabilityStatement of a server supporting the profiles of the implementation guide, to be used as the
+     * source of connector generation. The CapabilityStatement is not part of the IG directory.
+     *
+     * @param file target file
+     * @throws IOException if the file cannot be written
+     */
+    public void generateCapabilityStatement(Path file) throws IOException {
+        JsonObject capabilityStatement = new JsonObject();
+        capabilityStatement.addProperty("resourceType", "CapabilityStatement");
+        capabilityStatement.addProperty("id", "synthetic");
+        capabilityStatement.addProperty("status", "active");
+        capabilityStatement.addProperty("date", "2025-01-01");
+        capabilityStatement.addProperty("kind", "instance");
+        capabilityStatement.addProperty("fhirVersion", fhirVersion);
+        capabilityStatement.add("format", toJsonArray(List.of("json")));
+
+        JsonArray resources = new JsonArray();
+        for (int typeIndex = 0; typeIndex < Math.min(profileCount, BASE_RESOURCE_TYPES.length); typeIndex++) {
+            String resourceType = BASE_RESOURCE_TYPES[typeIndex];
+            List<String> supportedProfiles = new ArrayList<>();
+            for (int i = typeIndex; i < profileCount; i += BASE_RESOURCE_TYPES.length) {
+                supportedProfiles.add(STRUCTURE_DEFINITION_URL + getProfileId(i));
+            }
+            JsonArray interactions = new JsonArray();
+            for (String interaction : new String[]{"read", "search-type", "create", "update", "delete"}) {
+                JsonObject interactionObject = new JsonObject();
+                interactionObject.addProperty("code", interaction);
+                interactions.add(interactionObject);
+            }
+            JsonArray searchParams = new JsonArray();
+            for (int i = typeIndex; i < searchParameterCount; i += BASE_RESOURCE_TYPES.length) {
+                JsonObject searchParam = new JsonObject();
+                searchParam.addProperty("name", getSearchParameterCode(i));
+                searchParam.addProperty("definition", SEARCH_PARAMETER_URL + getSearchParameterId(i));
+                searchParam.addProperty("type", getSearchParameterType(i));
+                searchParam.addProperty("documentation", "Synthetic search parameter " + i);
+                searchParams.add(searchParam);
+            }
+            JsonObject resource = new JsonObject();
+            resource.addProperty("type", resourceType);
+            resource.add("supportedProfile", toJsonArray(supportedProfiles));
+            resource.add("interaction", interactions);
+            resource.add("searchParam", searchParams);
+            resources.add(resource);
+        }
+        JsonObject rest = new JsonObject();
+        rest.addProperty("mode", "server");
+        rest.add("resource", resources);
+        JsonArray restArray = new JsonArray();
+        restArray.add(rest);
+        capabilityStatement.add("rest", restArray);
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, gson.toJson(capabilityStatement), StandardCharsets.UTF_8);
+    }
+
+    private JsonObject createImplementationGuide(JsonArray igResources) {
+        JsonObject definition = new JsonObject();
+        definition.add("resource", igResources);
+
+        JsonObject implementationGuide = new JsonObject();
+        implementationGuide.addProperty("resourceType", "ImplementationGuide");
+        implementationGuide.addProperty("id", "synthetic");
+        implementationGuide.addProperty("url", BASE_URL + "/ImplementationGuide/synthetic");
+        implementationGuide.addProperty("version", "1.0.0");
+        implementationGuide.addProperty("name", "SyntheticImplementationGuide");
+        implementationGuide.addProperty("status", "active");
+        implementationGuide.addProperty("packageId", "example.fhir.synthetic");
+        implementationGuide.add("fhirVersion", toJsonArray(List.of(fhirVersion)));
+        implementationGuide.add("definition", definition);
+        return implementationGuide;
+    }
+
+    private JsonObject createProfile(int index) {
+        String resourceType = BASE_RESOURCE_TYPES[index % BASE_RESOURCE_TYPES.length];
+        JsonArray snapshot = new JsonArray();
+        JsonArray differential = new JsonArray();
+
+        JsonObject root = createElement(resourceType, resourceType, 0, "*");
+        snapshot.add(root);
+        differential.add(root);
+        snapshot.add(createElement(resourceType + ".id", resourceType + ".id", 0, "1", SYSTEM_STRING));
+        snapshot.add(createElement(resourceType + ".meta", resourceType + ".meta", 0, "1", "Meta"));
+
+        JsonObject extension = createElement(resourceType + ".extension", resourceType + ".extension", 0, "*",
+                "Extension");
+        extension.add("slicing", createSlicing("value", "url"));
+        snapshot.add(extension);
+        differential.add(extension);
+        for (int i = 0; i < Math.min(extensionsPerProfile, extensionCount); i++) {
+            int extensionIndex = (index + i) % extensionCount;
+            String sliceName = "ext" + extensionIndex;
+            JsonObject extensionSlice = createElement(resourceType + ".extension:" + sliceName,
+                    resourceType + ".extension", 0, "1", "Extension");
+            extensionSlice.addProperty("sliceName", sliceName);
+            extensionSlice.getAsJsonArray("type").get(0).getAsJsonObject().add("profile",
+                    toJsonArray(List.of(STRUCTURE_DEFINITION_URL + getExtensionId(extensionIndex))));
+            snapshot.add(extensionSlice);
+            differential.add(extensionSlice);
+        }
+        snapshot.add(createElement(resourceType + ".modifierExtension", resourceType + ".modifierExtension", 0, "*",
+                "Extension"));
+
+        for (int i = 0; i < elementCount; i++) {
+            String path = resourceType + ".element" + i;
+            JsonObject element = createElement(path, path, i % 3 == 0 ? 1 : 0, i % 2 == 0 ? "1" : "*",
+                    ELEMENT_TYPES[(index + i) % ELEMENT_TYPES.length]);
+            if ("Reference".equals(ELEMENT_TYPES[(index + i) % ELEMENT_TYPES.length])) {
+                element.getAsJsonArray("type").get(0).getAsJsonObject().add("targetProfile",
+                        toJsonArray(List.of(CORE_STRUCTURE_DEFINITION_URL + "Patient")));
+            }
+            snapshot.add(element);
+            if (i % 3 == 0) {
+                differential.add(element);
+            }
+        }
+
+        if (sliceDepth > 0) {
+            addSlicedGroup(snapshot, differential, resourceType, resourceType, 1);
+        }
+        for (int i = 0; i < contentReferenceCount && sliceDepth > 0; i++) {
+            String path = resourceType + ".related" + i;
+            JsonObject contentReference = createElement(path, path, 0, "*");
+            contentReference.addProperty("contentReference", "#" + resourceType + "." + SLICED_ELEMENT);
+            snapshot.add(contentReference);
+            differential.add(contentReference);
+        }
+
+        JsonObject snapshotObject = new JsonObject();
+        snapshotObject.add("element", snapshot);
+        JsonObject differentialObject = new JsonObject();
+        differentialObject.add("element", differential);
+
+        String id = getProfileId(index);
+        JsonObject profile = createStructureDefinition(id, getProfileName(index), "resource", resourceType,
+                CORE_STRUCTURE_DEFINITION_URL + resourceType);
+        profile.addProperty("description", "Synthetic profile " + index + " on the " + resourceType + " resource.");
+        profile.add("snapshot", snapshotObject);
+        profile.add("differential", differentialObject);
+        return profile;
+    }
+
+    /**
+     * Add a backbone element sliced on its code, holding a nested backbone element in each slice down to the
+     * configured slice depth.
+     */
+    private void addSlicedGroup(JsonArray snapshot, JsonArray differential, String parentId, String parentPath,
+                                int depth) {
+        String id = parentId + "." + SLICED_ELEMENT;
+        String path = parentPath + "." + SLICED_ELEMENT;
+        JsonObject group = createElement(id, path, 0, "*", "BackboneElement");
+        group.add("slicing", createSlicing("pattern", "code"));
+        snapshot.add(group);
+        differential.add(group);
+        snapshot.add(createElement(id + ".code", path + ".code", 1, "1", "CodeableConcept"));
+        snapshot.add(createElement(id + ".value[x]", path + ".value[x]", 0, "1", "string", "Quantity"));
+
+        for (int slice = 0; slice < 2; slice++) {
+            String sliceName = "level" + depth + "slice" + slice;
+            String sliceId = id + ":" + sliceName;
+            JsonObject groupSlice = createElement(sliceId, path, 0, "1", "BackboneElement");
+            groupSlice.addProperty("sliceName", sliceName);
+            snapshot.add(groupSlice);
+            differential.add(groupSlice);
+
+            JsonObject code = createElement(sliceId + ".code", path + ".code", 1, "1", "CodeableConcept");
+            JsonObject pattern = new JsonObject();
+            pattern.addProperty("text", sliceName);
+            code.add("patternCodeableConcept", pattern);
+            snapshot.add(code);
+            differential.add(code);
+            snapshot.add(createElement(sliceId + ".value[x]", path + ".value[x]", 0, "1", "string", "Quantity"));
+            if (depth < sliceDepth) {
+                addSlicedGroup(snapshot, differential, sliceId, path, depth + 1);
+            }
+        }
+    }
+
+    private JsonObject createExtension(int index) {
+        String id = getExtensionId(index);
+        String url = STRUCTURE_DEFINITION_URL + id;
+        String valueType = EXTENSION_VALUE_TYPES[index % EXTENSION_VALUE_TYPES.length];
+
+        JsonArray snapshot = new JsonArray();
+        JsonArray differential = new JsonArray();
+        JsonObject rootElement = createElement("Extension", "Extension", 0, "*");
+        snapshot.add(rootElement);
+        differential.add(rootElement);
+        snapshot.add(createElement("Extension.id", "Extension.id", 0, "1", SYSTEM_STRING));
+        if (extensionSliceCount > 0) {
+            JsonObject extensionElement = createElement("Extension.extension", "Extension.extension", 1, "*",
+                    "Extension");
+            extensionElement.add("slicing", createSlicing("value", "url"));
+            snapshot.add(extensionElement);
+            differential.add(extensionElement);
+            for (int i = 0; i < extensionSliceCount; i++) {
+                addExtensionSlice(snapshot, differential, "part" + i,
+                        EXTENSION_VALUE_TYPES[(index + i) % EXTENSION_VALUE_TYPES.length]);
+            }
+        } else {
+            snapshot.add(createElement("Extension.extension", "Extension.extension", 0, "0", "Extension"));
+        }
+        JsonObject urlElement = createElement("Extension.url", "Extension.url", 1, "1", "uri");
+        urlElement.addProperty("fixedUri", url);
+        snapshot.add(urlElement);
+        differential.add(urlElement);
+        JsonObject valueElement = extensionSliceCount > 0 ?
+                createElement("Extension.value[x]", "Extension.value[x]", 0, "0", valueType) :
+                createElement("Extension.value[x]", "Extension.value[x]", 1, "1", valueType);
+        snapshot.add(valueElement);
+        differential.add(valueElement);
+
+        JsonObject snapshotObject = new JsonObject();
+        snapshotObject.add("element", snapshot);
+        JsonObject differentialObject = new JsonObject();
+        differentialObject.add("element", differential);
+
+        JsonObject context = new JsonObject();
+        context.addProperty("type", "element");
+        context.addProperty("expression", "DomainResource");
+        JsonArray contexts = new JsonArray();
+        contexts.add(context);
+
+        JsonObject extension = createStructureDefinition(id, "SyntheticExtension" + index, "complex-type",
+                "Extension", CORE_STRUCTURE_DEFINITION_URL + "Extension");
+        extension.addProperty("description", extensionSliceCount > 0 ?
+                "Synthetic extension " + index + " of " + extensionSliceCount + " sub-extensions." :
+                "Synthetic extension " + index + " of " + valueType + " value.");
+        extension.add("context", contexts);
+        extension.add("snapshot", snapshotObject);
+        extension.add("differential", differentialObject);
+        return extension;
+    }
+
+    private static void addExtensionSlice(JsonArray snapshot, JsonArray differential, String sliceName,
+                                          String valueType) {
+        String sliceId = "Extension.extension:" + sliceName;
+        JsonObject sliceElement = createElement(sliceId, "Extension.extension", 0, "1", "Extension");
+        sliceElement.addProperty("sliceName", sliceName);
+        snapshot.add(sliceElement);
+        differential.add(sliceElement);
+        snapshot.add(createElement(sliceId + ".id", "Extension.extension.id", 0, "1", SYSTEM_STRING));
+        snapshot.add(createElement(sliceId + ".extension", "Extension.extension.extension", 0, "0", "Extension"));
+        JsonObject urlElement = createElement(sliceId + ".url", "Extension.extension.url", 1, "1", "uri");
+        urlElement.addProperty("fixedUri", sliceName);
+        snapshot.add(urlElement);
+        differential.add(urlElement);
+        JsonObject valueElement = createElement(sliceId + ".value[x]", "Extension.extension.value[x]", 1, "1",
+                valueType);
+        snapshot.add(valueElement);
+        differential.add(valueElement);
+    }
+
+    private JsonObject createSearchParameter(int index) {
+        String resourceType = BASE_RESOURCE_TYPES[index % BASE_RESOURCE_TYPES.length];
+        String code = getSearchParameterCode(index);
+
+        JsonObject searchParameter = new JsonObject();
+        searchParameter.addProperty("resourceType", "SearchParameter");
+        searchParameter.addProperty("id", getSearchParameterId(index));
+        searchParameter.addProperty("url", SEARCH_PARAMETER_URL + getSearchParameterId(index));
+        searchParameter.addProperty("version", "1.0.0");
+        searchParameter.addProperty("name", code);
+        searchParameter.addProperty("status", "active");
+        searchParameter.addProperty("description", "Synthetic search parameter " + index + " on " + resourceType);
+        searchParameter.addProperty("code", code);
+        searchParameter.add("base", toJsonArray(List.of(resourceType)));
+        searchParameter.addProperty("type", getSearchParameterType(index));
+        searchParameter.addProperty("expression", resourceType + ".element" + (elementCount > 0 ?
+                index % elementCount : 0));
+        return searchParameter;
+    }
+
+    private JsonObject createStructureDefinition(String id, String name, String kind, String type,
+                                                 String baseDefinition) {
+        JsonObject structureDefinition = new JsonObject();
+        structureDefinition.addProperty("resourceType", "StructureDefinition");
+        structureDefinition.addProperty("id", id);
+        structureDefinition.addProperty("url", STRUCTURE_DEFINITION_URL + id);
+        structureDefinition.addProperty("version", "1.0.0");
+        structureDefinition.addProperty("name", name);
+        structureDefinition.addProperty("title", name);
+        structureDefinition.addProperty("status", "active");
+        structureDefinition.addProperty("fhirVersion", fhirVersion);
+        structureDefinition.addProperty("kind", kind);
+        structureDefinition.addProperty("abstract", false);
+        structureDefinition.addProperty("type", type);
+        structureDefinition.addProperty("baseDefinition", baseDefinition);
+        structureDefinition.addProperty("derivation", "constraint");
+        return structureDefinition;
+    }
+
+    private static JsonObject createElement(String id, String path, int min, String max, String... types) {
+        JsonObject element = new JsonObject();
+        element.addProperty("id", id);
+        element.addProperty("path", path);
+        element.addProperty("short", "Synthetic element " + path);
+        element.addProperty("definition", "Synthetic element " + id + ".");
+        element.addProperty("min", min);
+        element.addProperty("max", max);
+        JsonObject base = new JsonObject();
+        base.addProperty("path", path);
+        base.addProperty("min", 0);
+        base.addProperty("max", max);
+        element.add("base", base);
+        if (types.length > 0) {
+            JsonArray typeArray = new JsonArray();
+            for (String type : types) {
+                JsonObject typeObject = new JsonObject();
+                typeObject.addProperty("code", type);
+                typeArray.add(typeObject);
+            }
+            element.add("type", typeArray);
+        }
+        return element;
+    }
+
+    private static JsonObject createSlicing(String discriminatorType, String discriminatorPath) {
+        JsonObject discriminator = new JsonObject();
+        discriminator.addProperty("type", discriminatorType);
+        discriminator.addProperty("path", discriminatorPath);
+        JsonArray discriminators = new JsonArray();
+        discriminators.add(discriminator);
+        JsonObject slicing = new JsonObject();
+        slicing.add("discriminator", discriminators);
+        slicing.addProperty("rules", "open");
+        return slicing;
+    }
+
+    private static JsonObject createIgResourceReference(String reference) {
+        JsonObject referenceObject = new JsonObject();
+        referenceObject.addProperty("reference", reference);
+        JsonObject resource = new JsonObject();
+        resource.add("reference", referenceObject);
+        resource.addProperty("exampleBoolean", false);
+        return resource;
+    }
+
+    private static JsonArray toJsonArray(List<String> values) {
+        JsonArray array = new JsonArray();
+        values.forEach(array::add);
+        return array;
+    }
+
+    private void writeResource(Path igDirectory, String fileName, JsonObject resource) throws IOException {
+        Files.writeString(igDirectory.resolve(fileName), gson.toJson(resource), StandardCharsets.UTF_8);
+    }
+
+    private static String getProfileId(int index) {
+        return "synthetic-" + BASE_RESOURCE_TYPES[index % BASE_RESOURCE_TYPES.length].toLowerCase(Locale.ROOT) +
+                "-" + index;
+    }
+
+    private static String getProfileName(int index) {
+        return "Synthetic" + BASE_RESOURCE_TYPES[index % BASE_RESOURCE_TYPES.length] + "Profile" + index;
+    }
+
+    private static String getExtensionId(int index) {
+        return "synthetic-extension-" + index;
+    }
+
+    private static String getSearchParameterId(int index) {
+        return "synthetic-" + BASE_RESOURCE_TYPES[index % BASE_RESOURCE_TYPES.length].toLowerCase(Locale.ROOT) +
+                "-" + getSearchParameterCode(index);
+    }
+
+    private static String getSearchParameterCode(int index) {
+        return "synthetic-param" + index;
+    }
+
+    private static String getSearchParameterType(int index) {
+        return new String[]{"token", "string", "date", "reference"}[index % 4];
+    }
+
+    /**
+     * Write a synthetic implementation guide into the directory given as the first argument. The sizes are read from
+     * the {@code synthetic.*} system properties, e.g. {@code -Dsynthetic.profiles=1000}.
+     *
+     * @param args target directory
+     * @throws IOException if the files cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: SyntheticIgGenerator <target-directory>");
+            return;
+        }
+        SyntheticIgGenerator generator = fromSystemProperties();
+        generator.generate(Paths.get(args[0]));
+        System.out.println("Synthetic implementation guide of " + generator.getProfileCount() +
+                " profiles written to: " + Paths.get(args[0]).toAbsolutePath());
+    }
+
+    /**
+     * Create a generator configured from the {@code synthetic.*} system properties, falling back to the defaults.
+     *
+     * @return generator
+     */
+    public static SyntheticIgGenerator fromSystemProperties() {
+        SyntheticIgGenerator generator = new SyntheticIgGenerator();
+        generator.setProfileCount(Integer.getInteger("synthetic.profiles", generator.profileCount))
+                .setElementCount(Integer.getInteger("synthetic.elements", generator.elementCount))
+                .setSliceDepth(Integer.getInteger("synthetic.sliceDepth", generator.sliceDepth))
+                .setContentReferenceCount(Integer.getInteger("synthetic.contentReferences",
+                        generator.contentReferenceCount))
+                .setExtensionCount(Integer.getInteger("synthetic.extensions", generator.extensionCount))
+                .setExtensionsPerProfile(Integer.getInteger("synthetic.extensionsPerProfile",
+                        generator.extensionsPerProfile))
+                .setExtensionSliceCount(Integer.getInteger("synthetic.extensionSlices",
+                        generator.extensionSliceCount))
+                .setSearchParameterCount(Integer.getInteger("synthetic.searchParameters",
+                        generator.searchParameterCount))
+                .setFhirVersion(System.getProperty("synthetic.fhirVersion", generator.fhirVersion));
+        return generator;
+    }
+}
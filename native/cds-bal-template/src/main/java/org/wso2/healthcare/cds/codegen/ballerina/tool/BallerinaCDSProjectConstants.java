@@ -79,10 +79,12 @@ public class BallerinaCDSProjectConstants {
     public static final String DISTRIBUTION = "distribution";
     public static final String AUTHORS = "authors";
     public static final String PROJECT_MINIMAL = "project.minimal";
+    public static final String PROJECT_OVERWRITE = "project.overwrite";
     public static final String MINIMAL = "minimal";
 
     public static class PrintStrings {
         public static final String OVERWRITING_EXISTING_TEMPLATES = "[INFO] Overwriting the existing templates.";
         public static final String INVALID_INPUT = "[ERROR] Invalid input. Exiting the tool.";
+        public static final String GENERATION_CANCELLED = "[INFO] Generation cancelled, the existing templates are kept.";
     }
 }
@@ -20,6 +20,9 @@ package org.wso2.healthcare.cds.codegen.ballerina.tool;
 
 import org.wso2.healthcare.cds.codegen.ballerina.tool.config.BallerinaCDSProjectToolConfig;
 import org.wso2.healthcare.cds.codegen.ballerina.tool.generator.BallerinaCDSProjectGenerator;
+import org.wso2.healthcare.codegen.output.OutputSink;
+import org.wso2.healthcare.codegen.profile.GenerationProfiler;
+import org.wso2.healthcare.codegen.profile.ProfilerAware;
 import org.wso2.healthcare.codegen.tool.framework.commons.config.ToolConfig;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.AbstractTool;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.TemplateGenerator;
@@ -32,14 +35,20 @@ import java.util.Map;
 
 import static org.wso2.healthcare.cds.codegen.ballerina.tool.BallerinaCDSProjectConstants.CONFIG;
 
-public class BallerinaCDSProjectTool extends AbstractTool {
+public class BallerinaCDSProjectTool extends AbstractTool implements ProfilerAware {
     private BallerinaCDSProjectToolConfig ballerinaCDSProjectToolConfig;
+    private GenerationProfiler profiler = GenerationProfiler.disabled();
 
     @Override
     public void initialize(ToolConfig toolConfig) throws CodeGenException {
         ballerinaCDSProjectToolConfig = (BallerinaCDSProjectToolConfig) toolConfig;
     }
 
+    @Override
+    public void setProfiler(GenerationProfiler profiler) {
+        this.profiler = profiler;
+    }
+
     @Override
     public ToolContext getToolContext() throws CodeGenException {
         return null;
@@ -58,6 +67,8 @@ public class BallerinaCDSProjectTool extends AbstractTool {
 
         Map<String, Object> generatorProperties = new HashMap<>();
         generatorProperties.put(CONFIG, ballerinaCDSProjectToolConfig);
+        generatorProperties.put(OutputSink.PROPERTY_NAME, new OutputSink(profiler));
+        generatorProperties.put(GenerationProfiler.PROPERTY_NAME, profiler);
         cdsBalGenerator.setGeneratorProperties(generatorProperties);
         return cdsBalGenerator;
     }
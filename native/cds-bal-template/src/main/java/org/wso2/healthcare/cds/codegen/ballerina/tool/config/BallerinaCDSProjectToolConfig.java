@@ -46,6 +46,7 @@ import static org.wso2.healthcare.cds.codegen.ballerina.tool.BallerinaCDSProject
 import static org.wso2.healthcare.cds.codegen.ballerina.tool.BallerinaCDSProjectConstants.PROJECT_PACKAGE_BASE_PACKAGE;
 import static org.wso2.healthcare.cds.codegen.ballerina.tool.BallerinaCDSProjectConstants.BASE_PACKAGE;
 import static org.wso2.healthcare.cds.codegen.ballerina.tool.BallerinaCDSProjectConstants.PROJECT_MINIMAL;
+import static org.wso2.healthcare.cds.codegen.ballerina.tool.BallerinaCDSProjectConstants.PROJECT_OVERWRITE;
 import static org.wso2.healthcare.cds.codegen.ballerina.tool.BallerinaCDSProjectConstants.MINIMAL;/**
  * Main config class to hold all the config objects.
  */
@@ -58,6 +59,7 @@ public class BallerinaCDSProjectToolConfig extends AbstractToolConfig {
     private String dependentPackage;
     private final List<CdsHook> cdsHooks = new ArrayList<>();
     private boolean minimal = false;
+    private boolean overwrite = false;
 
     @Override
     public void configure(ConfigType<?> configObj) throws CodeGenException {
@@ -115,6 +117,9 @@ public class BallerinaCDSProjectToolConfig extends AbstractToolConfig {
             case PROJECT_MINIMAL:
                 this.minimal = value.getAsBoolean();
                 break;
+            case PROJECT_OVERWRITE:
+                this.overwrite = value.getAsBoolean();
+                break;
             default:
                 LOG.warn("Invalid config path: " + jsonPath);
         }
@@ -154,4 +159,13 @@ public class BallerinaCDSProjectToolConfig extends AbstractToolConfig {
     }
 
     public boolean isMinimal() {return minimal;}
+
+    /**
+     * Whether an existing project is overwritten without prompting.
+     *
+     * @return true if the existing project is overwritten
+     */
+    public boolean isOverwrite() {
+        return overwrite;
+    }
 }
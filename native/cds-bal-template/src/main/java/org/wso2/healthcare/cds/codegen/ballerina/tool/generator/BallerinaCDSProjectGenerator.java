@@ -23,6 +23,7 @@ import org.wso2.healthcare.cds.codegen.ballerina.tool.BallerinaCDSProjectConstan
 import org.wso2.healthcare.cds.codegen.ballerina.tool.config.BallerinaCDSProjectToolConfig;
 import org.wso2.healthcare.cds.codegen.ballerina.tool.model.BallerinaService;
 import org.wso2.healthcare.cds.codegen.ballerina.tool.model.CdsHook;
+import org.wso2.healthcare.codegen.output.GenerationCancelledException;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.ToolContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.AbstractFHIRTemplateGenerator;
@@ -74,15 +75,14 @@ public class BallerinaCDSProjectGenerator extends AbstractFHIRTemplateGenerator
 
         // Provide option to check and overwrite the existing package
         Console console = System.console();
-        if (console != null && Files.exists(Paths.get(packagePath))) {
+        if (console != null && !ballerinaCDSProjectToolConfig.isOverwrite() && Files.exists(Paths.get(packagePath))) {
             String input = console.readLine(CMD_MESSAGE_OVERRIDE_OUTPUT_DIRECTORY);
             if (NO.equalsIgnoreCase(input)) {
-                System.exit(ZERO);
+                throw new GenerationCancelledException(BallerinaCDSProjectConstants.PrintStrings.GENERATION_CANCELLED);
             } else if (YES.equalsIgnoreCase(input)) {
                 System.out.println(BallerinaCDSProjectConstants.PrintStrings.OVERWRITING_EXISTING_TEMPLATES);
             } else {
-                System.out.println(BallerinaCDSProjectConstants.PrintStrings.INVALID_INPUT);
-                System.exit(ZERO);
+                throw new GenerationCancelledException(BallerinaCDSProjectConstants.PrintStrings.INVALID_INPUT);
             }
         }
 
@@ -20,10 +20,11 @@ package org.wso2.healthcare.cds.codegen.ballerina.tool.generator;
 
 import org.wso2.healthcare.cds.codegen.ballerina.tool.BallerinaCDSProjectConstants;
 import org.wso2.healthcare.cds.codegen.ballerina.tool.config.BallerinaCDSProjectToolConfig;
-import org.wso2.healthcare.codegen.tool.framework.commons.core.TemplateContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.ToolContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.AbstractFHIRTemplateGenerator;
+import org.wso2.healthcare.codegen.output.OutputSink;
+import org.wso2.healthcare.codegen.output.TemplateRenderContext;
 
 import java.util.Map;
 
@@ -43,18 +44,19 @@ public class MetaGenerator extends AbstractFHIRTemplateGenerator {
 
     @Override
     public void generate(ToolContext toolContext, Map<String, Object> generatorProperties) throws CodeGenException {
+        OutputSink outputSink = OutputSink.getOutputSink(generatorProperties);
         String directoryPath = getTargetDir();
-        this.getTemplateEngine().generateOutputAsFile(BallerinaCDSProjectConstants.RESOURCE_PATH_TEMPLATES +
+        outputSink.generateOutputAsFile(BallerinaCDSProjectConstants.RESOURCE_PATH_TEMPLATES +
                         BallerinaCDSProjectConstants.RESOURCE_PATH_SEPARATOR + BAL_PACKAGE_MD_VM, createTemplateContextForMeta(generatorProperties), directoryPath,
                 BAL_PACKAGE_MD_FILE);
-        this.getTemplateEngine().generateOutputAsFile(BallerinaCDSProjectConstants.RESOURCE_PATH_TEMPLATES +
+        outputSink.generateOutputAsFile(BallerinaCDSProjectConstants.RESOURCE_PATH_TEMPLATES +
                         BallerinaCDSProjectConstants.RESOURCE_PATH_SEPARATOR + BAL_GIT_IGNORE_VM, createTemplateContextForMeta(generatorProperties), directoryPath,
                 BAL_GIT_IGNORE_FILE);
     }
 
-    private TemplateContext createTemplateContextForMeta(Map<String, Object> generatorProperties) {
+    private TemplateRenderContext createTemplateContextForMeta(Map<String, Object> generatorProperties) {
 
-        TemplateContext templateContext = this.getNewTemplateContext();
+        TemplateRenderContext templateContext = new TemplateRenderContext();
         BallerinaCDSProjectToolConfig config = (BallerinaCDSProjectToolConfig) generatorProperties.get(CONFIG);
         templateContext.setProperty(CONFIG, config);
         templateContext.setProperty(META_CONFIG, config.getMetadataConfig());
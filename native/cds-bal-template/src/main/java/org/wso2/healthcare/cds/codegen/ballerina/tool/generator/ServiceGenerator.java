@@ -20,10 +20,11 @@ package org.wso2.healthcare.cds.codegen.ballerina.tool.generator;
 
 import org.wso2.healthcare.cds.codegen.ballerina.tool.BallerinaCDSProjectConstants;
 import org.wso2.healthcare.cds.codegen.ballerina.tool.model.BallerinaService;
-import org.wso2.healthcare.codegen.tool.framework.commons.core.TemplateContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.ToolContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.AbstractFHIRTemplateGenerator;
+import org.wso2.healthcare.codegen.output.OutputSink;
+import org.wso2.healthcare.codegen.output.TemplateRenderContext;
 
 import java.util.Map;
 
@@ -49,32 +50,33 @@ public class ServiceGenerator extends AbstractFHIRTemplateGenerator {
 
     @Override
     public void generate(ToolContext toolContext, Map<String, Object> generatorProperties) throws CodeGenException {
+        OutputSink outputSink = OutputSink.getOutputSink(generatorProperties);
         String directoryPath = getTargetDir();
-        TemplateContext templateContext = createTemplateContextForBalService(generatorProperties);
+        TemplateRenderContext templateContext = createTemplateContextForBalService(generatorProperties);
 
-        this.getTemplateEngine().generateOutputAsFile(
+        outputSink.generateOutputAsFile(
                 BallerinaCDSProjectConstants.RESOURCE_PATH_TEMPLATES + BallerinaCDSProjectConstants.RESOURCE_PATH_SEPARATOR + BAL_SERVICE_VM,
                 templateContext,
                 directoryPath,
                 BAL_SERVICE_FILE);
-        this.getTemplateEngine().generateOutputAsFile(
+        outputSink.generateOutputAsFile(
                 BallerinaCDSProjectConstants.RESOURCE_PATH_TEMPLATES + BallerinaCDSProjectConstants.RESOURCE_PATH_SEPARATOR + BAL_INTERCEPTOR_VM,
                 templateContext,
                 directoryPath,
                 BAL_INTERCEPTOR_FILE);
-        this.getTemplateEngine().generateOutputAsFile(
+        outputSink.generateOutputAsFile(
                 BallerinaCDSProjectConstants.RESOURCE_PATH_TEMPLATES + BallerinaCDSProjectConstants.RESOURCE_PATH_SEPARATOR + BAL_UTILS_VM,
                 templateContext,
                 directoryPath,
                 BAL_UTILS_FILE);
-        this.getTemplateEngine().generateOutputAsFile(BallerinaCDSProjectConstants.RESOURCE_PATH_TEMPLATES + BallerinaCDSProjectConstants.RESOURCE_PATH_SEPARATOR + BAL_DECISION_SYSTEM_CONNECTION_VM,
+        outputSink.generateOutputAsFile(BallerinaCDSProjectConstants.RESOURCE_PATH_TEMPLATES + BallerinaCDSProjectConstants.RESOURCE_PATH_SEPARATOR + BAL_DECISION_SYSTEM_CONNECTION_VM,
                 templateContext,
                 directoryPath,
                 BAL_DECISION_SYSTEM_CONNECTION_FILE);
     }
 
-    private TemplateContext createTemplateContextForBalService(Map<String, Object> generatorProperties) {
-        TemplateContext templateContext = this.getNewTemplateContext();
+    private TemplateRenderContext createTemplateContextForBalService(Map<String, Object> generatorProperties) {
+        TemplateRenderContext templateContext = new TemplateRenderContext();
         BallerinaService ballerinaService = (BallerinaService) generatorProperties.get(SERVICE);
         templateContext.setProperty(SERVICE, ballerinaService);
         return templateContext;
@@ -21,10 +21,11 @@ package org.wso2.healthcare.cds.codegen.ballerina.tool.generator;
 import org.wso2.healthcare.cds.codegen.ballerina.tool.BallerinaCDSProjectConstants;
 import org.wso2.healthcare.cds.codegen.ballerina.tool.config.BallerinaCDSProjectToolConfig;
 import org.wso2.healthcare.cds.codegen.ballerina.tool.model.BallerinaService;
-import org.wso2.healthcare.codegen.tool.framework.commons.core.TemplateContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.ToolContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.AbstractFHIRTemplateGenerator;
+import org.wso2.healthcare.codegen.output.OutputSink;
+import org.wso2.healthcare.codegen.output.TemplateRenderContext;
 
 import java.util.ArrayList;
 import java.util.Map;
@@ -51,18 +52,19 @@ public class TomlGenerator extends AbstractFHIRTemplateGenerator {
 
     @Override
     public void generate(ToolContext toolContext, Map<String, Object> generatorProperties) throws CodeGenException {
+        OutputSink outputSink = OutputSink.getOutputSink(generatorProperties);
         String directoryPath = getTargetDir();
-        this.getTemplateEngine().generateOutputAsFile(BallerinaCDSProjectConstants.RESOURCE_PATH_TEMPLATES
+        outputSink.generateOutputAsFile(BallerinaCDSProjectConstants.RESOURCE_PATH_TEMPLATES
                         + BallerinaCDSProjectConstants.RESOURCE_PATH_SEPARATOR + BAL_TOML_VM,
                 createTemplateContextForToml(generatorProperties), directoryPath, BAL_TOML_FILE);
 
-        this.getTemplateEngine().generateOutputAsFile(BallerinaCDSProjectConstants.RESOURCE_PATH_TEMPLATES
+        outputSink.generateOutputAsFile(BallerinaCDSProjectConstants.RESOURCE_PATH_TEMPLATES
                         + BallerinaCDSProjectConstants.RESOURCE_PATH_SEPARATOR + BAL_CONFIG_TOML_VM,
                 createTemplateContextForToml(generatorProperties), directoryPath, BAL_CONFIG_TOML_FILE);
     }
 
-    private TemplateContext createTemplateContextForToml(Map<String, Object> generatorProperties) {
-        TemplateContext templateContext = this.getNewTemplateContext();
+    private TemplateRenderContext createTemplateContextForToml(Map<String, Object> generatorProperties) {
+        TemplateRenderContext templateContext = new TemplateRenderContext();
         BallerinaCDSProjectToolConfig config = (BallerinaCDSProjectToolConfig) generatorProperties.get(CONFIG);
         templateContext.setProperty(META_CONFIG, config.getMetadataConfig());
         templateContext.setProperty(TEMPLATE_NAME, config.getMetadataConfig().getNamePrefix());
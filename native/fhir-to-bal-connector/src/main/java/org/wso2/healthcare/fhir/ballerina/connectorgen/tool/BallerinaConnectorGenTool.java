@@ -21,6 +21,9 @@ package org.wso2.healthcare.fhir.ballerina.connectorgen.tool;
 import org.wso2.healthcare.fhir.ballerina.connectorgen.tool.config.BallerinaConnectorGenToolConfig;
 import org.wso2.healthcare.fhir.ballerina.connectorgen.tool.generator.BallerinaConnectorGenerator;
 import org.wso2.healthcare.codegen.tool.framework.commons.config.ToolConfig;
+import org.wso2.healthcare.codegen.output.OutputSink;
+import org.wso2.healthcare.codegen.profile.GenerationProfiler;
+import org.wso2.healthcare.codegen.profile.ProfilerAware;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.ToolContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.AbstractFHIRTool;
@@ -28,15 +31,21 @@ import org.wso2.healthcare.codegen.tool.framework.fhir.core.AbstractFHIRTool;
 import java.util.HashMap;
 import java.util.Map;
 
-public class BallerinaConnectorGenTool extends AbstractFHIRTool {
+public class BallerinaConnectorGenTool extends AbstractFHIRTool implements ProfilerAware {
 
     private BallerinaConnectorGenToolConfig connectorGenToolConfig;
+    private GenerationProfiler profiler = GenerationProfiler.disabled();
 
     @Override
     public void initialize(ToolConfig toolConfig) throws CodeGenException {
         this.connectorGenToolConfig = (BallerinaConnectorGenToolConfig) toolConfig;
     }
 
+    @Override
+    public void setProfiler(GenerationProfiler profiler) {
+        this.profiler = profiler;
+    }
+
     @Override
     public BallerinaConnectorGenerator execute(ToolContext toolContext) throws CodeGenException {
 
@@ -46,6 +55,8 @@ public class BallerinaConnectorGenTool extends AbstractFHIRTool {
         Map<String, Object> properties = new HashMap<>();
 
         properties.put("toolConfig", connectorGenToolConfig);
+        properties.put(OutputSink.PROPERTY_NAME, new OutputSink(profiler));
+        properties.put(GenerationProfiler.PROPERTY_NAME, profiler);
         connectorGenerator.setGeneratorProperties(properties);
 
         return connectorGenerator;
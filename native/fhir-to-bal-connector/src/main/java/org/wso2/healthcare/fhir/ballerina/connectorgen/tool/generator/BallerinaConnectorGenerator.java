@@ -19,8 +19,9 @@
 package org.wso2.healthcare.fhir.ballerina.connectorgen.tool.generator;
 
 
+import org.wso2.healthcare.codegen.output.OutputSink;
+import org.wso2.healthcare.codegen.output.TemplateRenderContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.AbstractTemplateGenerator;
-import org.wso2.healthcare.codegen.tool.framework.commons.core.TemplateContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.TemplateEngine;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.ToolContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
@@ -78,14 +79,16 @@ public class BallerinaConnectorGenerator extends AbstractTemplateGenerator {
         }
 
         Map<String, FHIRResource> resourceMap = getStringFHIRResourceMap(toolConfig);
-        TemplateContext templateContext = this.buildContextFromCapability(capabilityStatement, resourceMap, toolConfig);
+        TemplateRenderContext templateContext = this.buildContextFromCapability(capabilityStatement, resourceMap, toolConfig);
         templateContext.setProperty("capabilityUrl", fhirServerUrl);
         templateContext.setProperty("licenseYear", Constants.LICENSE_YEAR);
 
         // Step 1: Copy the ballerina-connector-tool directory
+        OutputSink outputSink = OutputSink.getOutputSink(properties);
         Path targetDir = Paths.get(this.getTargetDir());
         try {
-            CommonUtils.copyResourceDir(getClass().getClassLoader().getResource(Constants.BALLERINA_CONNECTOR_TOOL), targetDir);
+            CommonUtils.copyResourceDir(getClass().getClassLoader().getResource(Constants.BALLERINA_CONNECTOR_TOOL),
+                    targetDir, outputSink);
         } catch (IOException e) {
             throw new CodeGenException("Failed to copy ballerina-connector-tool directory.", e);
         } catch (URISyntaxException e) {
@@ -95,17 +98,20 @@ public class BallerinaConnectorGenerator extends AbstractTemplateGenerator {
         String filePath = targetDir.resolve("fhir_connector.bal").toString();
 
         // Step 2: Generate fhir_connector.bal
-        this.getTemplateEngine().generateOutputAsFile("template/fhir_connector.vm", templateContext, "", filePath);
+        outputSink.generateOutputAsFile("template/fhir_connector.vm", templateContext, "",
+                filePath);
 
         // Step 3: Generate README.md
-        this.getTemplateEngine().generateOutputAsFile("template/readMe.vm", templateContext, "", targetDir.resolve("README.md").toString());
+        outputSink.generateOutputAsFile("template/readMe.vm", templateContext, "",
+                targetDir.resolve("README.md").toString());
 
     }
 
     /**
      * Fetch and parse FHIR resource profiles from Ballerina Central
      */
-    private static Map<String, FHIRResource> getStringFHIRResourceMap(BallerinaConnectorGenToolConfig toolConfig) {
+    private static Map<String, FHIRResource> getStringFHIRResourceMap(BallerinaConnectorGenToolConfig toolConfig)
+            throws CodeGenException {
         Map<String, FHIRResource> resourceMap = new HashMap<>();
 
         String orgName = toolConfig.getCentralConfig().getOrgName();
@@ -143,7 +149,7 @@ public class BallerinaConnectorGenerator extends AbstractTemplateGenerator {
     /**
      * Build template context from CapabilityStatement
      */
-    public TemplateContext buildContextFromCapability(CapabilityStatement capabilityStatement, Map<String, FHIRResource> resourceMap, BallerinaConnectorGenToolConfig toolConfig) {
+    public TemplateRenderContext buildContextFromCapability(CapabilityStatement capabilityStatement, Map<String, FHIRResource> resourceMap, BallerinaConnectorGenToolConfig toolConfig) {
         List<Map<String, Object>> resources = capabilityStatement.getRest().stream()
                 .flatMap(rest -> rest.getResource().stream())
                 .filter(resource -> !Constants.SKIP_LIST.contains(resource.getType()))
@@ -174,7 +180,7 @@ public class BallerinaConnectorGenerator extends AbstractTemplateGenerator {
                 })
                 .toList();
 
-        TemplateContext templateContext = this.getNewTemplateContext();
+        TemplateRenderContext templateContext = new TemplateRenderContext();
         templateContext.setProperty(Constants.RESOURCES, resources);
 
         List<String> packageNames = new ArrayList<>();
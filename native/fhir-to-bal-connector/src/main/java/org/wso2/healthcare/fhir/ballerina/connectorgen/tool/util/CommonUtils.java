@@ -18,6 +18,8 @@
 
 package org.wso2.healthcare.fhir.ballerina.connectorgen.tool.util;
 
+import org.wso2.healthcare.codegen.output.OutputSink;
+import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
 import org.wso2.healthcare.fhir.ballerina.connectorgen.tool.Constants;
 
 import java.io.File;
@@ -28,7 +30,6 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
@@ -37,7 +38,8 @@ import java.util.jar.JarFile;
 
 public class CommonUtils {
 
-    public static void copyResourceDir(URL resourceUrl, Path targetDir) throws IOException, URISyntaxException {
+    public static void copyResourceDir(URL resourceUrl, Path targetDir, OutputSink outputSink)
+            throws IOException, URISyntaxException, CodeGenException {
         // Ensure destination exists
         Files.createDirectories(targetDir);
 
@@ -58,9 +60,8 @@ public class CommonUtils {
                         if (entry.isDirectory()) {
                             Files.createDirectories(dest);
                         } else {
-                            Files.createDirectories(dest.getParent());
                             try (InputStream is = jar.getInputStream(entry)) {
-                                Files.copy(is, dest, StandardCopyOption.REPLACE_EXISTING);
+                                outputSink.writeFile(dest, is);
                             }
                         }
                     }
@@ -77,9 +78,9 @@ public class CommonUtils {
                         if (Files.isDirectory(source)) {
                             Files.createDirectories(dest);
                         } else {
-                            Files.copy(source, dest, StandardCopyOption.REPLACE_EXISTING);
+                            outputSink.writeFile(dest, Files.readAllBytes(source));
                         }
-                    } catch (IOException e) {
+                    } catch (IOException | CodeGenException e) {
                         throw new RuntimeException(e);
                     }
                 });
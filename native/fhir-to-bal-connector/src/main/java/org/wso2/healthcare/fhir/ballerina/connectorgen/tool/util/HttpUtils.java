@@ -30,6 +30,7 @@ import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.util.EntityUtils;
+import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
 import org.wso2.healthcare.fhir.ballerina.connectorgen.tool.model.CapabilityStatement;
 
 import java.io.IOException;
@@ -40,27 +41,25 @@ public class HttpUtils {
     private static final ObjectMapper mapper = new ObjectMapper()
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
-    public static CapabilityStatement getCapabilityStatement(String fhirServerURL) {
+    public static CapabilityStatement getCapabilityStatement(String fhirServerURL) throws CodeGenException {
         try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
             HttpGet request = new HttpGet(fhirServerURL);
             request.setHeader("Accept", "application/fhir+json");
             try (CloseableHttpResponse response = httpClient.execute(request)) {
                 int status = response.getStatusLine().getStatusCode();
                 if (status != 200) {
-                    System.err.println("Failed: Get Capability Statement: " + status);
-                    System.exit(0);
+                    throw new CodeGenException("Failed: Get Capability Statement: " + status);
                 }
                 String json = EntityUtils.toString(response.getEntity());
                 return mapper.readValue(json, CapabilityStatement.class);
             }
         } catch (IOException e) {
-            System.err.println("Error fetching CapabilityStatement: " + e.getMessage());
-            System.exit(0);
+            throw new CodeGenException("Error fetching CapabilityStatement: " + e.getMessage(), e);
         }
-        return null;
     }
 
-    public static String getReadMe(String balCentralURL, String orgName, String packageName, String packageVersion) {
+    public static String getReadMe(String balCentralURL, String orgName, String packageName, String packageVersion)
+            throws CodeGenException {
         String query = String.format(
                 "{ \"query\": \"{ package ( orgName: \\\"%s\\\", packageName: \\\"%s\\\", version : \\\"%s\\\") { readme } }\" }",
                 orgName, packageName, packageVersion
@@ -74,9 +73,8 @@ public class HttpUtils {
                 String responseString = EntityUtils.toString(response.getEntity());
 
                 if (responseString == null || responseString.isEmpty()) {
-                    System.err.println("Empty response from Ballerina Central. " +
+                    throw new CodeGenException("Empty response from Ballerina Central. " +
                             "Please check the Ballerina Central URL and organization name");
-                    System.exit(0);
                 }
 
                 JsonObject responseObject = JsonParser.parseString(responseString).getAsJsonObject();
@@ -86,18 +84,17 @@ public class HttpUtils {
                 if (packageObj != null && packageObj.has("readme")) {
                     return packageObj.get("readme").getAsString();
                 } else {
-                    System.err.println("README not found for package: " + packageName + " version: " + packageVersion);
-                    System.exit(0);
+                    throw new CodeGenException("README not found for package: " + packageName + " version: " +
+                            packageVersion);
                 }
             }
         } catch (IOException e) {
-            System.err.println("Error fetching README from Ballerina Central: " + e.getMessage());
-            System.exit(0);
+            throw new CodeGenException("Error fetching README from Ballerina Central: " + e.getMessage(), e);
         }
-        return null;
     }
 
-    public static String getLatestVersionOfPackage(String ballerinaCentralURL, String orgName, String packageName) {
+    public static String getLatestVersionOfPackage(String ballerinaCentralURL, String orgName, String packageName)
+            throws CodeGenException {
         try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
             String requestURL = String.format("%s/%s/%s/%s", ballerinaCentralURL,"/registry/packages", orgName, packageName);
             HttpGet request = new HttpGet(requestURL);
@@ -114,8 +111,8 @@ public class HttpUtils {
                 }
             }
         } catch (IOException e) {
-            System.err.println("Error fetching package versions for " + packageName + ": " + e.getMessage());
-            System.exit(0);
+            throw new CodeGenException("Error fetching package versions for " + packageName + ": " + e.getMessage(),
+                    e);
         }
         return null;
     }
@@ -18,6 +18,12 @@
 
 package org.wso2.healthcare.fhir.ballerina.packagegen.tool;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.healthcare.codegen.output.OutputSink;
+import org.wso2.healthcare.codegen.profile.GenerationProfiler;
+import org.wso2.healthcare.codegen.profile.ProfilerAware;
+import org.wso2.healthcare.codegen.scope.DataTypeScopeAware;
 import org.wso2.healthcare.codegen.tool.framework.commons.config.ToolConfig;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.TemplateGenerator;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.ToolContext;
@@ -37,22 +43,58 @@ import java.util.Map;
 /**
  * Ballerina FHIR Package Generator Tool.
  */
-public class BallerinaPackageGenTool extends AbstractFHIRTool {
+public class BallerinaPackageGenTool extends AbstractFHIRTool implements ProfilerAware,
+        DataTypeScopeAware<FHIRDataTypeDef> {
+    private static final Log LOG = LogFactory.getLog(BallerinaPackageGenTool.class);
     private final Map<String, FHIRImplementationGuide> enabledIgs = new HashMap<>();
     private BallerinaPackageGenToolConfig packageGenToolConfig;
+    private GenerationProfiler profiler = GenerationProfiler.disabled();
+    private Map<String, FHIRDataTypeDef> scopedDataTypes;
 
     @Override
     public void initialize(ToolConfig toolConfig) {
         this.packageGenToolConfig = (BallerinaPackageGenToolConfig) toolConfig;
     }
 
+    @Override
+    public void setProfiler(GenerationProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Generate the package from the given data types instead of the data types of the specification data, e.g. when
+     * several IGs which define data types of the same name share the specification data.
+     *
+     * @param dataTypes data types of the package
+     */
+    @Override
+    public void setDataTypes(Map<String, FHIRDataTypeDef> dataTypes) {
+        this.scopedDataTypes = dataTypes;
+    }
+
     @Override
     public TemplateGenerator execute(ToolContext toolContext) throws CodeGenException {
 
-        enabledIgs.putAll(((FHIRSpecificationData) toolContext.getSpecificationData()).getFhirImplementationGuides());
+        Map<String, FHIRImplementationGuide> implementationGuides =
+                ((FHIRSpecificationData) toolContext.getSpecificationData()).getFhirImplementationGuides();
+        String selectedIgName = packageGenToolConfig.getIgName();
+        if (selectedIgName != null) {
+            // Several IGs share the specification data, e.g. in batch generation. The package is generated for the
+            // selected one only.
+            FHIRImplementationGuide selectedIg = implementationGuides.get(selectedIgName);
+            if (selectedIg == null) {
+                throw new CodeGenException("IG not found in the specification data: " + selectedIgName);
+            }
+            enabledIgs.put(selectedIgName, selectedIg);
+        } else {
+            enabledIgs.putAll(implementationGuides);
+            if (enabledIgs.size() > 1) {
+                LOG.warn("Multiple IGs found in the specification data. A package is generated per IG, hence only " +
+                        "one of them is generated. Select the IG to be generated to avoid this.");
+            }
+        }
         for (String igName : enabledIgs.keySet()) {
-            int resourceCount = ((FHIRSpecificationData) toolContext.getSpecificationData()).
-                    getFhirImplementationGuides().get(igName).getResources().keySet().size();
+            int resourceCount = enabledIgs.get(igName).getResources().keySet().size();
             if (resourceCount < 1) {
                 throw new CodeGenException("No resources found in the IG: " + igName);
             }
@@ -61,16 +103,44 @@ public class BallerinaPackageGenTool extends AbstractFHIRTool {
 
         if (packageGenToolConfig.isEnabled()) {
             String targetRoot = packageGenToolConfig.getTargetDir();
-            Map<String, FHIRDataTypeDef> dataTypes = ((FHIRSpecificationData) toolContext.getSpecificationData()).getDataTypes();
+            Map<String, FHIRDataTypeDef> dataTypes = scopedDataTypes != null ? scopedDataTypes :
+                    ((FHIRSpecificationData) toolContext.getSpecificationData()).getDataTypes();
+            IncrementalGenerationPlan generationPlan = packageGenToolConfig.isIncrementalGeneration() ?
+                    IncrementalGenerationPlan.create(packageGenToolConfig, enabledIgs, dataTypes) :
+                    IncrementalGenerationPlan.disabled();
+            if (packageGenToolConfig.isStreamingGeneration()) {
+                // Profiles are derived while they are written, hence whether the changed profiles affect the rest of
+                // the package is known too late. The whole package is generated and the manifest is recorded.
+                generationPlan = generationPlan.toFullGeneration();
+            }
+            GenerationSession session = new GenerationSession(packageGenToolConfig, generationPlan, profiler,
+                    scopedDataTypes);
             AbstractPackageContextGenerator packageContextGenerator = PackageContextGeneratorFactory.getPackageContextGenerator(
                     packageGenToolConfig.getPackageConfig().getFhirVersion(),
-                    packageGenToolConfig,
+                    session,
                     enabledIgs, toolContext.getSpecificationData());
+            if (!generationPlan.isConsistent()) {
+                // Changed profiles affect the state shared with the unchanged profiles, hence generate all of them.
+                LOG.info("Changed profiles affect the rest of the package. Regenerating the whole package.");
+                generationPlan = generationPlan.toFullGeneration();
+                session = new GenerationSession(packageGenToolConfig, generationPlan, profiler, scopedDataTypes);
+                packageContextGenerator = PackageContextGeneratorFactory.getPackageContextGenerator(
+                        packageGenToolConfig.getPackageConfig().getFhirVersion(),
+                        session,
+                        enabledIgs, toolContext.getSpecificationData());
+            }
+            if (generationPlan.isIncremental()) {
+                LOG.info("Regenerating " + generationPlan.getChangedProfileCount() + " of " +
+                        generationPlan.getProfileCount() + " profiles.");
+            }
 
             PackageTemplateGenerator packageTemplateGenerator = new PackageTemplateGenerator(targetRoot);
 
             Map<String, Object> properties = new HashMap<>();
             properties.put("toolConfig", packageGenToolConfig);
+            properties.put("session", session);
+            properties.put(OutputSink.PROPERTY_NAME, new OutputSink(profiler));
+            properties.put(GenerationProfiler.PROPERTY_NAME, profiler);
             if (packageContextGenerator.getPackageContext() == null) {
                 throw new CodeGenException("Package context is not available.");
             }
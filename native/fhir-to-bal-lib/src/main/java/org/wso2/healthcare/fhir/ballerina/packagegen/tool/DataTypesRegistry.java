@@ -18,22 +18,29 @@
 package org.wso2.healthcare.fhir.ballerina.packagegen.tool;
 
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Registry to store the data types defined for the package
+ * Registry to store the data types defined for the package. Each {@link GenerationSession} owns a registry.
  */
 public class DataTypesRegistry {
-    private static final DataTypesRegistry instance = new DataTypesRegistry();
     private final Set<String> dataTypesRegistry;
+    private final AtomicInteger removalCount = new AtomicInteger();
 
-    private DataTypesRegistry() {
-        dataTypesRegistry = new HashSet<>(Arrays.asList("boolean", "string", "decimal"));
+    DataTypesRegistry() {
+        dataTypesRegistry = ConcurrentHashMap.newKeySet();
+        dataTypesRegistry.addAll(Arrays.asList("boolean", "string", "decimal"));
     }
 
+    /**
+     * Returns the registry of the generation session bound to the current thread.
+     *
+     * @return data types registry
+     */
     public static DataTypesRegistry getInstance() {
-        return instance;
+        return GenerationSession.current().getDataTypesRegistry();
     }
 
     public void addDataType(String dataType) {
@@ -41,7 +48,18 @@ public class DataTypesRegistry {
     }
 
     public void removeDataType(String dataType) {
-        dataTypesRegistry.remove(dataType);
+        if (dataTypesRegistry.remove(dataType)) {
+            removalCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of data types removed from the registry. The registry only grows while it stays unchanged.
+     *
+     * @return number of removed data types
+     */
+    public int getRemovalCount() {
+        return removalCount.get();
     }
 
     public boolean containsDataType(String dataType) {
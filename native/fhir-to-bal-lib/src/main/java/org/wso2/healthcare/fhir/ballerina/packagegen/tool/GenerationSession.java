@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.fhir.ballerina.packagegen.tool;
+
+import org.wso2.healthcare.codegen.profile.GenerationProfiler;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.common.FHIRSpecificationData;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRDataTypeDef;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.config.BallerinaPackageGenToolConfig;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.GeneratorUtils;
+
+import java.util.Map;
+
+/**
+ * State of a single package generation. Owns the tool config, the data types registry, the identifier state and the
+ * incremental generation plan of the package being generated, so that several packages can be generated
+ * concurrently within the same process.
+ * <p>
+ * Context generators and template generators receive the session explicitly. Model classes rendered by the
+ * templates resolve it through {@link #current()}, hence the session is bound to the generating thread while the
+ * templates are rendered.
+ */
+public class GenerationSession {
+
+    private static final ThreadLocal<GenerationSession> CURRENT_SESSION = new ThreadLocal<>();
+    private static final GenerationSession DEFAULT_SESSION = new GenerationSession(null);
+
+    private final BallerinaPackageGenToolConfig toolConfig;
+    private final DataTypesRegistry dataTypesRegistry;
+    private final GeneratorUtils generatorUtils;
+    private final IncrementalGenerationPlan generationPlan;
+    private final GenerationProfiler profiler;
+    private final Map<String, FHIRDataTypeDef> dataTypes;
+
+    public GenerationSession(BallerinaPackageGenToolConfig toolConfig) {
+        this(toolConfig, IncrementalGenerationPlan.disabled());
+    }
+
+    public GenerationSession(BallerinaPackageGenToolConfig toolConfig, IncrementalGenerationPlan generationPlan) {
+        this(toolConfig, generationPlan, GenerationProfiler.disabled());
+    }
+
+    public GenerationSession(BallerinaPackageGenToolConfig toolConfig, IncrementalGenerationPlan generationPlan,
+                             GenerationProfiler profiler) {
+        this(toolConfig, generationPlan, profiler, null);
+    }
+
+    /**
+     * @param dataTypes data types of the package, or null if the package owns all the data types of the
+     *                  specification data
+     */
+    public GenerationSession(BallerinaPackageGenToolConfig toolConfig, IncrementalGenerationPlan generationPlan,
+                             GenerationProfiler profiler, Map<String, FHIRDataTypeDef> dataTypes) {
+        this.toolConfig = toolConfig;
+        this.dataTypesRegistry = new DataTypesRegistry();
+        this.generatorUtils = new GeneratorUtils(toolConfig, dataTypesRegistry);
+        this.generationPlan = generationPlan;
+        this.profiler = profiler;
+        this.dataTypes = dataTypes;
+    }
+
+    /**
+     * Returns the session bound to the current thread. Falls back to a process wide default session when no
+     * session is bound, which keeps the behaviour of callers outside a generation unchanged.
+     *
+     * @return current generation session
+     */
+    public static GenerationSession current() {
+        GenerationSession session = CURRENT_SESSION.get();
+        return session != null ? session : DEFAULT_SESSION;
+    }
+
+    /**
+     * Bind this session to the current thread until the returned binding is closed. Bindings can be nested; closing
+     * a binding restores the previously bound session.
+     *
+     * @return binding to be closed once the work of the session is done on this thread
+     */
+    public Binding bind() {
+        GenerationSession previousSession = CURRENT_SESSION.get();
+        CURRENT_SESSION.set(this);
+        return new Binding(previousSession);
+    }
+
+    public BallerinaPackageGenToolConfig getToolConfig() {
+        return toolConfig;
+    }
+
+    public DataTypesRegistry getDataTypesRegistry() {
+        return dataTypesRegistry;
+    }
+
+    public GeneratorUtils getGeneratorUtils() {
+        return generatorUtils;
+    }
+
+    public IncrementalGenerationPlan getGenerationPlan() {
+        return generationPlan;
+    }
+
+    public GenerationProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Returns the data types which belong to the package being generated. These are the data types given to the
+     * session, e.g. the ones of the IG of the package in batch generation, or else the data types of the
+     * specification data.
+     *
+     * @param specificationData specification data
+     * @return data types of the package
+     */
+    public Map<String, FHIRDataTypeDef> getDataTypes(FHIRSpecificationData specificationData) {
+        return dataTypes != null ? dataTypes : specificationData.getDataTypes();
+    }
+
+    /**
+     * Binding of a session to a thread.
+     */
+    public static final class Binding implements AutoCloseable {
+
+        private final GenerationSession previousSession;
+
+        private Binding(GenerationSession previousSession) {
+            this.previousSession = previousSession;
+        }
+
+        @Override
+        public void close() {
+            if (previousSession != null) {
+                CURRENT_SESSION.set(previousSession);
+            } else {
+                CURRENT_SESSION.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,420 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.fhir.ballerina.packagegen.tool;
+
+import ca.uhn.fhir.context.FhirContext;
+import ca.uhn.fhir.parser.IParser;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.hl7.fhir.instance.model.api.IBaseResource;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRDataTypeDef;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRImplementationGuide;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRResourceDef;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRSearchParamDef;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.config.BallerinaPackageGenToolConfig;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.GenerationManifest;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.CommonUtil;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.ManifestUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Decides which profiles of a package generation have to be re-derived and re-rendered, based on the generation
+ * manifest of the previously generated package.
+ * <p>
+ * A profile is reused when its own input hash is unchanged. Everything else, i.e. the tool version, the configs, the
+ * data types, extensions and search parameters and the set of profiles, is treated as a global input and any change
+ * in those falls back to a full generation. Reused profiles are not derived; the data types and dependent IGs they
+ * contributed are replayed from the manifest, hence the re-derived profiles observe the same shared state as in a
+ * full generation. The package level files are not generated in incremental mode, hence a generated file which is
+ * missing or modified since the previous generation also falls back to a full generation.
+ */
+public class IncrementalGenerationPlan {
+
+    private static final Log LOG = LogFactory.getLog(IncrementalGenerationPlan.class);
+    // package level files, which are only generated in a full generation
+    private static final List<String> PACKAGE_OUTPUT_FILES = List.of("Ballerina" + ToolConstants.TOML_EXTENSION,
+            "Package" + ToolConstants.MD_EXTENSION, "initializer" + ToolConstants.BAL_EXTENSION,
+            "variables" + ToolConstants.BAL_EXTENSION, "datatypes" + ToolConstants.BAL_EXTENSION,
+            "extensions" + ToolConstants.BAL_EXTENSION);
+
+    private final boolean isEnabled;
+    private final GenerationManifest previousManifest;
+    private final GenerationManifest manifest;
+
+    private IncrementalGenerationPlan(boolean isEnabled, GenerationManifest previousManifest,
+                                      GenerationManifest manifest) {
+        this.isEnabled = isEnabled;
+        this.previousManifest = previousManifest;
+        this.manifest = manifest;
+    }
+
+    /**
+     * Plan used when incremental generation is disabled. Every profile is generated and no manifest is maintained.
+     *
+     * @return disabled plan
+     */
+    public static IncrementalGenerationPlan disabled() {
+        return new IncrementalGenerationPlan(false, null, null);
+    }
+
+    /**
+     * Create the plan by hashing the generation inputs and comparing them with the manifest of the previously
+     * generated package.
+     *
+     * @param toolConfig        tool config
+     * @param igEntries         enabled implementation guides
+     * @param dataTypes         data types of the package
+     * @return generation plan
+     */
+    public static IncrementalGenerationPlan create(BallerinaPackageGenToolConfig toolConfig,
+                                                   Map<String, FHIRImplementationGuide> igEntries,
+                                                   Map<String, FHIRDataTypeDef> dataTypes) {
+        LOG.debug("Started: Incremental Generation Plan creation");
+        IParser parser = getFhirContext(toolConfig.getPackageConfig().getFhirVersion()).newJsonParser();
+        GenerationManifest manifest = new GenerationManifest();
+        manifest.setToolVersion(ManifestUtil.getToolVersion());
+        manifest.setConfigHash(ManifestUtil.getConfigHash(toolConfig));
+        manifest.setGlobalInputsHash(getGlobalInputsHash(parser, igEntries, dataTypes));
+        for (FHIRImplementationGuide ig : igEntries.values()) {
+            for (Map.Entry<String, FHIRResourceDef> resourceEntry : ig.getResources().entrySet()) {
+                GenerationManifest.ProfileEntry profileEntry = new GenerationManifest.ProfileEntry();
+                profileEntry.setInputHash(ManifestUtil.hash(encode(parser, resourceEntry.getValue().getDefinition())));
+                manifest.getProfiles().put(getProfileKey(ig, resourceEntry.getKey()), profileEntry);
+            }
+        }
+
+        GenerationManifest previousManifest = null;
+        String packagePath = getPackagePath(toolConfig);
+        if (!toolConfig.isFullRebuild()) {
+            previousManifest = ManifestUtil.readManifest(packagePath);
+        }
+        if (previousManifest != null && !isReusable(previousManifest, manifest, packagePath)) {
+            previousManifest = null;
+        }
+        LOG.debug("Ended: Incremental Generation Plan creation");
+        return new IncrementalGenerationPlan(true, previousManifest, manifest);
+    }
+
+    /**
+     * Key of a profile in the manifest.
+     *
+     * @param ig          implementation guide of the profile
+     * @param resourceKey key of the profile in the implementation guide
+     * @return profile key
+     */
+    public static String getProfileKey(FHIRImplementationGuide ig, String resourceKey) {
+        return ig.getName() + "#" + resourceKey;
+    }
+
+    public static String getPackagePath(BallerinaPackageGenToolConfig toolConfig) {
+        return toolConfig.getTargetDir() + File.separator + toolConfig.getPackageConfig().getName();
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Whether only the changed profiles are generated. Package level artifacts are not regenerated in this mode
+     * since they only depend on the global inputs and the previously generated copies are verified to be intact.
+     *
+     * @return true if the generation is incremental
+     */
+    public boolean isIncremental() {
+        return previousManifest != null;
+    }
+
+    /**
+     * Returns the recorded entry of the profile if the profile does not need to be derived again.
+     *
+     * @param profileKey profile key
+     * @return recorded profile entry, or null if the profile has to be derived
+     */
+    public GenerationManifest.ProfileEntry getReusableProfile(String profileKey) {
+        if (previousManifest == null) {
+            return null;
+        }
+        GenerationManifest.ProfileEntry previousEntry = previousManifest.getProfiles().get(profileKey);
+        GenerationManifest.ProfileEntry entry = manifest.getProfiles().get(profileKey);
+        if (previousEntry == null || entry == null
+                || !Objects.equals(previousEntry.getInputHash(), entry.getInputHash())) {
+            return null;
+        }
+        return previousEntry;
+    }
+
+    /**
+     * Whether the state contributed by the profiles must be recorded while deriving them.
+     *
+     * @return true if the profile contributions are recorded
+     */
+    public boolean isRecording() {
+        return isEnabled;
+    }
+
+    /**
+     * Record the state a derived profile contributed to the generation.
+     *
+     * @param profileKey          profile key
+     * @param name                profile name, or null if no resource is generated for the profile
+     * @param type                resource type of the profile
+     * @param profile             profile url
+     * @param resourceName        name of the generated resource
+     * @param registeredDataTypes data types registered while the profile got merged
+     * @param dependentIgs        dependent IGs referred by the profile
+     */
+    public void recordProfile(String profileKey, String name, String type, String profile, String resourceName,
+                              Collection<String> registeredDataTypes, Collection<String> dependentIgs) {
+        GenerationManifest.ProfileEntry entry = manifest.getProfiles().get(profileKey);
+        if (entry == null) {
+            return;
+        }
+        entry.setName(name);
+        entry.setType(type);
+        entry.setProfile(profile);
+        if (resourceName != null) {
+            entry.setOutputFile("resource_" + CommonUtil.camelToSnake(resourceName) + ToolConstants.BAL_EXTENSION);
+        }
+        List<String> sortedDataTypes = new ArrayList<>(registeredDataTypes);
+        Collections.sort(sortedDataTypes);
+        entry.setRegisteredDataTypes(sortedDataTypes);
+        entry.setDependentIgs(new ArrayList<>(dependentIgs));
+    }
+
+    /**
+     * Record a profile which was reused from the previous generation.
+     *
+     * @param profileKey    profile key
+     * @param previousEntry entry recorded by the previous generation
+     */
+    public void recordReusedProfile(String profileKey, GenerationManifest.ProfileEntry previousEntry) {
+        GenerationManifest.ProfileEntry entry = manifest.getProfiles().get(profileKey);
+        if (entry != null) {
+            entry.setName(previousEntry.getName());
+            entry.setType(previousEntry.getType());
+            entry.setProfile(previousEntry.getProfile());
+            entry.setOutputFile(previousEntry.getOutputFile());
+            entry.setRegisteredDataTypes(previousEntry.getRegisteredDataTypes());
+            entry.setDependentIgs(previousEntry.getDependentIgs());
+        }
+    }
+
+    /**
+     * In incremental mode, checks whether the re-derived profiles contributed the same shared state as in the
+     * previous generation. Otherwise the reused profiles and the package level artifacts may be outdated, hence a
+     * full generation is required.
+     *
+     * @return true if the generation result is consistent
+     */
+    public boolean isConsistent() {
+        if (previousManifest == null) {
+            return true;
+        }
+        for (Map.Entry<String, GenerationManifest.ProfileEntry> entry : manifest.getProfiles().entrySet()) {
+            if (!entry.getValue().hasSameContribution(previousManifest.getProfiles().get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a plan which generates every profile, keeping the hashes of the generation inputs.
+     *
+     * @return full generation plan
+     */
+    public IncrementalGenerationPlan toFullGeneration() {
+        if (!isEnabled) {
+            return this;
+        }
+        GenerationManifest fullManifest = new GenerationManifest();
+        fullManifest.setToolVersion(manifest.getToolVersion());
+        fullManifest.setConfigHash(manifest.getConfigHash());
+        fullManifest.setGlobalInputsHash(manifest.getGlobalInputsHash());
+        for (Map.Entry<String, GenerationManifest.ProfileEntry> entry : manifest.getProfiles().entrySet()) {
+            GenerationManifest.ProfileEntry profileEntry = new GenerationManifest.ProfileEntry();
+            profileEntry.setInputHash(entry.getValue().getInputHash());
+            fullManifest.getProfiles().put(entry.getKey(), profileEntry);
+        }
+        return new IncrementalGenerationPlan(true, null, fullManifest);
+    }
+
+    /**
+     * Record the content hashes of the files generated into the package, i.e. the package level files and the
+     * resource files of the profiles. Called once the whole package is generated.
+     *
+     * @param packagePath generated package path
+     * @throws IOException if a generated file cannot be read
+     */
+    public void recordOutputHashes(String packagePath) throws IOException {
+        List<String> outputFiles = new ArrayList<>(PACKAGE_OUTPUT_FILES);
+        for (GenerationManifest.ProfileEntry entry : manifest.getProfiles().values()) {
+            if (entry.getOutputFile() != null) {
+                outputFiles.add(entry.getOutputFile());
+            }
+        }
+        Map<String, String> outputHashes = new TreeMap<>();
+        for (String outputFile : outputFiles) {
+            Path outputPath = Paths.get(packagePath, outputFile);
+            if (Files.isRegularFile(outputPath)) {
+                outputHashes.put(outputFile, ManifestUtil.hashFile(outputPath));
+            }
+        }
+        manifest.setOutputHashes(outputHashes);
+    }
+
+    /**
+     * Generated files of the profiles reused from the previous generation, relative to the package.
+     *
+     * @return output files of the reused profiles
+     */
+    public List<String> getReusedOutputFiles() {
+        List<String> reusedOutputFiles = new ArrayList<>();
+        if (manifest != null) {
+            for (String profileKey : manifest.getProfiles().keySet()) {
+                GenerationManifest.ProfileEntry reusableProfile = getReusableProfile(profileKey);
+                if (reusableProfile != null && reusableProfile.getOutputFile() != null) {
+                    reusedOutputFiles.add(reusableProfile.getOutputFile());
+                }
+            }
+        }
+        return reusedOutputFiles;
+    }
+
+    public int getProfileCount() {
+        return manifest != null ? manifest.getProfiles().size() : 0;
+    }
+
+    public int getChangedProfileCount() {
+        int changedProfileCount = 0;
+        if (manifest != null) {
+            for (String profileKey : manifest.getProfiles().keySet()) {
+                if (getReusableProfile(profileKey) == null) {
+                    changedProfileCount++;
+                }
+            }
+        }
+        return changedProfileCount;
+    }
+
+    /**
+     * Manifest describing the current generation, to be written once the generation is completed.
+     *
+     * @return generation manifest
+     */
+    public GenerationManifest getManifest() {
+        return manifest;
+    }
+
+    private static boolean isReusable(GenerationManifest previousManifest, GenerationManifest manifest,
+                                      String packagePath) {
+        if (manifest.getToolVersion() == null
+                || !Objects.equals(previousManifest.getToolVersion(), manifest.getToolVersion())) {
+            LOG.info("Tool version changed. Regenerating the whole package.");
+            return false;
+        }
+        if (!Objects.equals(previousManifest.getConfigHash(), manifest.getConfigHash())) {
+            LOG.info("Tool configs changed. Regenerating the whole package.");
+            return false;
+        }
+        if (!Objects.equals(previousManifest.getGlobalInputsHash(), manifest.getGlobalInputsHash())) {
+            LOG.info("Data types, extensions or search parameters changed. Regenerating the whole package.");
+            return false;
+        }
+        if (previousManifest.getProfiles() == null || !new ArrayList<>(previousManifest.getProfiles().keySet())
+                .equals(new ArrayList<>(manifest.getProfiles().keySet()))) {
+            LOG.info("Profiles added or removed. Regenerating the whole package.");
+            return false;
+        }
+        if (previousManifest.getOutputHashes() == null || previousManifest.getOutputHashes().isEmpty()) {
+            LOG.info("Generated files are not recorded. Regenerating the whole package.");
+            return false;
+        }
+        for (GenerationManifest.ProfileEntry entry : previousManifest.getProfiles().values()) {
+            if (entry.getOutputFile() != null && !previousManifest.getOutputHashes().containsKey(entry.getOutputFile())) {
+                LOG.info("Generated file " + entry.getOutputFile() + " is missing. Regenerating the whole package.");
+                return false;
+            }
+        }
+        // package level files are not generated in incremental mode, hence they must be as generated
+        for (Map.Entry<String, String> outputHash : previousManifest.getOutputHashes().entrySet()) {
+            Path outputPath = Paths.get(packagePath, outputHash.getKey());
+            if (!Files.isRegularFile(outputPath)) {
+                LOG.info("Generated file " + outputHash.getKey() + " is missing. Regenerating the whole package.");
+                return false;
+            }
+            try {
+                if (!outputHash.getValue().equals(ManifestUtil.hashFile(outputPath))) {
+                    LOG.info("Generated file " + outputHash.getKey() + " is modified. Regenerating the whole " +
+                            "package.");
+                    return false;
+                }
+            } catch (IOException e) {
+                LOG.info("Generated file " + outputHash.getKey() + " is unreadable. Regenerating the whole package.");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String getGlobalInputsHash(IParser parser, Map<String, FHIRImplementationGuide> igEntries,
+                                              Map<String, FHIRDataTypeDef> dataTypes) {
+        MessageDigest digest = ManifestUtil.newDigest();
+        // Generated sources carry the license year
+        ManifestUtil.update(digest, ToolConstants.LICENSE_YEAR);
+        for (Map.Entry<String, FHIRDataTypeDef> dataTypeEntry :
+                new TreeMap<>(dataTypes).entrySet()) {
+            ManifestUtil.update(digest, dataTypeEntry.getKey());
+            ManifestUtil.update(digest, encode(parser, dataTypeEntry.getValue().getDefinition()));
+        }
+        for (FHIRImplementationGuide ig : igEntries.values()) {
+            ManifestUtil.update(digest, ig.getName());
+            for (Map.Entry<String, FHIRSearchParamDef> searchParamEntry :
+                    new TreeMap<>(ig.getSearchParameters()).entrySet()) {
+                ManifestUtil.update(digest, searchParamEntry.getKey());
+                ManifestUtil.update(digest, encode(parser, searchParamEntry.getValue().getSearchParameter()));
+            }
+        }
+        return ManifestUtil.toHex(digest.digest());
+    }
+
+    private static String encode(IParser parser, Object resource) {
+        return resource != null ? parser.encodeResourceToString((IBaseResource) resource) : null;
+    }
+
+    private static FhirContext getFhirContext(String fhirVersion) {
+        if ("r5".equalsIgnoreCase(fhirVersion)) {
+            return FhirContext.forR5Cached();
+        }
+        return FhirContext.forR4Cached();
+    }
+}
@@ -79,6 +79,16 @@ public class ToolConstants {
     public static final String CONFIG_BALLERINA_KEYWORD_KEYWORD_TOML = "tools.config.ballerina_keyword.keyword";
     public static final String CONFIG_BALLERINA_KEYWORD_REPLACE = "replace";
     public static final String CONFIG_BALLERINA_KEYWORD_REPLACE_TOML = "tools.config.ballerina_keyword.replace";
+    public static final String CONFIG_PARALLEL_GENERATION = "parallelGeneration";
+    public static final String CONFIG_PARALLEL_GENERATION_TOML = "tools.config.parallel_generation";
+    public static final String CONFIG_WORKER_COUNT = "workerCount";
+    public static final String CONFIG_WORKER_COUNT_TOML = "tools.config.worker_count";
+    public static final String CONFIG_INCREMENTAL_GENERATION = "incrementalGeneration";
+    public static final String CONFIG_INCREMENTAL_GENERATION_TOML = "tools.config.incremental_generation";
+    public static final String CONFIG_STREAMING_GENERATION = "streamingGeneration";
+    public static final String CONFIG_STREAMING_GENERATION_TOML = "tools.config.streaming_generation";
+    public static final String CONFIG_FULL_REBUILD = "fullRebuild";
+    public static final String GENERATION_MANIFEST_FILE = ".fhir-package-manifest.json";
     public static final String TEMPLATE_PATH = "templates";
     public static final String TEMPLATE_VERSION_PATH = "versions";
     public static final String BAL_EXTENSION = ".bal";
@@ -104,5 +114,6 @@ public class ToolConstants {
     public class PrintStrings {
         public static final String OVERWRITING_EXISTING_PACKAGE = "[INFO] Overwriting the existing package.";
         public static final String INVALID_INPUT = "[ERROR] Invalid input. Exiting the tool.";
+        public static final String GENERATION_CANCELLED = "[INFO] Generation cancelled, the existing package is kept.";
     }
 }
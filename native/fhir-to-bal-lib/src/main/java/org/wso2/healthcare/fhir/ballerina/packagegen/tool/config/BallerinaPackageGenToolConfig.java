@@ -50,6 +50,14 @@ public class BallerinaPackageGenToolConfig extends AbstractToolConfig {
     private final Map<String, BallerinaKeywordConfig> ballerinaKeywordConfig = new HashMap<>();
     private PackageConfig packageConfig;
     private boolean isEnabled;
+    private boolean isParallelGeneration;
+    private int workerCount;
+    private boolean isIncrementalGeneration;
+    private boolean isStreamingGeneration;
+    private boolean isFullRebuild;
+    private boolean isOverwrite;
+    private boolean isCoreContextBundleEnabled = true;
+    private String igName;
 
     /**
      * Populate specific tool configs from tool-config.json
@@ -68,6 +76,22 @@ public class BallerinaPackageGenToolConfig extends AbstractToolConfig {
             populateIgConfigs(jsonConfigObj.getAsJsonArray(ToolConstants.CONFIG_INCLUDED_IGS));
             populateDataTypeConfigs(jsonConfigObj.getAsJsonArray(ToolConstants.CONFIG_DATA_TYPE_MAPPINGS));
             populateBallerinaKeywordConfigs(jsonConfigObj.getAsJsonArray(ToolConstants.CONFIG_BALLERINA_KEYWORD));
+
+            if (jsonConfigObj.has(ToolConstants.CONFIG_PARALLEL_GENERATION)) {
+                this.isParallelGeneration = jsonConfigObj.getAsJsonPrimitive(
+                        ToolConstants.CONFIG_PARALLEL_GENERATION).getAsBoolean();
+            }
+            if (jsonConfigObj.has(ToolConstants.CONFIG_WORKER_COUNT)) {
+                this.workerCount = jsonConfigObj.getAsJsonPrimitive(ToolConstants.CONFIG_WORKER_COUNT).getAsInt();
+            }
+            if (jsonConfigObj.has(ToolConstants.CONFIG_INCREMENTAL_GENERATION)) {
+                this.isIncrementalGeneration = jsonConfigObj.getAsJsonPrimitive(
+                        ToolConstants.CONFIG_INCREMENTAL_GENERATION).getAsBoolean();
+            }
+            if (jsonConfigObj.has(ToolConstants.CONFIG_STREAMING_GENERATION)) {
+                this.isStreamingGeneration = jsonConfigObj.getAsJsonPrimitive(
+                        ToolConstants.CONFIG_STREAMING_GENERATION).getAsBoolean();
+            }
         } else if (Constants.TOML_CONFIG_TYPE.equals(configObj.getType())) {
             TomlParseResult tomlConfigObj = ((TomlConfigType) configObj).getConfigObj();
 
@@ -93,6 +117,17 @@ public class BallerinaPackageGenToolConfig extends AbstractToolConfig {
             if (ballerinaKeywordsObj instanceof TomlArray) {
                 populateBallerinaKeywordConfigs((TomlArray) ballerinaKeywordsObj);
             }
+
+            this.isParallelGeneration = Boolean.TRUE.equals(
+                    tomlConfigObj.getBoolean(ToolConstants.CONFIG_PARALLEL_GENERATION_TOML));
+            Long workerCountObj = tomlConfigObj.getLong(ToolConstants.CONFIG_WORKER_COUNT_TOML);
+            if (workerCountObj != null) {
+                this.workerCount = workerCountObj.intValue();
+            }
+            this.isIncrementalGeneration = Boolean.TRUE.equals(
+                    tomlConfigObj.getBoolean(ToolConstants.CONFIG_INCREMENTAL_GENERATION_TOML));
+            this.isStreamingGeneration = Boolean.TRUE.equals(
+                    tomlConfigObj.getBoolean(ToolConstants.CONFIG_STREAMING_GENERATION_TOML));
         }
         LOG.debug("Ended: Ballerina Package Generator Tool config population");
     }
@@ -135,6 +170,30 @@ public class BallerinaPackageGenToolConfig extends AbstractToolConfig {
                 }
                 this.packageConfig.setDependentIgs(dependentIgList);
                 break;
+            case "parallelGeneration":
+                this.isParallelGeneration = value.getAsBoolean();
+                break;
+            case "workerCount":
+                this.workerCount = value.getAsInt();
+                break;
+            case "incrementalGeneration":
+                this.isIncrementalGeneration = value.getAsBoolean();
+                break;
+            case "streamingGeneration":
+                this.isStreamingGeneration = value.getAsBoolean();
+                break;
+            case "fullRebuild":
+                this.isFullRebuild = value.getAsBoolean();
+                break;
+            case "overwrite":
+                this.isOverwrite = value.getAsBoolean();
+                break;
+            case "igName":
+                this.igName = value.getAsString();
+                break;
+            case "coreContextBundle":
+                this.isCoreContextBundleEnabled = value.getAsBoolean();
+                break;
             default:
                 LOG.warn("Invalid config path: " + jsonPath);
         }
@@ -144,6 +203,79 @@ public class BallerinaPackageGenToolConfig extends AbstractToolConfig {
         return isEnabled;
     }
 
+    public boolean isParallelGeneration() {
+        return isParallelGeneration;
+    }
+
+    /**
+     * Number of workers to be used in parallel generation mode. A non-positive value means the number of
+     * available processors will be used.
+     *
+     * @return configured worker count
+     */
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    /**
+     * Whether a generation manifest should be maintained in the generated package, so that re-runs only regenerate
+     * the profiles affected by the changed inputs.
+     *
+     * @return true if incremental generation is enabled
+     */
+    public boolean isIncrementalGeneration() {
+        return isIncrementalGeneration;
+    }
+
+    /**
+     * Whether the resource profiles should be generated one at a time, i.e. each profile is derived, rendered and
+     * written before the next one is derived, so that only one resource template context is held in memory.
+     *
+     * @return true if streaming generation is enabled
+     */
+    public boolean isStreamingGeneration() {
+        return isStreamingGeneration;
+    }
+
+    /**
+     * Whether the existing generation manifest should be ignored, regenerating the whole package.
+     *
+     * @return true if a full rebuild is requested
+     */
+    public boolean isFullRebuild() {
+        return isFullRebuild;
+    }
+
+    /**
+     * Whether an existing package in the target directory is overwritten without prompting the user.
+     *
+     * @return true if the existing package is overwritten
+     */
+    public boolean isOverwrite() {
+        return isOverwrite;
+    }
+
+    /**
+     * Whether the bundled template contexts of the FHIR core data types and extensions are used. When disabled, the
+     * core definitions are processed like the ones of the implementation guide.
+     *
+     * @return true if the core context bundle is used
+     */
+    public boolean isCoreContextBundleEnabled() {
+        return isCoreContextBundleEnabled;
+    }
+
+    /**
+     * Name of the implementation guide the package is generated for. When several implementation guides are loaded
+     * into the same specification data, e.g. in batch generation, only the resources of this IG end up in the
+     * package.
+     *
+     * @return IG name, or null if the package is generated for the loaded IG
+     */
+    public String getIgName() {
+        return igName;
+    }
+
     public PackageConfig getPackageConfig() {
         return packageConfig;
     }
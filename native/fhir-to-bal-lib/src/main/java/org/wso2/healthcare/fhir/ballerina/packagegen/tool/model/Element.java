@@ -20,14 +20,24 @@ package org.wso2.healthcare.fhir.ballerina.packagegen.tool.model;
 
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.GeneratorUtils;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Model for FHIR resource element
+ * <p>
+ * Elements of the same base definitions are created for every profile of a package, hence the model is kept lean:
+ * the texts copied from the element definitions are interned, the boolean attributes share a flags field and the
+ * child and profile maps are allocated on first use.
  */
 public class Element {
+
+    private static final byte ARRAY = 1;
+    private static final byte SLICE = 1 << 1;
+    private static final byte EXTENDED = 1 << 2;
+
     private String dataType;
     private Map<String, DataTypeProfile> profiles;
     private String name;
@@ -37,9 +47,7 @@ public class Element {
     private List<String> fixedValue;
     private String valueSet;
     private HashMap<String, Element> childElements;
-    private boolean isArray;
-    private boolean isSlice;
-    private boolean isExtended;
+    private byte flags;
     private String rootElementName;
     private String description;
     private String summary;
@@ -53,7 +61,7 @@ public class Element {
     }
 
     public void setDataType(String dataType) {
-        this.dataType = dataType;
+        this.dataType = intern(dataType);
     }
 
     public Map<String, DataTypeProfile> getProfiles() {
@@ -66,14 +74,15 @@ public class Element {
 
     public void addProfile(String profile, String dataType) {
         if (this.profiles == null) {
-            this.profiles = new HashMap<>();
+            // most elements have a single profile
+            this.profiles = new HashMap<>(2);
         }
         DataTypeProfile dataTypeProfile = new DataTypeProfile(profile, dataType);
         this.profiles.putIfAbsent(profile, dataTypeProfile);
     }
 
     public String getTypeWithImportPrefix() {
-        return isExtended ? this.dataType : GeneratorUtils.getInstance().getTypeWithImport(this.dataType);
+        return isExtended() ? this.dataType : GeneratorUtils.getInstance().getTypeWithImport(this.dataType);
     }
 
     public String getName() {
@@ -81,7 +90,7 @@ public class Element {
     }
 
     public void setName(String name) {
-        this.name = name;
+        this.name = intern(name);
     }
 
     public boolean hasFixedValue() {
@@ -93,7 +102,13 @@ public class Element {
     }
 
     public void setFixedValue(List<String> fixedValue) {
-        this.fixedValue = fixedValue;
+        if (fixedValue == null || fixedValue.isEmpty()) {
+            this.fixedValue = null;
+        } else if (fixedValue.size() == 1) {
+            this.fixedValue = Collections.singletonList(intern(fixedValue.get(0)));
+        } else {
+            this.fixedValue = fixedValue;
+        }
     }
 
     public boolean isRequired() {
@@ -105,35 +120,35 @@ public class Element {
     }
 
     public void setPath(String path) {
-        this.path = path;
+        this.path = intern(path);
     }
 
     public boolean isArray() {
-        return isArray;
+        return hasFlag(ARRAY);
     }
 
     public void setSlice(boolean slice) {
-        isSlice = slice;
+        setFlag(SLICE, slice);
     }
 
     public void setArray(boolean array) {
-        isArray = array;
+        setFlag(ARRAY, array);
     }
 
     public boolean isSlice() {
-        return isSlice;
+        return hasFlag(SLICE);
     }
 
     public void setIsSlice(boolean isASlice) {
-        this.isSlice = isASlice;
+        setFlag(SLICE, isASlice);
     }
 
     public boolean isExtended() {
-        return isExtended;
+        return hasFlag(EXTENDED);
     }
 
     public void setExtended(boolean extended) {
-        isExtended = extended;
+        setFlag(EXTENDED, extended);
     }
 
     public boolean hasChildElements() {
@@ -148,12 +163,25 @@ public class Element {
         this.childElements = childElements;
     }
 
+    /**
+     * Add a child element unless a child of the same name exists, allocating the child map on the first child.
+     *
+     * @param name         child element name
+     * @param childElement child element
+     */
+    public void addChildElement(String name, Element childElement) {
+        if (this.childElements == null) {
+            this.childElements = new HashMap<>(4);
+        }
+        this.childElements.putIfAbsent(name, childElement);
+    }
+
     public String getRootElementName() {
         return rootElementName;
     }
 
     public void setRootElementName(String rootElementName) {
-        this.rootElementName = rootElementName;
+        this.rootElementName = intern(rootElementName);
     }
 
     public int getMin() {
@@ -177,7 +205,7 @@ public class Element {
     }
 
     public void setValueSet(String valueSet) {
-        this.valueSet = valueSet;
+        this.valueSet = intern(valueSet);
     }
 
     public String getDescription() {
@@ -185,7 +213,7 @@ public class Element {
     }
 
     public void setDescription(String description) {
-        this.description = description;
+        this.description = intern(description);
     }
 
     public String getSummary() {
@@ -193,7 +221,7 @@ public class Element {
     }
 
     public void setSummary(String summary) {
-        this.summary = summary;
+        this.summary = intern(summary);
     }
 
     public String getRequirement() {
@@ -201,14 +229,29 @@ public class Element {
     }
 
     public void setRequirement(String requirement) {
-        this.requirement = requirement;
+        this.requirement = intern(requirement);
     }
 
     public void setContentReference(String contentReference) {
-        this.contentReference = contentReference;
+        this.contentReference = intern(contentReference);
     }
 
     public String getContentReference() {
         return contentReference;
     }
+
+    private boolean hasFlag(byte flag) {
+        return (flags & flag) != 0;
+    }
+
+    private void setFlag(byte flag, boolean value) {
+        flags = (byte) (value ? flags | flag : flags & ~flag);
+    }
+
+    /**
+     * Texts of the base elements are repeated in every profile, hence share a single copy of them.
+     */
+    private static String intern(String value) {
+        return value != null ? value.intern() : null;
+    }
 }
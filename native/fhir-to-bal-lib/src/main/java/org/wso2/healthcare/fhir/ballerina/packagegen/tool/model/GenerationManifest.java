@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.fhir.ballerina.packagegen.tool.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Manifest written into the generated package. Maps the hashes of the generation inputs to the generated
+ * resource files, so that a re-run can limit the regeneration to the profiles affected by the changed inputs. The
+ * hashes of the generated files are recorded as well, hence deleted or edited files are regenerated.
+ */
+public class GenerationManifest {
+
+    private String toolVersion;
+    private String configHash;
+    private String globalInputsHash;
+    private Map<String, ProfileEntry> profiles = new LinkedHashMap<>();
+    private Map<String, String> outputHashes = new TreeMap<>();
+
+    public String getToolVersion() {
+        return toolVersion;
+    }
+
+    public void setToolVersion(String toolVersion) {
+        this.toolVersion = toolVersion;
+    }
+
+    public String getConfigHash() {
+        return configHash;
+    }
+
+    public void setConfigHash(String configHash) {
+        this.configHash = configHash;
+    }
+
+    /**
+     * Hash of the inputs shared by all the profiles, i.e. data types, extensions and search parameters.
+     *
+     * @return global inputs hash
+     */
+    public String getGlobalInputsHash() {
+        return globalInputsHash;
+    }
+
+    public void setGlobalInputsHash(String globalInputsHash) {
+        this.globalInputsHash = globalInputsHash;
+    }
+
+    /**
+     * Profile entries in the order the profiles are processed.
+     *
+     * @return profile entries keyed by the profile key
+     */
+    public Map<String, ProfileEntry> getProfiles() {
+        return profiles;
+    }
+
+    public void setProfiles(Map<String, ProfileEntry> profiles) {
+        this.profiles = profiles;
+    }
+
+    /**
+     * Content hashes of the generated files, i.e. the package level files and the resource files of the profiles.
+     *
+     * @return content hashes keyed by the file path relative to the package
+     */
+    public Map<String, String> getOutputHashes() {
+        return outputHashes;
+    }
+
+    public void setOutputHashes(Map<String, String> outputHashes) {
+        this.outputHashes = outputHashes;
+    }
+
+    /**
+     * Manifest entry of a single profile. Besides the input hash, the entry records the state the profile
+     * contributed to the generation, which is replayed when the profile is not regenerated.
+     */
+    public static class ProfileEntry {
+
+        private String inputHash;
+        private String name;
+        private String type;
+        private String profile;
+        private String outputFile;
+        private List<String> registeredDataTypes = new ArrayList<>();
+        private List<String> dependentIgs = new ArrayList<>();
+
+        public String getInputHash() {
+            return inputHash;
+        }
+
+        public void setInputHash(String inputHash) {
+            this.inputHash = inputHash;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public void setType(String type) {
+            this.type = type;
+        }
+
+        public String getProfile() {
+            return profile;
+        }
+
+        public void setProfile(String profile) {
+            this.profile = profile;
+        }
+
+        /**
+         * Generated resource file relative to the package, or null if no file is generated for the profile.
+         *
+         * @return output file name
+         */
+        public String getOutputFile() {
+            return outputFile;
+        }
+
+        public void setOutputFile(String outputFile) {
+            this.outputFile = outputFile;
+        }
+
+        public List<String> getRegisteredDataTypes() {
+            return registeredDataTypes;
+        }
+
+        public void setRegisteredDataTypes(List<String> registeredDataTypes) {
+            this.registeredDataTypes = registeredDataTypes;
+        }
+
+        public List<String> getDependentIgs() {
+            return dependentIgs;
+        }
+
+        public void setDependentIgs(List<String> dependentIgs) {
+            this.dependentIgs = dependentIgs;
+        }
+
+        /**
+         * Whether the given entry contributed the same state to the generation as this entry.
+         *
+         * @param entry entry to be compared
+         * @return true if the contributed state is the same
+         */
+        public boolean hasSameContribution(ProfileEntry entry) {
+            return entry != null && Objects.equals(name, entry.name) && Objects.equals(type, entry.type)
+                    && Objects.equals(profile, entry.profile)
+                    && Objects.equals(outputFile, entry.outputFile)
+                    && Objects.equals(registeredDataTypes, entry.registeredDataTypes)
+                    && Objects.equals(dependentIgs, entry.dependentIgs);
+        }
+    }
+}
@@ -29,6 +29,7 @@ public class PackageTemplateContext {
     private String basePackageName;
     private String internationalPackageName;
     private Map<String, ResourceTemplateContext> resourceTemplateContextMap;
+    private ResourceTemplateContextStream resourceTemplateContextStream;
     private Map<String, DatatypeTemplateContext> datatypeTemplateContextMap;
     private ExtensionTemplateContext extensionTemplateContext;
     private Map<String, String> resourceNameTypeMap;
@@ -68,6 +69,20 @@ public class PackageTemplateContext {
         this.resourceTemplateContextMap = resourceTemplateContextMap;
     }
 
+    /**
+     * Stream of the resource template contexts in streaming generation mode. The resource template context map then
+     * holds a summary of each profile only.
+     *
+     * @return resource template context stream, or null if the contexts are populated upfront
+     */
+    public ResourceTemplateContextStream getResourceTemplateContextStream() {
+        return resourceTemplateContextStream;
+    }
+
+    public void setResourceTemplateContextStream(ResourceTemplateContextStream resourceTemplateContextStream) {
+        this.resourceTemplateContextStream = resourceTemplateContextStream;
+    }
+
     public Map<String, DatatypeTemplateContext> getDatatypeTemplateContextMap() {
         return datatypeTemplateContextMap;
     }
@@ -18,7 +18,6 @@
 
 package org.wso2.healthcare.fhir.ballerina.packagegen.tool.model;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -40,7 +39,7 @@ public class ResourceTemplateContext {
     // Related issue: https://github.com/wso2-enterprise/open-healthcare/issues/1504
     private HashMap<String, Object> snapshotElementDefinitions = new HashMap<>();
     private HashMap<String, Element> snapshotElements = new HashMap<>();
-    private List<String> differentialElementIds = new ArrayList<>();
+    private Set<String> differentialElementIds = new HashSet<>();
     private HashMap<String, Element> resourceElements = new HashMap<>();
     private HashMap<String, List<Element>> sliceElements = new HashMap<>();
     private HashMap<String, ExtendedElement> extendedElements = new HashMap<>();
@@ -111,11 +110,11 @@ public class ResourceTemplateContext {
         this.snapshotElements = snapshotElements;
     }
 
-    public List<String> getDifferentialElementIds() {
+    public Set<String> getDifferentialElementIds() {
         return differentialElementIds;
     }
 
-    public void setDifferentialElementIds(List<String> differentialElementIds) {
+    public void setDifferentialElementIds(Set<String> differentialElementIds) {
         this.differentialElementIds = differentialElementIds;
     }
 
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.fhir.ballerina.packagegen.tool.model;
+
+import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.ConcurrencyUtil;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Source of the resource template contexts of an IG in streaming generation mode. The contexts are derived one at a
+ * time while they are consumed, instead of being held in the {@link PackageTemplateContext}; the package context only
+ * holds a summary of each profile.
+ */
+public interface ResourceTemplateContextStream {
+
+    /**
+     * Derive the resource template context of each profile in IG iteration order and hand it to the given task.
+     * A context is released once the task returns.
+     *
+     * @param task task consuming the resource template contexts
+     * @throws CodeGenException if the task failed
+     */
+    void forEachContext(ConcurrencyUtil.GenerationTask<ResourceTemplateContext> task) throws CodeGenException;
+
+    /**
+     * Data types the contexts are rendered against. Holds the data types which get registered once all the contexts
+     * are derived, hence a context is rendered the same way as when all of them are derived upfront.
+     *
+     * @return data types of the package
+     */
+    Set<String> getDataTypes();
+
+    /**
+     * Data types registered ahead of the resource template contexts which are to be registered only once all the
+     * contexts are derived, so that the registry seen while deriving the contexts is not affected.
+     *
+     * @param dataTypes data types to be registered after the contexts
+     */
+    void deferDataTypes(Collection<String> dataTypes);
+}
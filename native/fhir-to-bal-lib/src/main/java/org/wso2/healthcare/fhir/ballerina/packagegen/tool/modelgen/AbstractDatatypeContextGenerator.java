@@ -22,6 +22,8 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.common.FHIRSpecificationData;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRDataTypeDef;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.DataTypesRegistry;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.GenerationSession;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.BallerinaDataType;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.DatatypeTemplateContext;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.Element;
@@ -41,9 +43,14 @@ public abstract class AbstractDatatypeContextGenerator {
     private static final Log LOG = LogFactory.getLog(AbstractDatatypeContextGenerator.class);
     private final Map<String, FHIRDataTypeDef> datatypeDefnMap;
     private final Map<String, DatatypeTemplateContext> dataTypeTemplateContextMap;
+    private final GenerationSession session;
+    private final CoreContextBundle coreContexts;
 
-    public AbstractDatatypeContextGenerator(FHIRSpecificationData fhirSpecificationData) {
-        this.datatypeDefnMap = fhirSpecificationData.getDataTypes();
+    public AbstractDatatypeContextGenerator(GenerationSession session, FHIRSpecificationData fhirSpecificationData,
+                                            CoreContextBundle coreContexts) {
+        this.session = session;
+        this.coreContexts = coreContexts;
+        this.datatypeDefnMap = session.getDataTypes(fhirSpecificationData);
         this.dataTypeTemplateContextMap = new HashMap<>();
         populateDatatypeContext();
     }
@@ -56,6 +63,40 @@ public abstract class AbstractDatatypeContextGenerator {
         return dataTypeTemplateContextMap;
     }
 
+    protected GeneratorUtils getGeneratorUtils() {
+        return session.getGeneratorUtils();
+    }
+
+    protected CoreContextBundle getCoreContexts() {
+        return coreContexts;
+    }
+
+    /**
+     * Restore the bundled context of a core data type and register the identifiers of its extended elements. The
+     * bundled context is not used if one of those identifiers is already registered, since the identifiers would
+     * be allocated differently in that case.
+     *
+     * @param definitionUrl     url of the data type definition
+     * @param definitionVersion version of the data type definition
+     * @return bundled context, or null if the data type has to be processed
+     */
+    protected DatatypeTemplateContext restoreCoreDatatypeContext(String definitionUrl, String definitionVersion) {
+        DatatypeTemplateContext context = coreContexts.getDatatypeContext(definitionUrl, definitionVersion);
+        if (context == null) {
+            return null;
+        }
+        DataTypesRegistry dataTypesRegistry = session.getDataTypesRegistry();
+        for (ExtendedElement extendedElement : context.getExtendedElements().values()) {
+            if (dataTypesRegistry.containsDataType(extendedElement.getTypeName())) {
+                return null;
+            }
+        }
+        for (ExtendedElement extendedElement : context.getExtendedElements().values()) {
+            dataTypesRegistry.addDataType(extendedElement.getTypeName());
+        }
+        return context;
+    }
+
     protected void populateExtendedElementsMap(Element element, DatatypeTemplateContext context) {
         LOG.debug("Started: Resource Extended Element Map population");
         if (!element.getDataType().equals("Extension")) {
@@ -67,7 +108,7 @@ public abstract class AbstractDatatypeContextGenerator {
             ExtendedElement extendedElement;
             String elementDataType = element.getDataType();
             if (elementDataType.equals("code") && element.hasChildElements()) {
-                extendedElement = GeneratorUtils.getInstance().populateExtendedElement(element, BallerinaDataType.Enum, elementDataType,
+                extendedElement = getGeneratorUtils().populateExtendedElement(element, BallerinaDataType.Enum, elementDataType,
                         context.getName());
                 context.getExtendedElements().putIfAbsent(element.getName(), extendedElement);
                 element.setExtended(true);
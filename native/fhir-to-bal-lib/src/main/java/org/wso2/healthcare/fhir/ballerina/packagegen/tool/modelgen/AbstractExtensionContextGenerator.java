@@ -22,14 +22,18 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.common.FHIRSpecificationData;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRDataTypeDef;
-import org.wso2.healthcare.fhir.ballerina.packagegen.tool.DataTypesRegistry;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.GenerationSession;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.DatatypeTemplateContext;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.ExtensionTemplateContext;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.ExtensionGeneratorUtils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.HashSet;
 import java.util.HashMap;
+import java.util.function.Function;
 
 /**
  *
@@ -41,11 +45,19 @@ public abstract class AbstractExtensionContextGenerator {
     private static final Log LOG = LogFactory.getLog(AbstractExtensionContextGenerator.class);
     private final Map<String, FHIRDataTypeDef> extensionDefnMap;
     private final ExtensionTemplateContext extensionTemplateContext;
+    private final GenerationSession session;
+    private final ExtensionGeneratorUtils generatorUtils;
+    private final CoreContextBundle coreContexts;
 
-    public AbstractExtensionContextGenerator(FHIRSpecificationData fhirSpecificationData) {
+    public AbstractExtensionContextGenerator(GenerationSession session, FHIRSpecificationData fhirSpecificationData,
+                                             CoreContextBundle coreContexts) {
         LOG.info("Started: Extensions Generation");
 
-        this.extensionDefnMap = fhirSpecificationData.getDataTypes();
+        this.session = session;
+        this.generatorUtils = new ExtensionGeneratorUtils(session.getGeneratorUtils());
+        this.coreContexts = coreContexts;
+
+        this.extensionDefnMap = session.getDataTypes(fhirSpecificationData);
         this.extensionTemplateContext = new ExtensionTemplateContext();
 
         populateExtensionTemplateContext();
@@ -61,6 +73,24 @@ public abstract class AbstractExtensionContextGenerator {
         return extensionTemplateContext;
     }
 
+    protected ExtensionGeneratorUtils getGeneratorUtils() {
+        return generatorUtils;
+    }
+
+    protected CoreContextBundle getCoreContexts() {
+        return coreContexts;
+    }
+
+    /**
+     * Register a data type of the extensions. The identifier is registered as it is, it is never allocated against
+     * the data types registry.
+     *
+     * @param dataType data type identifier
+     */
+    protected void registerDataType(String dataType) {
+        session.getDataTypesRegistry().addDataType(dataType);
+    }
+
     private void populateExtensionTemplateContext() {
         populateBaseExtensionContext();
         populateSliceExtensionContext();
@@ -73,6 +103,28 @@ public abstract class AbstractExtensionContextGenerator {
 
     protected abstract void populateExtensionResourceMap(String identifier, FHIRDataTypeDef extensionDef);
 
+    /**
+     * Index the snapshot elements of an extension by the id of their parent slice element, in a single pass.
+     * E.g.: Extension.extension:detail.url and Extension.extension:detail.value[x] are the children of
+     * Extension.extension:detail. Only the elements within a slice are indexed and the element order is retained.
+     *
+     * @param elements   snapshot elements of the extension
+     * @param idFunction function returning the id of an element
+     * @param <E>        version specific element definition type
+     * @return child elements keyed by the id of the slice element
+     */
+    protected static <E> Map<String, List<E>> indexSliceChildElements(List<E> elements, Function<E, String> idFunction) {
+        Map<String, List<E>> sliceChildElements = new HashMap<>();
+        for (E element : elements) {
+            String id = idFunction.apply(element);
+            int parentIdEnd = id.lastIndexOf('.');
+            if (parentIdEnd > 0 && id.lastIndexOf(':', parentIdEnd) > 0) {
+                sliceChildElements.computeIfAbsent(id.substring(0, parentIdEnd), key -> new ArrayList<>()).add(element);
+            }
+        }
+        return sliceChildElements;
+    }
+
     protected void populateExtensionSliceMap() {
         Map<String, Set<String>> childExtensionMap = new HashMap<>();
         Set<String> searchKeys = new HashSet<>();
@@ -84,7 +136,7 @@ public abstract class AbstractExtensionContextGenerator {
                 searchKeys.add(contextEntry.getValue().getName());
                 String extensionArrName = contextEntry.getValue().getName() + "Extensions";
                 childExtensionMap.putIfAbsent(extensionArrName, new HashSet<>());
-                DataTypesRegistry.getInstance().addDataType(extensionArrName);
+                registerDataType(extensionArrName);
             }
         }
 
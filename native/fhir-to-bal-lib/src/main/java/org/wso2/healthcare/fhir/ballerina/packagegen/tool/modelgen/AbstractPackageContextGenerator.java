@@ -20,16 +20,25 @@ package org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.healthcare.codegen.profile.GenerationProfiler;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.SpecificationData;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.common.FHIRSpecificationData;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRImplementationGuide;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.GenerationSession;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.config.BallerinaPackageGenToolConfig;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.config.DependencyConfig;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.PackageTemplateContext;
-import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.GeneratorUtils;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.ResourceTemplateContextStream;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.ExtensionGeneratorUtils;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Abstract class for generating package context for Ballerina FHIR package generation.
@@ -39,18 +48,23 @@ import java.util.Map;
 
 public abstract class AbstractPackageContextGenerator {
     private static final Log LOG = LogFactory.getLog(AbstractPackageContextGenerator.class);
+    private final GenerationSession session;
     private final BallerinaPackageGenToolConfig toolConfig;
+    private final Map<String, PackageTemplateContext> packageContexts = new LinkedHashMap<>();
     private PackageTemplateContext packageContext;
 
-    public AbstractPackageContextGenerator(BallerinaPackageGenToolConfig config, Map<String, FHIRImplementationGuide> igEntries,
+    public AbstractPackageContextGenerator(GenerationSession session, Map<String, FHIRImplementationGuide> igEntries,
                                            SpecificationData specificationData) {
-        this.toolConfig = config;
-        GeneratorUtils.getInstance().setToolConfig(config);
-        populatePackageContext(igEntries, (FHIRSpecificationData) specificationData);
+        this.session = session;
+        this.toolConfig = session.getToolConfig();
+        try (GenerationSession.Binding ignored = session.bind()) {
+            populatePackageContext(igEntries, (FHIRSpecificationData) specificationData);
+        }
     }
 
     /**
-     * Populate package context
+     * Populate package context. Each IG gets its own package context; the version specific populators work on the
+     * context of the IG being populated.
      *
      * @param igEntries         available IGs map
      * @param specificationData specification data
@@ -77,22 +91,110 @@ public abstract class AbstractPackageContextGenerator {
 
             FHIRImplementationGuide implementationGuide = entry.getValue();
 
-            populateDatatypeTemplateContext(specificationData);
-            populateResourceTemplateContext(implementationGuide);
-            populateExtensionTemplateContext(specificationData);
+            GenerationProfiler profiler = session.getProfiler();
+            try (GenerationProfiler.Phase phase = profiler.start(GenerationProfiler.PHASE_DATATYPE_CONTEXT)) {
+                populateDatatypeTemplateContext(specificationData);
+                phase.addItems(sizeOf(this.packageContext.getDatatypeTemplateContextMap()));
+            }
+            List<String> extensionDataTypes;
+            try (GenerationProfiler.Phase phase = profiler.start(GenerationProfiler.PHASE_EXTENSION_CONTEXT)) {
+                Set<String> previousDataTypes = new HashSet<>(session.getDataTypesRegistry().getDataTypesRegistry());
+                populateExtensionTemplateContext(specificationData);
+                extensionDataTypes = takeExtensionDataTypes(previousDataTypes);
+                if (this.packageContext.getExtensionTemplateContext() != null) {
+                    phase.addItems(sizeOf(this.packageContext.getExtensionTemplateContext().getExtendedDatatypes()));
+                }
+            }
+            try (GenerationProfiler.Phase phase = profiler.start(GenerationProfiler.PHASE_RESOURCE_CONTEXT)) {
+                populateResourceTemplateContext(implementationGuide);
+                phase.addItems(sizeOf(this.packageContext.getResourceTemplateContextMap()));
+            }
+            registerExtensionDataTypes(extensionDataTypes);
             populateIGTemplateContexts(entry.getValue().getName(), implementationGuide);
+            this.packageContexts.put(entry.getKey(), this.packageContext);
         }
         LOG.debug("Ended: Package Context population");
     }
 
+    /**
+     * The extension contexts of an IG are populated before its resource template contexts, while the data types
+     * registered by the extensions are registered after the resource template contexts are derived, in both the
+     * streaming and the upfront generation modes:
+     * <ul>
+     *     <li>An extension identifier is derived from the extension id or url alone and is registered as it is. The
+     *     extension context generators only get the {@link ExtensionGeneratorUtils}, which cannot allocate an
+     *     identifier against the data types registry, and no resource template context exists yet when they run.</li>
+     *     <li>A resource extended element identifier is allocated against the registry. The data types registered by
+     *     the extensions are taken out of the registry here, so the resource identifiers are allocated against the
+     *     same registry whether the resource template contexts are derived upfront or streamed.</li>
+     * </ul>
+     * A resource identifier equal to an extension identifier is thus allocated in both modes and the extension
+     * registers the existing data type again.
+     *
+     * @param previousDataTypes data types registered before the extension contexts got populated
+     * @return data types registered by the extension contexts
+     */
+    private List<String> takeExtensionDataTypes(Set<String> previousDataTypes) {
+        List<String> extensionDataTypes = new ArrayList<>();
+        for (String dataType : session.getDataTypesRegistry().getDataTypesRegistry()) {
+            if (!previousDataTypes.contains(dataType)) {
+                extensionDataTypes.add(dataType);
+            }
+        }
+        for (String dataType : extensionDataTypes) {
+            session.getDataTypesRegistry().removeDataType(dataType);
+        }
+        return extensionDataTypes;
+    }
+
+    /**
+     * Register the data types of the extension contexts once the resource template contexts are derived. In streaming
+     * generation mode they are registered once all the contexts are streamed.
+     *
+     * @param extensionDataTypes data types registered by the extension contexts
+     */
+    private void registerExtensionDataTypes(List<String> extensionDataTypes) {
+        ResourceTemplateContextStream resourceContextStream = this.packageContext.getResourceTemplateContextStream();
+        if (resourceContextStream != null) {
+            resourceContextStream.deferDataTypes(extensionDataTypes);
+        } else {
+            for (String dataType : extensionDataTypes) {
+                session.getDataTypesRegistry().addDataType(dataType);
+            }
+        }
+    }
+
+    /**
+     * Returns the package context of the IG populated last, which is the package context of the package when the
+     * generator is created for a single IG.
+     *
+     * @return package context
+     */
     public PackageTemplateContext getPackageContext() {
         return packageContext;
     }
 
+    /**
+     * Returns the package contexts of all the IGs the generator was created for, keyed by the IG name.
+     *
+     * @return package contexts
+     */
+    public Map<String, PackageTemplateContext> getPackageContexts() {
+        return Collections.unmodifiableMap(packageContexts);
+    }
+
     public BallerinaPackageGenToolConfig getToolConfig() {
         return toolConfig;
     }
 
+    public GenerationSession getSession() {
+        return session;
+    }
+
+    protected static int sizeOf(Map<?, ?> map) {
+        return map != null ? map.size() : 0;
+    }
+
     protected abstract void populateDatatypeTemplateContext(FHIRSpecificationData specificationData);
 
     protected abstract void populateExtensionTemplateContext(FHIRSpecificationData specificationData);
@@ -20,24 +20,40 @@ package org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRImplementationGuide;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRResourceDef;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.DataTypesRegistry;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.GenerationSession;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.IncrementalGenerationPlan;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.config.BallerinaPackageGenToolConfig;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.DataTypeDefinitionAnnotation;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.DatatypeTemplateContext;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.ResourceTemplateContext;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.ResourceTemplateContextStream;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.Element;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.ExtendedElement;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.GenerationManifest;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.GeneratorUtils;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.AnnotationElement;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.BallerinaDataType;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.ConcurrencyUtil;
 
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.HashSet;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import static org.wso2.healthcare.fhir.ballerina.packagegen.tool.ToolConstants.CONSTRAINTS_LIB_IMPORT;
 
@@ -45,31 +61,296 @@ import static org.wso2.healthcare.fhir.ballerina.packagegen.tool.ToolConstants.C
  * Abstract class for generating resource context.
  * This class provides methods to populate resource elements,
  * Extended by R4ResourceContextGenerator and R5ResourceContextGenerator.
+ * In streaming generation mode only a summary of each profile is populated upfront and the resource template
+ * contexts are derived while they are streamed.
  */
 
-public abstract class AbstractResourceContextGenerator {
+public abstract class AbstractResourceContextGenerator implements ResourceTemplateContextStream {
     private static final Log LOG = LogFactory.getLog(AbstractResourceContextGenerator.class);
     public final Set<String> baseResources = new HashSet<>(Arrays.asList("Bundle", "OperationOutcome", "CodeSystem", "ValueSet", "DomainResource", "Resource"));
+    private final GenerationSession session;
     private final BallerinaPackageGenToolConfig toolConfig;
     private final Map<String, ResourceTemplateContext> resourceTemplateContextMap;
     private final Map<String, String> resourceNameTypeMap;
     private final Map<String, DatatypeTemplateContext> datatypeTemplateContextMap;
     private final Set<String> dependentIgs = new HashSet<>();
-    protected ResourceTemplateContext resourceTemplateContextInstance;
+    private final FHIRImplementationGuide ig;
+    private final Set<String> pendingDataTypes = new HashSet<>();
+    private final List<String> deferredDataTypes = new ArrayList<>();
+    private boolean isStreamed;
 
-    public AbstractResourceContextGenerator(BallerinaPackageGenToolConfig config, FHIRImplementationGuide ig,
+    public AbstractResourceContextGenerator(GenerationSession session, FHIRImplementationGuide ig,
                                             Map<String, DatatypeTemplateContext> datatypeTemplateContextMap) {
         LOG.debug("Resource Context Generator Initiated");
-        this.toolConfig = config;
+        this.session = session;
+        this.toolConfig = session.getToolConfig();
+        this.ig = ig;
         this.resourceTemplateContextMap = new HashMap<>();
         this.resourceNameTypeMap = new HashMap<>();
         this.datatypeTemplateContextMap = datatypeTemplateContextMap;
-        populateResourceTemplateContexts(ig);
+        if (this.toolConfig.isStreamingGeneration()) {
+            populateResourceSummaries(ig);
+        } else {
+            populateResourceTemplateContexts(ig);
+        }
+    }
+
+    /**
+     * Populate resource template contexts of the given IG. Each profile is first built in isolation and then merged
+     * into the generator state in the iteration order of the IG resources. In parallel generation mode the isolated
+     * builds run concurrently while the merges stay sequential, hence the output is identical to the serial mode.
+     *
+     * @param ig FHIR implementation guide DTO
+     */
+    protected void populateResourceTemplateContexts(FHIRImplementationGuide ig) {
+        LOG.debug("Started: Resource Template Context population");
+        deriveResourceContexts(ig, Math.max(1, ig.getResources().size()),
+                fragment -> this.resourceTemplateContextMap.put(fragment.getName(), fragment.getContext()));
+        LOG.debug("Ended: Resource Template Context population");
+    }
+
+    /**
+     * Populate the summary of each profile of the given IG, i.e. the name, type and url which are needed by the
+     * package level artifacts. The resource template contexts are derived later on while they are streamed.
+     *
+     * @param ig FHIR implementation guide DTO
+     */
+    protected void populateResourceSummaries(FHIRImplementationGuide ig) {
+        LOG.debug("Started: Resource Summary population");
+        for (FHIRResourceDef resourceDef : ig.getResources().values()) {
+            ResourceContextFragment summary = populateResourceSummaryFragment(resourceDef, ig);
+            if (summary != null) {
+                this.resourceNameTypeMap.put(summary.getName(), summary.getType());
+                this.resourceTemplateContextMap.put(summary.getName(), summary.getContext());
+                this.pendingDataTypes.addAll(summary.getDataTypes());
+            }
+        }
+        LOG.debug("Ended: Resource Summary population");
+    }
+
+    /**
+     * Derive and merge the resource template contexts of the given IG in IG iteration order, handing each merged
+     * fragment to the given handler. The profiles are derived in batches of the given size, hence a fragment is only
+     * referred by the generator until the handler returns.
+     *
+     * @param ig        FHIR implementation guide DTO
+     * @param batchSize number of profiles derived ahead of their merge
+     * @param handler   handler of the merged fragments
+     * @param <E>       exception type thrown by the handler
+     * @throws E if the handler failed
+     */
+    private <E extends Exception> void deriveResourceContexts(FHIRImplementationGuide ig, int batchSize,
+                                                              FragmentHandler<E> handler) throws E {
+        IncrementalGenerationPlan generationPlan = session.getGenerationPlan();
+        List<String> profileKeys = new ArrayList<>();
+        List<FHIRResourceDef> resourceDefs = new ArrayList<>();
+        for (Map.Entry<String, FHIRResourceDef> resourceEntry : ig.getResources().entrySet()) {
+            profileKeys.add(IncrementalGenerationPlan.getProfileKey(ig, resourceEntry.getKey()));
+            resourceDefs.add(resourceEntry.getValue());
+        }
+
+        for (int batchStart = 0; batchStart < profileKeys.size(); batchStart += batchSize) {
+            int batchEnd = Math.min(profileKeys.size(), batchStart + batchSize);
+            List<FHIRResourceDef> derivedResourceDefs = new ArrayList<>();
+            for (int i = batchStart; i < batchEnd; i++) {
+                if (generationPlan.getReusableProfile(profileKeys.get(i)) == null) {
+                    derivedResourceDefs.add(resourceDefs.get(i));
+                }
+            }
+
+            List<ResourceContextFragment> fragments = null;
+            if (this.toolConfig.isParallelGeneration() && derivedResourceDefs.size() > 1) {
+                fragments = ConcurrencyUtil.mapOrdered(derivedResourceDefs, this.toolConfig.getWorkerCount(),
+                        resourceDef -> populateResourceContextFragment(resourceDef, ig));
+            }
+            int derivedIndex = 0;
+            for (int i = batchStart; i < batchEnd; i++) {
+                String profileKey = profileKeys.get(i);
+                GenerationManifest.ProfileEntry reusableProfile = generationPlan.getReusableProfile(profileKey);
+                if (reusableProfile != null) {
+                    replayReusedProfile(profileKey, reusableProfile);
+                    continue;
+                }
+                ResourceContextFragment fragment;
+                if (fragments != null) {
+                    fragment = fragments.set(derivedIndex, null);
+                } else {
+                    fragment = populateResourceContextFragment(derivedResourceDefs.get(derivedIndex), ig);
+                }
+                derivedIndex++;
+                mergeResourceContextFragment(profileKey, fragment);
+                if (fragment != null) {
+                    handler.handle(fragment);
+                }
+            }
+        }
+    }
+
+    /**
+     * Derive the resource template contexts of the IG one batch at a time and hand each of them to the given task.
+     * A batch holds a single profile, or as many profiles as there are workers in parallel generation mode. The data
+     * types deferred by the package context generator are registered once all the contexts are derived.
+     *
+     * @param task task consuming the resource template contexts
+     * @throws CodeGenException if the task failed
+     */
+    @Override
+    public void forEachContext(ConcurrencyUtil.GenerationTask<ResourceTemplateContext> task) throws CodeGenException {
+        if (this.isStreamed) {
+            throw new IllegalStateException("Resource template contexts of the IG are already streamed: " +
+                    this.ig.getName());
+        }
+        this.isStreamed = true;
+        LOG.debug("Started: Resource Template Context streaming");
+        int batchSize = this.toolConfig.isParallelGeneration() ?
+                ConcurrencyUtil.resolveWorkerCount(this.toolConfig.getWorkerCount()) : 1;
+        deriveResourceContexts(this.ig, batchSize, fragment -> task.execute(fragment.getContext()));
+        for (String dataType : this.deferredDataTypes) {
+            session.getDataTypesRegistry().addDataType(dataType);
+        }
+        LOG.debug("Ended: Resource Template Context streaming");
     }
 
-    protected abstract void populateResourceTemplateContexts(FHIRImplementationGuide ig);
+    @Override
+    public Set<String> getDataTypes() {
+        return new DataTypesView(session.getDataTypesRegistry().getDataTypesRegistry(), this.pendingDataTypes);
+    }
 
-    protected void populateResourceElementMap(Element element) {
+    @Override
+    public void deferDataTypes(Collection<String> dataTypes) {
+        this.deferredDataTypes.addAll(dataTypes);
+        this.pendingDataTypes.addAll(dataTypes);
+    }
+
+    /**
+     * Build the resource template context of a single profile without touching any state shared between profiles.
+     * Data types to be registered and dependent IGs referred by the profile are collected in the returned fragment.
+     *
+     * @param resourceDef resource definition of the profile
+     * @param ig          FHIR implementation guide DTO
+     * @return isolated resource context fragment, or null if the resource should not be generated
+     */
+    protected abstract ResourceContextFragment populateResourceContextFragment(FHIRResourceDef resourceDef,
+                                                                              FHIRImplementationGuide ig);
+
+    /**
+     * Build the summary of a single profile used in streaming generation mode. The context of the summary holds the
+     * resource type, name and profile url only, and the fragment the data type defined for the profile itself.
+     *
+     * @param resourceDef resource definition of the profile
+     * @param ig          FHIR implementation guide DTO
+     * @return resource summary fragment, or null if the resource should not be generated
+     */
+    protected abstract ResourceContextFragment populateResourceSummaryFragment(FHIRResourceDef resourceDef,
+                                                                              FHIRImplementationGuide ig);
+
+    /**
+     * Merge an isolated resource context fragment into the generator state. Extended element identifiers depend on
+     * the data types registered by previously merged profiles, hence this step must run in IG iteration order.
+     *
+     * @param fragment resource context fragment
+     */
+    private void mergeResourceContextFragment(String profileKey, ResourceContextFragment fragment) {
+        IncrementalGenerationPlan generationPlan = session.getGenerationPlan();
+        if (fragment == null) {
+            if (generationPlan.isRecording()) {
+                generationPlan.recordProfile(profileKey, null, null, null, null, Collections.emptyList(),
+                        Collections.emptyList());
+            }
+            return;
+        }
+        Set<String> previousDataTypes = generationPlan.isRecording() ?
+                new HashSet<>(session.getDataTypesRegistry().getDataTypesRegistry()) : null;
+        ResourceTemplateContext context = fragment.getContext();
+        this.resourceNameTypeMap.put(fragment.getName(), fragment.getType());
+        for (String dataType : fragment.getDataTypes()) {
+            session.getDataTypesRegistry().addDataType(dataType);
+        }
+        this.dependentIgs.addAll(fragment.getDependentIgs());
+
+        Set<String> resourceDependencies = context.getResourceDependencies();
+        resourceDependencies.addAll(this.dependentIgs);
+        context.setResourceDependencies(resourceDependencies);
+
+        for (Element resourceElement : context.getResourceElements().values()) {
+            populateResourceExtendedElementsMap(context, resourceElement);
+            populateResourceElementAnnotationsMap(context, resourceElement);
+        }
+
+        for (List<Element> slices : context.getSliceElements().values()) {
+            for (Element slice : slices) {
+                populateResourceExtendedElementsMap(context, slice);
+            }
+        }
+
+        if (generationPlan.isRecording()) {
+            List<String> registeredDataTypes = new ArrayList<>();
+            for (String dataType : session.getDataTypesRegistry().getDataTypesRegistry()) {
+                if (!previousDataTypes.contains(dataType)) {
+                    registeredDataTypes.add(dataType);
+                }
+            }
+            generationPlan.recordProfile(profileKey, fragment.getName(), fragment.getType(), context.getProfile(),
+                    context.getResourceDefinitionAnnotation().getName(), registeredDataTypes,
+                    fragment.getDependentIgs());
+        }
+    }
+
+    /**
+     * Apply the shared state recorded for a profile which is not derived again in incremental generation mode.
+     * The resource template context of the profile is not populated, hence the profile is not rendered.
+     *
+     * @param profileKey     profile key
+     * @param reusedProfile  profile entry recorded by the previous generation
+     */
+    private void replayReusedProfile(String profileKey, GenerationManifest.ProfileEntry reusedProfile) {
+        if (reusedProfile.getName() != null) {
+            this.resourceNameTypeMap.put(reusedProfile.getName(), reusedProfile.getType());
+            for (String dataType : reusedProfile.getRegisteredDataTypes()) {
+                session.getDataTypesRegistry().addDataType(dataType);
+            }
+            this.dependentIgs.addAll(reusedProfile.getDependentIgs());
+        }
+        session.getGenerationPlan().recordReusedProfile(profileKey, reusedProfile);
+    }
+
+    /**
+     * Collect the dependent IG packages referred by the profiles of the given element.
+     *
+     * @param element  snapshot element
+     * @param fragment resource context fragment to collect the dependent IGs into
+     */
+    protected void collectDependentIgs(Element element, ResourceContextFragment fragment) {
+        Map<String, String> configuredDependentIgs = this.toolConfig.getPackageConfig().getDependentIgs();
+        element.getProfiles().keySet().stream()
+                .flatMap(key -> configuredDependentIgs.keySet().stream()
+                        .filter(key::startsWith)
+                        .map(configuredDependentIgs::get))
+                .distinct()
+                .forEach(fragment.getDependentIgs()::add);
+    }
+
+    /**
+     * Analyze the element tree of a snapshot element in a single traversal and populate the resource element map of
+     * the profile with it. The traversal marks the extended elements and collects the slices of the tree, before the
+     * slices are removed from the resource elements.
+     *
+     * @param context                resource template context of the profile being processed
+     * @param snapshotElement        snapshot element
+     * @param fragment               resource context fragment of the profile being processed
+     * @param arrayInBaseDefinition  whether an element is an array in the base definition
+     */
+    protected void populateSnapshotElement(ResourceTemplateContext context, Element snapshotElement,
+                                           ResourceContextFragment fragment,
+                                           Predicate<Element> arrayInBaseDefinition) {
+        ElementTreeAnalysis analysis = ElementTreeAnalysis.analyze(snapshotElement,
+                context.getDifferentialElementIds(), context.getSliceElements(), arrayInBaseDefinition);
+        populateResourceElementMap(context, snapshotElement, analysis);
+        collectDependentIgs(snapshotElement, fragment);
+    }
+
+    protected void populateResourceElementMap(ResourceTemplateContext context, Element element,
+                                              ElementTreeAnalysis analysis) {
         if (!element.isSlice()) {
             if (element.hasChildElements()) {
                 Iterator<Map.Entry<String, Element>> rootIterator = element.getChildElements().entrySet().iterator();
@@ -87,75 +368,46 @@ public abstract class AbstractResourceContextGenerator {
                 }
             }
 
-            checkAndAddConstraintImport(element);
-            checkAndAddInternationalImport(element);
-            this.resourceTemplateContextInstance.getResourceElements().put(element.getName(), element);
+            checkAndAddConstraintImport(context, element);
+            checkAndAddInternationalImport(context, analysis);
+            context.getResourceElements().put(element.getName(), element);
         }
     }
 
-    protected void checkAndAddConstraintImport(Element element) {
-        boolean isCardinalityConstrained = (element.getMin() >= 1 && element.getMax() > 1) || (element.isArray() &&
-                element.getMax() > 0 && element.getMax() < Integer.MAX_VALUE);
-        boolean isConstraintsImportExists = this.resourceTemplateContextInstance.getResourceDependencies()
-                .stream()
-                .anyMatch(d -> d.equals(CONSTRAINTS_LIB_IMPORT));
-        if (!isConstraintsImportExists && isCardinalityConstrained) {
-            this.resourceTemplateContextInstance.getResourceDependencies().add(CONSTRAINTS_LIB_IMPORT);
+    protected void checkAndAddConstraintImport(ResourceTemplateContext context, Element element) {
+        if (ElementTreeAnalysis.isCardinalityConstrained(element)) {
+            context.getResourceDependencies().add(CONSTRAINTS_LIB_IMPORT);
         }
     }
 
     /**
-     * Check if the element or its child elements are imported from international packages.
+     * Check if the analyzed element or its child elements are imported from international packages.
      * If so, add the international package to the resource dependencies.
      *
-     * @param element The element to check for international imports.
+     * @param context  resource template context of the profile being processed
+     * @param analysis analysis of the element tree to check for international imports
      */
-    protected void checkAndAddInternationalImport(Element element) {
-        boolean isImportedFromInternational = GeneratorUtils.checkForInternationalImports(element);
-
-        boolean isInternationalImportExists = this.resourceTemplateContextInstance.getResourceDependencies()
-                .stream()
-                .anyMatch(d -> d.equals(this.toolConfig.getPackageConfig().getInternationalPackage()));
-
-        if (isImportedFromInternational && !isInternationalImportExists) {
-            this.resourceTemplateContextInstance.getResourceDependencies().add(this.toolConfig.getPackageConfig().getInternationalPackage());
-        }
-    }
-
-    protected void markExtendedElements(Element element) {
-        if (!"Extension".equals(element.getDataType())) {
-            if (this.resourceTemplateContextInstance.getDifferentialElementIds().contains(element.getName())
-                    || "Code".equals(element.getDataType())
-                    || "BackboneElement".equals(element.getDataType())
-                    || "BackboneType".equals(element.getDataType())
-                    || element.hasFixedValue()) {
-                element.setExtended(true);
-            }
-            if (element.hasChildElements()) {
-                for (Map.Entry<String, Element> childEntry : element.getChildElements().entrySet()) {
-                    markExtendedElements(childEntry.getValue());
-                    if (childEntry.getValue().isExtended()) {
-                        element.setExtended(true);
-                    }
-                }
-            }
+    protected void checkAndAddInternationalImport(ResourceTemplateContext context, ElementTreeAnalysis analysis) {
+        if (analysis.isReferringInternational()) {
+            context.getResourceDependencies().add(this.toolConfig.getPackageConfig().getInternationalPackage());
         }
     }
 
     /**
      * Populate extended elements map
      *
+     * @param context resource template context of the profile being processed
      * @param element resource element
      */
-    protected void populateResourceExtendedElementsMap(Element element) {
+    protected void populateResourceExtendedElementsMap(ResourceTemplateContext context, Element element) {
         LOG.debug("Started: Resource Extended Element Map population");
         if (!element.getDataType().equals("Extension")) {
             if (element.hasChildElements()) {
                 for (Map.Entry<String, Element> childEntry : element.getChildElements().entrySet()) {
-                    populateResourceExtendedElementsMap(childEntry.getValue());
+                    populateResourceExtendedElementsMap(context, childEntry.getValue());
                 }
             }
-            validateAndPopulateExtendedElement(element);
+            validateAndPopulateExtendedElement(context, element);
         }
         LOG.debug("Ended: Resource Extended Element Map population");
     }
@@ -163,20 +415,21 @@ public abstract class AbstractResourceContextGenerator {
     /**
      * Validate and create extended elements from resource elements
      *
+     * @param context resource template context of the profile being processed
      * @param element resource element to be validated
      */
-    private void validateAndPopulateExtendedElement(Element element) {
+    private void validateAndPopulateExtendedElement(ResourceTemplateContext context, Element element) {
         LOG.debug("Started: Resource Extended Element validation");
         ExtendedElement extendedElement;
         String elementDataType = element.getDataType();
 
         if (elementDataType.equals("code") && element.hasChildElements()) {
-            extendedElement = GeneratorUtils.getInstance().populateExtendedElement(element, BallerinaDataType.Enum, elementDataType,
-                    this.resourceTemplateContextInstance.getResourceName());
-            putExtendedElementIfAbsent(element, extendedElement);
+            extendedElement = getGeneratorUtils().populateExtendedElement(element, BallerinaDataType.Enum, elementDataType,
+                    context.getResourceName());
+            putExtendedElementIfAbsent(context, element, extendedElement);
         } else if (element.isSlice() || elementDataType.equals("BackboneElement") || elementDataType.equals("BackboneType") || (element.isExtended() && element.hasChildElements() && !GeneratorUtils.isPrimitiveElement(elementDataType))) {
-            extendedElement = GeneratorUtils.getInstance().populateExtendedElement(element, BallerinaDataType.Record, elementDataType,
-                    this.resourceTemplateContextInstance.getResourceName());
+            extendedElement = getGeneratorUtils().populateExtendedElement(element, BallerinaDataType.Record, elementDataType,
+                    context.getResourceName());
             extendedElement.setElements(element.getChildElements());
 
             // Only creates annotation if the element does not have a content reference.
@@ -188,40 +441,41 @@ public abstract class AbstractResourceContextGenerator {
                 if (element.hasChildElements()) {
                     HashMap<String, AnnotationElement> childElementAnnotations = new HashMap<>();
                     for (Element subElement : element.getChildElements().values()) {
-                        checkAndAddConstraintImport(subElement);
-                        AnnotationElement annotationElement = GeneratorUtils.getInstance().populateAnnotationElement(subElement);
+                        checkAndAddConstraintImport(context, subElement);
+                        AnnotationElement annotationElement = getGeneratorUtils().populateAnnotationElement(subElement);
                         childElementAnnotations.put(annotationElement.getName(), annotationElement);
                     }
                     annotation.setElements(childElementAnnotations);
                 }
                 extendedElement.setAnnotation(annotation);
-                if (!element.isSlice() && this.resourceTemplateContextInstance.getSliceElements().containsKey(element.getPath())) {
-                    for (Element slice : this.resourceTemplateContextInstance.getSliceElements().get(element.getPath())) {
+                if (!element.isSlice() && context.getSliceElements().containsKey(element.getPath())) {
+                    for (Element slice : context.getSliceElements().get(element.getPath())) {
                         slice.setDataType(extendedElement.getTypeName());
                     }
                 }
-                putExtendedElementIfAbsent(element, extendedElement);
+                putExtendedElementIfAbsent(context, element, extendedElement);
             }
         }
         LOG.debug("Ended: Resource Extended Element validation");
     }
 
-    protected void putExtendedElementIfAbsent(Element element, ExtendedElement extendedElement) {
+    protected void putExtendedElementIfAbsent(ResourceTemplateContext context, Element element,
+                                             ExtendedElement extendedElement) {
         if (extendedElement != null) {
-            boolean isAlreadyExists = this.resourceTemplateContextInstance.getExtendedElements().containsKey(extendedElement.getTypeName());
+            boolean isAlreadyExists = context.getExtendedElements().containsKey(extendedElement.getTypeName());
             if (isAlreadyExists) {
-                element.setDataType(this.resourceTemplateContextInstance.getExtendedElements().get(extendedElement.getTypeName()).getTypeName());
+                element.setDataType(context.getExtendedElements().get(extendedElement.getTypeName()).getTypeName());
             } else {
-                this.resourceTemplateContextInstance.getExtendedElements().put(extendedElement.getTypeName(), extendedElement);
+                context.getExtendedElements().put(extendedElement.getTypeName(), extendedElement);
             }
         }
     }
 
-    protected void populateResourceElementAnnotationsMap(Element element) {
+    protected void populateResourceElementAnnotationsMap(ResourceTemplateContext context, Element element) {
         LOG.debug("Started: Resource Element Annotation Map population");
-        AnnotationElement annotationElement = GeneratorUtils.getInstance().populateAnnotationElement(element);
-        this.resourceTemplateContextInstance.getResourceDefinitionAnnotation().getElements().put(element.getName(), annotationElement);
-        this.resourceTemplateContextInstance.getResourceDefinitionAnnotation().getElements().put(annotationElement.getName(), annotationElement);
+        AnnotationElement annotationElement = getGeneratorUtils().populateAnnotationElement(element);
+        context.getResourceDefinitionAnnotation().getElements().put(element.getName(), annotationElement);
+        context.getResourceDefinitionAnnotation().getElements().put(annotationElement.getName(), annotationElement);
         LOG.debug("Ended: Resource Element Annotation Map population");
     }
 
@@ -244,10 +498,100 @@ public abstract class AbstractResourceContextGenerator {
         return toolConfig;
     }
 
+    protected GeneratorUtils getGeneratorUtils() {
+        return session.getGeneratorUtils();
+    }
+
     protected Set<String> getDependentIgs() {
         return dependentIgs;
     }
 
+    /**
+     * Holder for a resource template context built in isolation, together with the shared state updates
+     * which are applied when the fragment gets merged.
+     */
+    protected static class ResourceContextFragment {
+
+        private final String name;
+        private final String type;
+        private final ResourceTemplateContext context;
+        private final Set<String> dataTypes = new LinkedHashSet<>();
+        private final Set<String> dependentIgs = new LinkedHashSet<>();
+
+        public ResourceContextFragment(String name, String type, ResourceTemplateContext context) {
+            this.name = name;
+            this.type = type;
+            this.context = context;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public ResourceTemplateContext getContext() {
+            return context;
+        }
+
+        /**
+         * Data types to be added to the {@link DataTypesRegistry}, in the order they were encountered.
+         *
+         * @return data types defined by the profile
+         */
+        public Set<String> getDataTypes() {
+            return dataTypes;
+        }
+
+        public Set<String> getDependentIgs() {
+            return dependentIgs;
+        }
+    }
+
+    /**
+     * Handler of the merged resource context fragments.
+     *
+     * @param <E> exception type thrown by the handler
+     */
+    @FunctionalInterface
+    private interface FragmentHandler<E extends Exception> {
+
+        void handle(ResourceContextFragment fragment) throws E;
+    }
+
+    /**
+     * Read only union of the registered data types and the data types which are yet to be registered.
+     */
+    private static class DataTypesView extends AbstractSet<String> {
+
+        private final Set<String> registeredDataTypes;
+        private final Set<String> pendingDataTypes;
+
+        DataTypesView(Set<String> registeredDataTypes, Set<String> pendingDataTypes) {
+            this.registeredDataTypes = registeredDataTypes;
+            this.pendingDataTypes = pendingDataTypes;
+        }
+
+        @Override
+        public boolean contains(Object dataType) {
+            return registeredDataTypes.contains(dataType) || pendingDataTypes.contains(dataType);
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return Stream.concat(registeredDataTypes.stream(),
+                    pendingDataTypes.stream().filter(dataType -> !registeredDataTypes.contains(dataType))).iterator();
+        }
+
+        @Override
+        public int size() {
+            return (int) Stream.concat(registeredDataTypes.stream(),
+                    pendingDataTypes.stream().filter(dataType -> !registeredDataTypes.contains(dataType))).count();
+        }
+    }
+
     public Map<String, ResourceTemplateContext> getResourceTemplateContextMap() {
         return resourceTemplateContextMap;
     }
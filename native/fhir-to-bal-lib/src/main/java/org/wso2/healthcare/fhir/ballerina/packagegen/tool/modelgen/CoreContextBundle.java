@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.InstanceCreator;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.GenerationSession;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.config.BallerinaPackageGenToolConfig;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.DatatypeTemplateContext;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.Element;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.ExtendedElement;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Template contexts of the data types and extensions of the FHIR core specification, built ahead of time.
+ * <p>
+ * The contexts of the core definitions are the same in every package generated for a FHIR release. They are built
+ * when the tool is built, see {@link CoreContextBundleBuilder}, and shipped in the jar as a compressed JSON resource
+ * per FHIR version. The resource is read on the first lookup and each lookup returns a new copy of the context,
+ * since the contexts are refined further by the generation. Definitions which are not in the bundle, or whose version
+ * differs from the bundled one, are processed as usual.
+ * <p>
+ * The maps of a restored context are {@link LinkedHashMap}s holding the entries in the order the processed context
+ * iterated them when it was bundled, hence the generated sources do not depend on the capacity of the maps. The
+ * builder fails if a bundled context is not restored in that order.
+ * <p>
+ * The bundle is not used when Ballerina keyword replacements are configured, since the element names of the bundled
+ * contexts are resolved with the built-in replacements only, or when it is disabled by the tool config.
+ */
+public class CoreContextBundle {
+
+    private static final Log LOG = LogFactory.getLog(CoreContextBundle.class);
+
+    public static final String RESOURCE_DIRECTORY = "core-contexts";
+    public static final String RESOURCE_FILE_SUFFIX = ".json.gz";
+
+    private static final String DATATYPES = "datatypes";
+    private static final String EXTENSIONS = "extensions";
+    private static final String EXTENSION_SLICES = "extensionSlices";
+    private static final String VERSION = "version";
+    private static final String CONTEXT = "context";
+
+    // the maps of the contexts are declared as Map or HashMap; both are restored in the bundled order
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping()
+            .registerTypeAdapter(Map.class, (InstanceCreator<Map<?, ?>>) type -> new LinkedHashMap<>())
+            .registerTypeAdapter(HashMap.class, (InstanceCreator<HashMap<?, ?>>) type -> new LinkedHashMap<>())
+            .create();
+    private static final CoreContextBundle EMPTY_BUNDLE = new CoreContextBundle(new JsonObject(), false);
+    private static final Map<String, CoreContextBundle> BUNDLES = new ConcurrentHashMap<>();
+
+    private final JsonObject bundle;
+    private final boolean recording;
+
+    private CoreContextBundle(JsonObject bundle, boolean recording) {
+        this.bundle = bundle;
+        this.recording = recording;
+    }
+
+    /**
+     * Returns the bundle of the FHIR version applicable to the given session, loading it on the first call.
+     *
+     * @param session     generation session
+     * @param fhirVersion FHIR version, e.g. r4
+     * @return core context bundle, which is empty if the bundle is not available or not applicable
+     */
+    public static CoreContextBundle getBundle(GenerationSession session, String fhirVersion) {
+        BallerinaPackageGenToolConfig toolConfig = session.getToolConfig();
+        if (toolConfig != null && (!toolConfig.isCoreContextBundleEnabled() ||
+                !toolConfig.getBallerinaKeywordConfig().isEmpty())) {
+            return EMPTY_BUNDLE;
+        }
+        return BUNDLES.computeIfAbsent(fhirVersion.toLowerCase(), CoreContextBundle::load);
+    }
+
+    /**
+     * Returns an empty bundle, i.e. all the definitions are processed.
+     *
+     * @return empty bundle
+     */
+    public static CoreContextBundle emptyBundle() {
+        return EMPTY_BUNDLE;
+    }
+
+    /**
+     * Create a bundle recording the contexts put into it, to be written with {@link #write(OutputStream)}.
+     *
+     * @return recording bundle
+     */
+    public static CoreContextBundle newRecordingBundle() {
+        return new CoreContextBundle(new JsonObject(), true);
+    }
+
+    /**
+     * Returns the name of the bundle resource of a FHIR version.
+     *
+     * @param fhirVersion FHIR version, e.g. r4
+     * @return resource name
+     */
+    public static String getResourceName(String fhirVersion) {
+        return RESOURCE_DIRECTORY + "/" + fhirVersion.toLowerCase() + RESOURCE_FILE_SUFFIX;
+    }
+
+    public DatatypeTemplateContext getDatatypeContext(String definitionUrl, String definitionVersion) {
+        JsonElement context = getEntry(DATATYPES, definitionUrl, definitionVersion);
+        return context != null ? GSON.fromJson(context, DatatypeTemplateContext.class) : null;
+    }
+
+    public void putDatatypeContext(String definitionUrl, String definitionVersion, DatatypeTemplateContext context) {
+        putEntry(DATATYPES, definitionUrl, definitionVersion, GSON.toJsonTree(context));
+    }
+
+    public DatatypeTemplateContext getExtensionContext(String definitionUrl, String definitionVersion) {
+        JsonElement context = getEntry(EXTENSIONS, definitionUrl, definitionVersion);
+        return context != null ? GSON.fromJson(context, DatatypeTemplateContext.class) : null;
+    }
+
+    public void putExtensionContext(String definitionUrl, String definitionVersion, DatatypeTemplateContext context) {
+        putEntry(EXTENSIONS, definitionUrl, definitionVersion, GSON.toJsonTree(context));
+    }
+
+    /**
+     * Returns the contexts of the sub-extension slices of an extension, in the order of the slices.
+     *
+     * @param definitionUrl     url of the extension definition
+     * @param definitionVersion version of the extension definition
+     * @return slice contexts, or null if the extension is not in the bundle
+     */
+    public List<DatatypeTemplateContext> getExtensionSliceContexts(String definitionUrl, String definitionVersion) {
+        JsonElement contexts = getEntry(EXTENSION_SLICES, definitionUrl, definitionVersion);
+        if (contexts == null) {
+            return null;
+        }
+        List<DatatypeTemplateContext> sliceContexts = new ArrayList<>();
+        for (JsonElement context : contexts.getAsJsonArray()) {
+            sliceContexts.add(GSON.fromJson(context, DatatypeTemplateContext.class));
+        }
+        return sliceContexts;
+    }
+
+    public void putExtensionSliceContexts(String definitionUrl, String definitionVersion,
+                                          List<DatatypeTemplateContext> sliceContexts) {
+        if (!recording) {
+            return;
+        }
+        JsonArray contexts = new JsonArray();
+        for (DatatypeTemplateContext context : sliceContexts) {
+            contexts.add(GSON.toJsonTree(context));
+        }
+        putEntry(EXTENSION_SLICES, definitionUrl, definitionVersion, contexts);
+    }
+
+    /**
+     * Count the data type contexts of the bundle.
+     *
+     * @return data type context count
+     */
+    public int getDatatypeContextCount() {
+        return bundle.has(DATATYPES) ? bundle.getAsJsonObject(DATATYPES).size() : 0;
+    }
+
+    /**
+     * Count the extension contexts of the bundle.
+     *
+     * @return extension context count
+     */
+    public int getExtensionContextCount() {
+        return bundle.has(EXTENSIONS) ? bundle.getAsJsonObject(EXTENSIONS).size() : 0;
+    }
+
+    /**
+     * Find the bundled contexts which are not restored as they were put into the bundle, i.e. whose restored maps
+     * are of other types or iterate in another order.
+     *
+     * @return urls of the definitions whose contexts are not restored as they were bundled
+     */
+    public List<String> findUnrestorableContexts() {
+        List<String> definitionUrls = new ArrayList<>();
+        for (String section : new String[]{DATATYPES, EXTENSIONS, EXTENSION_SLICES}) {
+            JsonObject sectionObject = bundle.getAsJsonObject(section);
+            if (sectionObject == null) {
+                continue;
+            }
+            for (Map.Entry<String, JsonElement> entry : sectionObject.entrySet()) {
+                JsonElement context = entry.getValue().getAsJsonObject().get(CONTEXT);
+                JsonArray contexts = new JsonArray();
+                if (context.isJsonArray()) {
+                    contexts = context.getAsJsonArray();
+                } else {
+                    contexts.add(context);
+                }
+                for (JsonElement sliceContext : contexts) {
+                    DatatypeTemplateContext restoredContext = GSON.fromJson(sliceContext,
+                            DatatypeTemplateContext.class);
+                    // the serialized form follows the iteration order of the maps
+                    if (!isRestoredAsMaps(restoredContext) ||
+                            !GSON.toJson(sliceContext).equals(GSON.toJson(restoredContext))) {
+                        definitionUrls.add(entry.getKey());
+                        break;
+                    }
+                }
+            }
+        }
+        return definitionUrls;
+    }
+
+    /**
+     * Write the bundle as compressed JSON.
+     *
+     * @param outputStream output stream, which is left open
+     * @throws IOException if the bundle cannot be written
+     */
+    public void write(OutputStream outputStream) throws IOException {
+        GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream);
+        Writer writer = new OutputStreamWriter(gzipStream, StandardCharsets.UTF_8);
+        GSON.toJson(bundle, writer);
+        writer.flush();
+        gzipStream.finish();
+    }
+
+    private JsonElement getEntry(String section, String definitionUrl, String definitionVersion) {
+        JsonObject sectionObject = bundle.getAsJsonObject(section);
+        if (sectionObject == null || definitionUrl == null) {
+            return null;
+        }
+        JsonObject entry = sectionObject.getAsJsonObject(definitionUrl);
+        if (entry == null) {
+            return null;
+        }
+        JsonElement version = entry.get(VERSION);
+        if (!Objects.equals(version != null ? version.getAsString() : null, definitionVersion)) {
+            LOG.debug("Core context of " + definitionUrl + " is bundled for another version: " + version);
+            return null;
+        }
+        return entry.get(CONTEXT);
+    }
+
+    private void putEntry(String section, String definitionUrl, String definitionVersion, JsonElement context) {
+        if (!recording || definitionUrl == null) {
+            return;
+        }
+        JsonObject sectionObject = bundle.getAsJsonObject(section);
+        if (sectionObject == null) {
+            sectionObject = new JsonObject();
+            bundle.add(section, sectionObject);
+        }
+        JsonObject entry = new JsonObject();
+        entry.addProperty(VERSION, definitionVersion);
+        entry.add(CONTEXT, context);
+        sectionObject.add(definitionUrl, entry);
+    }
+
+    private static boolean isRestoredAsMaps(DatatypeTemplateContext context) {
+        if (!(context.getElements() instanceof LinkedHashMap) ||
+                !(context.getExtendedElements() instanceof LinkedHashMap)) {
+            return false;
+        }
+        for (Element element : context.getElements().values()) {
+            if (!isRestoredAsMaps(element)) {
+                return false;
+            }
+        }
+        for (ExtendedElement extendedElement : context.getExtendedElements().values()) {
+            if (extendedElement.getElements() == null) {
+                continue;
+            }
+            if (!(extendedElement.getElements() instanceof LinkedHashMap)) {
+                return false;
+            }
+            for (Element element : extendedElement.getElements().values()) {
+                if (!isRestoredAsMaps(element)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isRestoredAsMaps(Element element) {
+        if (element.getProfiles() != null && !(element.getProfiles() instanceof LinkedHashMap)) {
+            return false;
+        }
+        if (element.getChildElements() == null) {
+            return true;
+        }
+        if (!(element.getChildElements() instanceof LinkedHashMap)) {
+            return false;
+        }
+        for (Element childElement : element.getChildElements().values()) {
+            if (!isRestoredAsMaps(childElement)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static CoreContextBundle load(String fhirVersion) {
+        LOG.debug("Started: Core context bundle loading");
+        String resourceName = getResourceName(fhirVersion);
+        try (InputStream resourceStream = CoreContextBundle.class.getClassLoader().getResourceAsStream(resourceName)) {
+            if (resourceStream == null) {
+                LOG.debug("Core context bundle not found: " + resourceName);
+                return EMPTY_BUNDLE;
+            }
+            try (Reader reader = new InputStreamReader(new GZIPInputStream(new BufferedInputStream(resourceStream)),
+                    StandardCharsets.UTF_8)) {
+                return new CoreContextBundle(JsonParser.parseReader(reader).getAsJsonObject(), false);
+            }
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            LOG.warn("Discarding unreadable core context bundle: " + resourceName, e);
+            return EMPTY_BUNDLE;
+        } finally {
+            LOG.debug("Ended: Core context bundle loading");
+        }
+    }
+}
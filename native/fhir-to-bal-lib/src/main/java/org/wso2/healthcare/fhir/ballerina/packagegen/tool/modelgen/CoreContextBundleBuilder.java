@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
+import org.wso2.healthcare.codegen.tool.framework.commons.model.JsonConfigType;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.FHIRTool;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.common.FHIRSpecificationData;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.config.FHIRToolConfig;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.DataTypesRegistry;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.GenerationSession;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.DatatypeTemplateContext;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.ExtendedElement;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen.versions.r4.R4DatatypeContextGenerator;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen.versions.r4.R4ExtensionContextGenerator;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen.versions.r5.R5DatatypeContextGenerator;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen.versions.r5.R5ExtensionContextGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds the {@link CoreContextBundle} of each FHIR version from the base definitions loaded by the framework. Run
+ * when the library is built, with the output directory of the classes as the argument, e.g.
+ * {@code CoreContextBundleBuilder target/classes r4 r5}.
+ */
+public class CoreContextBundleBuilder {
+
+    private static final Log LOG = LogFactory.getLog(CoreContextBundleBuilder.class);
+    private static final String[] DEFAULT_FHIR_VERSIONS = {"r4", "r5"};
+
+    private final Path outputDirectory;
+
+    public CoreContextBundleBuilder(Path outputDirectory) {
+        this.outputDirectory = outputDirectory;
+    }
+
+    public static void main(String[] args) throws IOException, CodeGenException {
+        if (args.length < 1) {
+            throw new IllegalArgumentException("Usage: CoreContextBundleBuilder <output-directory> [fhir-version...]");
+        }
+        CoreContextBundleBuilder builder = new CoreContextBundleBuilder(Paths.get(args[0]));
+        String[] fhirVersions = args.length > 1 ? Arrays.copyOfRange(args, 1, args.length) :
+                DEFAULT_FHIR_VERSIONS;
+        for (String fhirVersion : fhirVersions) {
+            builder.build(fhirVersion);
+        }
+    }
+
+    /**
+     * Build the bundle of a FHIR version and write it into the output directory.
+     *
+     * @param fhirVersion FHIR version, e.g. r4
+     * @return path of the written bundle
+     * @throws CodeGenException if the base definitions cannot be loaded or processed
+     * @throws IOException      if the bundle cannot be written
+     */
+    public Path build(String fhirVersion) throws CodeGenException, IOException {
+        LOG.debug("Started: Core context bundle build of " + fhirVersion);
+        FHIRSpecificationData specificationData = loadBaseDefinitions(fhirVersion);
+
+        CoreContextBundle bundle = CoreContextBundle.newRecordingBundle();
+        GenerationSession session = new GenerationSession(null);
+        try (GenerationSession.Binding ignored = session.bind()) {
+            Set<String> previousDataTypes = new HashSet<>(session.getDataTypesRegistry().getDataTypesRegistry());
+            Map<String, DatatypeTemplateContext> datatypeContexts;
+            switch (fhirVersion.toLowerCase()) {
+                case ("r4"):
+                    datatypeContexts = new R4DatatypeContextGenerator(session, specificationData, bundle)
+                            .getDatatypeTemplateContextMap();
+                    verifyAllocatedIdentifiers(session.getDataTypesRegistry(), previousDataTypes, datatypeContexts);
+                    new R4ExtensionContextGenerator(session, specificationData, bundle);
+                    break;
+                case ("r5"):
+                    datatypeContexts = new R5DatatypeContextGenerator(session, specificationData, bundle)
+                            .getDatatypeTemplateContextMap();
+                    verifyAllocatedIdentifiers(session.getDataTypesRegistry(), previousDataTypes, datatypeContexts);
+                    new R5ExtensionContextGenerator(session, specificationData, bundle);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported FHIR version: " + fhirVersion);
+            }
+        }
+
+        List<String> unrestorableContexts = bundle.findUnrestorableContexts();
+        if (!unrestorableContexts.isEmpty()) {
+            throw new CodeGenException("Core contexts not restored as they were bundled: " + unrestorableContexts);
+        }
+
+        Path bundlePath = outputDirectory.resolve(CoreContextBundle.getResourceName(fhirVersion));
+        Files.createDirectories(bundlePath.getParent());
+        try (OutputStream outputStream = Files.newOutputStream(bundlePath)) {
+            bundle.write(outputStream);
+        }
+        LOG.info("Core context bundle of " + fhirVersion + " written with " + bundle.getDatatypeContextCount() +
+                " data types and " + bundle.getExtensionContextCount() + " extensions: " + bundlePath);
+        LOG.debug("Ended: Core context bundle build of " + fhirVersion);
+        return bundlePath;
+    }
+
+    /**
+     * A bundled data type context registers the identifiers of its extended elements when it is restored. Fail the
+     * build if the data types allocated other identifiers, since those would not be registered.
+     */
+    private static void verifyAllocatedIdentifiers(DataTypesRegistry dataTypesRegistry, Set<String> previousDataTypes,
+                                                   Map<String, DatatypeTemplateContext> datatypeContexts)
+            throws CodeGenException {
+        Set<String> allocatedIdentifiers = new HashSet<>(dataTypesRegistry.getDataTypesRegistry());
+        allocatedIdentifiers.removeAll(previousDataTypes);
+        for (DatatypeTemplateContext context : datatypeContexts.values()) {
+            for (ExtendedElement extendedElement : context.getExtendedElements().values()) {
+                allocatedIdentifiers.remove(extendedElement.getTypeName());
+            }
+        }
+        if (!allocatedIdentifiers.isEmpty()) {
+            throw new CodeGenException("Core data type identifiers not held by their contexts: " +
+                    allocatedIdentifiers);
+        }
+    }
+
+    private static FHIRSpecificationData loadBaseDefinitions(String fhirVersion) throws CodeGenException,
+            IOException {
+        // the base definitions are loaded by the framework; the specification directory is left empty
+        Path specificationDirectory = Files.createTempDirectory("core-context-bundle");
+        try {
+            FHIRToolConfig fhirToolConfig = new FHIRToolConfig();
+            fhirToolConfig.configure(new JsonConfigType(createFhirToolConfig()));
+            fhirToolConfig.setSpecBasePath(specificationDirectory.toString());
+            FHIRTool fhirTool = new FHIRTool(fhirVersion);
+            fhirTool.initialize(fhirToolConfig);
+            return (FHIRSpecificationData) fhirTool.getToolContext().getSpecificationData();
+        } finally {
+            Files.deleteIfExists(specificationDirectory);
+        }
+    }
+
+    private static JsonObject createFhirToolConfig() {
+        JsonObject fhirConfig = new JsonObject();
+        fhirConfig.add("tools", new JsonObject());
+        fhirConfig.add("terminologies", createDirectoryConfig("/terminology"));
+        fhirConfig.add("dataTypeProfiles", createDirectoryConfig("/datatypes"));
+        JsonObject config = new JsonObject();
+        config.add("fhir", fhirConfig);
+        return config;
+    }
+
+    private static JsonArray createDirectoryConfig(String directoryPath) {
+        JsonObject directoryConfig = new JsonObject();
+        directoryConfig.addProperty("dirPath", directoryPath);
+        JsonArray directoryConfigs = new JsonArray();
+        directoryConfigs.add(directoryConfig);
+        return directoryConfigs;
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parsed form of a snapshot element id/path, used to place the element in the resource element hierarchy.
+ * The id is tokenized once; slice and choice type segments are resolved while tokenizing.
+ * <p>
+ * Slice segments are collapsed into the slice name, i.e. {@code Observation.component:systolic.code} is parsed as
+ * {@code Observation.systolic.code} and {@code MedicationRequest.medication[x]:medicationCodeableConcept.coding}
+ * as {@code MedicationRequest.medicationCodeableConcept.coding}.
+ */
+public final class ElementPath {
+
+    private static final String CHOICE_TYPE_SUFFIX = "[x]";
+    private static final String CHOICE_TYPE_SLICE_SUFFIX = "[x]:";
+    private static final String SLICE_SEPARATOR = ":";
+    private static final char PATH_SEPARATOR = '.';
+
+    private final String path;
+    private final String[] tokens;
+    private final boolean isSlice;
+    private final boolean isNestedSlice;
+
+    private ElementPath(String path, String[] tokens, boolean isSlice, boolean isNestedSlice) {
+        this.path = path;
+        this.tokens = tokens;
+        this.isSlice = isSlice;
+        this.isNestedSlice = isNestedSlice;
+    }
+
+    /**
+     * Parse the id and the path of a snapshot element definition.
+     *
+     * @param id   element definition id
+     * @param path element definition path
+     * @return parsed element path
+     */
+    public static ElementPath parse(String id, String path) {
+        if (!id.contains(SLICE_SEPARATOR)) {
+            return new ElementPath(path, tokenize(path), false, false);
+        }
+
+        int firstSeparatorIndex = id.indexOf(PATH_SEPARATOR);
+        int lastSliceIndex = id.lastIndexOf(SLICE_SEPARATOR);
+        if (firstSeparatorIndex >= 0 && firstSeparatorIndex <= lastSliceIndex) {
+            int sliceIndex = id.indexOf(SLICE_SEPARATOR, firstSeparatorIndex);
+            if (sliceIndex < lastSliceIndex) {
+                return new ElementPath(path, new String[0], false, true);
+            }
+        }
+
+        String elementPath;
+        boolean isSlice = false;
+        if (id.contains(CHOICE_TYPE_SLICE_SUFFIX)) {
+            // i.e : MedicationRequest.medication[x]:medicationCodeableConcept.coding
+            elementPath = removeSliceSegments(id, CHOICE_TYPE_SLICE_SUFFIX);
+            if (elementPath.contains(SLICE_SEPARATOR)) {
+                elementPath = removeSliceSegments(elementPath, SLICE_SEPARATOR);
+                String[] tokens = tokenize(elementPath);
+                isSlice = tokens.length > 0 && id.contains(SLICE_SEPARATOR + tokens[tokens.length - 1]);
+                return new ElementPath(elementPath, tokens, isSlice, false);
+            }
+        } else {
+            elementPath = removeSliceSegments(id, SLICE_SEPARATOR);
+            String[] tokens = tokenize(elementPath);
+            isSlice = tokens.length > 0 && id.endsWith(SLICE_SEPARATOR + tokens[tokens.length - 1]);
+            return new ElementPath(elementPath, tokens, isSlice, false);
+        }
+        return new ElementPath(elementPath, tokenize(elementPath), isSlice, false);
+    }
+
+    /**
+     * Returns the first token of a dot separated path.
+     *
+     * @param path dot separated path
+     * @return first token
+     */
+    public static String getRootToken(String path) {
+        int separatorIndex = path.indexOf(PATH_SEPARATOR);
+        return separatorIndex < 0 ? path : path.substring(0, separatorIndex);
+    }
+
+    /**
+     * Returns the name of a choice type element without the [x] suffix, i.e. value[x] -> value.
+     *
+     * @param elementName element name
+     * @return element name without the choice type suffix
+     */
+    public static String getChoiceBaseName(String elementName) {
+        int choiceIndex = elementName.indexOf(CHOICE_TYPE_SUFFIX);
+        return choiceIndex < 0 ? elementName : elementName.substring(0, choiceIndex);
+    }
+
+    public boolean isSlice() {
+        return isSlice;
+    }
+
+    /**
+     * Nested slices (slices of slices) are not processed by the generator.
+     *
+     * @return whether the element is a nested slice
+     */
+    public boolean isNestedSlice() {
+        return isNestedSlice;
+    }
+
+    public int getTokenCount() {
+        return tokens.length;
+    }
+
+    public String getToken(int index) {
+        return tokens[index];
+    }
+
+    /**
+     * Returns the path relative to the resource, i.e. Observation.component.code -> component.code
+     *
+     * @return relative path
+     */
+    public String getRelativePath() {
+        return path.substring(tokens[0].length() + 1);
+    }
+
+    /**
+     * Creates a walker which visits the parent/child token pairs of the path relative to the resource.
+     *
+     * @return path walker
+     */
+    public Walker walker() {
+        return new Walker();
+    }
+
+    /**
+     * Walks the relative path towards the element. When a choice type segment is still ahead, the [x] suffixes
+     * are dropped and the walker stays at the same parent once, so that the element is looked up both under the
+     * choice type name and under its base name.
+     */
+    public final class Walker {
+
+        private int position = 1;
+        private boolean isChoiceSuffixRemoved;
+        private final int lastChoiceTokenIndex;
+
+        private Walker() {
+            int index = -1;
+            for (int i = tokens.length - 1; i > 0; i--) {
+                if (tokens[i].contains(CHOICE_TYPE_SUFFIX)) {
+                    index = i;
+                    break;
+                }
+            }
+            this.lastChoiceTokenIndex = index;
+        }
+
+        public boolean hasChild() {
+            return tokens.length - position > 1;
+        }
+
+        /**
+         * Whether the child token of the current step is the element itself.
+         *
+         * @return true if the current step is the last step of the path
+         */
+        public boolean isLastStep() {
+            return tokens.length - position == 2;
+        }
+
+        public String getParentName() {
+            return getTokenAt(position);
+        }
+
+        public String getChildName() {
+            return getTokenAt(position + 1);
+        }
+
+        public void advance() {
+            if (!isChoiceSuffixRemoved && lastChoiceTokenIndex >= position) {
+                isChoiceSuffixRemoved = true;
+            } else {
+                position++;
+            }
+        }
+
+        private String getTokenAt(int index) {
+            return isChoiceSuffixRemoved ? tokens[index].replace(CHOICE_TYPE_SUFFIX, "") : tokens[index];
+        }
+    }
+
+    /**
+     * Removes every word prefixed by the given suffix along with the suffix, i.e. with the ':' suffix
+     * Observation.component:systolic.code becomes Observation.systolic.code
+     *
+     * @param value  value to be processed
+     * @param suffix suffix which follows the words to be removed
+     * @return processed value
+     */
+    private static String removeSliceSegments(String value, String suffix) {
+        StringBuilder result = new StringBuilder(value.length());
+        int length = value.length();
+        int index = 0;
+        while (index < length) {
+            if (isWordCharacter(value.charAt(index))) {
+                int wordEnd = index;
+                while (wordEnd < length && isWordCharacter(value.charAt(wordEnd))) {
+                    wordEnd++;
+                }
+                if (value.startsWith(suffix, wordEnd)) {
+                    index = wordEnd + suffix.length();
+                } else {
+                    result.append(value, index, wordEnd);
+                    index = wordEnd;
+                }
+            } else {
+                result.append(value.charAt(index));
+                index++;
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Splits a path by the '.' separator. Follows {@link String#split(String)}, hence trailing empty tokens are
+     * dropped.
+     *
+     * @param value path to be split
+     * @return path tokens
+     */
+    private static String[] tokenize(String value) {
+        if (value.indexOf(PATH_SEPARATOR) < 0) {
+            return new String[]{value};
+        }
+        List<String> tokens = new ArrayList<>();
+        int tokenStart = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == PATH_SEPARATOR) {
+                tokens.add(value.substring(tokenStart, i));
+                tokenStart = i + 1;
+            }
+        }
+        tokens.add(value.substring(tokenStart));
+        int size = tokens.size();
+        while (size > 0 && tokens.get(size - 1).isEmpty()) {
+            size--;
+        }
+        return tokens.subList(0, size).toArray(new String[0]);
+    }
+
+    private static boolean isWordCharacter(char character) {
+        return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z')
+                || (character >= '0' && character <= '9') || character == '_';
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen;
+
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.ToolConstants;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.Element;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.GeneratorUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Analysis of the element tree of a snapshot element of a profile, done in a single traversal of the tree.
+ * <p>
+ * The traversal
+ * <ul>
+ *     <li>marks the extended elements, i.e. the elements constrained in the differential, code, backbone and fixed
+ *     value elements, together with their ancestors. Extension elements and their children are not marked.</li>
+ *     <li>collects the slices into the slice elements map of the profile, keyed by the path of the sliced element,
+ *     and marks the children of the slices which are arrays in the base definition. Extension slices and their
+ *     children are not collected.</li>
+ *     <li>records the elements referring to an element of the international package through contentReference.</li>
+ * </ul>
+ */
+public final class ElementTreeAnalysis {
+
+    private final Element rootElement;
+    private final Set<String> differentialElementIds;
+    private final Map<String, List<Element>> sliceElements;
+    private final Predicate<Element> arrayInBaseDefinition;
+    // child entries leading from the root element to each element referring to the international package
+    private final List<List<Map.Entry<String, Element>>> internationalReferences = new ArrayList<>();
+    private final Deque<Map.Entry<String, Element>> currentPath = new ArrayDeque<>();
+
+    private ElementTreeAnalysis(Element rootElement, Set<String> differentialElementIds,
+                                Map<String, List<Element>> sliceElements, Predicate<Element> arrayInBaseDefinition) {
+        this.rootElement = rootElement;
+        this.differentialElementIds = differentialElementIds;
+        this.sliceElements = sliceElements;
+        this.arrayInBaseDefinition = arrayInBaseDefinition;
+    }
+
+    /**
+     * Analyze the element tree of the given snapshot element.
+     *
+     * @param rootElement            snapshot element
+     * @param differentialElementIds names of the elements constrained in the differential of the profile
+     * @param sliceElements          slice elements map of the profile to collect the slices into
+     * @param arrayInBaseDefinition  whether an element is an array in the base definition
+     * @return analysis of the element tree
+     */
+    public static ElementTreeAnalysis analyze(Element rootElement, Set<String> differentialElementIds,
+                                              Map<String, List<Element>> sliceElements,
+                                              Predicate<Element> arrayInBaseDefinition) {
+        ElementTreeAnalysis analysis = new ElementTreeAnalysis(rootElement, differentialElementIds, sliceElements,
+                arrayInBaseDefinition);
+        analysis.visit(rootElement, true, true);
+        return analysis;
+    }
+
+    /**
+     * Check whether the element tree refers to an element of the international package. Only the elements which are
+     * still part of the tree are considered, hence the check reflects the child elements removed after the analysis.
+     *
+     * @return true if an element of the tree refers to the international package
+     */
+    public boolean isReferringInternational() {
+        for (List<Map.Entry<String, Element>> reference : internationalReferences) {
+            if (isAttached(reference)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check whether the cardinality of the element is constrained, hence requires the constraints package.
+     *
+     * @param element element
+     * @return true if the cardinality of the element is constrained
+     */
+    public static boolean isCardinalityConstrained(Element element) {
+        return (element.getMin() >= 1 && element.getMax() > 1) || (element.isArray() && element.getMax() > 0 &&
+                element.getMax() < Integer.MAX_VALUE);
+    }
+
+    private void visit(Element element, boolean markExtended, boolean collectSlices) {
+        boolean isExtension = ToolConstants.DATA_TYPE_EXTENSION.equals(element.getDataType());
+        markExtended = markExtended && !isExtension;
+        collectSlices = collectSlices && !(isExtension && element.isSlice());
+
+        if (markExtended && isExtendedElement(element)) {
+            element.setExtended(true);
+        }
+        if (element.getContentReference() != null &&
+                GeneratorUtils.isReferredFromInternational(element.getContentReference())) {
+            internationalReferences.add(new ArrayList<>(currentPath));
+        }
+        if (element.hasChildElements()) {
+            for (Map.Entry<String, Element> childEntry : element.getChildElements().entrySet()) {
+                Element childElement = childEntry.getValue();
+                currentPath.addLast(childEntry);
+                visit(childElement, markExtended, collectSlices);
+                currentPath.removeLast();
+
+                if (markExtended && childElement.isExtended()) {
+                    element.setExtended(true);
+                }
+                if (collectSlices && element.isSlice() && arrayInBaseDefinition.test(childElement)) {
+                    childElement.setArray(true);
+                }
+            }
+        }
+        if (collectSlices && element.isSlice()) {
+            sliceElements.computeIfAbsent(element.getPath(), path -> new ArrayList<>()).add(element);
+        }
+    }
+
+    private boolean isExtendedElement(Element element) {
+        return differentialElementIds.contains(element.getName())
+                || "Code".equals(element.getDataType())
+                || "BackboneElement".equals(element.getDataType())
+                || "BackboneType".equals(element.getDataType())
+                || element.hasFixedValue();
+    }
+
+    private boolean isAttached(List<Map.Entry<String, Element>> reference) {
+        Element parentElement = rootElement;
+        for (Map.Entry<String, Element> childEntry : reference) {
+            if (!parentElement.hasChildElements() ||
+                    parentElement.getChildElements().get(childEntry.getKey()) != childEntry.getValue()) {
+                return false;
+            }
+            parentElement = childEntry.getValue();
+        }
+        return true;
+    }
+}
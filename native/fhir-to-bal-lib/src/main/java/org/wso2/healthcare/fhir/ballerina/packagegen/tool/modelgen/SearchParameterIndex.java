@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen;
+
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.SearchParameter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index aggregating the search parameters of an IG by name and type. Search parameters sharing the name and the type
+ * are merged into one, holding the bases and the expressions of all of them.
+ * <p>
+ * Bases are matched against a set of the resource types of the package, and the bases and expressions are collected
+ * in lists which are merged once the index is built.
+ */
+public class SearchParameterIndex {
+
+    private static final String RESOURCE_BASE = "Resource";
+    private static final String EXPRESSION_SEPARATOR = " | ";
+
+    private final Set<String> resourceTypes;
+    // insertion ordered, hence the built maps iterate in the same order as maps populated per search parameter
+    private final Map<String, Map<String, AggregatedSearchParameter>> searchParameters = new LinkedHashMap<>();
+
+    /**
+     * @param resourceTypes resource types of the package. Search parameters are indexed for these resource types
+     *                      and the generic {@code Resource} base only.
+     */
+    public SearchParameterIndex(Collection<String> resourceTypes) {
+        this.resourceTypes = new HashSet<>(resourceTypes);
+    }
+
+    /**
+     * Add a search parameter to the index. Search parameters without a base in the package are ignored.
+     *
+     * @param name          search parameter name
+     * @param type          search parameter type
+     * @param baseResources base resources of the search parameter
+     * @param expression    FHIRPath expression of the search parameter
+     */
+    public void add(String name, String type, Collection<String> baseResources, String expression) {
+        List<String> bases = new ArrayList<>();
+        for (String base : baseResources) {
+            if (resourceTypes.contains(base)) {
+                if (!bases.contains(base)) {
+                    bases.add(base);
+                }
+            } else if (RESOURCE_BASE.equals(base)) {
+                bases.add(RESOURCE_BASE);
+            }
+        }
+        if (bases.isEmpty()) {
+            return;
+        }
+        AggregatedSearchParameter searchParameter = searchParameters
+                .computeIfAbsent(name, key -> new LinkedHashMap<>())
+                .computeIfAbsent(name + type, key -> new AggregatedSearchParameter(name, type));
+        searchParameter.baseGroups.add(bases);
+        searchParameter.expressions.add(expression);
+    }
+
+    /**
+     * Build the search parameters map of the IG template context: search parameter name to the search parameters
+     * of that name keyed by name and type.
+     *
+     * @return search parameters map
+     */
+    public HashMap<String, Map<String, SearchParameter>> toSearchParameterMap() {
+        HashMap<String, Map<String, SearchParameter>> searchParameterMap = new HashMap<>();
+        for (Map.Entry<String, Map<String, AggregatedSearchParameter>> nameEntry : searchParameters.entrySet()) {
+            Map<String, SearchParameter> searchParameterTypeMap = new HashMap<>();
+            for (Map.Entry<String, AggregatedSearchParameter> typeEntry : nameEntry.getValue().entrySet()) {
+                searchParameterTypeMap.put(typeEntry.getKey(), typeEntry.getValue().toSearchParameter());
+            }
+            searchParameterMap.put(nameEntry.getKey(), searchParameterTypeMap);
+        }
+        return searchParameterMap;
+    }
+
+    /**
+     * Search parameters merged by name and type.
+     */
+    private static class AggregatedSearchParameter {
+
+        private final String name;
+        private final String type;
+        private final List<List<String>> baseGroups = new ArrayList<>();
+        private final List<String> expressions = new ArrayList<>();
+
+        private AggregatedSearchParameter(String name, String type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        private SearchParameter toSearchParameter() {
+            // bases of a later search parameter precede the ones merged before it
+            ArrayList<String> bases = new ArrayList<>();
+            for (int i = baseGroups.size() - 1; i >= 0; i--) {
+                bases.addAll(baseGroups.get(i));
+            }
+            StringBuilder expression = null;
+            for (String searchParameterExpression : expressions) {
+                if (expression != null) {
+                    expression.append(EXPRESSION_SEPARATOR).append(searchParameterExpression);
+                } else if (searchParameterExpression != null) {
+                    expression = new StringBuilder(searchParameterExpression);
+                }
+            }
+
+            SearchParameter searchParameter = new SearchParameter();
+            searchParameter.setName(name);
+            searchParameter.setType(type);
+            searchParameter.setBase(bases);
+            searchParameter.setExpression(expression != null ? expression.toString() : null);
+            return searchParameter;
+        }
+    }
+}
@@ -22,12 +22,14 @@ import org.hl7.fhir.r4.model.ElementDefinition;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.common.FHIRSpecificationData;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRDataTypeDef;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.versions.r4.model.FHIRR4DataTypeDef;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.GenerationSession;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.ToolConstants;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.AnnotationElement;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.DataTypeDefinitionAnnotation;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.DatatypeTemplateContext;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.Element;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen.AbstractDatatypeContextGenerator;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen.CoreContextBundle;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.CommonUtil;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.GeneratorUtils;
 
@@ -48,8 +50,13 @@ public class R4DatatypeContextGenerator extends AbstractDatatypeContextGenerator
             "Dosage", "xhtml", "ElementDefinition", "Extension", "Narrative", "ProdCharacteristic", "Population", "SubstanceAmount"
     );
 
-    public R4DatatypeContextGenerator(FHIRSpecificationData fhirSpecificationData) {
-        super(fhirSpecificationData);
+    public R4DatatypeContextGenerator(GenerationSession session, FHIRSpecificationData fhirSpecificationData) {
+        this(session, fhirSpecificationData, CoreContextBundle.getBundle(session, "r4"));
+    }
+
+    public R4DatatypeContextGenerator(GenerationSession session, FHIRSpecificationData fhirSpecificationData,
+                                      CoreContextBundle coreContexts) {
+        super(session, fhirSpecificationData, coreContexts);
     }
 
     @Override
@@ -71,60 +78,71 @@ public class R4DatatypeContextGenerator extends AbstractDatatypeContextGenerator
                 }
             }
 
-            DatatypeTemplateContext context = new DatatypeTemplateContext();
-            String typeName = CommonUtil.getSplitTokenAt(datatypeDefn.getDefinition().getUrl(), "/", ToolConstants.TokenPosition.END);
-            context.setName(GeneratorUtils.getInstance().getUniqueIdentifierFromId(typeName));
-            context.setBaseDataType(datatypeDefn.getDefinition().getType());
-
-            DataTypeDefinitionAnnotation annotation = new DataTypeDefinitionAnnotation();
-            annotation.setName(datatypeDefn.getDefinition().getName());
-            context.setAnnotation(annotation);
-
-            for (ElementDefinition elementDefinition : datatypeDefn.getDefinition().getSnapshot().getElement()) {
-                if (elementDefinition.getPath().contains(".")) {
-                    String elementName = elementDefinition.getPath().substring(elementDefinition.getPath().lastIndexOf(".") + 1);
-
-                    if ("id".equals(elementName) || "extension".equals(elementName)
-                            || elementDefinition.getPath().contains(".extension.")) {
-                        //skipping for generating datatype extensions
-                        continue;
-                    }
-
-                    Element element = new Element();
-                    element.setMax(GeneratorUtils.getMaxCardinality(elementDefinition.getMax()));
-                    element.setMin(elementDefinition.getMin());
-                    element.setArray(!"0".equals(elementDefinition.getBase().getMax()) && !"1".equals(elementDefinition.getBase().getMax()));
-
-                    String typeCode = elementDefinition.getType().get(0).getCode();
-                    if (GeneratorUtils.getInstance().shouldReplacedByBalType(typeCode)) {
-                        element.setDataType(GeneratorUtils.getInstance().resolveDataType(typeCode));
-                    } else if (ToolConstants.ELEMENT.equals(typeCode)) {
-                        element.setDataType(ToolConstants.ELEMENT + CommonUtil.toCamelCase(elementName));
-                    } else {
-                        element.setDataType(typeCode);
-                    }
-
-                    if (elementName.endsWith("[x]") && datatypeDefn.getDefinition().getType().equals(
-                            ToolConstants.DATA_TYPE_EXTENSION)) {
-                        context.setBaseDataType(StringUtils.capitalize(typeCode + ToolConstants.DATA_TYPE_EXTENSION));
-                    } else if ("code".equals(typeCode)) {
-                        GeneratorUtils.populateCodeValuesForCodeElements(elementDefinition.getShort(), element);
-                    }
-
-                    element.setName(GeneratorUtils.getInstance().resolveMultiDataTypeFieldNames(elementName, typeCode));
-                    element.setDescription(CommonUtil.parseMultilineString(elementDefinition.getDefinition()));
-                    element.setPath(elementDefinition.getPath());
-
-                    //populate extended elements
-                    populateExtendedElementsMap(element, context);
-
-                    //populate annotations
-                    AnnotationElement annotationElement = GeneratorUtils.getInstance().populateAnnotationElement(element);
-                    annotation.addElement(annotationElement);
-                    context.addElement(element);
+            String definitionUrl = datatypeDefn.getDefinition().getUrl();
+            String definitionVersion = datatypeDefn.getDefinition().getVersion();
+            DatatypeTemplateContext context = restoreCoreDatatypeContext(definitionUrl, definitionVersion);
+            if (context == null) {
+                context = createDatatypeContext(datatypeDefn);
+                getCoreContexts().putDatatypeContext(definitionUrl, definitionVersion, context);
+            }
+            getDatatypeTemplateContextMap().putIfAbsent(definitionUrl, context);
+        }
+    }
+
+    private DatatypeTemplateContext createDatatypeContext(FHIRR4DataTypeDef datatypeDefn) {
+        DatatypeTemplateContext context = new DatatypeTemplateContext();
+        String typeName = CommonUtil.getSplitTokenAt(datatypeDefn.getDefinition().getUrl(), "/", ToolConstants.TokenPosition.END);
+        context.setName(getGeneratorUtils().getUniqueIdentifierFromId(typeName));
+        context.setBaseDataType(datatypeDefn.getDefinition().getType());
+
+        DataTypeDefinitionAnnotation annotation = new DataTypeDefinitionAnnotation();
+        annotation.setName(datatypeDefn.getDefinition().getName());
+        context.setAnnotation(annotation);
+
+        for (ElementDefinition elementDefinition : datatypeDefn.getDefinition().getSnapshot().getElement()) {
+            if (elementDefinition.getPath().contains(".")) {
+                String elementName = elementDefinition.getPath().substring(elementDefinition.getPath().lastIndexOf(".") + 1);
+
+                if ("id".equals(elementName) || "extension".equals(elementName)
+                        || elementDefinition.getPath().contains(".extension.")) {
+                    //skipping for generating datatype extensions
+                    continue;
+                }
+
+                Element element = new Element();
+                element.setMax(GeneratorUtils.getMaxCardinality(elementDefinition.getMax()));
+                element.setMin(elementDefinition.getMin());
+                element.setArray(!"0".equals(elementDefinition.getBase().getMax()) && !"1".equals(elementDefinition.getBase().getMax()));
+
+                String typeCode = elementDefinition.getType().get(0).getCode();
+                if (getGeneratorUtils().shouldReplacedByBalType(typeCode)) {
+                    element.setDataType(getGeneratorUtils().resolveDataType(typeCode));
+                } else if (ToolConstants.ELEMENT.equals(typeCode)) {
+                    element.setDataType(ToolConstants.ELEMENT + CommonUtil.toCamelCase(elementName));
+                } else {
+                    element.setDataType(typeCode);
+                }
+
+                if (elementName.endsWith("[x]") && datatypeDefn.getDefinition().getType().equals(
+                        ToolConstants.DATA_TYPE_EXTENSION)) {
+                    context.setBaseDataType(StringUtils.capitalize(typeCode + ToolConstants.DATA_TYPE_EXTENSION));
+                } else if ("code".equals(typeCode)) {
+                    GeneratorUtils.populateCodeValuesForCodeElements(elementDefinition.getShort(), element);
                 }
+
+                element.setName(getGeneratorUtils().resolveMultiDataTypeFieldNames(elementName, typeCode));
+                element.setDescription(CommonUtil.parseMultilineString(elementDefinition.getDefinition()));
+                element.setPath(elementDefinition.getPath());
+
+                //populate extended elements
+                populateExtendedElementsMap(element, context);
+
+                //populate annotations
+                AnnotationElement annotationElement = getGeneratorUtils().populateAnnotationElement(element);
+                annotation.addElement(annotationElement);
+                context.addElement(element);
             }
-            getDatatypeTemplateContextMap().putIfAbsent(datatypeDefn.getDefinition().getUrl(), context);
         }
+        return context;
     }
 }
@@ -23,13 +23,14 @@ import org.hl7.fhir.r4.model.StructureDefinition;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.common.FHIRSpecificationData;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRDataTypeDef;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.versions.r4.model.FHIRR4DataTypeDef;
-import org.wso2.healthcare.fhir.ballerina.packagegen.tool.DataTypesRegistry;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.GenerationSession;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.ToolConstants;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.AnnotationElement;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.DataTypeDefinitionAnnotation;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.DatatypeTemplateContext;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.Element;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen.AbstractExtensionContextGenerator;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen.CoreContextBundle;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.CommonUtil;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.GeneratorUtils;
 
@@ -38,10 +39,16 @@ import java.util.Set;
 import java.util.List;
 import java.util.HashSet;
 import java.util.ArrayList;
+import java.util.Collections;
 
 public class R4ExtensionContextGenerator extends AbstractExtensionContextGenerator {
-    public R4ExtensionContextGenerator(FHIRSpecificationData specificationData) {
-        super(specificationData);
+    public R4ExtensionContextGenerator(GenerationSession session, FHIRSpecificationData specificationData) {
+        this(session, specificationData, CoreContextBundle.getBundle(session, "r4"));
+    }
+
+    public R4ExtensionContextGenerator(GenerationSession session, FHIRSpecificationData specificationData,
+                                       CoreContextBundle coreContexts) {
+        super(session, specificationData, coreContexts);
     }
 
     @Override
@@ -52,166 +59,191 @@ public class R4ExtensionContextGenerator extends AbstractExtensionContextGenerat
 
             if ("Extension".equals(r4ExtensionDefn.getDefinition().getType())) {
                 /// Extensions will also be treated as an extended data type.
-                DatatypeTemplateContext context = new DatatypeTemplateContext();
-                String typeName = CommonUtil.getSplitTokenAt(r4ExtensionDefn.getDefinition().getUrl(), "/", ToolConstants.TokenPosition.END);
-                String elementIdentifier = GeneratorUtils.getInstance().getUniqueIdentifierFromId(typeName);
-                context.setName(elementIdentifier);
-                context.setBaseDataType("ExtensionExtension");
-
-                DataTypeDefinitionAnnotation annotation = new DataTypeDefinitionAnnotation();
-                annotation.setName(elementIdentifier);
-                context.setAnnotation(annotation);
-
-                for (ElementDefinition elementDefinition : r4ExtensionDefn.getDefinition().getSnapshot().getElement()) {
-                    if (elementDefinition.getPath().contains(".") && !elementDefinition.getId().contains(":")) {
-                        /// Parsing first level extensions
-                        String elementName = elementDefinition.getPath().substring(
-                                elementDefinition.getPath().lastIndexOf(".") + 1);
-
-                        if (elementDefinition.getMin() != 0 && !elementDefinition.getMax().equals("0")) {
-                            Element element = new Element();
-                            element.setMax(GeneratorUtils.getMaxCardinality(elementDefinition.getMax()));
-                            element.setMin(elementDefinition.getMin());
-                            element.setArray(!"0".equals(elementDefinition.getBase().getMax()) && !"1".equals(elementDefinition.getBase().getMax()));
-
-                            if ("url".equals(elementName) && elementDefinition.getFixed() != null) {
-                                List<String> fixedValues = new ArrayList<>();
-                                String value = elementDefinition.getFixed().toString();
-                                value = value.replaceAll("UriType|\\[|\\]", "");
-                                fixedValues.add(value);
-                                element.setFixedValue(fixedValues);
-                                element.setDataType(value);
-                            }
+                String definitionUrl = r4ExtensionDefn.getDefinition().getUrl();
+                String definitionVersion = r4ExtensionDefn.getDefinition().getVersion();
+                DatatypeTemplateContext context = getCoreContexts().getExtensionContext(definitionUrl, definitionVersion);
+                if (context == null) {
+                    context = createBaseExtensionContext(r4ExtensionDefn);
+                    getCoreContexts().putExtensionContext(definitionUrl, definitionVersion, context);
+                }
+                populateExtensionResourceMap(context.getName(), extensionDefEntry.getValue());
+                getExtensionTemplateContext().getExtendedDatatypes().putIfAbsent(definitionUrl, context);
+                registerDataType(context.getName());
+            }
+        }
+    }
 
-                            /// Read the datatype of the element from the Type.Ref component
-                            String typeCode = elementDefinition.getType().get(0).getCode();
-                            if (typeCode == null) {
-                                // Give a type for PrimitiveType Extensions marked with "_"
-                                // E.g.: type [{_code:{...}}]
-                                typeCode = "Extension";
-                            } else if ("id".equals(elementName)) {
-                                typeCode = "http://hl7.org/fhirpath/System.String";
-                            }
+    @Override
+    public void populateSliceExtensionContext() {
+        for (Map.Entry<String, FHIRDataTypeDef> extensionDefEntry : getExtensionDefnMap().entrySet()) {
+            FHIRR4DataTypeDef r4ExtensionDefn = (FHIRR4DataTypeDef) extensionDefEntry.getValue();
 
-                            if (GeneratorUtils.getInstance().shouldReplacedByBalType(typeCode)) {
-                                if (elementDefinition.getFixed() == null) {
-                                    element.setDataType(GeneratorUtils.getInstance().resolveDataType(typeCode));
-                                }
-                            } else {
-                                element.setDataType(typeCode);
-                            }
+            if ("Extension".equals(r4ExtensionDefn.getDefinition().getType())) {
+                String definitionUrl = r4ExtensionDefn.getDefinition().getUrl();
+                String definitionVersion = r4ExtensionDefn.getDefinition().getVersion();
+                List<DatatypeTemplateContext> sliceContexts =
+                        getCoreContexts().getExtensionSliceContexts(definitionUrl, definitionVersion);
+                if (sliceContexts == null) {
+                    sliceContexts = createSliceExtensionContexts(r4ExtensionDefn);
+                    getCoreContexts().putExtensionSliceContexts(definitionUrl, definitionVersion, sliceContexts);
+                }
+                for (DatatypeTemplateContext context : sliceContexts) {
+                    getExtensionTemplateContext().getExtendedDatatypes().putIfAbsent(context.getName().toLowerCase(), context);
+                    registerDataType(context.getName());
+                }
+            }
+        }
+    }
 
-                            if (elementName.endsWith("[x]")) {
-                                typeCode = elementDefinition.getType().get(0).getCode();
-                                element.setDataType(typeCode);
-                                context.setBaseDataType(CommonUtil.toCamelCase(typeCode) + "Extension");
-                            }
+    private DatatypeTemplateContext createBaseExtensionContext(FHIRR4DataTypeDef r4ExtensionDefn) {
+        DatatypeTemplateContext context = new DatatypeTemplateContext();
+        String typeName = CommonUtil.getSplitTokenAt(r4ExtensionDefn.getDefinition().getUrl(), "/", ToolConstants.TokenPosition.END);
+        String elementIdentifier = getGeneratorUtils().getUniqueIdentifierFromId(typeName);
+        context.setName(elementIdentifier);
+        context.setBaseDataType("ExtensionExtension");
+
+        DataTypeDefinitionAnnotation annotation = new DataTypeDefinitionAnnotation();
+        annotation.setName(elementIdentifier);
+        context.setAnnotation(annotation);
+
+        for (ElementDefinition elementDefinition : r4ExtensionDefn.getDefinition().getSnapshot().getElement()) {
+            if (elementDefinition.getPath().contains(".") && !elementDefinition.getId().contains(":")) {
+                /// Parsing first level extensions
+                String elementName = elementDefinition.getPath().substring(
+                        elementDefinition.getPath().lastIndexOf(".") + 1);
+
+                if (elementDefinition.getMin() != 0 && !elementDefinition.getMax().equals("0")) {
+                    Element element = new Element();
+                    element.setMax(GeneratorUtils.getMaxCardinality(elementDefinition.getMax()));
+                    element.setMin(elementDefinition.getMin());
+                    element.setArray(!"0".equals(elementDefinition.getBase().getMax()) && !"1".equals(elementDefinition.getBase().getMax()));
+
+                    if ("url".equals(elementName) && elementDefinition.getFixed() != null) {
+                        List<String> fixedValues = new ArrayList<>();
+                        String value = elementDefinition.getFixed().toString();
+                        value = value.replaceAll("UriType|\\[|\\]", "");
+                        fixedValues.add(value);
+                        element.setFixedValue(fixedValues);
+                        element.setDataType(value);
+                    }
 
-                            element.setName(GeneratorUtils.getInstance().resolveMultiDataTypeFieldNames(elementName, typeCode));
-                            element.setDescription(CommonUtil.parseMultilineString(elementDefinition.getDefinition()));
-                            element.setPath(elementDefinition.getPath());
+                    /// Read the datatype of the element from the Type.Ref component
+                    String typeCode = elementDefinition.getType().get(0).getCode();
+                    if (typeCode == null) {
+                        // Give a type for PrimitiveType Extensions marked with "_"
+                        // E.g.: type [{_code:{...}}]
+                        typeCode = "Extension";
+                    } else if ("id".equals(elementName)) {
+                        typeCode = "http://hl7.org/fhirpath/System.String";
+                    }
 
-                            //populate annotations
-                            AnnotationElement annotationElement = GeneratorUtils.getInstance().populateAnnotationElement(element);
-                            if (GeneratorUtils.getInstance().shouldReplacedByBalType(typeCode)) {
-                                annotationElement.setDataType(GeneratorUtils.getInstance().resolveDataType(typeCode));
-                            }
-                            annotation.addElement(annotationElement);
-                            context.addElement(element);
+                    if (getGeneratorUtils().shouldReplacedByBalType(typeCode)) {
+                        if (elementDefinition.getFixed() == null) {
+                            element.setDataType(getGeneratorUtils().resolveDataType(typeCode));
                         }
+                    } else {
+                        element.setDataType(typeCode);
+                    }
+
+                    if (elementName.endsWith("[x]")) {
+                        typeCode = elementDefinition.getType().get(0).getCode();
+                        element.setDataType(typeCode);
+                        context.setBaseDataType(CommonUtil.toCamelCase(typeCode) + "Extension");
+                    }
+
+                    element.setName(getGeneratorUtils().resolveMultiDataTypeFieldNames(elementName, typeCode));
+                    element.setDescription(CommonUtil.parseMultilineString(elementDefinition.getDefinition()));
+                    element.setPath(elementDefinition.getPath());
+
+                    //populate annotations
+                    AnnotationElement annotationElement = getGeneratorUtils().populateAnnotationElement(element);
+                    if (getGeneratorUtils().shouldReplacedByBalType(typeCode)) {
+                        annotationElement.setDataType(getGeneratorUtils().resolveDataType(typeCode));
                     }
+                    annotation.addElement(annotationElement);
+                    context.addElement(element);
                 }
-                populateExtensionResourceMap(elementIdentifier, extensionDefEntry.getValue());
-                getExtensionTemplateContext().getExtendedDatatypes().putIfAbsent(r4ExtensionDefn.getDefinition().getUrl(), context);
-                DataTypesRegistry.getInstance().addDataType(context.getName());
             }
         }
+        return context;
     }
 
-    @Override
-    public void populateSliceExtensionContext() {
-        for (Map.Entry<String, FHIRDataTypeDef> extensionDefEntry : getExtensionDefnMap().entrySet()) {
-            FHIRR4DataTypeDef r4ExtensionDefn = (FHIRR4DataTypeDef) extensionDefEntry.getValue();
-            String urlId = CommonUtil.getSplitTokenAt(r4ExtensionDefn.getDefinition().getUrl(), "/", ToolConstants.TokenPosition.END);
-            String rootExtensionName = GeneratorUtils.getInstance().getUniqueIdentifierFromId(urlId);
+    private List<DatatypeTemplateContext> createSliceExtensionContexts(FHIRR4DataTypeDef r4ExtensionDefn) {
+        List<DatatypeTemplateContext> sliceContexts = new ArrayList<>();
+        String urlId = CommonUtil.getSplitTokenAt(r4ExtensionDefn.getDefinition().getUrl(), "/", ToolConstants.TokenPosition.END);
+        String rootExtensionName = getGeneratorUtils().getUniqueIdentifierFromId(urlId);
+        List<ElementDefinition> snapshotElements = r4ExtensionDefn.getDefinition().getSnapshot().getElement();
+        Map<String, List<ElementDefinition>> sliceChildElements =
+                indexSliceChildElements(snapshotElements, ElementDefinition::getId);
+        for (ElementDefinition elementDefinition : snapshotElements) {
+            if (elementDefinition.getId().contains(":")) {
+                if (elementDefinition.getSliceName() != null) {
+                    String rootSliceName = elementDefinition.getSliceName();
+
+                    String contextName = rootExtensionName + CommonUtil.toCamelCase(elementDefinition.getSliceName());
+                    contextName = getGeneratorUtils().getUniqueIdentifierFromId(contextName);
+
+                    DatatypeTemplateContext context = new DatatypeTemplateContext();
+                    context.setName(contextName);
+                    context.setBaseDataType(r4ExtensionDefn.getDefinition().getType() + "Extension");
+
+                    DataTypeDefinitionAnnotation annotation = new DataTypeDefinitionAnnotation();
+                    annotation.setName(contextName);
+                    context.setAnnotation(annotation);
+
+                    for (ElementDefinition sliceElementDefinition : sliceChildElements.getOrDefault(
+                            elementDefinition.getId(), Collections.emptyList())) {
+                        String[] childSliceNames = sliceElementDefinition.getId().split("[:.]");
+                        String childSliceName = childSliceNames[childSliceNames.length - 1];
+
+                        Element element = new Element();
+                        element.setMax(GeneratorUtils.getMaxCardinality(sliceElementDefinition.getMax()));
+                        element.setMin(sliceElementDefinition.getMin());
+                        element.setArray(!"0".equals(sliceElementDefinition.getBase().getMax()) && !"1".equals(sliceElementDefinition.getBase().getMax()));
+
+                        String typeCode = sliceElementDefinition.getType().get(0).getCode();
+                        if ("id".equals(childSliceName)) {
+                            typeCode = "http://hl7.org/fhirpath/System.String";
+                        }
 
-            if ("Extension".equals(r4ExtensionDefn.getDefinition().getType())) {
-                for (ElementDefinition elementDefinition : r4ExtensionDefn.getDefinition().getSnapshot().getElement()) {
-                    if (elementDefinition.getId().contains(":")) {
-                        if (elementDefinition.getSliceName() != null) {
-                            String rootSliceName = elementDefinition.getSliceName();
-
-                            String contextName = rootExtensionName + CommonUtil.toCamelCase(elementDefinition.getSliceName());
-                            contextName = GeneratorUtils.getInstance().getUniqueIdentifierFromId(contextName);
-
-                            DatatypeTemplateContext context = new DatatypeTemplateContext();
-                            context.setName(contextName);
-                            context.setBaseDataType(r4ExtensionDefn.getDefinition().getType() + "Extension");
-
-                            DataTypeDefinitionAnnotation annotation = new DataTypeDefinitionAnnotation();
-                            annotation.setName(contextName);
-                            context.setAnnotation(annotation);
-
-                            for (ElementDefinition sliceElementDefinition : r4ExtensionDefn.getDefinition().getSnapshot().getElement()) {
-                                if (sliceElementDefinition.getId().contains(rootSliceName)) {
-                                    String[] childSliceNames = sliceElementDefinition.getId().split("[:.]");
-                                    String childSliceName = childSliceNames[childSliceNames.length - 1];
-
-                                    if (rootSliceName.equals(childSliceName)) {
-                                        continue;
-                                    }
-
-                                    Element element = new Element();
-                                    element.setMax(GeneratorUtils.getMaxCardinality(sliceElementDefinition.getMax()));
-                                    element.setMin(sliceElementDefinition.getMin());
-                                    element.setArray(!"0".equals(sliceElementDefinition.getBase().getMax()) && !"1".equals(sliceElementDefinition.getBase().getMax()));
-
-                                    String typeCode = sliceElementDefinition.getType().get(0).getCode();
-                                    if ("id".equals(childSliceName)) {
-                                        typeCode = "http://hl7.org/fhirpath/System.String";
-                                    }
-
-                                    if (GeneratorUtils.getInstance().shouldReplacedByBalType(typeCode)) {
-                                        element.setDataType(GeneratorUtils.getInstance().resolveDataType(typeCode));
-                                    } else {
-                                        element.setDataType(typeCode);
-                                    }
-
-                                    if (childSliceName.endsWith("[x]")) {
-                                        typeCode = sliceElementDefinition.getType().get(0).getCode();
-                                        element.setDataType(typeCode);
-                                        context.setBaseDataType(CommonUtil.toCamelCase(typeCode) + "Extension");
-                                    }
-
-                                    if ("url".equals(childSliceName)) {
-                                        if (sliceElementDefinition.hasFixed()) {
-                                            List<String> fixedValues = new ArrayList<>();
-                                            String value = sliceElementDefinition.getFixed().toString().replaceAll("UriType|\\[|\\]", "");
-                                            fixedValues.add(value);
-                                            element.setFixedValue(fixedValues);
-                                        }
-                                    }
-
-                                    element.setName(GeneratorUtils.getInstance().resolveMultiDataTypeFieldNames(childSliceName, typeCode));
-                                    element.setDescription(CommonUtil.parseMultilineString(sliceElementDefinition.getDefinition()));
-                                    element.setPath(rootSliceName + "." + childSliceName);
-
-                                    //populate annotations
-                                    AnnotationElement annotationElement = GeneratorUtils.getInstance().populateAnnotationElement(element);
-                                    if (GeneratorUtils.getInstance().shouldReplacedByBalType(annotationElement.getDataType())) {
-                                        annotationElement.setDataType(GeneratorUtils.getInstance().resolveDataType(annotationElement.getDataType()));
-                                    }
-                                    annotation.addElement(annotationElement);
-                                    context.addElement(element);
-                                }
+                        if (getGeneratorUtils().shouldReplacedByBalType(typeCode)) {
+                            element.setDataType(getGeneratorUtils().resolveDataType(typeCode));
+                        } else {
+                            element.setDataType(typeCode);
+                        }
+
+                        if (childSliceName.endsWith("[x]")) {
+                            typeCode = sliceElementDefinition.getType().get(0).getCode();
+                            element.setDataType(typeCode);
+                            context.setBaseDataType(CommonUtil.toCamelCase(typeCode) + "Extension");
+                        }
+
+                        if ("url".equals(childSliceName)) {
+                            if (sliceElementDefinition.hasFixed()) {
+                                List<String> fixedValues = new ArrayList<>();
+                                String value = sliceElementDefinition.getFixed().toString().replaceAll("UriType|\\[|\\]", "");
+                                fixedValues.add(value);
+                                element.setFixedValue(fixedValues);
                             }
-                            getExtensionTemplateContext().getExtendedDatatypes().putIfAbsent(contextName.toLowerCase(), context);
-                            DataTypesRegistry.getInstance().addDataType(context.getName());
                         }
+
+                        element.setName(getGeneratorUtils().resolveMultiDataTypeFieldNames(childSliceName, typeCode));
+                        element.setDescription(CommonUtil.parseMultilineString(sliceElementDefinition.getDefinition()));
+                        element.setPath(rootSliceName + "." + childSliceName);
+
+                        //populate annotations
+                        AnnotationElement annotationElement = getGeneratorUtils().populateAnnotationElement(element);
+                        if (getGeneratorUtils().shouldReplacedByBalType(annotationElement.getDataType())) {
+                            annotationElement.setDataType(getGeneratorUtils().resolveDataType(annotationElement.getDataType()));
+                        }
+                        annotation.addElement(annotationElement);
+                        context.addElement(element);
                     }
+                    sliceContexts.add(context);
                 }
             }
         }
+        return sliceContexts;
     }
 
     @Override
@@ -20,21 +20,19 @@ package org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen.versions.r4;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.healthcare.codegen.profile.GenerationProfiler;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.SpecificationData;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.ExtensionTemplateContext;
-import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.SearchParameter;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.common.FHIRSpecificationData;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.versions.r4.model.FHIRR4SearchParamDef;
-import org.wso2.healthcare.fhir.ballerina.packagegen.tool.DataTypesRegistry;
-import org.wso2.healthcare.fhir.ballerina.packagegen.tool.config.BallerinaPackageGenToolConfig;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.GenerationSession;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.IGTemplateContext;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRImplementationGuide;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRSearchParamDef;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen.AbstractPackageContextGenerator;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen.SearchParameterIndex;
 
 import java.util.Map;
-import java.util.HashMap;
-import java.util.ArrayList;
 
 /**
  * Generator class for FHIR R4 package related context
@@ -43,9 +41,9 @@ public class R4PackageContextGenerator extends AbstractPackageContextGenerator {
 
     private static final Log LOG = LogFactory.getLog(R4PackageContextGenerator.class);
 
-    public R4PackageContextGenerator(BallerinaPackageGenToolConfig config, Map<String, FHIRImplementationGuide> igEntries,
+    public R4PackageContextGenerator(GenerationSession session, Map<String, FHIRImplementationGuide> igEntries,
                                      SpecificationData specificationData) {
-        super(config, igEntries, specificationData);
+        super(session, igEntries, specificationData);
     }
 
     /***
@@ -56,7 +54,7 @@ public class R4PackageContextGenerator extends AbstractPackageContextGenerator {
     @Override
     protected void populateDatatypeTemplateContext(FHIRSpecificationData specificationData) {
         LOG.debug("Started: Datatype Template Context population");
-        R4DatatypeContextGenerator r4DatatypeContextGenerator = new R4DatatypeContextGenerator(specificationData);
+        R4DatatypeContextGenerator r4DatatypeContextGenerator = new R4DatatypeContextGenerator(getSession(), specificationData);
         getPackageContext().setDatatypeTemplateContextMap(r4DatatypeContextGenerator.getDatatypeTemplateContextMap());
         LOG.debug("Ended: Datatype Template Context population");
     }
@@ -64,7 +62,7 @@ public class R4PackageContextGenerator extends AbstractPackageContextGenerator {
     @Override
     protected void populateExtensionTemplateContext(FHIRSpecificationData specificationData) {
         LOG.debug("Started: Extension Template Context population");
-        R4ExtensionContextGenerator r4ExtensionContextGenerator = new R4ExtensionContextGenerator(specificationData);
+        R4ExtensionContextGenerator r4ExtensionContextGenerator = new R4ExtensionContextGenerator(getSession(), specificationData);
         getPackageContext().setExtensionTemplateContext(r4ExtensionContextGenerator.getExtensionTemplateContext());
         LOG.debug("Ended: Extension Template Context population");
     }
@@ -77,11 +75,14 @@ public class R4PackageContextGenerator extends AbstractPackageContextGenerator {
     @Override
     protected void populateResourceTemplateContext(FHIRImplementationGuide ig) {
         LOG.debug("Started: Resource Template Context population");
-        R4ResourceContextGenerator r4ResourceContextGenerator = new R4ResourceContextGenerator(getToolConfig(), ig,
+        R4ResourceContextGenerator r4ResourceContextGenerator = new R4ResourceContextGenerator(getSession(), ig,
                 getPackageContext().getDatatypeTemplateContextMap());
         getPackageContext().setResourceTemplateContextMap(r4ResourceContextGenerator.getResourceTemplateContextMap());
         getPackageContext().setResourceNameTypeMap(r4ResourceContextGenerator.getResourceNameTypeMap());
-        getPackageContext().setDataTypesRegistry(DataTypesRegistry.getInstance().getDataTypesRegistry());
+        if (getToolConfig().isStreamingGeneration()) {
+            getPackageContext().setResourceTemplateContextStream(r4ResourceContextGenerator);
+        }
+        getPackageContext().setDataTypesRegistry(getSession().getDataTypesRegistry().getDataTypesRegistry());
         LOG.debug("Ended: Resource Template Context population");
     }
 
@@ -113,62 +114,21 @@ public class R4PackageContextGenerator extends AbstractPackageContextGenerator {
     @Override
     protected void populateSearchParameters(FHIRImplementationGuide implementationGuide) {
         LOG.debug("Started: Search Parameter population");
-        HashMap<String, Map<String, SearchParameter>> searchParameterMap = new HashMap<>();
-
-        for (Map.Entry<String, FHIRSearchParamDef> searchParamEntry : implementationGuide.getSearchParameters().entrySet()) {
-            Map<String, SearchParameter> searchParameterTypeMap;
-            SearchParameter searchParameter;
-
-            FHIRR4SearchParamDef fhirSearchParamDef = (FHIRR4SearchParamDef) searchParamEntry.getValue();
-            String searchParamName = fhirSearchParamDef.getSearchParameter().getName();
-            String searchParamType = fhirSearchParamDef.getSearchParameter().getType().name();
-            String searchParamDerivedName = searchParamName + searchParamType;
-
-            if (searchParameterMap.containsKey(searchParamName)) {
-                searchParameterTypeMap = searchParameterMap.get(searchParamName);
-
-                if (searchParameterTypeMap.containsKey(searchParamDerivedName)) {
-                    searchParameter = searchParameterTypeMap.get(searchParamDerivedName);
-                } else {
-                    searchParameter = new SearchParameter();
-                }
-            } else {
-                searchParameterTypeMap = new HashMap<>();
-                searchParameter = new SearchParameter();
-            }
-
-            ArrayList<String> bases = new ArrayList<>();
-            for (String base : fhirSearchParamDef.getBaseResources()) {
-                if (getPackageContext().getResourceNameTypeMap().containsValue(base)) {
-                    if (!bases.contains(base)) {
-                        bases.add(base);
-                    }
-                } else if (base.equals("Resource")) {
-                    bases.add("Resource");
-                }
-            }
-
-            if (!bases.isEmpty()) {
-                searchParameter.setName(searchParamName);
-                searchParameter.setType(searchParamType);
-
-                if (searchParameter.getBase() != null)
-                    bases.addAll(searchParameter.getBase());
-
-                searchParameter.setBase(bases);
-
-                if (searchParameter.getExpression() != null) {
-                    String expression = searchParameter.getExpression();
-                    expression = expression + " | " + fhirSearchParamDef.getSearchParameter().getExpression();
-                    searchParameter.setExpression(expression);
-                } else {
-                    searchParameter.setExpression(fhirSearchParamDef.getSearchParameter().getExpression());
-                }
-                searchParameterTypeMap.put(searchParamDerivedName, searchParameter);
-                searchParameterMap.put(searchParamName, searchParameterTypeMap);
+        try (GenerationProfiler.Phase phase = getSession().getProfiler().start(
+                GenerationProfiler.PHASE_SEARCH_PARAMETERS)) {
+            SearchParameterIndex searchParameterIndex =
+                    new SearchParameterIndex(getPackageContext().getResourceNameTypeMap().values());
+
+            for (Map.Entry<String, FHIRSearchParamDef> searchParamEntry : implementationGuide.getSearchParameters().entrySet()) {
+                FHIRR4SearchParamDef fhirSearchParamDef = (FHIRR4SearchParamDef) searchParamEntry.getValue();
+                searchParameterIndex.add(fhirSearchParamDef.getSearchParameter().getName(),
+                        fhirSearchParamDef.getSearchParameter().getType().name(),
+                        fhirSearchParamDef.getBaseResources(),
+                        fhirSearchParamDef.getSearchParameter().getExpression());
             }
+            getPackageContext().getIgTemplateContext().setSearchParameters(searchParameterIndex.toSearchParameterMap());
+            phase.addItems(implementationGuide.getSearchParameters().size());
         }
-        getPackageContext().getIgTemplateContext().setSearchParameters(searchParameterMap);
         LOG.debug("Ended: Search Parameter population");
     }
 }
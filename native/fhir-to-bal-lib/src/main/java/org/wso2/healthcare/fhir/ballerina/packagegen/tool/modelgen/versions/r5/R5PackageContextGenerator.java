@@ -20,20 +20,18 @@ package org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen.versions.r5;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.SearchParameter;
+import org.wso2.healthcare.codegen.profile.GenerationProfiler;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.SpecificationData;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.common.FHIRSpecificationData;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRImplementationGuide;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRSearchParamDef;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.versions.r5.model.FHIRR5SearchParamDef;
-import org.wso2.healthcare.fhir.ballerina.packagegen.tool.DataTypesRegistry;
-import org.wso2.healthcare.fhir.ballerina.packagegen.tool.config.BallerinaPackageGenToolConfig;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.GenerationSession;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.IGTemplateContext;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen.AbstractPackageContextGenerator;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen.SearchParameterIndex;
 
-import java.util.ArrayList;
 import java.util.Map;
-import java.util.HashMap;
 
 /**
  * Generator class for FHIR R5 package related context
@@ -41,15 +39,15 @@ import java.util.HashMap;
 public class R5PackageContextGenerator extends AbstractPackageContextGenerator {
     private static final Log LOG = LogFactory.getLog(R5PackageContextGenerator.class);
 
-    public R5PackageContextGenerator(BallerinaPackageGenToolConfig config, Map<String, FHIRImplementationGuide> igEntries,
+    public R5PackageContextGenerator(GenerationSession session, Map<String, FHIRImplementationGuide> igEntries,
                                      SpecificationData specificationData) {
-        super(config, igEntries, specificationData);
+        super(session, igEntries, specificationData);
     }
 
     @Override
     protected void populateDatatypeTemplateContext(FHIRSpecificationData specificationData) {
         LOG.debug("Started: Datatype Template Context population");
-        R5DatatypeContextGenerator r5DatatypeContextGenerator = new R5DatatypeContextGenerator(specificationData);
+        R5DatatypeContextGenerator r5DatatypeContextGenerator = new R5DatatypeContextGenerator(getSession(), specificationData);
         getPackageContext().setDatatypeTemplateContextMap(r5DatatypeContextGenerator.getDatatypeTemplateContextMap());
         LOG.debug("Ended: Datatype Template Context population");
     }
@@ -57,7 +55,7 @@ public class R5PackageContextGenerator extends AbstractPackageContextGenerator {
     @Override
     protected void populateExtensionTemplateContext(FHIRSpecificationData specificationData) {
         LOG.debug("Started: Extension Template Context population");
-        R5ExtensionContextGenerator r5ExtensionContextGenerator = new R5ExtensionContextGenerator(specificationData);
+        R5ExtensionContextGenerator r5ExtensionContextGenerator = new R5ExtensionContextGenerator(getSession(), specificationData);
         getPackageContext().setExtensionTemplateContext(r5ExtensionContextGenerator.getExtensionTemplateContext());
         LOG.debug("Ended: Extension Template Context population");
     }
@@ -65,10 +63,13 @@ public class R5PackageContextGenerator extends AbstractPackageContextGenerator {
     @Override
     protected void populateResourceTemplateContext(FHIRImplementationGuide ig) {
         LOG.debug("Started: Resource Template Context population");
-        R5ResourceContextGenerator r5ResourceContextGenerator = new R5ResourceContextGenerator(getToolConfig(), ig, getPackageContext().getDatatypeTemplateContextMap());
+        R5ResourceContextGenerator r5ResourceContextGenerator = new R5ResourceContextGenerator(getSession(), ig, getPackageContext().getDatatypeTemplateContextMap());
         getPackageContext().setResourceTemplateContextMap(r5ResourceContextGenerator.getResourceTemplateContextMap());
         getPackageContext().setResourceNameTypeMap(r5ResourceContextGenerator.getResourceNameTypeMap());
-        getPackageContext().setDataTypesRegistry(DataTypesRegistry.getInstance().getDataTypesRegistry());
+        if (getToolConfig().isStreamingGeneration()) {
+            getPackageContext().setResourceTemplateContextStream(r5ResourceContextGenerator);
+        }
+        getPackageContext().setDataTypesRegistry(getSession().getDataTypesRegistry().getDataTypesRegistry());
         LOG.debug("Ended: Resource Template Context population");
     }
 
@@ -88,63 +89,21 @@ public class R5PackageContextGenerator extends AbstractPackageContextGenerator {
     @Override
     protected void populateSearchParameters(FHIRImplementationGuide implementationGuide) {
         LOG.debug("Started: Search Parameter population");
-        HashMap<String, Map<String, SearchParameter>> searchParameterMap = new HashMap<>();
-
-        for (Map.Entry<String, FHIRSearchParamDef> searchParamEntry : implementationGuide.getSearchParameters().entrySet()) {
-            Map<String, SearchParameter> searchParameterTypeMap;
-            SearchParameter searchParameter;
-
-            FHIRR5SearchParamDef fhirSearchParamDef = (FHIRR5SearchParamDef) searchParamEntry.getValue();
-            String searchParamName = fhirSearchParamDef.getSearchParameter().getName();
-            String searchParamType = fhirSearchParamDef.getSearchParameter().getType().name();
-            String searchParamDerivedName = searchParamName + searchParamType;
-
-            if (searchParameterMap.containsKey(searchParamName)) {
-                searchParameterTypeMap = searchParameterMap.get(searchParamName);
-
-                if (searchParameterTypeMap.containsKey(searchParamDerivedName)) {
-                    searchParameter = searchParameterTypeMap.get(searchParamDerivedName);
-                } else {
-                    searchParameter = new SearchParameter();
-                }
-            } else {
-                searchParameterTypeMap = new HashMap<>();
-                searchParameter = new SearchParameter();
-            }
-
-            ArrayList<String> bases = new ArrayList<>();
-            for (String base : fhirSearchParamDef.getBaseResources()) {
-                if (getPackageContext().getResourceNameTypeMap().containsValue(base)) {
-                    if (!bases.contains(base)) {
-                        bases.add(base);
-                    }
-                } else if (base.equals("Resource")) {
-                    bases.add("Resource");
-                }
-            }
-
-            if (!bases.isEmpty()) {
-                searchParameter.setName(searchParamName);
-                searchParameter.setType(searchParamType);
-
-                if (searchParameter.getBase() != null) {
-                    bases.addAll(searchParameter.getBase());
-                }
-
-                searchParameter.setBase(bases);
-
-                if (searchParameter.getExpression() != null) {
-                    String expression = searchParameter.getExpression();
-                    expression = expression + " | " + fhirSearchParamDef.getSearchParameter().getExpression();
-                    searchParameter.setExpression(expression);
-                } else {
-                    searchParameter.setExpression(fhirSearchParamDef.getSearchParameter().getExpression());
-                }
-                searchParameterTypeMap.put(searchParamDerivedName, searchParameter);
-                searchParameterMap.put(searchParamName, searchParameterTypeMap);
+        try (GenerationProfiler.Phase phase = getSession().getProfiler().start(
+                GenerationProfiler.PHASE_SEARCH_PARAMETERS)) {
+            SearchParameterIndex searchParameterIndex =
+                    new SearchParameterIndex(getPackageContext().getResourceNameTypeMap().values());
+
+            for (Map.Entry<String, FHIRSearchParamDef> searchParamEntry : implementationGuide.getSearchParameters().entrySet()) {
+                FHIRR5SearchParamDef fhirSearchParamDef = (FHIRR5SearchParamDef) searchParamEntry.getValue();
+                searchParameterIndex.add(fhirSearchParamDef.getSearchParameter().getName(),
+                        fhirSearchParamDef.getSearchParameter().getType().name(),
+                        fhirSearchParamDef.getBaseResources(),
+                        fhirSearchParamDef.getSearchParameter().getExpression());
             }
+            getPackageContext().getIgTemplateContext().setSearchParameters(searchParameterIndex.toSearchParameterMap());
+            phase.addItems(implementationGuide.getSearchParameters().size());
         }
-        getPackageContext().getIgTemplateContext().setSearchParameters(searchParameterMap);
         LOG.debug("Ended: Search Parameter population");
     }
 }
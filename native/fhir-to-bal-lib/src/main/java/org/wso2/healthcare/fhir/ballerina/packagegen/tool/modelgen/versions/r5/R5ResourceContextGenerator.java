@@ -29,26 +29,23 @@ import org.hl7.fhir.r5.model.StructureDefinition;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRImplementationGuide;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRResourceDef;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.versions.r5.model.FHIRR5ResourceDef;
-import org.wso2.healthcare.fhir.ballerina.packagegen.tool.DataTypesRegistry;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.GenerationSession;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.ToolConstants;
-import org.wso2.healthcare.fhir.ballerina.packagegen.tool.config.BallerinaPackageGenToolConfig;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.DatatypeTemplateContext;
-import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.DataTypeProfile;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.Element;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.ResourceDefinitionAnnotation;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.ResourceTemplateContext;
 
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen.AbstractResourceContextGenerator;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.modelgen.ElementPath;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.CommonUtil;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.GeneratorUtils;
 
-import java.util.Set;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Comparator;
-import java.util.regex.Pattern;
 
 /**
  * Generator class for FHIR R5 resource related context
@@ -56,88 +53,93 @@ import java.util.regex.Pattern;
 public class R5ResourceContextGenerator extends AbstractResourceContextGenerator {
     private static final Log LOG = LogFactory.getLog(R5ResourceContextGenerator.class);
 
-    public R5ResourceContextGenerator(BallerinaPackageGenToolConfig config, FHIRImplementationGuide ig,
+    public R5ResourceContextGenerator(GenerationSession session, FHIRImplementationGuide ig,
                                       Map<String, DatatypeTemplateContext> datatypeTemplateContextMap) {
-        super(config, ig, datatypeTemplateContextMap);
+        super(session, ig, datatypeTemplateContextMap);
     }
 
     /**
-     * Populate resource template contexts
+     * Build the resource template context of a single profile
      *
-     * @param ig FHIR implementation guide DTO
+     * @param resourceDef resource definition of the profile
+     * @param ig          FHIR implementation guide DTO
+     * @return isolated resource context fragment, or null for base resources
      */
     @Override
-    protected void populateResourceTemplateContexts(FHIRImplementationGuide ig) {
-        LOG.debug("Started: Resource Template Context population");
-
-        for (Map.Entry<String, FHIRResourceDef> definitionEntry : ig.getResources().entrySet()) {
-            FHIRR5ResourceDef resourceDef = (FHIRR5ResourceDef) definitionEntry.getValue();
-            StructureDefinition structureDefinition = (StructureDefinition) definitionEntry.getValue().getDefinition();
-
-            if (!baseResources.contains(structureDefinition.getType())) {
-                getResourceNameTypeMap().put(structureDefinition.getName(), structureDefinition.getType());
-
-                this.resourceTemplateContextInstance = new ResourceTemplateContext();
-                this.resourceTemplateContextInstance.setResourceType(structureDefinition.getType());
-                this.resourceTemplateContextInstance.setResourceName(GeneratorUtils.getInstance().resolveSpecialCharacters(structureDefinition.getName()));
-                this.resourceTemplateContextInstance.setProfile(resourceDef.getDefinition().getUrl());
-                this.resourceTemplateContextInstance.setIgName(ig.getName());
-                this.resourceTemplateContextInstance.setBaseIgName(structureDefinition.getBaseDefinition());
-
-                ResourceDefinitionAnnotation resourceDefinitionAnnotation = new ResourceDefinitionAnnotation();
-                resourceDefinitionAnnotation.setName(GeneratorUtils.getInstance().resolveSpecialCharacters(structureDefinition.getName()));
-
-                DataTypesRegistry.getInstance().addDataType(GeneratorUtils.getInstance().resolveSpecialCharacters(structureDefinition.getName()));
-                resourceDefinitionAnnotation.setBaseType(CommonUtil.getSplitTokenAt(
-                        structureDefinition.getBaseDefinition(),
-                        ToolConstants.RESOURCE_PATH_SEPERATOR,
-                        ToolConstants.TokenPosition.END)
-                );
-
-                resourceDefinitionAnnotation.setProfile(this.resourceTemplateContextInstance.getProfile());
-                resourceDefinitionAnnotation.setElements(new HashMap<>());
-                this.resourceTemplateContextInstance.setResourceDefinitionAnnotation(resourceDefinitionAnnotation);
-
-                populateElementDefinitionMap(structureDefinition.getSnapshot().getElement());
-                populateSnapshotElementMap(structureDefinition.getSnapshot().getElement());
-                populateDifferentialElementIdsList(structureDefinition.getDifferential().getElement());
-
-                for (Element snapshotElement : this.resourceTemplateContextInstance.getSnapshotElements().values()) {
-                    markExtendedElements(snapshotElement);
-                    populateResourceSliceElementsMap(snapshotElement);
-                    populateResourceElementMap(snapshotElement);
-
-                    Map<String, DataTypeProfile> profiles = snapshotElement.getProfiles();
-                    profiles.keySet().stream()
-                            .flatMap(key -> getToolConfig().getPackageConfig().getDependentIgs().keySet().stream()
-                                    .filter(key::startsWith)
-                                    .map(profile -> getToolConfig().getPackageConfig().getDependentIgs().get(profile)))
-                            .distinct()
-                            .forEach(getDependentIgs()::add);
-                }
-
-                Set<String> resourceDependencies = this.resourceTemplateContextInstance.getResourceDependencies();
-                resourceDependencies.addAll(getDependentIgs());
-                this.resourceTemplateContextInstance.setResourceDependencies(resourceDependencies);
-
-                for (Element resourceElement : this.resourceTemplateContextInstance.getResourceElements().values()) {
-                    populateResourceExtendedElementsMap(resourceElement);
-                    populateResourceElementAnnotationsMap(resourceElement);
-                }
+    protected ResourceContextFragment populateResourceContextFragment(FHIRResourceDef resourceDef,
+                                                                     FHIRImplementationGuide ig) {
+        FHIRR5ResourceDef r5ResourceDef = (FHIRR5ResourceDef) resourceDef;
+        StructureDefinition structureDefinition = (StructureDefinition) resourceDef.getDefinition();
 
-                for (List<Element> slices : this.resourceTemplateContextInstance.getSliceElements().values()) {
-                    for (Element slice : slices) {
-                        populateResourceExtendedElementsMap(slice);
-                    }
-                }
+        if (baseResources.contains(structureDefinition.getType())) {
+            return null;
+        }
+        LOG.debug("Started: Resource Template Context population for profile: " + structureDefinition.getName());
+
+        ResourceTemplateContext context = new ResourceTemplateContext();
+        ResourceContextFragment fragment = new ResourceContextFragment(structureDefinition.getName(),
+                structureDefinition.getType(), context);
+        context.setResourceType(structureDefinition.getType());
+        context.setResourceName(getGeneratorUtils().resolveSpecialCharacters(structureDefinition.getName()));
+        context.setProfile(r5ResourceDef.getDefinition().getUrl());
+        context.setIgName(ig.getName());
+        context.setBaseIgName(structureDefinition.getBaseDefinition());
+
+        ResourceDefinitionAnnotation resourceDefinitionAnnotation = new ResourceDefinitionAnnotation();
+        resourceDefinitionAnnotation.setName(getGeneratorUtils().resolveSpecialCharacters(structureDefinition.getName()));
+
+        fragment.getDataTypes().add(getGeneratorUtils().resolveSpecialCharacters(structureDefinition.getName()));
+        resourceDefinitionAnnotation.setBaseType(CommonUtil.getSplitTokenAt(
+                structureDefinition.getBaseDefinition(),
+                ToolConstants.RESOURCE_PATH_SEPERATOR,
+                ToolConstants.TokenPosition.END)
+        );
+
+        resourceDefinitionAnnotation.setProfile(context.getProfile());
+        resourceDefinitionAnnotation.setElements(new HashMap<>());
+        context.setResourceDefinitionAnnotation(resourceDefinitionAnnotation);
+
+        populateElementDefinitionMap(context, structureDefinition.getSnapshot().getElement());
+        populateSnapshotElementMap(fragment, structureDefinition.getSnapshot().getElement());
+        populateDifferentialElementIds(context, structureDefinition.getDifferential().getElement());
+
+        for (Element snapshotElement : context.getSnapshotElements().values()) {
+            populateSnapshotElement(context, snapshotElement, fragment,
+                    element -> isArrayInBaseDefinition(context, element));
+        }
+        // The element definitions are only looked up while the slices are populated. Release them, so that the
+        // context does not keep the definitions of the profile alive until it gets rendered.
+        context.getSnapshotElementDefinitions().clear();
+        LOG.debug("Ended: Resource Template Context population for profile: " + structureDefinition.getName());
+        return fragment;
+    }
 
-                getResourceTemplateContextMap().put(structureDefinition.getName(), this.resourceTemplateContextInstance);
-            }
+    /**
+     * Build the summary of a single profile
+     *
+     * @param resourceDef resource definition of the profile
+     * @param ig          FHIR implementation guide DTO
+     * @return resource summary fragment, or null for base resources
+     */
+    @Override
+    protected ResourceContextFragment populateResourceSummaryFragment(FHIRResourceDef resourceDef,
+                                                                     FHIRImplementationGuide ig) {
+        StructureDefinition structureDefinition = (StructureDefinition) resourceDef.getDefinition();
+        if (baseResources.contains(structureDefinition.getType())) {
+            return null;
         }
-        LOG.debug("Ended: Resource Template Context population");
+        ResourceTemplateContext summary = new ResourceTemplateContext();
+        summary.setResourceType(structureDefinition.getType());
+        summary.setResourceName(getGeneratorUtils().resolveSpecialCharacters(structureDefinition.getName()));
+        summary.setProfile(structureDefinition.getUrl());
+        summary.setIgName(ig.getName());
+        ResourceContextFragment fragment = new ResourceContextFragment(structureDefinition.getName(),
+                structureDefinition.getType(), summary);
+        fragment.getDataTypes().add(summary.getResourceName());
+        return fragment;
     }
 
-    private void populateElementDefinitionMap(List<ElementDefinition> elementDefinitions) {
+    private void populateElementDefinitionMap(ResourceTemplateContext context, List<ElementDefinition> elementDefinitions) {
         for (ElementDefinition elementDefinition : elementDefinitions) {
             String id = elementDefinition.getId();
             int colonCount = StringUtils.countMatches(id, ":");
@@ -145,16 +147,17 @@ public class R5ResourceContextGenerator extends AbstractResourceContextGenerator
                 // nested slice; ignore processing
                 continue;
             }
-            this.resourceTemplateContextInstance.getSnapshotElementDefinitions().put(id, elementDefinition);
+            context.getSnapshotElementDefinitions().put(id, elementDefinition);
         }
     }
 
     /**
      * Populate resource elements map in a hierarchical way
      *
+     * @param fragment           resource context fragment of the profile being processed
      * @param elementDefinitions FHIR element definition DTO
      */
-    private void populateSnapshotElementMap(List<ElementDefinition> elementDefinitions) {
+    private void populateSnapshotElementMap(ResourceContextFragment fragment, List<ElementDefinition> elementDefinitions) {
         LOG.debug("Started: Snapshot Element Map population");
         elementDefinitions.sort(new Comparator<ElementDefinition>() {
             @Override
@@ -163,57 +166,38 @@ public class R5ResourceContextGenerator extends AbstractResourceContextGenerator
             }
         });
 
-        String elementPath;
-        String[] elementPathTokens;
+        // Index the element definitions by id once, so that a content reference is resolved by a lookup instead of
+        // a search over the snapshot.
+        // The first definition wins on duplicate ids, same as a linear search over the sorted snapshot.
+        Map<String, ElementDefinition> elementDefinitionIndex = new HashMap<>();
+        for (ElementDefinition elementDefinition : elementDefinitions) {
+            elementDefinitionIndex.putIfAbsent(elementDefinition.getId(), elementDefinition);
+        }
+
         HashMap<String, Element> snapshotElementMap = new HashMap<>();
-        boolean isSlice;
         boolean isReferredElement;
-        String sliceNamePattern;
 
         for (ElementDefinition elementDefinition : elementDefinitions) {
-            isSlice = false;
             isReferredElement = false;
-            elementPath = elementDefinition.getPath();
 
             // Adding logic to handle multi datatype element definitions in the
             // format of <RESOURCE>.<field>[x]:<field><Datatype>.<childPath>
             // i.e : MedicationRequest.medication[x]:medicationCodeableConcept.coding
-            String id = elementDefinition.getId();
-            if (id.contains(":")) {
-                if (id.substring(id.indexOf("."), id.lastIndexOf(":")).contains(":")) {
-                    // nested slice; ignore processing
-                    continue;
-                }
-            }
-            if (id.contains("[x]:")) {
-                elementPath = id.replaceAll("\\w+([A-Z]?\\[x]:)", "");
-                if (elementPath.contains(":")) {
-                    elementPath = elementPath.replaceAll("\\w+([A-Z]?:)", "");
-                    String[] pathTokens = elementPath.split("\\.");
-                    sliceNamePattern = ":" + pathTokens[pathTokens.length - 1];
-                    if (id.contains(sliceNamePattern)) {
-                        isSlice = true;
-                    }
-                }
-            } else if (id.contains(":")) {
-                elementPath = id.replaceAll("\\w+([A-Z]?:)", "");
-                String[] pathTokens = elementPath.split("\\.");
-                sliceNamePattern = ":" + pathTokens[pathTokens.length - 1];
-                if (id.endsWith(sliceNamePattern)) {
-                    isSlice = true;
-                }
+            ElementPath elementPath = ElementPath.parse(elementDefinition.getId(), elementDefinition.getPath());
+            if (elementPath.isNestedSlice()) {
+                // nested slice; ignore processing
+                continue;
             }
+            boolean isSlice = elementPath.isSlice();
 
             if (elementDefinition.hasContentReference()) {
                 isReferredElement = true;
                 String contentReference = elementDefinition.getContentReference();
 
                 String referringElementId = contentReference.split("#")[1];
-                List<ElementDefinition.TypeRefComponent> referringElementTypes = elementDefinitions.stream()
-                        .filter(elemDef -> elemDef.getId().equals(referringElementId))
-                        .findFirst()
-                        .map(ElementDefinition::getType)
-                        .orElse(new ArrayList<>());
+                ElementDefinition referringElement = elementDefinitionIndex.get(referringElementId);
+                List<ElementDefinition.TypeRefComponent> referringElementTypes = referringElement != null ?
+                        referringElement.getType() : new ArrayList<>();
 
                 ///  Sets the datatype to be that of the referred element temporarily
                 ///  as without the ElementDefinition.TypeRefComponent, the element path
@@ -221,123 +205,89 @@ public class R5ResourceContextGenerator extends AbstractResourceContextGenerator
                 elementDefinition.setType(referringElementTypes);
             }
 
-            elementPathTokens = elementPath.split("\\.");
-
-            if (elementPathTokens.length > 1) {
+            if (elementPath.getTokenCount() > 1) {
                 String rootElementName;
                 String elementName;
-                String resourceName = elementPathTokens[0];
+                String resourceName = elementPath.getToken(0);
 
-                elementPath = elementPath.substring(resourceName.length() + 1);
-
-                if (elementPath.split("\\.").length > 1) {
+                if (elementPath.getTokenCount() > 2) {
                     Map<String, Element> elementMap = snapshotElementMap;
-
-                    while (elementPath.split("\\.").length > 1) {
-                        elementPathTokens = elementPath.split("\\.");
-                        rootElementName = elementPathTokens[0];
-
+                    ElementPath.Walker walker = elementPath.walker();
+                    while (walker.hasChild()) {
+                        rootElementName = walker.getParentName();
                         if (rootElementName.contains("[x]"))
-                            rootElementName = rootElementName.replace("[x]", elementDefinition.getBase().getPath().split("\\.")[0]);
-
-                        if (elementPathTokens.length == 2) {
-                            elementName = elementPathTokens[1];
+                            rootElementName = rootElementName.replace("[x]",
+                                    ElementPath.getRootToken(elementDefinition.getBase().getPath()));
 
+                        if (walker.isLastStep()) {
+                            elementName = walker.getChildName();
                             if (elementMap.containsKey(rootElementName)) {
                                 Element rootElement = elementMap.get(rootElementName);
-                                List<ElementDefinition.TypeRefComponent> types = elementDefinition.getType();
-                                String tempElement = elementName.split(Pattern.quote("[x]"))[0];
 
+                                List<ElementDefinition.TypeRefComponent> types = elementDefinition.getType();
+                                String tempElement = ElementPath.getChoiceBaseName(elementName);
                                 for (ElementDefinition.TypeRefComponent type : elementDefinition.getType()) {
                                     if (types.size() > 1 || elementName.contains("[x]"))
                                         elementName = tempElement + CommonUtil.toCamelCase(type.getCode());
 
-                                    Element childElement = populateElement(rootElementName, elementName, type, isSlice, isReferredElement, elementDefinition);
+                                    Element childElement = populateElement(fragment, rootElementName, elementName, type, isSlice, isReferredElement, elementDefinition);
                                     if (ToolConstants.DATA_TYPE_EXTENSION.equals(childElement.getDataType()) && !elementName.equals("extension")
                                             && !elementName.equals("modifierExtension")) {
                                         continue;
                                     }
-                                    if (rootElement.getChildElements() != null) {
-                                        if (!rootElement.getChildElements().containsKey(elementName)) {
-                                            rootElement.getChildElements().put(elementName, childElement);
-                                        }
-                                    } else {
-                                        HashMap<String, Element> newChildElements = new HashMap<>();
-                                        newChildElements.put(elementName, childElement);
-                                        rootElement.setChildElements(newChildElements);
-                                    }
+                                    rootElement.addChildElement(elementName, childElement);
                                 }
                             }
                         }
-
-                        if (elementPath.contains("[x]")) {
-                            elementPath = elementPath.replace("[x]", "");
-                        } else {
-                            elementPath = elementPath.substring(rootElementName.length() + 1);
-                        }
+                        walker.advance();
 
                         if (elementMap.containsKey(rootElementName) && elementMap.get(rootElementName).hasChildElements())
                             elementMap = elementMap.get(rootElementName).getChildElements();
                     }
                 } else {
+                    elementName = elementPath.getRelativePath();
                     List<ElementDefinition.TypeRefComponent> types = elementDefinition.getType();
-                    String tempElement = elementPath.split(Pattern.quote("[x]"))[0];
+                    String tempElement = ElementPath.getChoiceBaseName(elementName);
                     for (ElementDefinition.TypeRefComponent type : elementDefinition.getType()) {
-                        if (types.size() > 1 || elementPath.contains("[x]"))
-                            elementPath = tempElement + CommonUtil.toCamelCase(type.getCode());
-                        Element element = populateElement(resourceName, elementPath, type, isSlice, isReferredElement, elementDefinition);
-                        snapshotElementMap.put(elementPath, element);
+                        if (types.size() > 1 || elementName.contains("[x]"))
+                            elementName = tempElement + CommonUtil.toCamelCase(type.getCode());
+                        Element element = populateElement(fragment, resourceName, elementName, type, isSlice, isReferredElement, elementDefinition);
+                        snapshotElementMap.put(elementName, element);
                     }
                 }
             }
         }
-        this.resourceTemplateContextInstance.setSnapshotElements(snapshotElementMap);
+        fragment.getContext().setSnapshotElements(snapshotElementMap);
         LOG.debug("Ended: Snapshot Element Map population");
     }
 
-    private void populateResourceSliceElementsMap(Element element) {
-        LOG.debug("Started: Resource Slice Element Map population");
-        if (ToolConstants.DATA_TYPE_EXTENSION.equals(element.getDataType()) && element.isSlice()) {
-            return;
-        }
-        if (element.hasChildElements()) {
-            for (Map.Entry<String, Element> childEntry : element.getChildElements().entrySet()) {
-                populateResourceSliceElementsMap(childEntry.getValue());
-                if (element.isSlice()) {
-                    ElementDefinition elementDefinition = (ElementDefinition) this.resourceTemplateContextInstance.getSnapshotElementDefinitions().get(childEntry.getValue().getPath());
-                    if (elementDefinition != null && isElementArray(elementDefinition)) {
-                        childEntry.getValue().setArray(true);
-                    }
-                }
-            }
-        }
-
-        if (element.isSlice()) {
-            if (this.resourceTemplateContextInstance.getSliceElements().get(element.getPath()) != null) {
-                this.resourceTemplateContextInstance.getSliceElements().get(element.getPath()).add(element);
-            } else {
-                ArrayList<Element> slices = new ArrayList<>();
-                slices.add(element);
-                this.resourceTemplateContextInstance.getSliceElements().put(element.getPath(), slices);
-            }
-        }
-        LOG.debug("Ended: Resource Slice Element Map population");
+    /**
+     * Check whether a slice child element is an array in the base definition
+     *
+     * @param context resource template context of the profile being processed
+     * @param element child element of a slice
+     * @return is an element array in the base definition or not
+     */
+    private boolean isArrayInBaseDefinition(ResourceTemplateContext context, Element element) {
+        ElementDefinition elementDefinition = (ElementDefinition) context.getSnapshotElementDefinitions().get(element.getPath());
+        return elementDefinition != null && isElementArray(elementDefinition);
     }
 
     /**
      * Create resource element
      *
+     * @param fragment          resource context fragment of the profile being processed
      * @param rootName          element root
      * @param name              element name
      * @param type              element data type
      * @param elementDefinition element definition DTO
      * @return created element object
      */
-    private Element populateElement(String rootName, String name, ElementDefinition.TypeRefComponent type, boolean isSlice, boolean isReferredElement, ElementDefinition elementDefinition) {
+    private Element populateElement(ResourceContextFragment fragment, String rootName, String name, ElementDefinition.TypeRefComponent type, boolean isSlice, boolean isReferredElement, ElementDefinition elementDefinition) {
         LOG.debug("Started: Resource Element population");
 
         Element element = new Element();
-        element.setName(GeneratorUtils.getInstance().resolveSpecialCharacters(name));
+        element.setName(getGeneratorUtils().resolveSpecialCharacters(name));
         element.setRootElementName(rootName);
 
         // Check if the element is a referred element.
@@ -352,20 +302,20 @@ public class R5ResourceContextGenerator extends AbstractResourceContextGenerator
             // Referred an element from international500
 
             String dataType = GeneratorUtils.getReferringElementName(element.getContentReference(), true, "");
-            element.setDataType(GeneratorUtils.getInstance().resolveSpecialCharacters(dataType));
+            element.setDataType(getGeneratorUtils().resolveSpecialCharacters(dataType));
         } else {
-            element.setDataType(GeneratorUtils.getInstance().resolveDataType(getToolConfig(), type.getCode()));
+            element.setDataType(getGeneratorUtils().resolveDataType(getToolConfig(), type.getCode()));
         }
         //Adding profiles of the resource element type
         List<CanonicalType> profiles = type.getProfile();
         if (!profiles.isEmpty()) {
             for (CanonicalType profile : profiles) {
                 String profileType = CommonUtil.getSplitTokenAt(profile.getValue(), "/", ToolConstants.TokenPosition.END);
-                profileType = GeneratorUtils.getInstance().getUniqueIdentifierFromId(profileType);
+                profileType = getGeneratorUtils().getUniqueIdentifierFromId(profileType);
 
                 if (getDatatypeTemplateContextMap().containsKey(profile.getValue())) {
                     element.addProfile(profile.getValue(), profileType);
-                    DataTypesRegistry.getInstance().addDataType(profileType);
+                    fragment.getDataTypes().add(profileType);
                 } else {
                     element.addProfile(profile.getValue(), profileType);
                 }
@@ -426,15 +376,15 @@ public class R5ResourceContextGenerator extends AbstractResourceContextGenerator
         return element;
     }
 
-    private void populateDifferentialElementIdsList(List<ElementDefinition> elementDefinitions) {
+    private void populateDifferentialElementIds(ResourceTemplateContext context, List<ElementDefinition> elementDefinitions) {
         String elementPath;
 
         for (ElementDefinition elementDefinition : elementDefinitions) {
             elementPath = elementDefinition.getPath();
-            String relativePath = elementPath.replace(this.resourceTemplateContextInstance.getResourceType() + ".", "");
+            String relativePath = elementPath.replace(context.getResourceType() + ".", "");
             String[] pathTokens = relativePath.split("\\.");
             if (pathTokens.length > 1) {
-                this.resourceTemplateContextInstance.getDifferentialElementIds().add(pathTokens[0]);
+                context.getDifferentialElementIds().add(pathTokens[0]);
             }
         }
     }
@@ -19,16 +19,17 @@ package org.wso2.healthcare.fhir.ballerina.packagegen.tool.templategen;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.wso2.healthcare.codegen.tool.framework.commons.core.TemplateContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.ToolContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.AbstractFHIRTemplateGenerator;
+import org.wso2.healthcare.codegen.output.OutputSink;
+import org.wso2.healthcare.codegen.output.TemplateRenderContext;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.GenerationSession;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.ToolConstants;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.config.BallerinaPackageGenToolConfig;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.DatatypeTemplateContext;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.PackageTemplateContext;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.CommonUtil;
-import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.GeneratorUtils;
 
 import java.io.File;
 import java.util.Collections;
@@ -49,25 +50,34 @@ public class DatatypeTemplateGenerator extends AbstractFHIRTemplateGenerator {
 
     @Override
     public void generate(ToolContext toolContext, Map<String, Object> generatorProperties) throws CodeGenException {
-        BallerinaPackageGenToolConfig toolConfig = (BallerinaPackageGenToolConfig) generatorProperties.get("toolConfig");
-        String packagePath = this.getTargetDir() + File.separator + toolConfig.getPackageConfig().getName();
-        Map<String, DatatypeTemplateContext> datatypeContexts =
-                (Map<String, DatatypeTemplateContext>)generatorProperties.get("datatypeContext");
-        if (datatypeContexts == null) {
-            throw new CodeGenException("Datatype context is not available.");
+        GenerationSession session = (GenerationSession) generatorProperties.get("session");
+        if (session.getGenerationPlan().isIncremental()) {
+            // Generated from the global inputs, which are unchanged in incremental generation mode.
+            LOG.debug("Datatypes are up to date, skipping generation");
+            return;
         }
-        PackageTemplateContext packageTemplateContext = (PackageTemplateContext) generatorProperties.get("packageContext");
-        List<String> importList = Collections.singletonList(packageTemplateContext.getBasePackageName());
-        TemplateContext templateContext = this.getNewTemplateContext();
-        templateContext.setProperty("util", GeneratorUtils.getInstance());
-        templateContext.setProperty("licenseYear", ToolConstants.LICENSE_YEAR);
-        templateContext.setProperty("datatypeContext", datatypeContexts);
-        templateContext.setProperty("imports", importList);
+        try (GenerationSession.Binding ignored = session.bind()) {
+            BallerinaPackageGenToolConfig toolConfig = (BallerinaPackageGenToolConfig) generatorProperties.get("toolConfig");
+            String packagePath = this.getTargetDir() + File.separator + toolConfig.getPackageConfig().getName();
+            Map<String, DatatypeTemplateContext> datatypeContexts =
+                    (Map<String, DatatypeTemplateContext>)generatorProperties.get("datatypeContext");
+            if (datatypeContexts == null) {
+                throw new CodeGenException("Datatype context is not available.");
+            }
+            PackageTemplateContext packageTemplateContext = (PackageTemplateContext) generatorProperties.get("packageContext");
+            List<String> importList = Collections.singletonList(packageTemplateContext.getBasePackageName());
+            TemplateRenderContext templateContext = new TemplateRenderContext();
+            templateContext.setProperty("util", session.getGeneratorUtils());
+            templateContext.setProperty("licenseYear", ToolConstants.LICENSE_YEAR);
+            templateContext.setProperty("datatypeContext", datatypeContexts);
+            templateContext.setProperty("imports", importList);
 
-        if (!datatypeContexts.isEmpty()) {
-            String filePath = CommonUtil.generateFilePath(packagePath, "", "datatypes.bal");
-            this.getTemplateEngine().generateOutputAsFile(ToolConstants.TEMPLATE_PATH +
-                    ToolConstants.RESOURCE_PATH_SEPERATOR + "fhir_extended_datatypes.vm", templateContext, "", filePath);
+            if (!datatypeContexts.isEmpty()) {
+                String filePath = CommonUtil.generateFilePath(packagePath, "", "datatypes.bal");
+                OutputSink.getOutputSink(generatorProperties).generateOutputAsFile(
+                        ToolConstants.TEMPLATE_PATH +
+                        ToolConstants.RESOURCE_PATH_SEPERATOR + "fhir_extended_datatypes.vm", templateContext, "", filePath);
+            }
         }
     }
 }
@@ -20,10 +20,12 @@ package org.wso2.healthcare.fhir.ballerina.packagegen.tool.templategen;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.wso2.healthcare.codegen.tool.framework.commons.core.TemplateContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.ToolContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.AbstractFHIRTemplateGenerator;
+import org.wso2.healthcare.codegen.output.OutputSink;
+import org.wso2.healthcare.codegen.output.TemplateRenderContext;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.GenerationSession;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.ToolConstants;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.config.BallerinaPackageGenToolConfig;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.ExtensionTemplateContext;
@@ -47,30 +49,39 @@ public class ExtensionTemplateGenerator extends AbstractFHIRTemplateGenerator {
 
     @Override
     public void generate(ToolContext toolContext, Map<String, Object> generatorProperties) throws CodeGenException {
-        BallerinaPackageGenToolConfig toolConfig = (BallerinaPackageGenToolConfig) generatorProperties.get("toolConfig");
-        String packagePath = this.getTargetDir() + File.separator + toolConfig.getPackageConfig().getName();
-
-        ExtensionTemplateContext extensionTemplateContext = (ExtensionTemplateContext) generatorProperties.get("extensionContext");
-        if (extensionTemplateContext == null) {
-            throw new CodeGenException("Extension context is not available.");
+        GenerationSession session = (GenerationSession) generatorProperties.get("session");
+        if (session.getGenerationPlan().isIncremental()) {
+            // Generated from the global inputs, which are unchanged in incremental generation mode.
+            LOG.debug("Extensions are up to date, skipping generation");
+            return;
         }
+        try (GenerationSession.Binding ignored = session.bind()) {
+            BallerinaPackageGenToolConfig toolConfig = (BallerinaPackageGenToolConfig) generatorProperties.get("toolConfig");
+            String packagePath = this.getTargetDir() + File.separator + toolConfig.getPackageConfig().getName();
+
+            ExtensionTemplateContext extensionTemplateContext = (ExtensionTemplateContext) generatorProperties.get("extensionContext");
+            if (extensionTemplateContext == null) {
+                throw new CodeGenException("Extension context is not available.");
+            }
 
-        extensionTemplateContext = GeneratorUtils.sanitizeExtensionTemplateContext(extensionTemplateContext);
+            extensionTemplateContext = GeneratorUtils.sanitizeExtensionTemplateContext(extensionTemplateContext);
 
-        PackageTemplateContext packageTemplateContext = (PackageTemplateContext) generatorProperties.get("packageContext");
-        List<String> importList = Collections.singletonList(packageTemplateContext.getBasePackageName());
-        TemplateContext templateContext = this.getNewTemplateContext();
-        templateContext.setProperty("util", GeneratorUtils.getInstance());
-        templateContext.setProperty("licenseYear", ToolConstants.LICENSE_YEAR);
-        templateContext.setProperty("extensionDataTypeContext", extensionTemplateContext.getExtendedDatatypes());
-        templateContext.setProperty("extensionSliceContext", extensionTemplateContext.getExtendedSlices());
-        templateContext.setProperty("imports", importList);
+            PackageTemplateContext packageTemplateContext = (PackageTemplateContext) generatorProperties.get("packageContext");
+            List<String> importList = Collections.singletonList(packageTemplateContext.getBasePackageName());
+            TemplateRenderContext templateContext = new TemplateRenderContext();
+            templateContext.setProperty("util", session.getGeneratorUtils());
+            templateContext.setProperty("licenseYear", ToolConstants.LICENSE_YEAR);
+            templateContext.setProperty("extensionDataTypeContext", extensionTemplateContext.getExtendedDatatypes());
+            templateContext.setProperty("extensionSliceContext", extensionTemplateContext.getExtendedSlices());
+            templateContext.setProperty("imports", importList);
 
-        if (!extensionTemplateContext.getExtendedDatatypes().isEmpty() ||
-                !extensionTemplateContext.getExtendedResources().isEmpty()) {
-            String filePath = CommonUtil.generateFilePath(packagePath, "", "extensions.bal");
-            this.getTemplateEngine().generateOutputAsFile(ToolConstants.TEMPLATE_PATH +
-                    ToolConstants.RESOURCE_PATH_SEPERATOR + "extensions.vm", templateContext, "", filePath);
+            if (!extensionTemplateContext.getExtendedDatatypes().isEmpty() ||
+                    !extensionTemplateContext.getExtendedResources().isEmpty()) {
+                String filePath = CommonUtil.generateFilePath(packagePath, "", "extensions.bal");
+                OutputSink.getOutputSink(generatorProperties).generateOutputAsFile(
+                        ToolConstants.TEMPLATE_PATH +
+                        ToolConstants.RESOURCE_PATH_SEPERATOR + "extensions.vm", templateContext, "", filePath);
+            }
         }
     }
 }
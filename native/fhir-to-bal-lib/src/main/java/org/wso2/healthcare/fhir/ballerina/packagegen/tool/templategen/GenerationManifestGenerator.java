@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.fhir.ballerina.packagegen.tool.templategen;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.healthcare.codegen.tool.framework.commons.core.ToolContext;
+import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.AbstractFHIRTemplateGenerator;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.GenerationSession;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.IncrementalGenerationPlan;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.config.BallerinaPackageGenToolConfig;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.ManifestUtil;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Writes the generation manifest into the generated package. Runs last in the template generator chain, hence the
+ * manifest is only available for completely generated packages.
+ */
+public class GenerationManifestGenerator extends AbstractFHIRTemplateGenerator {
+
+    private static final Log LOG = LogFactory.getLog(GenerationManifestGenerator.class);
+
+    public GenerationManifestGenerator(String targetDir) throws CodeGenException {
+        super(targetDir);
+        LOG.debug("Generation Manifest Generator Initiated");
+    }
+
+    @Override
+    public void generate(ToolContext toolContext, Map<String, Object> generatorProperties) throws CodeGenException {
+        GenerationSession session = (GenerationSession) generatorProperties.get("session");
+        IncrementalGenerationPlan generationPlan = session.getGenerationPlan();
+        if (!generationPlan.isEnabled()) {
+            return;
+        }
+        LOG.debug("Started: Generation Manifest Generation");
+        BallerinaPackageGenToolConfig toolConfig = (BallerinaPackageGenToolConfig) generatorProperties.get("toolConfig");
+        String packagePath = IncrementalGenerationPlan.getPackagePath(toolConfig);
+        try {
+            generationPlan.recordOutputHashes(packagePath);
+        } catch (IOException e) {
+            throw new CodeGenException("Error occurred while hashing the generated files: " + packagePath, e);
+        }
+        ManifestUtil.writeManifest(packagePath, generationPlan.getManifest());
+        LOG.debug("Ended: Generation Manifest Generation");
+    }
+}
@@ -20,17 +20,20 @@ package org.wso2.healthcare.fhir.ballerina.packagegen.tool.templategen;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.wso2.healthcare.codegen.tool.framework.commons.core.TemplateContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.ToolContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.AbstractFHIRTemplateGenerator;
+import org.wso2.healthcare.codegen.output.GenerationCancelledException;
+import org.wso2.healthcare.codegen.output.OutputSink;
+import org.wso2.healthcare.codegen.output.TemplateRenderContext;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.GenerationSession;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.ToolConstants;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.config.BallerinaPackageGenToolConfig;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.config.DependencyConfig;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.PackageTemplateContext;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.ResourceTemplateContext;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.CommonUtil;
-import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.GeneratorUtils;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.ManifestUtil;
 
 import java.io.Console;
 import java.io.File;
@@ -51,6 +54,8 @@ public class PackageTemplateGenerator extends AbstractFHIRTemplateGenerator {
     private static final Log LOG = LogFactory.getLog(PackageTemplateGenerator.class);
     private final Map<String, Object> packageProperties = new HashMap<>();
     private PackageTemplateContext packageTemplateContext;
+    private GenerationSession session;
+    private OutputSink outputSink;
 
     public PackageTemplateGenerator(String targetDir) throws CodeGenException {
         super(targetDir);
@@ -64,46 +69,59 @@ public class PackageTemplateGenerator extends AbstractFHIRTemplateGenerator {
         ExtensionTemplateGenerator extensionTemplateGenerator = new ExtensionTemplateGenerator(targetDir);
         datatypeTemplateGenerator.setChildTemplateGenerator(extensionTemplateGenerator);
 
+        GenerationManifestGenerator generationManifestGenerator = new GenerationManifestGenerator(targetDir);
+        extensionTemplateGenerator.setChildTemplateGenerator(generationManifestGenerator);
+
         LOG.debug("Package Template Generator Ended");
     }
 
     @Override
     public void generate(ToolContext toolContext, Map<String, Object> generatorProperties) throws CodeGenException {
-        LOG.debug("Started: Package Template Generation");
-        this.packageTemplateContext = (PackageTemplateContext) generatorProperties.get("packageContext");
-        BallerinaPackageGenToolConfig toolConfig = (BallerinaPackageGenToolConfig) generatorProperties.get("toolConfig");
-
-        String packagePath = this.getTargetDir() + File.separator + toolConfig.getPackageConfig().getName();
-        String packageName = toolConfig.getPackageConfig().getName();
-        // Provide option to check and overwrite the existing package
-        Console console = System.console();
-        if (console != null && Files.exists(Paths.get(packagePath))) {
-            String input = console.readLine("Generated package already exists. Do you want to overwrite? (y/n): ");
-            if ("n".equalsIgnoreCase(input)) {
-                System.exit(0);
-            } else if ("y".equalsIgnoreCase(input)) {
-                System.out.println(ToolConstants.PrintStrings.OVERWRITING_EXISTING_PACKAGE);
+        this.session = (GenerationSession) generatorProperties.get("session");
+        this.outputSink = OutputSink.getOutputSink(generatorProperties);
+        try (GenerationSession.Binding ignored = this.session.bind()) {
+            LOG.debug("Started: Package Template Generation");
+            this.packageTemplateContext = (PackageTemplateContext) generatorProperties.get("packageContext");
+            BallerinaPackageGenToolConfig toolConfig = (BallerinaPackageGenToolConfig) generatorProperties.get("toolConfig");
+
+            String packagePath = this.getTargetDir() + File.separator + toolConfig.getPackageConfig().getName();
+            String packageName = toolConfig.getPackageConfig().getName();
+            // Provide option to check and overwrite the existing package
+            Console console = System.console();
+            if (console != null && !toolConfig.isOverwrite() && Files.exists(Paths.get(packagePath))) {
+                String input = console.readLine("Generated package already exists. Do you want to overwrite? (y/n): ");
+                if ("n".equalsIgnoreCase(input)) {
+                    throw new GenerationCancelledException(ToolConstants.PrintStrings.GENERATION_CANCELLED);
+                } else if ("y".equalsIgnoreCase(input)) {
+                    System.out.println(ToolConstants.PrintStrings.OVERWRITING_EXISTING_PACKAGE);
+                } else {
+                    throw new GenerationCancelledException(ToolConstants.PrintStrings.INVALID_INPUT);
+                }
+            }
+            this.packageProperties.put("packagePath", packagePath);
+            this.packageProperties.put("packageName", packageName);
+            this.packageProperties.put("packageIdentifier", packageName.substring(packageName.lastIndexOf(".") + 1));
+
+            generateDefaultPackageStructure();
+            // The manifest is written back only once the whole package is generated, hence an interrupted
+            // generation is not mistaken for a complete one.
+            ManifestUtil.deleteManifest(packagePath);
+            if (this.packageTemplateContext.getBasePackageName() != null) {
+                this.packageProperties.put("isBasePackage", false);
+                String basePackage = this.packageTemplateContext.getBasePackageName();
+                this.packageProperties.put("basePackage", basePackage);
+                String basePackageIdentifier = basePackage.substring(basePackage.lastIndexOf(".") + 1);
+                this.packageProperties.put("basePackageIdentifier", basePackageIdentifier);
+                this.packageProperties.put("importIdentifier", basePackageIdentifier + ":");
+            }
+
+            if (this.session.getGenerationPlan().isIncremental()) {
+                LOG.debug("Package essentials are up to date, skipping generation");
             } else {
-                System.out.println(ToolConstants.PrintStrings.INVALID_INPUT);
-                System.exit(0);
+                generatePackageEssentials(toolConfig);
             }
+            LOG.debug("Ended: Package Template Generation");
         }
-        this.packageProperties.put("packagePath", packagePath);
-        this.packageProperties.put("packageName", packageName);
-        this.packageProperties.put("packageIdentifier", packageName.substring(packageName.lastIndexOf(".") + 1));
-
-        generateDefaultPackageStructure();
-        if (this.packageTemplateContext.getBasePackageName() != null) {
-            this.packageProperties.put("isBasePackage", false);
-            String basePackage = this.packageTemplateContext.getBasePackageName();
-            this.packageProperties.put("basePackage", basePackage);
-            String basePackageIdentifier = basePackage.substring(basePackage.lastIndexOf(".") + 1);
-            this.packageProperties.put("basePackageIdentifier", basePackageIdentifier);
-            this.packageProperties.put("importIdentifier", basePackageIdentifier + ":");
-        }
-
-        generatePackageEssentials(toolConfig);
-        LOG.debug("Ended: Package Template Generation");
     }
 
     /**
@@ -140,23 +158,23 @@ public class PackageTemplateGenerator extends AbstractFHIRTemplateGenerator {
             String filePath = CommonUtil.generateFilePath(packagePath, "Ballerina" + ToolConstants.TOML_EXTENSION, "");
 
             if (toolConfig.getPackageConfig().getFhirVersion().equals("r4")) {
-                this.getTemplateEngine().generateOutputAsFile(
+                this.outputSink.generateOutputAsFile(
                         ToolConstants.TEMPLATE_PATH + ToolConstants.RESOURCE_PATH_SEPERATOR + ToolConstants.TEMPLATE_VERSION_PATH + ToolConstants.RESOURCE_PATH_SEPERATOR + "r4" + ToolConstants.RESOURCE_PATH_SEPERATOR + "r4_ballerina_toml.vm",
                         this.createTemplateContextForBallerinaToml(toolConfig), "", filePath);
             } else if (toolConfig.getPackageConfig().getFhirVersion().equals("r5")) {
-                this.getTemplateEngine().generateOutputAsFile(
+                this.outputSink.generateOutputAsFile(
                         ToolConstants.TEMPLATE_PATH + ToolConstants.RESOURCE_PATH_SEPERATOR + ToolConstants.TEMPLATE_VERSION_PATH + ToolConstants.RESOURCE_PATH_SEPERATOR + "r5" + ToolConstants.RESOURCE_PATH_SEPERATOR + "r5_ballerina_toml.vm",
                         this.createTemplateContextForBallerinaToml(toolConfig), "", filePath);
             }
 
             filePath = CommonUtil.generateFilePath(packagePath, "Package" + ToolConstants.MD_EXTENSION, "");
             if (toolConfig.getPackageConfig().getFhirVersion().equals("r4")) {
-                this.getTemplateEngine().generateOutputAsFile(
+                this.outputSink.generateOutputAsFile(
                         ToolConstants.TEMPLATE_PATH + ToolConstants.RESOURCE_PATH_SEPERATOR + ToolConstants.TEMPLATE_VERSION_PATH + ToolConstants.RESOURCE_PATH_SEPERATOR + "r4" + ToolConstants.RESOURCE_PATH_SEPERATOR + "r4_package.vm",
                         this.createTemplateContextForPackageMD(toolConfig), "", filePath);
 
             } else if (toolConfig.getPackageConfig().getFhirVersion().equals("r5")) {
-                this.getTemplateEngine().generateOutputAsFile(
+                this.outputSink.generateOutputAsFile(
                         ToolConstants.TEMPLATE_PATH + ToolConstants.RESOURCE_PATH_SEPERATOR + ToolConstants.TEMPLATE_VERSION_PATH + ToolConstants.RESOURCE_PATH_SEPERATOR + "r5" + ToolConstants.RESOURCE_PATH_SEPERATOR + "r5_package.vm",
                         this.createTemplateContextForPackageMD(toolConfig), "", filePath);
 
@@ -164,12 +182,12 @@ public class PackageTemplateGenerator extends AbstractFHIRTemplateGenerator {
 
             filePath = CommonUtil.generateFilePath(packagePath, "initializer"
                     + ToolConstants.BAL_EXTENSION, "");
-            this.getTemplateEngine().generateOutputAsFile(ToolConstants.TEMPLATE_PATH + ToolConstants.RESOURCE_PATH_SEPERATOR + "initializer.vm",
+            this.outputSink.generateOutputAsFile(ToolConstants.TEMPLATE_PATH + ToolConstants.RESOURCE_PATH_SEPERATOR + "initializer.vm",
                     this.createTemplateContextForInitializer(), "", filePath);
 
             filePath = CommonUtil.generateFilePath(packagePath, "variables"
                     + ToolConstants.BAL_EXTENSION, "");
-            this.getTemplateEngine().generateOutputAsFile(ToolConstants.TEMPLATE_PATH + ToolConstants.RESOURCE_PATH_SEPERATOR + "variables.vm",
+            this.outputSink.generateOutputAsFile(ToolConstants.TEMPLATE_PATH + ToolConstants.RESOURCE_PATH_SEPERATOR + "variables.vm",
                     this.createTemplateContextForVariables(), "", filePath);
         } catch (CodeGenException e) {
             throw new CodeGenException("Error occurred while generating template artifacts for ballerina package ", e);
@@ -183,9 +201,9 @@ public class PackageTemplateGenerator extends AbstractFHIRTemplateGenerator {
      * @param toolConfig BallerinaPackageGenToolConfig
      * @return velocity template context
      */
-    private TemplateContext createTemplateContextForBallerinaToml(BallerinaPackageGenToolConfig toolConfig) {
+    private TemplateRenderContext createTemplateContextForBallerinaToml(BallerinaPackageGenToolConfig toolConfig) {
         LOG.debug("Started: Ballerina.toml generation");
-        TemplateContext templateContext = this.getNewTemplateContext();
+        TemplateRenderContext templateContext = new TemplateRenderContext();
         templateContext.setProperty("isBasePackage", this.packageProperties.get("isBasePackage"));
         templateContext.setProperty("org", toolConfig.getPackageConfig().getOrg());
         templateContext.setProperty("packageName", this.packageProperties.get("packageName"));
@@ -207,9 +225,9 @@ public class PackageTemplateGenerator extends AbstractFHIRTemplateGenerator {
      *
      * @return velocity template context
      */
-    private TemplateContext createTemplateContextForModuleMD(BallerinaPackageGenToolConfig toolConfig) {
+    private TemplateRenderContext createTemplateContextForModuleMD(BallerinaPackageGenToolConfig toolConfig) {
         LOG.debug("Started: Module.md generation");
-        TemplateContext templateContext = this.getNewTemplateContext();
+        TemplateRenderContext templateContext = new TemplateRenderContext();
         templateContext.setProperty("distribution", toolConfig.getPackageConfig().getBallerinaDistribution());
         templateContext.setProperty("igName", this.packageTemplateContext.getIgTemplateContext().getIgName());
         templateContext.setProperty("packageName", this.packageProperties.get("packageName"));
@@ -224,10 +242,10 @@ public class PackageTemplateGenerator extends AbstractFHIRTemplateGenerator {
      *
      * @return velocity template context
      */
-    private TemplateContext createTemplateContextForPackageMD(BallerinaPackageGenToolConfig toolConfig) {
+    private TemplateRenderContext createTemplateContextForPackageMD(BallerinaPackageGenToolConfig toolConfig) {
         LOG.debug("Started: Package.md generation");
-        TemplateContext templateContext = this.getNewTemplateContext();
-        templateContext.setProperty("newline", GeneratorUtils.getInstance().getNewLine());
+        TemplateRenderContext templateContext = new TemplateRenderContext();
+        templateContext.setProperty("newline", this.session.getGeneratorUtils().getNewLine());
         templateContext.setProperty("packageName", this.packageProperties.get("packageName"));
         templateContext.setProperty("isBasePackage", this.packageProperties.get("isBasePackage"));
         templateContext.setProperty("packageIdentifier", this.packageProperties.get("packageIdentifier"));
@@ -248,11 +266,11 @@ public class PackageTemplateGenerator extends AbstractFHIRTemplateGenerator {
      *
      * @return velocity template context
      */
-    private TemplateContext createTemplateContextForInitializer() {
+    private TemplateRenderContext createTemplateContextForInitializer() {
         LOG.debug("Started: Initializer.bal generation");
-        TemplateContext templateContext = this.getNewTemplateContext();
-        templateContext.setProperty("util", GeneratorUtils.getInstance());
-        templateContext.setProperty("newline", GeneratorUtils.getInstance().getNewLine());
+        TemplateRenderContext templateContext = new TemplateRenderContext();
+        templateContext.setProperty("util", this.session.getGeneratorUtils());
+        templateContext.setProperty("newline", this.session.getGeneratorUtils().getNewLine());
         templateContext.setProperty("igTitle", this.packageTemplateContext.getIgTemplateContext().getTitle());
         templateContext.setProperty("igName", this.packageTemplateContext.getIgTemplateContext().getIgName());
         templateContext.setProperty("igCode", this.packageTemplateContext.getIgTemplateContext().getIgCode());
@@ -276,10 +294,10 @@ public class PackageTemplateGenerator extends AbstractFHIRTemplateGenerator {
      *
      * @return velocity template context
      */
-    private TemplateContext createTemplateContextForVariables() {
+    private TemplateRenderContext createTemplateContextForVariables() {
         LOG.debug("Started: Variables.bal generation");
-        TemplateContext templateContext = this.getNewTemplateContext();
-        templateContext.setProperty("newline", GeneratorUtils.getInstance().getNewLine());
+        TemplateRenderContext templateContext = new TemplateRenderContext();
+        templateContext.setProperty("newline", this.session.getGeneratorUtils().getNewLine());
         templateContext.setProperty("igCode", this.packageTemplateContext.getIgTemplateContext().getIgCode().toUpperCase());
         templateContext.setProperty("isBasePackage", this.packageProperties.get("isBasePackage"));
         templateContext.setProperty("licenseYear", ToolConstants.LICENSE_YEAR);
@@ -20,9 +20,9 @@ package org.wso2.healthcare.fhir.ballerina.packagegen.tool.templategen;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.wso2.healthcare.codegen.tool.framework.commons.core.TemplateContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.ToolContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.GenerationSession;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.ToolConstants;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.config.BallerinaPackageGenToolConfig;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.ExtensionTemplateContext;
@@ -30,9 +30,12 @@ import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.DataTypeProfile;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.Element;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.PackageTemplateContext;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.ResourceTemplateContext;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.ResourceTemplateContextStream;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.CommonUtil;
-import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.GeneratorUtils;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils.ConcurrencyUtil;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.AbstractFHIRTemplateGenerator;
+import org.wso2.healthcare.codegen.output.OutputSink;
+import org.wso2.healthcare.codegen.output.TemplateRenderContext;
 
 import java.io.File;
 import java.util.ArrayList;
@@ -54,6 +57,10 @@ public class ResourceTemplateGenerator extends AbstractFHIRTemplateGenerator {
     private PackageTemplateContext packageTemplateContext;
     private ExtensionTemplateContext extensionTemplateContext;
     private List<ResourceTemplateContext> resourceTemplateContexts;
+    private Set<String> dataTypes;
+    private BallerinaPackageGenToolConfig toolConfig;
+    private GenerationSession session;
+    private OutputSink outputSink;
 
     public ResourceTemplateGenerator(String targetDir) throws CodeGenException {
         super(targetDir);
@@ -62,61 +69,79 @@ public class ResourceTemplateGenerator extends AbstractFHIRTemplateGenerator {
 
     @Override
     public void generate(ToolContext toolContext, Map<String, Object> generatorProperties) throws CodeGenException {
-        LOG.debug("Started: Resource Templates Generation");
-        this.packageTemplateContext = (PackageTemplateContext) generatorProperties.get("packageContext");
-        this.extensionTemplateContext = (ExtensionTemplateContext) generatorProperties.get("extensionContext");
-        BallerinaPackageGenToolConfig toolConfig = (BallerinaPackageGenToolConfig) generatorProperties.get("toolConfig");
-
-        String packagePath = this.getTargetDir() + File.separator + toolConfig.getPackageConfig().getName();
-        this.resourceProperties.put("packagePath", packagePath);
-
-        if (this.packageTemplateContext.getBasePackageName() != null) {
-            this.resourceProperties.put("isBasePackage", false);
-            String basePackage = this.packageTemplateContext.getBasePackageName();
-            String basePackageIdentifier = basePackage.substring(basePackage.lastIndexOf(".") + 1);
-            this.resourceProperties.put("basePackage", basePackage);
-            this.resourceProperties.put("basePackageIdentifier", basePackageIdentifier);
-            this.resourceProperties.put("importIdentifier", basePackageIdentifier + ":");
-        }
+        this.session = (GenerationSession) generatorProperties.get("session");
+        try (GenerationSession.Binding ignored = this.session.bind()) {
+            LOG.debug("Started: Resource Templates Generation");
+            this.packageTemplateContext = (PackageTemplateContext) generatorProperties.get("packageContext");
+            this.extensionTemplateContext = (ExtensionTemplateContext) generatorProperties.get("extensionContext");
+            this.toolConfig = (BallerinaPackageGenToolConfig) generatorProperties.get("toolConfig");
+            this.outputSink = OutputSink.getOutputSink(generatorProperties);
 
-        if (this.packageTemplateContext.getInternationalPackageName() != null) {
-            this.resourceProperties.put("isInternationalPackage", false);
-            String internationalPackage = this.packageTemplateContext.getInternationalPackageName();
-            String internationalPackageIdentifier = internationalPackage.substring(internationalPackage.lastIndexOf(".") + 1);
-            this.resourceProperties.put("internationalPackage", internationalPackage);
-            this.resourceProperties.put("internationalPackageIdentifier", internationalPackageIdentifier);
-            this.resourceProperties.put("internationalImportIdentifier", internationalPackageIdentifier + ":");
-        }
+            String packagePath = this.getTargetDir() + File.separator + toolConfig.getPackageConfig().getName();
+            this.resourceProperties.put("packagePath", packagePath);
 
-        this.resourceTemplateContexts = new ArrayList<>(this.packageTemplateContext.getResourceTemplateContextMap().values());
-        generateFHIRResources();
-        LOG.debug("Ended: Resource Templates Generation");
+            if (this.packageTemplateContext.getBasePackageName() != null) {
+                this.resourceProperties.put("isBasePackage", false);
+                String basePackage = this.packageTemplateContext.getBasePackageName();
+                String basePackageIdentifier = basePackage.substring(basePackage.lastIndexOf(".") + 1);
+                this.resourceProperties.put("basePackage", basePackage);
+                this.resourceProperties.put("basePackageIdentifier", basePackageIdentifier);
+                this.resourceProperties.put("importIdentifier", basePackageIdentifier + ":");
+            }
+
+            if (this.packageTemplateContext.getInternationalPackageName() != null) {
+                this.resourceProperties.put("isInternationalPackage", false);
+                String internationalPackage = this.packageTemplateContext.getInternationalPackageName();
+                String internationalPackageIdentifier = internationalPackage.substring(internationalPackage.lastIndexOf(".") + 1);
+                this.resourceProperties.put("internationalPackage", internationalPackage);
+                this.resourceProperties.put("internationalPackageIdentifier", internationalPackageIdentifier);
+                this.resourceProperties.put("internationalImportIdentifier", internationalPackageIdentifier + ":");
+            }
+
+            ResourceTemplateContextStream resourceContextStream =
+                    this.packageTemplateContext.getResourceTemplateContextStream();
+            if (resourceContextStream != null) {
+                this.dataTypes = resourceContextStream.getDataTypes();
+                streamFHIRResources(resourceContextStream);
+            } else {
+                this.dataTypes = this.packageTemplateContext.getDataTypesRegistry();
+                this.resourceTemplateContexts = new ArrayList<>(
+                        this.packageTemplateContext.getResourceTemplateContextMap().values());
+                generateFHIRResources();
+            }
+            for (String reusedOutputFile : this.session.getGenerationPlan().getReusedOutputFiles()) {
+                this.outputSink.retain(CommonUtil.generateFilePath(packagePath, reusedOutputFile, ""));
+            }
+            // Resource files of profiles which are no longer part of the package
+            this.outputSink.deleteStaleFiles(packagePath, "resource_*" + ToolConstants.BAL_EXTENSION);
+            LOG.debug("Ended: Resource Templates Generation");
+        }
     }
 
     /**
-     * Generate FHIR resources
+     * Generate FHIR resources. Each resource is written to its own file, hence in parallel generation mode the
+     * resources are rendered and written on a bounded worker pool.
      *
      * @throws CodeGenException codeGenException
      */
     private void generateFHIRResources()
             throws CodeGenException {
         LOG.debug("Started: FHIR Resources Generation");
-        try {
-            String packagePath = (String) this.resourceProperties.get("packagePath");
-            for (ResourceTemplateContext resourceTemplateContext : this.resourceTemplateContexts) {
-                if (resourceTemplateContext.getResourceType().equals("Bundle"))
-                    continue;
-
-                Map<String, Set<String>> resourceExtensionsMap = getExtensionContext(resourceTemplateContext);
-                resourceTemplateContext.setResourceExtensions(resourceExtensionsMap);
-
-                String filePath = CommonUtil.generateFilePath(packagePath, "resource_"
-                        + CommonUtil.camelToSnake(resourceTemplateContext.getResourceDefinitionAnnotation().getName())
-                        + ToolConstants.BAL_EXTENSION, "");
+        List<ResourceTemplateContext> generatableContexts = new ArrayList<>();
+        for (ResourceTemplateContext resourceTemplateContext : this.resourceTemplateContexts) {
+            if (!resourceTemplateContext.getResourceType().equals("Bundle")) {
+                generatableContexts.add(resourceTemplateContext);
+            }
+        }
 
-                this.getTemplateEngine().generateOutputAsFile(ToolConstants.TEMPLATE_PATH +
-                        ToolConstants.RESOURCE_PATH_SEPERATOR + "fhir_resource.vm", this.createTemplateContextForResourceSkeletons(
-                        resourceTemplateContext, this.packageTemplateContext), "", filePath);
+        try {
+            if (this.toolConfig.isParallelGeneration() && generatableContexts.size() > 1) {
+                ConcurrencyUtil.executeOrdered(generatableContexts, this.toolConfig.getWorkerCount(),
+                        this::generateFHIRResource);
+            } else {
+                for (ResourceTemplateContext resourceTemplateContext : generatableContexts) {
+                    generateFHIRResource(resourceTemplateContext);
+                }
             }
         } catch (CodeGenException e) {
             throw new CodeGenException("Error occurred while generating template artifacts for fhir resource", e);
@@ -124,17 +149,58 @@ public class ResourceTemplateGenerator extends AbstractFHIRTemplateGenerator {
         LOG.debug("Ended: FHIR Resources Generation");
     }
 
+    /**
+     * Generate FHIR resources in streaming generation mode. Each resource is rendered and written as soon as its
+     * template context is derived, and the context is released before the next one is derived.
+     *
+     * @param resourceContextStream resource template context stream of the IG
+     * @throws CodeGenException codeGenException
+     */
+    private void streamFHIRResources(ResourceTemplateContextStream resourceContextStream) throws CodeGenException {
+        LOG.debug("Started: FHIR Resources Streaming");
+        try {
+            resourceContextStream.forEachContext(resourceTemplateContext -> {
+                if (!resourceTemplateContext.getResourceType().equals("Bundle")) {
+                    generateFHIRResource(resourceTemplateContext);
+                }
+            });
+        } catch (CodeGenException e) {
+            throw new CodeGenException("Error occurred while generating template artifacts for fhir resource", e);
+        }
+        LOG.debug("Ended: FHIR Resources Streaming");
+    }
+
+    /**
+     * Render and write the source file of a single FHIR resource
+     *
+     * @param resourceTemplateContext resource template context
+     * @throws CodeGenException codeGenException
+     */
+    private void generateFHIRResource(ResourceTemplateContext resourceTemplateContext) throws CodeGenException {
+        String packagePath = (String) this.resourceProperties.get("packagePath");
+        Map<String, Set<String>> resourceExtensionsMap = getExtensionContext(resourceTemplateContext);
+        resourceTemplateContext.setResourceExtensions(resourceExtensionsMap);
+
+        String filePath = CommonUtil.generateFilePath(packagePath, "resource_"
+                + CommonUtil.camelToSnake(resourceTemplateContext.getResourceDefinitionAnnotation().getName())
+                + ToolConstants.BAL_EXTENSION, "");
+
+        this.outputSink.generateOutputAsFile(ToolConstants.TEMPLATE_PATH +
+                ToolConstants.RESOURCE_PATH_SEPERATOR + "fhir_resource.vm", this.createTemplateContextForResourceSkeletons(
+                resourceTemplateContext, this.packageTemplateContext), "", filePath);
+    }
+
     /**
      * Creates velocity template contexts for FHIR resources
      *
      * @param resourceTemplateContext resource template context
      * @return velocity template context
      */
-    private TemplateContext createTemplateContextForResourceSkeletons(ResourceTemplateContext resourceTemplateContext,
-                                                                      PackageTemplateContext packageContext) {
-        TemplateContext templateContext = this.getNewTemplateContext();
-        templateContext.setProperty("util", GeneratorUtils.getInstance());
-        templateContext.setProperty("newline", GeneratorUtils.getInstance().getNewLine());
+    private TemplateRenderContext createTemplateContextForResourceSkeletons(ResourceTemplateContext resourceTemplateContext,
+                                                                            PackageTemplateContext packageContext) {
+        TemplateRenderContext templateContext = new TemplateRenderContext();
+        templateContext.setProperty("util", this.session.getGeneratorUtils());
+        templateContext.setProperty("newline", this.session.getGeneratorUtils().getNewLine());
         templateContext.setProperty("licenseYear", ToolConstants.LICENSE_YEAR);
         templateContext.setProperty("resourceType", resourceTemplateContext.getResourceType());
         templateContext.setProperty("resourceName", resourceTemplateContext.getResourceName());
@@ -145,7 +211,7 @@ public class ResourceTemplateGenerator extends AbstractFHIRTemplateGenerator {
         templateContext.setProperty("sliceElements", resourceTemplateContext.getSliceElements());
         templateContext.setProperty("extendedElements", resourceTemplateContext.getExtendedElements());
         templateContext.setProperty("INT_MAX", Integer.MAX_VALUE);
-        templateContext.setProperty("dataTypes", packageContext.getDataTypesRegistry());
+        templateContext.setProperty("dataTypes", this.dataTypes);
         templateContext.setProperty("resourceExtensions", resourceTemplateContext.getResourceExtensions());
 
         templateContext.setProperty("isBasePackage", this.resourceProperties.get("isBasePackage"));
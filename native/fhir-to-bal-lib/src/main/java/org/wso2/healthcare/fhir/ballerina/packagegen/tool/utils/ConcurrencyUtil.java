@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.GenerationSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Concurrency helpers used by the parallel generation mode of Package Gen Tool.
+ */
+public class ConcurrencyUtil {
+
+    private static final Log LOG = LogFactory.getLog(ConcurrencyUtil.class);
+    private static final String WORKER_THREAD_PREFIX = "fhir-packagegen-worker-";
+
+    /**
+     * Resolve the number of workers to be used. Non-positive values fall back to the available processors.
+     *
+     * @param requestedWorkers worker count requested through the config
+     * @return effective worker count
+     */
+    public static int resolveWorkerCount(int requestedWorkers) {
+        return requestedWorkers > 0 ? requestedWorkers : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Apply the given task to every item on a bounded worker pool and return the results in the same order as
+     * the items, so that callers can merge them deterministically. The generation session of the caller is bound to
+     * the workers while the tasks run.
+     *
+     * @param items   items to be processed
+     * @param workers maximum number of concurrent workers
+     * @param task    task to be applied to each item
+     * @param <T>     item type
+     * @param <R>     result type
+     * @return results ordered by the input items
+     */
+    public static <T, R> List<R> mapOrdered(List<T> items, int workers, Function<T, R> task) {
+        LOG.debug("Started: Ordered parallel execution of " + items.size() + " tasks");
+        int poolSize = Math.max(1, Math.min(resolveWorkerCount(workers), items.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize, new WorkerThreadFactory());
+        GenerationSession session = GenerationSession.current();
+        try {
+            List<Future<R>> futures = new ArrayList<>(items.size());
+            for (T item : items) {
+                futures.add(executor.submit(() -> {
+                    try (GenerationSession.Binding ignored = session.bind()) {
+                        return task.apply(item);
+                    }
+                }));
+            }
+            List<R> results = new ArrayList<>(items.size());
+            RuntimeException firstFailure = null;
+            for (Future<R> future : futures) {
+                try {
+                    results.add(awaitResult(future));
+                } catch (RuntimeException e) {
+                    if (firstFailure == null) {
+                        firstFailure = e;
+                    }
+                }
+            }
+            if (firstFailure != null) {
+                throw firstFailure;
+            }
+            LOG.debug("Ended: Ordered parallel execution");
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Execute the given generation task for every item on a bounded worker pool. All the tasks are awaited and the
+     * first failure in item order is rethrown, hence the reported error does not depend on thread scheduling.
+     *
+     * @param items   items to be processed
+     * @param workers maximum number of concurrent workers
+     * @param task    generation task to be executed for each item
+     * @param <T>     item type
+     * @throws CodeGenException if any of the tasks failed
+     */
+    public static <T> void executeOrdered(List<T> items, int workers, GenerationTask<T> task)
+            throws CodeGenException {
+        try {
+            mapOrdered(items, workers, item -> {
+                try {
+                    task.execute(item);
+                } catch (CodeGenException e) {
+                    throw new GenerationTaskException(e);
+                }
+                return null;
+            });
+        } catch (GenerationTaskException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static <R> R awaitResult(Future<R> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a parallel generation task", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("Parallel generation task failed", cause);
+        }
+    }
+
+    /**
+     * Generation task which may fail with a {@link CodeGenException}.
+     *
+     * @param <T> item type
+     */
+    @FunctionalInterface
+    public interface GenerationTask<T> {
+
+        void execute(T item) throws CodeGenException;
+    }
+
+    /**
+     * Carries a {@link CodeGenException} thrown by a generation task across the worker boundary.
+     */
+    private static class GenerationTaskException extends RuntimeException {
+
+        GenerationTaskException(CodeGenException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized CodeGenException getCause() {
+            return (CodeGenException) super.getCause();
+        }
+    }
+
+    /**
+     * Creates daemon worker threads which inherit the context class loader of the caller, so that templates and
+     * framework classes loaded by the tool class loader stay resolvable from the workers.
+     */
+    private static class WorkerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+        private final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, WORKER_THREAD_PREFIX + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(contextClassLoader);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils;
+
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.AnnotationElement;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.Element;
+
+/**
+ * Generator utils available to the extension context generators.
+ * <p>
+ * An extension identifier is derived from the extension id or url alone, hence the extension contexts of an IG are
+ * the same whichever data types are registered before them. Only the utils which do not allocate identifiers against
+ * the data types registry are exposed here, so an extension context generator has no way of allocating one.
+ */
+public class ExtensionGeneratorUtils {
+
+    private final GeneratorUtils generatorUtils;
+
+    public ExtensionGeneratorUtils(GeneratorUtils generatorUtils) {
+        this.generatorUtils = generatorUtils;
+    }
+
+    public String getUniqueIdentifierFromId(String id) {
+        return generatorUtils.getUniqueIdentifierFromId(id);
+    }
+
+    public boolean shouldReplacedByBalType(String dataType) {
+        return generatorUtils.shouldReplacedByBalType(dataType);
+    }
+
+    public String resolveDataType(String fhirDataType) {
+        return generatorUtils.resolveDataType(fhirDataType);
+    }
+
+    public String resolveMultiDataTypeFieldNames(String fieldName, String typeName) {
+        return generatorUtils.resolveMultiDataTypeFieldNames(fieldName, typeName);
+    }
+
+    public AnnotationElement populateAnnotationElement(Element element) {
+        return generatorUtils.populateAnnotationElement(element);
+    }
+}
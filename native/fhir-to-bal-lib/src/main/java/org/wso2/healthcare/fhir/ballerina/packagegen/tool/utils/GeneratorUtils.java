@@ -22,6 +22,7 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.DataTypesRegistry;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.GenerationSession;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.config.BallerinaPackageGenToolConfig;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.AnnotationElement;
 import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.BallerinaDataType;
@@ -33,6 +34,7 @@ import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.DatatypeTemplate
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -40,8 +42,11 @@ import java.util.regex.Pattern;
 
 public class GeneratorUtils {
     private static final Log LOG = LogFactory.getLog(GeneratorUtils.class);
+    private static final Pattern EXPRESSION_SEPARATOR_PATTERN = Pattern.compile(Pattern.quote("|"));
 
     private BallerinaPackageGenToolConfig toolConfig;
+    private final DataTypesRegistry dataTypesRegistry;
+    private final IdentifierAllocator identifierAllocator;
 
     private final ArrayList<String> NON_TYPE_INCLUSION_DATA_TYPES = new ArrayList<>(List.of("Extension"));
 
@@ -51,53 +56,6 @@ public class GeneratorUtils {
         put("url", "urlType");
     }};
 
-    private final HashMap<String, String> SPECIAL_CHARACTERS_MAP = new HashMap<>() {{
-        put("=", "equal");
-        put("!=", "not_equal");
-        put(">", "greater_than");
-        put(">=", "greater_than_or_equal");
-        put("<", "less_than");
-        put("<=", "less_than_or_equal");
-    }};
-
-    // Ballerina Keywords
-    // https://github.com/ballerina-platform/ballerina-lang/blob/v2201.7.0/compiler/ballerina-parser/src/main/java/io/ballerina/compiler/internal/parser/LexerTerminals.java
-    private final HashMap<String, String> KEYWORD_CONFLICTS_MAP = new HashMap<>() {{
-        put("type", "'type");
-        put("source", "'source");
-        put("client", "'client");
-        put("resource", "'resource");
-        put("order", "'order");
-        put("class", "'class");
-        put("version", "'version");
-        put("final", "'final");
-        put("error", "'error");
-        put("parameter", "'parameter");
-        put("start", "'start");
-        put("transaction", "'transaction");
-        put("json", "_json");
-        put("service", "'service");
-        put("function", "'function");
-        put("fail", "'fail");
-        put("in", "'in");
-        put("abstract", "'abstract");
-        put("import", "'import");
-        put("string", "_string");
-        put("from", "'from");
-        put("boolean", "'boolean");
-        put("outer", "'outer");
-        put("never", "'never");
-        put("on", "'on");
-        put("decimal", "'decimal");
-        put("limit", "'limit");
-        put("check", "'check");
-        put("field", "'field");
-        put("map", "'map");
-        put("any", "'any");
-        put("const", "'const");
-        put("object", "'object");
-    }};
-
     private final HashMap<String, HashMap<String, String>> VALUESET_DATA_TYPES = new HashMap<>() {{
         put("ElementDefinition", new HashMap<>() {{
             put("'type", "ElementType");
@@ -157,14 +115,24 @@ public class GeneratorUtils {
         }});
     }};
 
-    private static final GeneratorUtils instance = new GeneratorUtils();
+    public GeneratorUtils(BallerinaPackageGenToolConfig toolConfig, DataTypesRegistry dataTypesRegistry) {
+        this.toolConfig = toolConfig;
+        this.dataTypesRegistry = dataTypesRegistry;
+        this.identifierAllocator = new IdentifierAllocator(toolConfig, dataTypesRegistry);
+    }
 
+    /**
+     * Returns the generator utils of the generation session bound to the current thread.
+     *
+     * @return generator utils
+     */
     public static GeneratorUtils getInstance() {
-        return instance;
+        return GenerationSession.current().getGeneratorUtils();
     }
 
     public void setToolConfig(BallerinaPackageGenToolConfig toolConfig) {
-        instance.toolConfig = toolConfig;
+        this.toolConfig = toolConfig;
+        this.identifierAllocator.setToolConfig(toolConfig);
     }
 
     /**
@@ -178,7 +146,7 @@ public class GeneratorUtils {
     }
 
     public String getTypeWithImport(String dataType) {
-        return DataTypesRegistry.getInstance().containsDataType(dataType) ? dataType : getBasePackageIdentifier() + dataType;
+        return dataTypesRegistry.containsDataType(dataType) ? dataType : getBasePackageIdentifier() + dataType;
     }
 
     public String getBasePackageIdentifier() {
@@ -225,23 +193,25 @@ public class GeneratorUtils {
     public static Map<String, Map<String, SearchParameter>> filterSearchParametersByProfiles(Map<String, Map<String,
             SearchParameter>> searchParameters, List<String> profiles) {
         Map<String, Map<String, SearchParameter>> newSearchParameterMap = new HashMap<>();
+        Set<String> profileSet = new HashSet<>(profiles);
         for (Map.Entry<String, Map<String, SearchParameter>> entryMap : searchParameters.entrySet()) {
             Map<String, SearchParameter> newSearchParameterTypeMap;
             for (Map.Entry<String, SearchParameter> entry : entryMap.getValue().entrySet()) {
                 ArrayList<String> newBases = new ArrayList<>();
                 StringBuilder newExpression = new StringBuilder();
+                // the expression is split once for all the bases of the search parameter
+                String[] expressions = EXPRESSION_SEPARATOR_PATTERN.split(entry.getValue().getExpression());
                 for (String base : entry.getValue().getBase()) {
-                    if (profiles.contains(base)) {
+                    if (profileSet.contains(base)) {
                         newBases.add(base);
                     }
 
-                    for (String expression : entry.getValue().getExpression().split(Pattern.quote("|"))) {
+                    for (String expression : expressions) {
                         if (expression.contains(base)) {
-                            if (!newExpression.toString().isEmpty()) {
-                                newExpression.append(" | ").append(expression);
-                            } else {
-                                newExpression = new StringBuilder(expression);
+                            if (newExpression.length() > 0) {
+                                newExpression.append(" | ");
                             }
+                            newExpression.append(expression);
                         }
                     }
                 }
@@ -379,34 +349,19 @@ public class GeneratorUtils {
             suggestedIdentifier.append(CommonUtil.toCamelCase(token));
         }
 
+        String sanitizedIdentifier;
         if (element.isSlice()) {
             suggestedIdentifier.append(CommonUtil.toCamelCase(element.getName()));
+            sanitizedIdentifier = identifierAllocator.registerIdentifier(suggestedIdentifier.toString());
         } else {
-            int count = 0;
-            StringBuilder newIdentifier = suggestedIdentifier;
-            while (DataTypesRegistry.getInstance().containsDataType(newIdentifier.toString())) {
-                count++;
-                newIdentifier = new StringBuilder(suggestedIdentifier.toString());
-                newIdentifier.append(CommonUtil.toCamelCase(CommonUtil.toWords(count)));
-            }
-            suggestedIdentifier = newIdentifier;
+            sanitizedIdentifier = identifierAllocator.allocateUniqueIdentifier(suggestedIdentifier.toString());
         }
-
-        String sanitizedIdentifier = resolveSpecialCharacters(suggestedIdentifier.toString());
-
-        DataTypesRegistry.getInstance().addDataType(sanitizedIdentifier);
         LOG.debug("Ended: Extended Element Identifier generation");
         return sanitizedIdentifier;
     }
 
     public String getUniqueIdentifierFromId(String id) {
-        id = id.replace("StructureDefinition", "");
-        StringBuilder uniqueIdentifier = new StringBuilder();
-        String[] idTokens = id.split("-");
-        for (String token : idTokens) {
-            uniqueIdentifier.append(StringUtils.capitalize(token));
-        }
-        return StringUtils.capitalize(resolveSpecialCharacters(uniqueIdentifier.toString())).replaceAll("\\d", "");
+        return identifierAllocator.getIdentifierFromId(id);
     }
 
     /**
@@ -416,12 +371,7 @@ public class GeneratorUtils {
      * @return replacement from tool configs
      */
     public String resolveKeywordConflict(String keyword) {
-        if (this.KEYWORD_CONFLICTS_MAP.containsKey(keyword)) {
-            return this.KEYWORD_CONFLICTS_MAP.get(keyword);
-        } else if (this.toolConfig.getBallerinaKeywordConfig().containsKey(keyword)) {
-            return this.toolConfig.getBallerinaKeywordConfig().get(keyword).getReplace();
-        }
-        return keyword;
+        return identifierAllocator.resolveKeywordConflict(keyword);
     }
 
     public String resolveMultiDataTypeFieldNames(String fieldName, String typeName) {
@@ -439,12 +389,7 @@ public class GeneratorUtils {
      * @return preferred string replacement
      */
     public String resolveSpecialCharacters(String specialChar) {
-        if (SPECIAL_CHARACTERS_MAP.containsKey(specialChar))
-            return SPECIAL_CHARACTERS_MAP.get(specialChar);
-        return specialChar.replaceAll(Pattern.quote("[x]"), "")
-                .replaceAll(Pattern.quote("/"), "")
-                .replaceAll("-", "_")
-                .replaceAll("\\s+", "");
+        return identifierAllocator.sanitize(specialChar);
     }
 
     /**
@@ -629,39 +574,6 @@ public class GeneratorUtils {
         return referringElementName;
     }
 
-    /**
-     * Recursively checks if an element or any of its child elements refer to an international specification.
-     *
-     * @param element The element to check.
-     * @return true if the element or any of its child elements refer to an international specification,
-     * false otherwise.
-     */
-    public static boolean checkForInternationalImports(Element element) {
-        if (element == null) {
-            return false;
-        }
-
-        // Check current element's content reference
-        if (element.getContentReference() != null &&
-                GeneratorUtils.isReferredFromInternational(element.getContentReference())) {
-            return true;
-        }
-
-        // Base case - no child elements
-        if (!element.hasChildElements()) {
-            return false;
-        }
-
-        // Recursively check all child elements
-        for (Element childElement : element.getChildElements().values()) {
-            if (checkForInternationalImports(childElement)) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
     /**
      * Remove duplicate datatypes and slices from the extension context.
      * The edge case was first detected by the davincipas profile.
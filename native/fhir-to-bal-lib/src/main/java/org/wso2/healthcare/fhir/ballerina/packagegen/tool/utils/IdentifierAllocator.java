@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.DataTypesRegistry;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.config.BallerinaKeywordConfig;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.config.BallerinaPackageGenToolConfig;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Allocates the Ballerina identifiers of a generation session.
+ * <p>
+ * Unique identifiers are allocated against the data types registry of the session. A name collision is resolved by
+ * suffixing the suggested identifier with the next free count in words, e.g. {@code USCorePatientContact},
+ * {@code USCorePatientContactOne}, {@code USCorePatientContactTwo}. The last count of each suggested identifier is
+ * kept, hence an allocation does not probe the identifiers allocated before it. Sanitized identifiers and the
+ * identifiers derived from ids are memoized.
+ */
+public class IdentifierAllocator {
+
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+    private static final Pattern DIGIT_PATTERN = Pattern.compile("\\d");
+
+    private static final Map<String, String> SPECIAL_CHARACTERS_MAP = new HashMap<>() {{
+        put("=", "equal");
+        put("!=", "not_equal");
+        put(">", "greater_than");
+        put(">=", "greater_than_or_equal");
+        put("<", "less_than");
+        put("<=", "less_than_or_equal");
+    }};
+
+    // Ballerina Keywords
+    // https://github.com/ballerina-platform/ballerina-lang/blob/v2201.7.0/compiler/ballerina-parser/src/main/java/io/ballerina/compiler/internal/parser/LexerTerminals.java
+    private static final Map<String, String> KEYWORD_CONFLICTS_MAP = new HashMap<>() {{
+        put("type", "'type");
+        put("source", "'source");
+        put("client", "'client");
+        put("resource", "'resource");
+        put("order", "'order");
+        put("class", "'class");
+        put("version", "'version");
+        put("final", "'final");
+        put("error", "'error");
+        put("parameter", "'parameter");
+        put("start", "'start");
+        put("transaction", "'transaction");
+        put("json", "_json");
+        put("service", "'service");
+        put("function", "'function");
+        put("fail", "'fail");
+        put("in", "'in");
+        put("abstract", "'abstract");
+        put("import", "'import");
+        put("string", "_string");
+        put("from", "'from");
+        put("boolean", "'boolean");
+        put("outer", "'outer");
+        put("never", "'never");
+        put("on", "'on");
+        put("decimal", "'decimal");
+        put("limit", "'limit");
+        put("check", "'check");
+        put("field", "'field");
+        put("map", "'map");
+        put("any", "'any");
+        put("const", "'const");
+        put("object", "'object");
+    }};
+
+    private final DataTypesRegistry dataTypesRegistry;
+    private volatile BallerinaPackageGenToolConfig toolConfig;
+    // keyword conflicts together with the config overrides, built on the first lookup
+    private volatile Map<String, String> keywordConflicts;
+    private final Map<String, String> sanitizedIdentifiers = new ConcurrentHashMap<>();
+    private final Map<String, String> idIdentifiers = new ConcurrentHashMap<>();
+
+    // guarded by the data types registry
+    private final Map<String, Integer> identifierCounts = new HashMap<>();
+    private final List<String> countSuffixes = new ArrayList<>();
+    private int registryRemovalCount;
+
+    public IdentifierAllocator(BallerinaPackageGenToolConfig toolConfig, DataTypesRegistry dataTypesRegistry) {
+        this.toolConfig = toolConfig;
+        this.dataTypesRegistry = dataTypesRegistry;
+    }
+
+    public void setToolConfig(BallerinaPackageGenToolConfig toolConfig) {
+        this.toolConfig = toolConfig;
+        this.keywordConflicts = null;
+    }
+
+    /**
+     * Allocate a unique identifier for the suggested identifier and register the sanitized identifier as a data type.
+     *
+     * @param suggestedIdentifier suggested identifier
+     * @return sanitized unique identifier
+     */
+    public String allocateUniqueIdentifier(String suggestedIdentifier) {
+        // The identifier is allocated based on the registered data types, hence allocating and registering it must
+        // not interleave with another allocation of the same session.
+        synchronized (dataTypesRegistry) {
+            if (registryRemovalCount != dataTypesRegistry.getRemovalCount()) {
+                // a removed data type may free a count allocated before
+                identifierCounts.clear();
+                registryRemovalCount = dataTypesRegistry.getRemovalCount();
+            }
+            int count = identifierCounts.getOrDefault(suggestedIdentifier, 0);
+            String identifier = getCountedIdentifier(suggestedIdentifier, count);
+            while (dataTypesRegistry.containsDataType(identifier)) {
+                count++;
+                identifier = getCountedIdentifier(suggestedIdentifier, count);
+            }
+            identifierCounts.put(suggestedIdentifier, count);
+
+            String sanitizedIdentifier = sanitize(identifier);
+            dataTypesRegistry.addDataType(sanitizedIdentifier);
+            return sanitizedIdentifier;
+        }
+    }
+
+    /**
+     * Register the sanitized form of the given identifier as a data type, without resolving name collisions.
+     *
+     * @param identifier identifier
+     * @return sanitized identifier
+     */
+    public String registerIdentifier(String identifier) {
+        String sanitizedIdentifier = sanitize(identifier);
+        dataTypesRegistry.addDataType(sanitizedIdentifier);
+        return sanitizedIdentifier;
+    }
+
+    /**
+     * Resolve the special characters of an identifier.
+     *
+     * @param identifier identifier
+     * @return sanitized identifier
+     */
+    public String sanitize(String identifier) {
+        String sanitizedIdentifier = sanitizedIdentifiers.get(identifier);
+        if (sanitizedIdentifier == null) {
+            sanitizedIdentifier = SPECIAL_CHARACTERS_MAP.containsKey(identifier) ?
+                    SPECIAL_CHARACTERS_MAP.get(identifier) :
+                    WHITESPACE_PATTERN.matcher(identifier.replace("[x]", "")
+                            .replace("/", "")
+                            .replace("-", "_")).replaceAll("");
+            sanitizedIdentifiers.put(identifier, sanitizedIdentifier);
+        }
+        return sanitizedIdentifier;
+    }
+
+    /**
+     * Derive the identifier of a structure definition from its id, e.g. {@code us-core-blood-pressure} as
+     * {@code UsCoreBloodPressure}.
+     *
+     * @param id structure definition id
+     * @return identifier
+     */
+    public String getIdentifierFromId(String id) {
+        String identifier = idIdentifiers.get(id);
+        if (identifier == null) {
+            StringBuilder uniqueIdentifier = new StringBuilder();
+            for (String token : id.replace("StructureDefinition", "").split("-")) {
+                uniqueIdentifier.append(StringUtils.capitalize(token));
+            }
+            identifier = DIGIT_PATTERN.matcher(StringUtils.capitalize(sanitize(uniqueIdentifier.toString())))
+                    .replaceAll("");
+            idIdentifiers.put(id, identifier);
+        }
+        return identifier;
+    }
+
+    /**
+     * Resolve keyword conflicts of Ballerina
+     *
+     * @param keyword Ballerina keyword causes the conflict
+     * @return replacement from tool configs
+     */
+    public String resolveKeywordConflict(String keyword) {
+        Map<String, String> conflicts = keywordConflicts;
+        if (conflicts == null) {
+            conflicts = new HashMap<>();
+            if (toolConfig != null) {
+                for (Map.Entry<String, BallerinaKeywordConfig> entry :
+                        toolConfig.getBallerinaKeywordConfig().entrySet()) {
+                    conflicts.put(entry.getKey(), entry.getValue().getReplace());
+                }
+            }
+            // the built-in replacements take precedence over the config
+            conflicts.putAll(KEYWORD_CONFLICTS_MAP);
+            keywordConflicts = conflicts;
+        }
+        return conflicts.getOrDefault(keyword, keyword);
+    }
+
+    private String getCountedIdentifier(String suggestedIdentifier, int count) {
+        if (count == 0) {
+            return suggestedIdentifier;
+        }
+        while (countSuffixes.size() < count) {
+            countSuffixes.add(CommonUtil.toCamelCase(CommonUtil.toWords(countSuffixes.size() + 1)));
+        }
+        return suggestedIdentifier + countSuffixes.get(count - 1);
+    }
+}
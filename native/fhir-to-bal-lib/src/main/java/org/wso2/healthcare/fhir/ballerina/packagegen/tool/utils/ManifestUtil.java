@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.fhir.ballerina.packagegen.tool.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.BallerinaPackageGenTool;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.ToolConstants;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.config.BallerinaPackageGenToolConfig;
+import org.wso2.healthcare.fhir.ballerina.packagegen.tool.model.GenerationManifest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Utility functions to hash the generation inputs and to read/write the generation manifest.
+ */
+public class ManifestUtil {
+
+    private static final Log LOG = LogFactory.getLog(ManifestUtil.class);
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+    // class and resource directories of the tool, hashed when the tool is not loaded from an archive
+    private static final String[] TOOL_CLASS_DIRECTORIES = {"org/wso2/healthcare/fhir/ballerina/packagegen",
+            "templates", "core-contexts"};
+    private static volatile String toolVersion;
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " digest is not available", e);
+        }
+    }
+
+    /**
+     * Add a value to the digest. Values are terminated, hence consecutive values cannot be confused with each other.
+     *
+     * @param digest digest to be updated
+     * @param value  value to be added, may be null
+     */
+    public static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) 0);
+    }
+
+    public static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX_CHARS[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX_CHARS[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    public static String hash(String value) {
+        MessageDigest digest = newDigest();
+        update(digest, value);
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Hash of the configs which affect the generated sources. Concurrency related configs are not included since
+     * they do not change the output.
+     *
+     * @param toolConfig tool config
+     * @return config hash
+     */
+    public static String getConfigHash(BallerinaPackageGenToolConfig toolConfig) {
+        MessageDigest digest = newDigest();
+        update(digest, GSON.toJson(toolConfig.getPackageConfig()));
+        update(digest, GSON.toJson(new TreeMap<>(toolConfig.getIncludedIGConfigs())));
+        update(digest, GSON.toJson(new TreeMap<>(toolConfig.getDataTypeMappingConfigs())));
+        update(digest, GSON.toJson(new TreeMap<>(toolConfig.getBallerinaKeywordConfig())));
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Version of the tool. Falls back to the hash of the tool archive when the archive does not carry a version.
+     * When the tool is loaded from a class directory, e.g. in the tests, the classes and resources of the tool are
+     * hashed instead. Null disables incremental generation.
+     *
+     * @return tool version
+     */
+    public static String getToolVersion() {
+        if (toolVersion == null) {
+            toolVersion = resolveToolVersion();
+        }
+        return toolVersion;
+    }
+
+    private static String resolveToolVersion() {
+        String implementationVersion = BallerinaPackageGenTool.class.getPackage().getImplementationVersion();
+        CodeSource codeSource = BallerinaPackageGenTool.class.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return implementationVersion;
+        }
+        try {
+            Path archivePath = Paths.get(codeSource.getLocation().toURI());
+            if (Files.isDirectory(archivePath)) {
+                return hashClassDirectory(archivePath, implementationVersion);
+            }
+            if (!Files.isRegularFile(archivePath)) {
+                return implementationVersion;
+            }
+            MessageDigest digest = newDigest();
+            update(digest, implementationVersion);
+            try (InputStream inputStream = Files.newInputStream(archivePath)) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+            return toHex(digest.digest());
+        } catch (URISyntaxException | IOException | IllegalArgumentException e) {
+            LOG.debug("Unable to hash the tool archive", e);
+            return implementationVersion;
+        }
+    }
+
+    private static String hashClassDirectory(Path classDirectory, String implementationVersion) throws IOException {
+        MessageDigest digest = newDigest();
+        update(digest, implementationVersion);
+        for (String toolDirectory : TOOL_CLASS_DIRECTORIES) {
+            Path directory = classDirectory.resolve(toolDirectory);
+            if (!Files.isDirectory(directory)) {
+                continue;
+            }
+            List<Path> files;
+            try (Stream<Path> paths = Files.walk(directory)) {
+                files = paths.filter(Files::isRegularFile).sorted().toList();
+            }
+            for (Path file : files) {
+                update(digest, classDirectory.relativize(file).toString().replace('\\', '/'));
+                digest.update(Files.readAllBytes(file));
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Hash of the content of a file.
+     *
+     * @param filePath file path
+     * @return content hash
+     * @throws IOException if the file cannot be read
+     */
+    public static String hashFile(Path filePath) throws IOException {
+        MessageDigest digest = newDigest();
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    public static Path getManifestPath(String packagePath) {
+        return Paths.get(packagePath, ToolConstants.GENERATION_MANIFEST_FILE);
+    }
+
+    /**
+     * Read the generation manifest of the package.
+     *
+     * @param packagePath generated package path
+     * @return generation manifest, or null if the package does not have a readable manifest
+     */
+    public static GenerationManifest readManifest(String packagePath) {
+        Path manifestPath = getManifestPath(packagePath);
+        if (!Files.isRegularFile(manifestPath)) {
+            return null;
+        }
+        try (Reader reader = Files.newBufferedReader(manifestPath, StandardCharsets.UTF_8)) {
+            return GSON.fromJson(reader, GenerationManifest.class);
+        } catch (IOException | JsonParseException e) {
+            LOG.warn("Ignoring the unreadable generation manifest: " + manifestPath, e);
+            return null;
+        }
+    }
+
+    public static void writeManifest(String packagePath, GenerationManifest manifest) throws CodeGenException {
+        Path manifestPath = getManifestPath(packagePath);
+        try (Writer writer = Files.newBufferedWriter(manifestPath, StandardCharsets.UTF_8)) {
+            GSON.toJson(manifest, writer);
+        } catch (IOException e) {
+            throw new CodeGenException("Error occurred while writing the generation manifest: " + manifestPath, e);
+        }
+    }
+
+    public static void deleteManifest(String packagePath) throws CodeGenException {
+        Path manifestPath = getManifestPath(packagePath);
+        try {
+            Files.deleteIfExists(manifestPath);
+        } catch (IOException e) {
+            throw new CodeGenException("Error occurred while deleting the generation manifest: " + manifestPath, e);
+        }
+    }
+}
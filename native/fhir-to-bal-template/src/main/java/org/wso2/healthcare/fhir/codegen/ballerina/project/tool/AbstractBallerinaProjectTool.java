@@ -18,6 +18,10 @@
 
 package org.wso2.healthcare.fhir.codegen.ballerina.project.tool;
 
+import org.wso2.healthcare.codegen.output.OutputSink;
+import org.wso2.healthcare.codegen.profile.GenerationProfiler;
+import org.wso2.healthcare.codegen.profile.ProfilerAware;
+import org.wso2.healthcare.codegen.scope.ServiceScope;
 import org.wso2.healthcare.codegen.tool.framework.commons.config.ToolConfig;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.TemplateGenerator;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.ToolContext;
@@ -38,23 +42,27 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.List;
 import java.util.ArrayList;
-import java.util.Arrays;
 
-public abstract class AbstractBallerinaProjectTool extends AbstractFHIRTool {
+public abstract class AbstractBallerinaProjectTool extends AbstractFHIRTool implements ProfilerAware {
     private final Map<String, FHIRImplementationGuide> igMap = new HashMap<>();
     private final Map<String, BallerinaService> serviceMap = new HashMap<>();
     private final Map<String, AggregatedService> aggregatedServiceMap = new HashMap<>();
     private final Map<String, String> dependenciesMap = new HashMap<>();
 
-    private final List<String> EXCLUDED_FHIR_APIS = new ArrayList<>(Arrays.asList("Bundle",
-            "CodeSystem", "DomainResource", "OperationOutcome", "Resource", "ValueSet"));
+    private final List<String> EXCLUDED_FHIR_APIS = new ArrayList<>(ServiceScope.EXCLUDED_RESOURCE_TYPES);
     private BallerinaProjectToolConfig ballerinaProjectToolConfig;
+    private GenerationProfiler profiler = GenerationProfiler.disabled();
 
     @Override
     public void initialize(ToolConfig toolConfig) throws CodeGenException {
         this.ballerinaProjectToolConfig = (BallerinaProjectToolConfig) toolConfig;
     }
 
+    @Override
+    public void setProfiler(GenerationProfiler profiler) {
+        this.profiler = profiler;
+    }
+
     protected BallerinaProjectToolConfig getBallerinaProjectToolConfig() {
         return ballerinaProjectToolConfig;
     }
@@ -78,17 +86,20 @@ public abstract class AbstractBallerinaProjectTool extends AbstractFHIRTool {
     @Override
     public TemplateGenerator execute(ToolContext toolContext) throws CodeGenException {
         if (getBallerinaProjectToolConfig().isEnabled()) {
-            populateIGs(toolContext);
-            populateDependenciesMap();
-            populateBalService();
+            try (GenerationProfiler.Phase phase = profiler.start(GenerationProfiler.PHASE_SERVICE_CONTEXT)) {
+                populateIGs(toolContext);
+                populateDependenciesMap();
+                populateBalService();
 
-            if (getServiceMap().isEmpty()) {
-                throw new CodeGenException("No services found to generate");
-            }
+                if (getServiceMap().isEmpty()) {
+                    throw new CodeGenException("No services found to generate");
+                }
 
-            // Handle aggregated API generation if enabled
-            if (ballerinaProjectToolConfig.isEnableAggregatedApi()) {
-                populateAggregatedServices();
+                // Handle aggregated API generation if enabled
+                if (ballerinaProjectToolConfig.isEnableAggregatedApi()) {
+                    populateAggregatedServices();
+                }
+                phase.addItems(getServiceMap().size());
             }
 
             String targetRoot = getBallerinaProjectToolConfig().getTargetDir();
@@ -99,6 +110,8 @@ public abstract class AbstractBallerinaProjectTool extends AbstractFHIRTool {
             generatorProperties.put("serviceMap", getServiceMap());
             generatorProperties.put("aggregatedServiceMap", aggregatedServiceMap);
             generatorProperties.put("dependenciesMap", getDependenciesMap());
+            generatorProperties.put(OutputSink.PROPERTY_NAME, new OutputSink(profiler));
+            generatorProperties.put(GenerationProfiler.PROPERTY_NAME, profiler);
             balProjectGenerator.setGeneratorProperties(generatorProperties);
             return balProjectGenerator;
         }
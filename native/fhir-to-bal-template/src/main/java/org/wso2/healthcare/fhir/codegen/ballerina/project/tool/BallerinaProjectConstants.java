@@ -37,6 +37,7 @@ public class BallerinaProjectConstants {
         public static final String INVALID_PROFILE = "[WARN] Invalid FHIR profile: ";
 
         public static final String INVALID_INPUT = "[ERROR] Invalid input. Exiting the tool.";
+        public static final String GENERATION_CANCELLED = "[INFO] Generation cancelled, the existing templates are kept.";
     }
 
     public static final String OAS_DEF_DIR_NAME = "oas";
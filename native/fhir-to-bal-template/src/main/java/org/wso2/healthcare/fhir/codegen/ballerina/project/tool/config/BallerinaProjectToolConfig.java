@@ -53,6 +53,9 @@ public class BallerinaProjectToolConfig extends AbstractToolConfig {
     private boolean enableAggregatedApi;
     private List<String> aggregatedApis;
     private boolean minimalGeneration;
+    private boolean parallelGeneration;
+    private int workerCount;
+    private boolean overwrite;
 
     public BallerinaProjectToolConfig() {
         this.aggregatedApis = new ArrayList<>();
@@ -84,6 +87,13 @@ public class BallerinaProjectToolConfig extends AbstractToolConfig {
                 this.minimalGeneration = jsonConfigObj
                         .getAsJsonPrimitive("minimalGeneration").getAsBoolean();
             }
+            if (jsonConfigObj.getAsJsonPrimitive("parallelGeneration") != null) {
+                this.parallelGeneration = jsonConfigObj
+                        .getAsJsonPrimitive("parallelGeneration").getAsBoolean();
+            }
+            if (jsonConfigObj.getAsJsonPrimitive("workerCount") != null) {
+                this.workerCount = jsonConfigObj.getAsJsonPrimitive("workerCount").getAsInt();
+            }
             if (jsonConfigObj.getAsJsonArray("aggregatedApis") != null) {
                 populateAggregatedApis(jsonConfigObj.getAsJsonArray("aggregatedApis"));
             }
@@ -120,6 +130,15 @@ public class BallerinaProjectToolConfig extends AbstractToolConfig {
             case "project.minimalGeneration":
                 this.minimalGeneration = value.getAsBoolean();
                 break;
+            case "project.parallelGeneration":
+                this.parallelGeneration = value.getAsBoolean();
+                break;
+            case "project.workerCount":
+                this.workerCount = value.getAsInt();
+                break;
+            case "project.overwrite":
+                this.overwrite = value.getAsBoolean();
+                break;
             case "project.aggregatedApis":
                 this.aggregatedApis.clear();
                 if (value.isJsonArray()) {
@@ -234,4 +253,32 @@ public class BallerinaProjectToolConfig extends AbstractToolConfig {
     }
 
     public boolean isMinimalGeneration() { return minimalGeneration;}
+
+    /**
+     * Whether the services of the resource types should be generated concurrently.
+     *
+     * @return true if parallel generation is enabled
+     */
+    public boolean isParallelGeneration() {
+        return parallelGeneration;
+    }
+
+    /**
+     * Maximum number of services generated concurrently in parallel generation mode. A non-positive value means the
+     * number of available processors will be used.
+     *
+     * @return configured worker count
+     */
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    /**
+     * Whether existing templates are overwritten without prompting.
+     *
+     * @return true if the existing templates are overwritten
+     */
+    public boolean isOverwrite() {
+        return overwrite;
+    }
 }
@@ -21,6 +21,8 @@ package org.wso2.healthcare.fhir.codegen.ballerina.project.tool.generator;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.ToolContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.AbstractFHIRTemplateGenerator;
+import org.wso2.healthcare.codegen.output.GenerationCancelledException;
+import org.wso2.healthcare.codegen.output.OutputSink;
 import org.wso2.healthcare.fhir.codegen.ballerina.project.tool.BallerinaProjectConstants;
 import org.wso2.healthcare.fhir.codegen.ballerina.project.tool.config.BallerinaProjectToolConfig;
 import org.wso2.healthcare.fhir.codegen.ballerina.project.tool.model.AggregatedService;
@@ -29,10 +31,17 @@ import org.wso2.healthcare.fhir.codegen.ballerina.project.tool.model.BallerinaSe
 import java.io.Console;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 /**
  * Generator class to wrap all the generator classes in Ballerina project generator.
@@ -50,31 +59,33 @@ public class BallerinaProjectGenerator extends AbstractFHIRTemplateGenerator {
         Map<String, BallerinaService> serviceMap = (Map<String, BallerinaService>) generatorProperties.get("serviceMap");
         Map<String, AggregatedService> aggregatedServiceMap = (Map<String, AggregatedService>) generatorProperties.get("aggregatedServiceMap");
         Map<String, String> dependenciesMap = (Map<String, String>) generatorProperties.get("dependenciesMap");
+        OutputSink outputSink = OutputSink.getOutputSink(generatorProperties);
         //evaluate usage of ? typed map as generator properties.
 
         String packagePath = this.getTargetDir();
         // Provide option to check and overwrite the existing package
         Console console = System.console();
-        if (console != null && Files.exists(Paths.get(packagePath))) {
+        if (console != null && !ballerinaProjectToolConfig.isOverwrite() && Files.exists(Paths.get(packagePath))) {
             String input = console.readLine("Generated templates already exists. Do you want to overwrite? (y/n): ");
             if ("n".equalsIgnoreCase(input)) {
-                System.exit(0);
+                throw new GenerationCancelledException(BallerinaProjectConstants.PrintStrings.GENERATION_CANCELLED);
             } else if ("y".equalsIgnoreCase(input)) {
                 System.out.println(BallerinaProjectConstants.PrintStrings.OVERWRITING_EXISTING_TEMPLATES);
             } else {
-                System.out.println(BallerinaProjectConstants.PrintStrings.INVALID_INPUT);
-                System.exit(0);
+                throw new GenerationCancelledException(BallerinaProjectConstants.PrintStrings.INVALID_INPUT);
             }
         }
 
         // Generate individual services if aggregated API is not enabled
         if (!ballerinaProjectToolConfig.isEnableAggregatedApi()) {
+            List<Map<String, Object>> servicePropertiesList = new ArrayList<>();
             for (Map.Entry<String, BallerinaService> entry : serviceMap.entrySet()) {
                 Map<String, Object> projectProperties = new HashMap<>();
                 projectProperties.put("service", entry.getValue());
                 projectProperties.put("resourceType", entry.getKey());
                 projectProperties.put("config", ballerinaProjectToolConfig);
                 projectProperties.put("dependencies", dependenciesMap);
+                projectProperties.put(OutputSink.PROPERTY_NAME, outputSink);
 
                 String basePackage = dependenciesMap.get("basePackage");
                 String servicePackage = dependenciesMap.get("servicePackage");
@@ -85,21 +96,18 @@ public class BallerinaProjectGenerator extends AbstractFHIRTemplateGenerator {
                 projectProperties.put("igPackageImportIdentifier", igPackage.substring(igPackage.lastIndexOf(".") + 1));
                 projectProperties.put("dependentPackageImportIdentifier", dependentPackage.substring(dependentPackage.lastIndexOf(".") + 1));
                 projectProperties.put("projectAPIPath", this.getTargetDir() + entry.getKey().toLowerCase());
+                servicePropertiesList.add(projectProperties);
+            }
 
-                ServiceGenerator balServiceGenerator = new ServiceGenerator(this.getTargetDir());
-                balServiceGenerator.generate(toolContext, projectProperties);
-
-                TomlGenerator tomlGenerator = new TomlGenerator(this.getTargetDir());
-                tomlGenerator.generate(toolContext, projectProperties);
-
-                MetaGenerator metaGenerator = new MetaGenerator(this.getTargetDir());
-                metaGenerator.generate(toolContext, projectProperties);
-
-                OasGenerator oasGenerator = new OasGenerator(this.getTargetDir());
-                oasGenerator.generate(toolContext, projectProperties);
-
-                ComponentYamlGenerator componentYamlGenerator = new ComponentYamlGenerator(this.getTargetDir());
-                componentYamlGenerator.generate(toolContext, projectProperties);
+            // generators are stateless across services, hence created once and reused for every resource type
+            ServiceGenerators serviceGenerators = new ServiceGenerators(this.getTargetDir());
+            if (ballerinaProjectToolConfig.isParallelGeneration() && servicePropertiesList.size() > 1) {
+                generateServicesConcurrently(toolContext, serviceGenerators, servicePropertiesList,
+                        ballerinaProjectToolConfig.getWorkerCount());
+            } else {
+                for (Map<String, Object> projectProperties : servicePropertiesList) {
+                    serviceGenerators.generate(toolContext, projectProperties);
+                }
             }
         } else {
             // Generate aggregated services
@@ -108,6 +116,7 @@ public class BallerinaProjectGenerator extends AbstractFHIRTemplateGenerator {
                 projectProperties.put("aggregatedService", entry.getValue());
                 projectProperties.put("config", ballerinaProjectToolConfig);
                 projectProperties.put("dependencies", dependenciesMap);
+                projectProperties.put(OutputSink.PROPERTY_NAME, outputSink);
 
                 String basePackage = dependenciesMap.get("basePackage");
                 String servicePackage = dependenciesMap.get("servicePackage");
@@ -159,4 +168,84 @@ public class BallerinaProjectGenerator extends AbstractFHIRTemplateGenerator {
             }
         }
     }
+
+    /**
+     * Generate the services of the resource types concurrently. The resource types are independent of each other,
+     * hence each service is generated on its own virtual thread, while a semaphore bounds the number of services
+     * generated at a time. All the services are awaited and the first failure in resource type order is rethrown.
+     *
+     * @param toolContext           tool context
+     * @param serviceGenerators     generators of a service
+     * @param servicePropertiesList generator properties of each service
+     * @param workers               maximum number of services generated at a time
+     * @throws CodeGenException if the generation of any of the services failed
+     */
+    private void generateServicesConcurrently(ToolContext toolContext, ServiceGenerators serviceGenerators,
+                                              List<Map<String, Object>> servicePropertiesList, int workers)
+            throws CodeGenException {
+        Semaphore permits = new Semaphore(workers > 0 ? workers : Runtime.getRuntime().availableProcessors());
+        List<Future<Void>> futures = new ArrayList<>(servicePropertiesList.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Map<String, Object> projectProperties : servicePropertiesList) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        serviceGenerators.generate(toolContext, projectProperties);
+                    } finally {
+                        permits.release();
+                    }
+                    return null;
+                }));
+            }
+
+            CodeGenException firstFailure = null;
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    executor.shutdownNow();
+                    throw new CodeGenException("Interrupted while generating the services", e);
+                } catch (ExecutionException e) {
+                    if (firstFailure == null) {
+                        Throwable cause = e.getCause();
+                        firstFailure = cause instanceof CodeGenException ? (CodeGenException) cause :
+                                new CodeGenException("Error occurred while generating the service", cause);
+                    }
+                }
+            }
+            if (firstFailure != null) {
+                throw firstFailure;
+            }
+        }
+    }
+
+    /**
+     * Generators of the artifacts of a single resource type service, i.e. service.bal, Ballerina.toml, Module.md,
+     * the OAS definition and component.yaml.
+     */
+    private static class ServiceGenerators {
+
+        private final ServiceGenerator balServiceGenerator;
+        private final TomlGenerator tomlGenerator;
+        private final MetaGenerator metaGenerator;
+        private final OasGenerator oasGenerator;
+        private final ComponentYamlGenerator componentYamlGenerator;
+
+        ServiceGenerators(String targetDir) throws CodeGenException {
+            this.balServiceGenerator = new ServiceGenerator(targetDir);
+            this.tomlGenerator = new TomlGenerator(targetDir);
+            this.metaGenerator = new MetaGenerator(targetDir);
+            this.oasGenerator = new OasGenerator(targetDir);
+            this.componentYamlGenerator = new ComponentYamlGenerator(targetDir);
+        }
+
+        void generate(ToolContext toolContext, Map<String, Object> projectProperties) throws CodeGenException {
+            balServiceGenerator.generate(toolContext, projectProperties);
+            tomlGenerator.generate(toolContext, projectProperties);
+            metaGenerator.generate(toolContext, projectProperties);
+            oasGenerator.generate(toolContext, projectProperties);
+            componentYamlGenerator.generate(toolContext, projectProperties);
+        }
+    }
 }
\ No newline at end of file
@@ -20,10 +20,11 @@ package org.wso2.healthcare.fhir.codegen.ballerina.project.tool.generator;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.wso2.healthcare.codegen.tool.framework.commons.core.TemplateContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.ToolContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.AbstractFHIRTemplateGenerator;
+import org.wso2.healthcare.codegen.output.OutputSink;
+import org.wso2.healthcare.codegen.output.TemplateRenderContext;
 import org.wso2.healthcare.fhir.codegen.ballerina.project.tool.BallerinaProjectConstants;
 import org.wso2.healthcare.fhir.codegen.ballerina.project.tool.model.AggregatedService;
 import org.wso2.healthcare.fhir.codegen.ballerina.project.tool.model.BallerinaService;
@@ -47,6 +48,7 @@ public class ComponentYamlGenerator extends AbstractFHIRTemplateGenerator {
 
     @Override
     public void generate(ToolContext toolContext, Map<String, Object> generatorProperties) throws CodeGenException {
+        OutputSink outputSink = OutputSink.getOutputSink(generatorProperties);
         String directoryPath = generatorProperties.get("projectAPIPath") + File.separator + ".choreo" + File.separator;
         File fileDir = new File(directoryPath);
 
@@ -58,13 +60,13 @@ public class ComponentYamlGenerator extends AbstractFHIRTemplateGenerator {
         }
         // FILE.Seperator is not useful as for Windows it is \ but the VelocityEngine
         // uses / as the file separator.
-        this.getTemplateEngine().generateOutputAsFile(BallerinaProjectConstants.RESOURCE_PATH_TEMPLATES +
+        outputSink.generateOutputAsFile(BallerinaProjectConstants.RESOURCE_PATH_TEMPLATES +
                         "/componentYaml.vm", createTemplateContext(generatorProperties), directoryPath,
                 "component.yaml");
     }
 
-    private TemplateContext createTemplateContext(Map<String, Object> generatorProperties) {
-        TemplateContext templateContext = this.getNewTemplateContext();
+    private TemplateRenderContext createTemplateContext(Map<String, Object> generatorProperties) {
+        TemplateRenderContext templateContext = new TemplateRenderContext();
 
         // Check if this is an aggregated service case
         if (generatorProperties.containsKey("aggregatedService")) {
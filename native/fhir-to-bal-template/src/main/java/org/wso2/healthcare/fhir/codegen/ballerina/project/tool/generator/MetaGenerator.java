@@ -19,10 +19,11 @@
 package org.wso2.healthcare.fhir.codegen.ballerina.project.tool.generator;
 
 import org.apache.commons.text.CaseUtils;
-import org.wso2.healthcare.codegen.tool.framework.commons.core.TemplateContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.ToolContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.AbstractFHIRTemplateGenerator;
+import org.wso2.healthcare.codegen.output.OutputSink;
+import org.wso2.healthcare.codegen.output.TemplateRenderContext;
 import org.wso2.healthcare.fhir.codegen.ballerina.project.tool.BallerinaProjectConstants;
 import org.wso2.healthcare.fhir.codegen.ballerina.project.tool.config.BallerinaProjectToolConfig;
 import org.wso2.healthcare.fhir.codegen.ballerina.project.tool.model.AggregatedService;
@@ -45,23 +46,24 @@ public class MetaGenerator extends AbstractFHIRTemplateGenerator {
 
     @Override
     public void generate(ToolContext toolContext, Map<String, Object> generatorProperties) throws CodeGenException {
+        OutputSink outputSink = OutputSink.getOutputSink(generatorProperties);
         BallerinaProjectToolConfig toolConfig = (BallerinaProjectToolConfig) generatorProperties.get("config");
         String directoryPath = generatorProperties.get("projectAPIPath") + File.separator;
 
         if(toolConfig.getFhirVersion().equalsIgnoreCase("r5")){
-            this.getTemplateEngine().generateOutputAsFile(BallerinaProjectConstants.RESOURCE_PATH_TEMPLATES +
+            outputSink.generateOutputAsFile(BallerinaProjectConstants.RESOURCE_PATH_TEMPLATES +
                             BallerinaProjectConstants.RESOURCE_PATH_SEPERATOR + "r5ModuleMd.vm", createTemplateContextForMeta(generatorProperties), directoryPath,
                     "Module.md");
         }
         else{
-            this.getTemplateEngine().generateOutputAsFile(BallerinaProjectConstants.RESOURCE_PATH_TEMPLATES +
+            outputSink.generateOutputAsFile(BallerinaProjectConstants.RESOURCE_PATH_TEMPLATES +
                             BallerinaProjectConstants.RESOURCE_PATH_SEPERATOR + "r4ModuleMd.vm", createTemplateContextForMeta(generatorProperties), directoryPath,
                     "Module.md");
         }
 
         // Only generate .gitignore if not in minimal generation mode
         if (!toolConfig.isMinimalGeneration()) {
-            this.getTemplateEngine().generateOutputAsFile(BallerinaProjectConstants.RESOURCE_PATH_TEMPLATES +
+            outputSink.generateOutputAsFile(BallerinaProjectConstants.RESOURCE_PATH_TEMPLATES +
                             BallerinaProjectConstants.RESOURCE_PATH_SEPERATOR + "gitignore.vm", createTemplateContextForMeta(generatorProperties), directoryPath,
                     ".gitignore");
         }
@@ -72,20 +74,20 @@ public class MetaGenerator extends AbstractFHIRTemplateGenerator {
                 generatorProperties.put("service", service);
                 generatorProperties.put("resourceType", service.getName());
                 generatorProperties.put("isAggregated", true);
-                this.getTemplateEngine().generateOutputAsFile(BallerinaProjectConstants.RESOURCE_PATH_TEMPLATES +
+                outputSink.generateOutputAsFile(BallerinaProjectConstants.RESOURCE_PATH_TEMPLATES +
                                 BallerinaProjectConstants.RESOURCE_PATH_SEPERATOR + "apiConfig.vm", createTemplateContextForMeta(generatorProperties), directoryPath,
                         service.getName().toLowerCase() + "_api_config.bal");
             }
         } else {
-            this.getTemplateEngine().generateOutputAsFile(BallerinaProjectConstants.RESOURCE_PATH_TEMPLATES +
+            outputSink.generateOutputAsFile(BallerinaProjectConstants.RESOURCE_PATH_TEMPLATES +
                             BallerinaProjectConstants.RESOURCE_PATH_SEPERATOR + "apiConfig.vm", createTemplateContextForMeta(generatorProperties), directoryPath,
                     "api_config.bal");
         }
     }
 
-    private TemplateContext createTemplateContextForMeta(Map<String, Object> generatorProperties) {
+    private TemplateRenderContext createTemplateContextForMeta(Map<String, Object> generatorProperties) {
 
-        TemplateContext templateContext = this.getNewTemplateContext();
+        TemplateRenderContext templateContext = new TemplateRenderContext();
         BallerinaProjectToolConfig config = (BallerinaProjectToolConfig) generatorProperties.get("config");
         BallerinaService service = (BallerinaService) generatorProperties.get("service");
         Set<String> igURLs = new HashSet<>();
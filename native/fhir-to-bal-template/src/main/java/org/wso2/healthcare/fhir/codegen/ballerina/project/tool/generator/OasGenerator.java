@@ -24,6 +24,7 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.ToolContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.AbstractFHIRTemplateGenerator;
+import org.wso2.healthcare.codegen.output.OutputSink;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.common.FHIRSpecificationData;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRImplementationGuide;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.oas.model.APIDefinition;
@@ -31,10 +32,8 @@ import org.wso2.healthcare.fhir.codegen.ballerina.project.tool.BallerinaProjectC
 import org.wso2.healthcare.fhir.codegen.ballerina.project.tool.model.AggregatedService;
 import org.wso2.healthcare.fhir.codegen.ballerina.project.tool.model.OpenApiDef;
 
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
@@ -46,18 +45,13 @@ public class OasGenerator extends AbstractFHIRTemplateGenerator {
 
     private static final Log LOG = LogFactory.getLog(OasGenerator.class);
 
-    // Variables to store API definitions for all resources specified in aggregated mode.
-    private static Map<String, APIDefinition> aggregatedResourceApiDefinitions;
-
     public OasGenerator(String targetDir) throws CodeGenException {
         super(targetDir);
-
-        // Initialize variables for aggregated mode.
-        aggregatedResourceApiDefinitions = new HashMap<>();
     }
 
     @Override
     public void generate(ToolContext toolContext, Map<String, Object> generatorProperties) throws CodeGenException {
+        OutputSink outputSink = OutputSink.getOutputSink(generatorProperties);
         String directoryPath = generatorProperties.get("projectAPIPath") + File.separator
                 + BallerinaProjectConstants.OAS_DEF_DIR_NAME;
         File fileDir = new File(directoryPath);
@@ -78,12 +72,13 @@ public class OasGenerator extends AbstractFHIRTemplateGenerator {
 
                 APIDefinition apiDefinition = entry.getValue().getApiDefinitions().get(resourceType);
                 if (apiDefinition != null) {
-                    String oasDefYaml = Yaml.pretty(apiDefinition.getOpenAPI());
-                    writeToYamlFile(directoryPath, oasDefYaml, resourceType);
+                    writeToYamlFile(outputSink, directoryPath, apiDefinition.getOpenAPI(), resourceType);
                 }
             }
         } else {
             Set<String> resourceTypes = (Set<String>) generatorProperties.get("resourceTypes");
+            // API definitions of all the resources of the aggregated service
+            Map<String, APIDefinition> aggregatedResourceApiDefinitions = new HashMap<>();
 
             for (String resourceType : resourceTypes) {
                 for (FHIRImplementationGuide guide : ((FHIRSpecificationData) toolContext.getSpecificationData()).getFhirImplementationGuides().values()) {
@@ -96,9 +91,10 @@ public class OasGenerator extends AbstractFHIRTemplateGenerator {
             }
 
             try {
-                OpenApiDef.getInstance().retrieveFieldValues(aggregatedResourceApiDefinitions);
-                OpenAPI newOpenApiDef = OpenApiDef.createNewOpenAPIDef();
-                writeToYamlFile(directoryPath, Yaml.pretty(newOpenApiDef), "oas-definition");
+                OpenApiDef openApiDef = new OpenApiDef();
+                openApiDef.retrieveFieldValues(aggregatedResourceApiDefinitions);
+                OpenAPI newOpenApiDef = openApiDef.createNewOpenAPIDef();
+                writeToYamlFile(outputSink, directoryPath, newOpenApiDef, "oas-definition");
             } catch (NullPointerException e) {
                 throw new CodeGenException("Error occurred while generating open-api-def in aggregated mode: " + e.getMessage(),e);
             }
@@ -106,18 +102,17 @@ public class OasGenerator extends AbstractFHIRTemplateGenerator {
     }
 
     /**
-     * Writes the OAS definition to a YAML file.
+     * Writes the OAS definition to a YAML file. The definition is serialized straight to the file without building
+     * the YAML document in memory.
      *
+     * @param outputSink    The output sink used to write the file.
      * @param directoryPath The directory where the file will be written.
-     * @param oasDefYaml    The OAS definition in YAML format.
+     * @param openAPI       The OAS definition.
      * @param filename      The name of the file to write.
      */
-    private static void writeToYamlFile(String directoryPath, String oasDefYaml, String filename) throws CodeGenException {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(directoryPath + File.separator +
-                filename + BallerinaProjectConstants.YAML_FILE_EXTENSION))) {
-            writer.write(oasDefYaml);
-        } catch (IOException e) {
-            throw new CodeGenException("Error occurred while writing to YAML file: " + e.getMessage(), e);
-        }
+    private static void writeToYamlFile(OutputSink outputSink, String directoryPath, OpenAPI openAPI,
+                                        String filename) throws CodeGenException {
+        outputSink.writeFile(Paths.get(directoryPath, filename + BallerinaProjectConstants.YAML_FILE_EXTENSION),
+                outputStream -> Yaml.pretty().writeValue(outputStream, openAPI));
     }
 }
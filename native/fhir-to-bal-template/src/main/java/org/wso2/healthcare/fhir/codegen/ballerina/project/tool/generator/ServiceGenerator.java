@@ -18,10 +18,11 @@
 
 package org.wso2.healthcare.fhir.codegen.ballerina.project.tool.generator;
 
-import org.wso2.healthcare.codegen.tool.framework.commons.core.TemplateContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.ToolContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.AbstractFHIRTemplateGenerator;
+import org.wso2.healthcare.codegen.output.OutputSink;
+import org.wso2.healthcare.codegen.output.TemplateRenderContext;
 import org.wso2.healthcare.fhir.codegen.ballerina.project.tool.BallerinaProjectConstants;
 import org.wso2.healthcare.fhir.codegen.ballerina.project.tool.config.BallerinaProjectToolConfig;
 import org.wso2.healthcare.fhir.codegen.ballerina.project.tool.model.BallerinaService;
@@ -41,8 +42,9 @@ public class ServiceGenerator extends AbstractFHIRTemplateGenerator {
 
     @Override
     public void generate(ToolContext toolContext, Map<String, Object> generatorProperties) throws CodeGenException {
+        OutputSink outputSink = OutputSink.getOutputSink(generatorProperties);
         String directoryPath = generatorProperties.get("projectAPIPath") + File.separator;
-        this.getTemplateEngine().generateOutputAsFile(BallerinaProjectConstants.RESOURCE_PATH_TEMPLATES +
+        outputSink.generateOutputAsFile(BallerinaProjectConstants.RESOURCE_PATH_TEMPLATES +
                 BallerinaProjectConstants.RESOURCE_PATH_SEPERATOR + "balService.vm", createTemplateContextForBalService(
                 generatorProperties), directoryPath, "service.bal");
     }
@@ -59,8 +61,8 @@ public class ServiceGenerator extends AbstractFHIRTemplateGenerator {
         return ballerinaService;
     }
 
-    private TemplateContext createTemplateContextForBalService(Map<String, Object> generatorProperties) {
-        TemplateContext templateContext = this.getNewTemplateContext();
+    private TemplateRenderContext createTemplateContextForBalService(Map<String, Object> generatorProperties) {
+        TemplateRenderContext templateContext = new TemplateRenderContext();
         BallerinaService ballerinaService = initializeServiceWithDefaults(generatorProperties);
         templateContext.setProperty("service", ballerinaService);
         templateContext.setProperty("basePackageImportIdentifier", generatorProperties.get("basePackageImportIdentifier"));
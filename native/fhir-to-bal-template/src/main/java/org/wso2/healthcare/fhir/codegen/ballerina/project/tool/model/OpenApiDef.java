@@ -20,19 +20,20 @@ import static org.wso2.healthcare.codegen.tool.framework.fhir.core.oas.APIDefini
 import static org.wso2.healthcare.codegen.tool.framework.fhir.core.oas.APIDefinitionConstants.OAS_EXTENSION_OH_FHIR_RESOURCE_TYPE;
 
 /**
- * Used to create a new single OpenAPI definition based on the aggregated resources.
+ * Used to create a new single OpenAPI definition based on the aggregated resources. An instance is used to build the
+ * definition of a single aggregated service.
  */
 
 public class OpenApiDef {
-    private static OpenAPI openAPI;
-    private static Info infoFields;
-    private static Set<String> resourceTypes;
-    private static Set<String> supportedProfiles;
-    private static Set<Tag> tags;
-    private static Map<String, Paths> pathsMap;
-    private static Components components;
-
-    private OpenApiDef() {
+    private final OpenAPI openAPI;
+    private Info infoFields;
+    private final Set<String> resourceTypes;
+    private final Set<String> supportedProfiles;
+    private final Set<Tag> tags;
+    private final Map<String, Paths> pathsMap;
+    private Components components;
+
+    public OpenApiDef() {
         openAPI = new OpenAPI();
         infoFields = null;
         resourceTypes = new HashSet<>();
@@ -42,14 +43,8 @@ public class OpenApiDef {
         components = new Components();
     }
 
-    private static final OpenApiDef OPEN_API_DEF_INSTANCE = new OpenApiDef();
-
-    public static OpenApiDef getInstance() {
-        return OPEN_API_DEF_INSTANCE;
-    }
-
     public void setInfoFields(Info infoFields) {
-        OpenApiDef.infoFields = infoFields;
+        this.infoFields = infoFields;
     }
 
     public Set<String> getResourceTypes() {
@@ -69,7 +64,7 @@ public class OpenApiDef {
     }
 
     public void setComponents(Components components) {
-        OpenApiDef.components = components;
+        this.components = components;
     }
 
     /**
@@ -95,7 +90,7 @@ public class OpenApiDef {
      * @return OpenAPI object containing the aggregated definitions.
      * @throws NullPointerException if any required field is null.
      */
-    public static OpenAPI createNewOpenAPIDef() throws NullPointerException {
+    public OpenAPI createNewOpenAPIDef() throws NullPointerException {
         String concatenatedTitle = "OAS Definition for " + String.join(", ", resourceTypes);
         String description = OASGenUtils.generateDescription("multiple", supportedProfiles);
         String summary = infoFields.getSummary();
@@ -24,6 +24,7 @@ import io.ballerina.health.cmd.core.utils.HealthCmdConstants;
 import io.ballerina.health.cmd.core.utils.HealthCmdUtils;
 import io.ballerina.health.cmd.fhir.FhirSubCmd;
 import io.ballerina.health.cmd.hl7.Hl7SubCmd;
+import io.ballerina.health.cmd.serve.ServeSubCmd;
 import picocli.CommandLine;
 
 import java.io.BufferedReader;
@@ -40,7 +41,8 @@ import java.util.List;
         subcommands = {
                 FhirSubCmd.class,
                 Hl7SubCmd.class,
-                CdsSubCmd.class
+                CdsSubCmd.class,
+                ServeSubCmd.class
         }
 )
 public class HealthCmd implements BLauncherCmd {
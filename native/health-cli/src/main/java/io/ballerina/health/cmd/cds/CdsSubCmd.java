@@ -26,6 +26,7 @@ import io.ballerina.health.cmd.core.utils.HealthCmdUtils;
 import io.ballerina.health.cmd.handler.Handler;
 import io.ballerina.health.cmd.handler.HandlerFactory;
 import org.apache.commons.lang.StringUtils;
+import org.wso2.healthcare.codegen.profile.GenerationProfiler;
 import picocli.CommandLine;
 import java.io.BufferedReader;
 import java.io.File;
@@ -43,6 +44,7 @@ import java.util.Map;
 import java.util.logging.LogManager;
 
 import static io.ballerina.health.cmd.core.utils.HealthCmdConstants.CDS;
+import static io.ballerina.health.cmd.core.utils.HealthCmdConstants.CMD_ARG_OVERWRITE;
 import static io.ballerina.health.cmd.core.utils.HealthCmdConstants.CDS_SUB_TOOL_DESCRIPTION;
 import static io.ballerina.health.cmd.core.utils.HealthCmdConstants.CMD_MODE_TEMPLATE;
 import static io.ballerina.health.cmd.core.utils.HealthCmdConstants.CMD_OPTION_CDS_MODE_DESCRIPTION;
@@ -63,6 +65,8 @@ import static io.ballerina.health.cmd.core.utils.HealthCmdConstants.CMD_OPTION_P
 import static io.ballerina.health.cmd.core.utils.HealthCmdConstants.CMD_OPTION_PACKAGE_NAME_DESCRIPTION;
 import static io.ballerina.health.cmd.core.utils.HealthCmdConstants.CMD_OPTION_PACKAGE_VERSION;
 import static io.ballerina.health.cmd.core.utils.HealthCmdConstants.CMD_OPTION_PACKAGE_VERSION_DESCRIPTION;
+import static io.ballerina.health.cmd.core.utils.HealthCmdConstants.CMD_OPTION_PROFILE_REPORT;
+import static io.ballerina.health.cmd.core.utils.HealthCmdConstants.CMD_OPTION_PROFILE_REPORT_DESCRIPTION;
 import static io.ballerina.health.cmd.core.utils.HealthCmdConstants.USER_DIR;
 import static io.ballerina.health.cmd.core.utils.HealthCmdConstants.CMD_OPTION_MINIMAL;
 import static io.ballerina.health.cmd.core.utils.HealthCmdConstants.CMD_OPTION_MINIMAL_DESCRIPTION;
@@ -74,8 +78,10 @@ public class CdsSubCmd implements BLauncherCmd {
     private final PrintStream printStream;
     private final boolean exitWhenFinish;
     private final String toolName = CDS;
-    private final Path executionPath = Paths.get(System.getProperty(USER_DIR));
+    private final Path executionPath;
     private Path targetOutputPath;
+    private boolean succeeded;
+    private boolean interactive = true;
 
     @CommandLine.Option(names = {CMD_OPTION_HELP, CMD_OPTION_HELP_SHORTER_1, CMD_OPTION_HELP_SHORTER_2}, usageHelp = true, hidden = true)
     private boolean helpFlag;
@@ -101,18 +107,27 @@ public class CdsSubCmd implements BLauncherCmd {
     @CommandLine.Option(names = {CMD_OPTION_MINIMAL}, description = CMD_OPTION_MINIMAL_DESCRIPTION)
     private boolean minimal;
 
+    @CommandLine.Option(names = {CMD_OPTION_PROFILE_REPORT}, description = CMD_OPTION_PROFILE_REPORT_DESCRIPTION)
+    private String profileReportPath;
+
     @CommandLine.Parameters(description = CMD_OPTION_CUSTOM_ARGS_DESCRIPTION)
     private List<String> argList;
 
     public CdsSubCmd(PrintStream printStream, boolean exitWhenFinish) {
+        this(printStream, exitWhenFinish, Paths.get(System.getProperty(USER_DIR)));
+    }
+
+    public CdsSubCmd(PrintStream printStream, boolean exitWhenFinish, Path executionPath) {
         this.printStream = printStream;
         this.exitWhenFinish = exitWhenFinish;
+        this.executionPath = executionPath;
         LogManager.getLogManager().reset();
     }
 
     public CdsSubCmd() {
         this.printStream = System.out;
         this.exitWhenFinish = true;
+        this.executionPath = Paths.get(System.getProperty(USER_DIR));
         LogManager.getLogManager().reset();
     }
 
@@ -139,30 +154,35 @@ public class CdsSubCmd implements BLauncherCmd {
             }
             printStream.println(HealthCmdConstants.PrintStrings.HELP_NOT_AVAILABLE);
             HealthCmdUtils.exitError(exitWhenFinish);
+            return;
         }
 
         if (inputFilePath == null) {
             printStream.println(HealthCmdConstants.PrintStrings.NO_INPUT_FILE_PATH);
             printStream.println(HealthCmdConstants.PrintStrings.HELP_FOR_MORE_INFO);
             HealthCmdUtils.exitError(exitWhenFinish);
+            return;
         }
 
         if (StringUtils.isEmpty(inputFilePath)) {
             printStream.println(HealthCmdConstants.PrintStrings.EMPTY_INPUT_FILE_PATH);
             printStream.println(HealthCmdConstants.PrintStrings.HELP_FOR_MORE_INFO);
             HealthCmdUtils.exitError(exitWhenFinish);
+            return;
         }
 
-        if (!Files.exists(Path.of(inputFilePath))) {
+        if (!Files.exists(executionPath.resolve(inputFilePath))) {
             printStream.println(HealthCmdConstants.PrintStrings.INVALID_INPUT_FILE_PATH);
             printStream.println(HealthCmdConstants.PrintStrings.HELP_FOR_MORE_INFO);
             HealthCmdUtils.exitError(exitWhenFinish);
+            return;
         }
 
         // By default, only template mode is supported for cds sub command
         mode = CMD_MODE_TEMPLATE;
 
         if (this.engageSubCommand(argList)) {
+            succeeded = true;
             printStream.println(HealthCmdConstants.PrintStrings.CDS_TEMPLATE_GEN_SUCCESS_MESSAGE + targetOutputPath );
         } else {
             printStream.println(HealthCmdConstants.PrintStrings.INVALID_MODE);
@@ -172,6 +192,26 @@ public class CdsSubCmd implements BLauncherCmd {
         HealthCmdUtils.exitError(exitWhenFinish);
     }
 
+    /**
+     * Set whether the command may prompt the user. A command run within a host process, e.g. the serve mode, has no
+     * user to answer a prompt, hence existing artifacts are overwritten without prompting.
+     *
+     * @param interactive whether the command may prompt the user
+     */
+    public void setInteractive(boolean interactive) {
+        this.interactive = interactive;
+    }
+
+    /**
+     * Whether the artifacts were generated by the last execution. Used when the command runs within the serve mode,
+     * where the command does not exit the process.
+     *
+     * @return true if the generation succeeded
+     */
+    public boolean isSucceeded() {
+        return succeeded;
+    }
+
     @Override
     public String getName() {
         return toolName;
@@ -199,6 +239,12 @@ public class CdsSubCmd implements BLauncherCmd {
         argsMap.put(CMD_OPTION_ORG_NAME, orgName);
         argsMap.put(CMD_OPTION_PACKAGE_VERSION, packageVersion);
         argsMap.put(CMD_OPTION_MINIMAL, minimal);
+        argsMap.put(CMD_ARG_OVERWRITE, !interactive);
+        GenerationProfiler profiler = null;
+        if (profileReportPath != null && !profileReportPath.isEmpty()) {
+            profiler = new GenerationProfiler();
+            argsMap.put(GenerationProfiler.PROPERTY_NAME, profiler);
+        }
         getTargetOutputPath();
 
         //spec path is the last argument
@@ -211,16 +257,24 @@ public class CdsSubCmd implements BLauncherCmd {
             throw new BLauncherException();
         }
 
-        Handler toolHandler;
         try {
-            toolHandler = HandlerFactory.createHandler(toolName, mode, printStream, cdsToolConfigFilePath.toString());
-        } catch (BallerinaHealthException e) {
-            printStream.println(e);
-            throw new BLauncherException();
-        }
+            Handler toolHandler;
+            try {
+                toolHandler = HandlerFactory.createHandler(toolName, mode, printStream,
+                        cdsToolConfigFilePath.toString());
+            } catch (BallerinaHealthException e) {
+                printStream.println(e);
+                throw new BLauncherException();
+            }
 
-        toolHandler.setArgs(argsMap);
-        return toolHandler.execute(cdsToolConfigFilePath.toString(), targetOutputPath.toString());
+            toolHandler.setArgs(argsMap);
+            return toolHandler.execute(cdsToolConfigFilePath.toString(), targetOutputPath.toString());
+        } finally {
+            if (profiler != null) {
+                HealthCmdUtils.writeProfileReport(profiler, profileReportPath, executionPath, toolName, mode,
+                        printStream);
+            }
+        }
     }
 
     /**
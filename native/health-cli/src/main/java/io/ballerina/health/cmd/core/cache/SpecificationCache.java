@@ -0,0 +1,387 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.health.cmd.core.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.FHIRTool;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.common.FHIRSpecificationData;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRDataTypeDef;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRImplementationGuide;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * On-disk cache of the parsed FHIR specification. An entry holds the implementation guides and data types parsed
+ * from a specification directory and is keyed by a digest of the specification files, the tool and framework
+ * binaries, the FHIR version and the tool configuration. Any change of those inputs results in a different key,
+ * hence stale entries are never read; they are pruned once the cache grows beyond {@link #MAX_ENTRIES}.
+ * <p>
+ * The cache is best effort. Entries which cannot be read or written are treated as cache misses and the
+ * specification is parsed as usual. The parsed definitions are stored with Java serialization; when the framework
+ * version in use holds a member which is not serializable, the cache is disabled for that framework binary, hence
+ * later runs do not pay for computing the key. Only the classes of the specification model are read from an entry,
+ * an entry holding any other class is discarded. The cache only spares the parsing of the specification; the base
+ * definitions of the FHIR version are still loaded when the framework is initialized.
+ */
+public class SpecificationCache {
+
+    private static final Log LOG = LogFactory.getLog(SpecificationCache.class);
+
+    private static final String CACHE_FORMAT_VERSION = "1";
+    private static final String ENTRY_FILE_SUFFIX = ".bin";
+    private static final String STAGING_FILE_SUFFIX = ".tmp";
+    private static final String UNSUPPORTED_FILE_SUFFIX = ".unsupported";
+    private static final int MAX_ENTRIES = 8;
+
+    private final Path cacheDirectory;
+
+    public SpecificationCache(Path cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    /**
+     * Returns the cache located in the Ballerina home of the user.
+     *
+     * @return specification cache
+     */
+    public static SpecificationCache getDefaultCache() {
+        return new SpecificationCache(Paths.get(System.getProperty("user.home"), ".ballerina", "health-tool",
+                "cache", "specifications"));
+    }
+
+    /**
+     * Check whether the parsed specification of the framework in use can be cached. The cache is disabled for a
+     * framework binary once its parsed specification failed to serialize.
+     *
+     * @return false if the parsed specification cannot be serialized
+     */
+    public boolean isSupported() {
+        return !Files.exists(getUnsupportedMarkerPath());
+    }
+
+    /**
+     * Compute the cache key of a specification directory.
+     *
+     * @param specificationPath specification directory
+     * @param fhirVersion       FHIR version of the specification
+     * @param toolConfig        serialized tool configuration
+     * @return cache key
+     * @throws IOException if the specification files cannot be read
+     */
+    public String computeKey(String specificationPath, String fhirVersion, String toolConfig) throws IOException {
+        MessageDigest digest = newDigest();
+        update(digest, CACHE_FORMAT_VERSION);
+        update(digest, fhirVersion);
+        update(digest, toolConfig);
+        update(digest, getBinariesFingerprint());
+
+        Path specificationDirectory = Paths.get(specificationPath).toAbsolutePath().normalize();
+        List<Path> specificationFiles;
+        try (Stream<Path> paths = Files.walk(specificationDirectory)) {
+            specificationFiles = paths.filter(Files::isRegularFile).sorted().toList();
+        }
+        byte[] buffer = new byte[8192];
+        for (Path specificationFile : specificationFiles) {
+            update(digest, specificationDirectory.relativize(specificationFile).toString().replace('\\', '/'));
+            try (InputStream inputStream = Files.newInputStream(specificationFile)) {
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+            digest.update((byte) 0);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Restore the cached specification of the given key into the specification data of the tool.
+     *
+     * @param key               cache key
+     * @param specificationData specification data to be populated
+     * @return true if the entry was found and restored
+     */
+    @SuppressWarnings("unchecked")
+    public boolean restore(String key, FHIRSpecificationData specificationData) {
+        Path entryPath = getEntryPath(key);
+        if (!Files.isRegularFile(entryPath)) {
+            LOG.debug("Specification cache miss: " + key);
+            return false;
+        }
+        Map<String, FHIRImplementationGuide> implementationGuides;
+        Map<String, FHIRDataTypeDef> dataTypes;
+        try (ObjectInputStream inputStream = new CacheObjectInputStream(
+                new BufferedInputStream(Files.newInputStream(entryPath)))) {
+            if (!key.equals(inputStream.readUTF())) {
+                throw new IOException("Cache key mismatch");
+            }
+            implementationGuides = (Map<String, FHIRImplementationGuide>) inputStream.readObject();
+            dataTypes = (Map<String, FHIRDataTypeDef>) inputStream.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            LOG.warn("Discarding unreadable specification cache entry: " + entryPath, e);
+            deleteQuietly(entryPath);
+            return false;
+        }
+        specificationData.getFhirImplementationGuides().putAll(implementationGuides);
+        specificationData.getDataTypes().putAll(dataTypes);
+        touch(entryPath);
+        LOG.debug("Specification cache hit: " + key);
+        return true;
+    }
+
+    /**
+     * Store the parsed specification under the given key. Failures are logged and ignored. If the parsed
+     * specification is not serializable, the cache is disabled for the framework binary in use.
+     *
+     * @param key               cache key
+     * @param specificationData parsed specification data
+     */
+    public void store(String key, FHIRSpecificationData specificationData) {
+        Path entryPath = getEntryPath(key);
+        Path stagingPath = entryPath.resolveSibling(entryPath.getFileName() + STAGING_FILE_SUFFIX);
+        try {
+            Files.createDirectories(cacheDirectory);
+            try (OutputStream fileStream = Files.newOutputStream(stagingPath);
+                 ObjectOutputStream outputStream = new ObjectOutputStream(new BufferedOutputStream(fileStream))) {
+                outputStream.writeUTF(key);
+                outputStream.writeObject(new HashMap<>(specificationData.getFhirImplementationGuides()));
+                outputStream.writeObject(new HashMap<>(specificationData.getDataTypes()));
+            }
+            try {
+                Files.move(stagingPath, entryPath, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(stagingPath, entryPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            LOG.debug("Specification cache entry stored: " + key);
+            prune();
+        } catch (NotSerializableException e) {
+            LOG.warn("The parsed specification is not serializable, the specification cache is disabled: "
+                    + e.getMessage());
+            markUnsupported();
+        } catch (IOException e) {
+            LOG.warn("Unable to store the specification cache entry: " + key, e);
+        } finally {
+            deleteQuietly(stagingPath);
+        }
+    }
+
+    private void prune() throws IOException {
+        List<Path> entries;
+        try (Stream<Path> paths = Files.list(cacheDirectory)) {
+            entries = paths.filter(path -> path.getFileName().toString().endsWith(ENTRY_FILE_SUFFIX))
+                    .sorted(Comparator.comparing(SpecificationCache::getLastModifiedTime).reversed())
+                    .toList();
+        }
+        for (int i = MAX_ENTRIES; i < entries.size(); i++) {
+            deleteQuietly(entries.get(i));
+        }
+    }
+
+    private Path getEntryPath(String key) {
+        return cacheDirectory.resolve(key + ENTRY_FILE_SUFFIX);
+    }
+
+    private Path getUnsupportedMarkerPath() {
+        MessageDigest digest = newDigest();
+        update(digest, getBinariesFingerprint());
+        return cacheDirectory.resolve(HexFormat.of().formatHex(digest.digest()) + UNSUPPORTED_FILE_SUFFIX);
+    }
+
+    private void markUnsupported() {
+        try {
+            Files.createDirectories(cacheDirectory);
+            Files.write(getUnsupportedMarkerPath(), new byte[0]);
+        } catch (IOException e) {
+            LOG.warn("Unable to disable the specification cache: " + cacheDirectory, e);
+        }
+    }
+
+    private static String getBinariesFingerprint() {
+        return CACHE_FORMAT_VERSION + ":" + getBinaryFingerprint(SpecificationCache.class) + ":"
+                + getBinaryFingerprint(FHIRTool.class);
+    }
+
+    /**
+     * Fingerprint of the binary a class is loaded from. Upgrading the tool or the framework changes the
+     * fingerprint, hence entries serialized by a different version are never read.
+     */
+    private static String getBinaryFingerprint(Class<?> clazz) {
+        CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+        String version = clazz.getPackage() != null ? clazz.getPackage().getImplementationVersion() : null;
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return clazz.getName() + ":" + version;
+        }
+        try {
+            Path binaryPath = Paths.get(codeSource.getLocation().toURI());
+            if (Files.isRegularFile(binaryPath)) {
+                return binaryPath + ":" + version + ":" + Files.size(binaryPath) + ":"
+                        + Files.getLastModifiedTime(binaryPath).toMillis();
+            }
+            return binaryPath + ":" + version;
+        } catch (URISyntaxException | IOException | IllegalArgumentException e) {
+            return codeSource.getLocation() + ":" + version;
+        }
+    }
+
+    private static long getLastModifiedTime(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static void touch(Path path) {
+        try {
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            LOG.debug("Unable to update the access time of the cache entry: " + path, e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            LOG.debug("Unable to delete the cache file: " + path, e);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by the runtime", e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    /**
+     * Resolves the cached classes through the class loader of the tool, which is not necessarily the class loader
+     * picked by the default implementation. Only the classes of the parsed specification model are read: the
+     * FHIR model of HAPI, the model of the tool and the framework, and the JDK collections and value types they hold.
+     * Any other class is rejected before it is loaded, as well as by the filter of the stream.
+     */
+    private static class CacheObjectInputStream extends ObjectInputStream {
+
+        private static final Set<String> ALLOWED_PACKAGES = Set.of("java.lang", "java.math", "java.time",
+                "java.util", "java.util.concurrent", "java.util.concurrent.atomic", "java.util.concurrent.locks");
+        private static final List<String> ALLOWED_PACKAGE_PREFIXES = List.of("ca.uhn.fhir.", "org.hl7.fhir.",
+                "org.wso2.healthcare.");
+
+        CacheObjectInputStream(InputStream inputStream) throws IOException {
+            super(inputStream);
+            setObjectInputFilter(CacheObjectInputStream::checkInput);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            if (!isAllowed(desc.getName())) {
+                throw new InvalidClassException(desc.getName(), "Not a class of the specification cache");
+            }
+            try {
+                return Class.forName(desc.getName(), false, SpecificationCache.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+            throw new InvalidClassException("Proxy classes are not read from the specification cache");
+        }
+
+        private static ObjectInputFilter.Status checkInput(ObjectInputFilter.FilterInfo filterInfo) {
+            Class<?> serialClass = filterInfo.serialClass();
+            if (serialClass == null) {
+                return ObjectInputFilter.Status.UNDECIDED;
+            }
+            return isAllowed(serialClass.getName()) ? ObjectInputFilter.Status.ALLOWED :
+                    ObjectInputFilter.Status.REJECTED;
+        }
+
+        /**
+         * Check whether a class of the given binary name may be read. An array is allowed if its component type is.
+         */
+        private static boolean isAllowed(String className) {
+            int dimensions = 0;
+            while (dimensions < className.length() && className.charAt(dimensions) == '[') {
+                dimensions++;
+            }
+            String componentName = className.substring(dimensions);
+            if (dimensions > 0) {
+                if (componentName.length() == 1) {
+                    // array of a primitive type
+                    return true;
+                }
+                if (!componentName.startsWith("L") || !componentName.endsWith(";")) {
+                    return false;
+                }
+                componentName = componentName.substring(1, componentName.length() - 1);
+            }
+            int packageEnd = componentName.lastIndexOf('.');
+            if (packageEnd < 0) {
+                return false;
+            }
+            if (ALLOWED_PACKAGES.contains(componentName.substring(0, packageEnd))) {
+                return true;
+            }
+            for (String packagePrefix : ALLOWED_PACKAGE_PREFIXES) {
+                if (componentName.startsWith(packagePrefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
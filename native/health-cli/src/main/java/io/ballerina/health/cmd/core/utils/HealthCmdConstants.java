@@ -26,6 +26,7 @@ public class HealthCmdConstants {
     public static final String CMD_SUB_FHIR = "fhir";
     public static final String CMD_SUB_HL7 = "hl7";
     public static final String CMD_SUB_CDS = "cds";
+    public static final String CMD_SUB_SERVE = "serve";
     public static final String CMD_CONFIG_FILENAME = "tool-config.json";
     public static final String CMD_CDS_CONFIG_FILENAME = "cds-tool-config.json";
     public static final String CMD_CDS_JSON_SCHEMA_FILENAME = "cds-hooks-json-schema.json";
@@ -45,6 +46,7 @@ public class HealthCmdConstants {
     public static final String CDS_SUB_TOOL_DESCRIPTION = "Generates Ballerina service for provided cds hook definitions.";
     public static final String TOOLS = "tools";
     public static final String HOOKS = "hooks";
+    public static final String CDS_SERVICES = "cds_services";
     public static final String CDS_CONFIG_CLASS_NAME = "org.wso2.healthcare.cds.codegen.ballerina.tool.config.BallerinaCDSProjectToolConfig";
     public static final String CDS_TOOL_CLASS_NAME = "org.wso2.healthcare.cds.codegen.ballerina.tool.BallerinaCDSProjectTool";
     public static final String PROJECT_PACKAGE_ORG = "project.package.org";
@@ -77,6 +79,24 @@ public class HealthCmdConstants {
     public static final String CMD_CONNECTOR = "connector";
     public static final String CMD_OPTION_MINIMAL = "--minimal";
     public static final String CMD_OPTION_MINIMAL_DESCRIPTION = "Generate templates without package structure and metadata files";
+    public static final String CMD_OPTION_PARALLEL = "--parallel";
+    public static final String CMD_OPTION_WORKERS = "--workers";
+    public static final String CMD_OPTION_FULL_REBUILD = "--full-rebuild";
+    public static final String CMD_OPTION_STREAMING = "--streaming";
+    public static final String CMD_OPTION_NO_CACHE = "--no-cache";
+    public static final String CMD_OPTION_BATCH = "--batch";
+    public static final String CMD_OPTION_PORT = "--port";
+    public static final String CMD_OPTION_THREADS = "--threads";
+    public static final String CMD_OPTION_PROFILE_REPORT = "--profile-report";
+    // not a command line option; set when the command runs within a host process which has no user to prompt
+    public static final String CMD_ARG_OVERWRITE = "overwrite";
+    // not a command line option; set to false to process the FHIR core definitions instead of using their bundle
+    public static final String CMD_ARG_CORE_CONTEXT_BUNDLE = "coreContextBundle";
+    public static final String CMD_OPTION_PROFILE_REPORT_DESCRIPTION = "Write a phase level timing and allocation " +
+            "report of the generation as JSON to the given path.";
+    public static final String SERVE_STATE_FILENAME = "serve.json";
+    public static final String SERVE_SUB_TOOL_DESCRIPTION = "Runs a resident generation server which accepts fhir and " +
+            "cds generation requests on the loopback interface.";
 
 
     public class PrintStrings {
@@ -110,6 +130,20 @@ public class HealthCmdConstants {
                 + "--excluded-profile cannot be used together.";
         public static final String CDS_HOOKS_VALIDATION = "[ERROR] CDS hooks validation failed!";
         public static final String INVALID_CONFIG_PATH = "[ERROR] Cannot find the configuration file provided for the input[-i] path argument.";
+        public static final String BATCH_MANIFEST_INVALID = "[ERROR] Invalid batch manifest: ";
+        public static final String BATCH_FHIR_VERSION_MISMATCH = "[ERROR] All the specifications of a batch must be "
+                + "of the same FHIR version. Mismatching specification: ";
+        public static final String BATCH_OVERWRITE_PROMPT = "%d of the packages already exist. Do you want to "
+                + "overwrite them? (y/n): ";
+        public static final String BATCH_CANCELLED = "[INFO] Batch generation cancelled.";
+        public static final String BATCH_PKG_GEN_SUCCESS = "[INFO] Generated package: ";
+        public static final String BATCH_PKG_GEN_FAILED = "[ERROR] Failed to generate package: ";
+        public static final String SERVE_STARTED = "[INFO] Health tool server is listening on %s:%d. Connection "
+                + "details are written to: %s";
+        public static final String SERVE_STOPPED = "[INFO] Health tool server stopped.";
+        public static final String SERVE_START_FAILED = "[ERROR] Unable to start the health tool server: ";
+        public static final String PROFILE_REPORT_WRITTEN = "[INFO] Profile report written to: ";
+        public static final String PROFILE_REPORT_FAILED = "[WARNING] Unable to write the profile report: ";
 
     }
 
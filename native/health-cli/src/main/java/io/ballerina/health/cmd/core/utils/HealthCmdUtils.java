@@ -1,26 +1,35 @@
 package io.ballerina.health.cmd.core.utils;
 
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import io.ballerina.cli.launcher.BLauncherException;
 import io.ballerina.health.cmd.core.exception.BallerinaHealthException;
 import net.consensys.cava.toml.Toml;
 import net.consensys.cava.toml.TomlArray;
 import net.consensys.cava.toml.TomlParseResult;
 import net.consensys.cava.toml.TomlTable;
+import org.wso2.healthcare.codegen.output.OutputSink;
+import org.wso2.healthcare.codegen.profile.GenerationProfiler;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.TemplateGenerator;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.ToolContext;
 import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.PrintStream;
 import java.lang.management.ManagementFactory;
 import java.lang.management.RuntimeMXBean;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Stream;
 
 /**
@@ -104,6 +113,52 @@ public class HealthCmdUtils {
         }
     }
 
+    /**
+     * Print the summary of the files written by the template generators.
+     *
+     * @param generatorProperties properties passed to the template generators
+     * @param printStream         print stream
+     */
+    public static void printOutputSummary(Map<String, Object> generatorProperties, PrintStream printStream) {
+        Object outputSink = generatorProperties != null ? generatorProperties.get(OutputSink.PROPERTY_NAME) : null;
+        if (outputSink instanceof OutputSink) {
+            printStream.println(((OutputSink) outputSink).getSummary());
+        }
+    }
+
+    /**
+     * Write the profile report of a generation run as JSON. A report which cannot be written does not fail the
+     * generation, hence the failure is only printed.
+     *
+     * @param profiler      profiler of the generation run
+     * @param reportPath    path the report is written to
+     * @param executionPath path relative report paths are resolved against
+     * @param command       sub command of the run
+     * @param mode          execution mode of the run
+     * @param printStream   print stream
+     */
+    public static void writeProfileReport(GenerationProfiler profiler, String reportPath, Path executionPath,
+                                          String command, String mode, PrintStream printStream) {
+        Path reportFile = executionPath.resolve(reportPath);
+        JsonObject report = new JsonObject();
+        report.addProperty("command", command);
+        report.addProperty("mode", mode);
+        for (Map.Entry<String, JsonElement> entry : profiler.toJson().entrySet()) {
+            report.add(entry.getKey(), entry.getValue());
+        }
+        try {
+            Path parent = reportFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(reportFile, new GsonBuilder().setPrettyPrinting().create().toJson(report),
+                    StandardCharsets.UTF_8);
+            printStream.println(HealthCmdConstants.PrintStrings.PROFILE_REPORT_WRITTEN + reportFile);
+        } catch (IOException e) {
+            printStream.println(HealthCmdConstants.PrintStrings.PROFILE_REPORT_FAILED + e.getMessage());
+        }
+    }
+
     public static InputStream getResourceFile(Class<?> handlerClass, String fileName) throws BallerinaHealthException {
         ClassLoader classLoader = handlerClass.getClassLoader();
         InputStream ioStream = classLoader.getResourceAsStream(fileName);
@@ -139,73 +194,90 @@ public class HealthCmdUtils {
         return JsonParser.parseString(josnString).getAsJsonObject();
     }
 
+    /**
+     * Detect the FHIR release of a specification directory. The fhirVersion of the first ImplementationGuide found
+     * in the directory is used, falling back to the first StructureDefinition. Files are scanned concurrently and
+     * only read until the resourceType and fhirVersion properties are found.
+     *
+     * @param specificationPath specification directory
+     * @return FHIR release, e.g. r4, or null if the version cannot be detected
+     * @throws IOException if the specification directory cannot be traversed
+     */
     public static String getSpecFhirVersion(String specificationPath) throws IOException {
+        List<Path> jsonFiles;
         try (Stream<Path> paths = Files.walk(Paths.get(specificationPath))) {
-            List<Path> jsonFiles = paths
-                    .filter(Files::isRegularFile)
+            jsonFiles = paths
                     .filter(path -> path.toString().endsWith(".json"))
+                    .filter(Files::isRegularFile)
                     .toList();
+        }
 
-            Path implGuide = jsonFiles.stream()
-                    .filter(path -> path.getFileName().toString().startsWith("ImplementationGuide"))
-                    .filter(path -> {
-                        try{
-                            String content = Files.readString(path);
-                            JsonObject json = JsonParser.parseString(content).getAsJsonObject();
-                            return json.has("resourceType") &&
-                                    json.get("resourceType").getAsString().equals("ImplementationGuide") &&
-                                    json.has("fhirVersion");
-                        }
-                        catch (Exception e){
-                            return false;
-                        }
-                    })
-                    .findFirst()
-                    .orElse(null);
-
-            Path structureDefinition = jsonFiles.stream()
-                    .filter(path -> path.getFileName().toString().startsWith("StructureDefinition"))
-                    .filter(path -> {
-                        try{
-                            String content = Files.readString(path);
-                            JsonObject json = JsonParser.parseString(content).getAsJsonObject();
-                            return json.has("resourceType") &&
-                                    json.get("resourceType").getAsString().equals("StructureDefinition") &&
-                                    json.has("fhirVersion");
-                        }
-                        catch (Exception e){
-                            return false;
-                        }
-                    })
-                    .findFirst()
-                    .orElse(null);
-
-            Path target = implGuide != null ? implGuide : structureDefinition;
-            return target != null ? HealthCmdUtils.extractFhirVersion(target) : null;
+        String fhirVersion = sniffFhirVersion(jsonFiles, "ImplementationGuide");
+        if (fhirVersion == null) {
+            fhirVersion = sniffFhirVersion(jsonFiles, "StructureDefinition");
+        }
+        if (fhirVersion == null) {
+            return null;
+        }
+        if (fhirVersion.startsWith("4.")) {
+            return "r4";
+        } else if (fhirVersion.startsWith("5.")) {
+            return "r5";
         }
+        return fhirVersion;
     }
 
-    private static String extractFhirVersion(Path path) {
-        String fhirVersion = "";
+    private static String sniffFhirVersion(List<Path> jsonFiles, String resourceType) {
+        // findFirst keeps the result independent of the scheduling of the parallel scan
+        return jsonFiles.parallelStream()
+                .filter(path -> path.getFileName().toString().startsWith(resourceType))
+                .map(path -> readFhirVersion(path, resourceType))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
 
-        try {
-            String content = Files.readString(path);
-            if (path.toString().endsWith(".json")) {
-                JsonObject json = JsonParser.parseString(content).getAsJsonObject();
-                fhirVersion = json.has("fhirVersion") ? json.get("fhirVersion").getAsString() : null;
+    /**
+     * Read the fhirVersion of a resource of the given type without parsing the whole file.
+     *
+     * @return fhirVersion of the resource, or null if the file is not a resource of the given type with a version
+     */
+    private static String readFhirVersion(Path path, String expectedResourceType) {
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(path, StandardCharsets.UTF_8))) {
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                return null;
             }
-
-            if (fhirVersion.startsWith("4.")) {
-                fhirVersion = "r4";
-            } else if (fhirVersion.startsWith("5.")) {
-                fhirVersion = "r5";
+            reader.beginObject();
+            String resourceType = null;
+            String fhirVersion = null;
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if ("resourceType".equals(name) && reader.peek() == JsonToken.STRING) {
+                    resourceType = reader.nextString();
+                    if (!expectedResourceType.equals(resourceType)) {
+                        return null;
+                    }
+                } else if ("fhirVersion".equals(name) && reader.peek() == JsonToken.STRING) {
+                    fhirVersion = reader.nextString();
+                } else if ("fhirVersion".equals(name) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    // ImplementationGuide.fhirVersion is a list, the first version is used
+                    reader.beginArray();
+                    if (reader.hasNext() && reader.peek() == JsonToken.STRING) {
+                        fhirVersion = reader.nextString();
+                    }
+                    while (reader.hasNext()) {
+                        reader.skipValue();
+                    }
+                    reader.endArray();
+                } else {
+                    reader.skipValue();
+                }
+                if (resourceType != null && fhirVersion != null) {
+                    return fhirVersion;
+                }
             }
-
-            return fhirVersion;
-        } catch (NullPointerException e) {
-            System.err.println("FHIR version not found in the file: " + e.getMessage());
-        } catch (IOException e) {
-            System.err.println("Error reading FHIR version from file: " + e.getMessage());
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            return null;
         }
         return null;
     }
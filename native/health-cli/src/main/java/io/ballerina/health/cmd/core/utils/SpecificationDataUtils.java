@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.health.cmd.core.utils;
+
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.common.FHIRSpecificationData;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRImplementationGuide;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Utility methods for the FHIR specification data of the framework.
+ * <p>
+ * The specification data may outlive a single generation when several generations run in the same process, e.g. in
+ * the serve mode. Each generation starts from the base definitions loaded by the framework, hence the
+ * implementation guides and data types of previous generations must not be visible to it.
+ */
+public class SpecificationDataUtils {
+
+    private static final Map<String, Set<String>> BASE_DATA_TYPES = new ConcurrentHashMap<>();
+
+    private SpecificationDataUtils() {
+    }
+
+    /**
+     * Reset the specification data to the base definitions of the FHIR version. The data types present when this
+     * is first called for a FHIR version are taken as its base data types.
+     *
+     * @param fhirVersion       FHIR version
+     * @param specificationData initialized specification data
+     */
+    public static void resetToBaseDefinitions(String fhirVersion, FHIRSpecificationData specificationData) {
+        specificationData.getFhirImplementationGuides().clear();
+        Set<String> baseDataTypes = BASE_DATA_TYPES.computeIfAbsent(fhirVersion,
+                version -> Set.copyOf(specificationData.getDataTypes().keySet()));
+        specificationData.getDataTypes().keySet().retainAll(baseDataTypes);
+    }
+
+    /**
+     * Count the resource definitions of the implementation guides of the specification data.
+     *
+     * @param specificationData specification data
+     * @return resource definition count
+     */
+    public static int countResources(FHIRSpecificationData specificationData) {
+        int count = 0;
+        for (FHIRImplementationGuide implementationGuide : specificationData.getFhirImplementationGuides().values()) {
+            count += implementationGuide.getResources().size();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.health.cmd.core.utils;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.healthcare.codegen.scope.ServiceScope;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Narrows a specification directory down to the resource profiles selected for template generation.
+ * <p>
+ * Template mode generates services only for the included profiles, or for the profiles which are not excluded, and
+ * in aggregated mode only for the given resource types. The headers of the specification files are read without
+ * parsing the whole files and the files are staged in a temporary directory, leaving out the resource profiles which
+ * are not selected together with the search parameters of the resource types left out. The base definitions of the
+ * selected profiles and the other resources of the specification, e.g. value sets, are kept. The staged directory is
+ * parsed in place of the specification directory.
+ * <p>
+ * The selection is the same as the one applied by the template tool, which still filters the parsed profiles. The
+ * profiles of the resource types for which the tool generates no service are never selected, but are kept as they are.
+ * When none of the included profiles or resource types is found among the rest, the tool generates templates for all
+ * the profiles, hence the specification is not narrowed down.
+ */
+public class SpecificationFilter {
+
+    private static final Log LOG = LogFactory.getLog(SpecificationFilter.class);
+
+    private static final String STRUCTURE_DEFINITION = "StructureDefinition";
+    private static final String SEARCH_PARAMETER = "SearchParameter";
+    private static final String RESOURCE_KIND = "resource";
+
+    private final Set<String> includedProfiles;
+    private final Set<String> excludedProfiles;
+    private final Set<String> resourceTypes;
+
+    public SpecificationFilter(String[] includedProfiles, String[] excludedProfiles,
+                               Collection<String> resourceTypes) {
+        this.includedProfiles = toSet(includedProfiles != null ? Arrays.asList(includedProfiles) : null);
+        this.excludedProfiles = toSet(excludedProfiles != null ? Arrays.asList(excludedProfiles) : null);
+        this.resourceTypes = toSet(resourceTypes);
+    }
+
+    /**
+     * Check whether the filter selects all the profiles of any specification.
+     *
+     * @return true if no profile or resource type filter is set
+     */
+    public boolean isEmpty() {
+        return includedProfiles.isEmpty() && excludedProfiles.isEmpty() && resourceTypes.isEmpty();
+    }
+
+    /**
+     * Stage the files of the specification required for the selected profiles in a temporary directory.
+     *
+     * @param specificationPath specification directory
+     * @return staged specification directory, or null if all the files of the specification are required
+     * @throws IOException if the specification cannot be read or the staged directory cannot be written
+     */
+    public Path stage(String specificationPath) throws IOException {
+        if (isEmpty()) {
+            return null;
+        }
+        LOG.debug("Started: Specification filtering");
+        Path specificationDirectory = Paths.get(specificationPath).toAbsolutePath().normalize();
+        List<Path> specificationFiles;
+        try (Stream<Path> paths = Files.walk(specificationDirectory)) {
+            specificationFiles = paths.filter(Files::isRegularFile).sorted().toList();
+        }
+
+        Map<Path, ResourceHeader> headers = new HashMap<>();
+        Map<String, ResourceHeader> definitionsByUrl = new HashMap<>();
+        List<ResourceHeader> resourceProfiles = new ArrayList<>();
+        for (Path specificationFile : specificationFiles) {
+            if (!specificationFile.toString().endsWith(".json")) {
+                continue;
+            }
+            ResourceHeader header = readHeader(specificationFile);
+            if (header == null) {
+                continue;
+            }
+            headers.put(specificationFile, header);
+            if (STRUCTURE_DEFINITION.equals(header.resourceType)) {
+                if (header.url != null) {
+                    definitionsByUrl.putIfAbsent(header.url, header);
+                }
+                if (RESOURCE_KIND.equals(header.kind)) {
+                    resourceProfiles.add(header);
+                }
+            }
+        }
+
+        List<ResourceHeader> serviceProfiles = new ArrayList<>();
+        for (ResourceHeader profile : resourceProfiles) {
+            if (!ServiceScope.EXCLUDED_RESOURCE_TYPES.contains(profile.type)) {
+                serviceProfiles.add(profile);
+            }
+        }
+        Set<ResourceHeader> selectedProfiles = selectProfiles(serviceProfiles);
+        if (selectedProfiles.size() == serviceProfiles.size()) {
+            LOG.debug("Ended: Specification filtering, all the profiles are selected");
+            return null;
+        }
+
+        // the base definitions of the selected profiles are required to parse them
+        Set<ResourceHeader> requiredProfiles = new HashSet<>();
+        for (ResourceHeader profile : selectedProfiles) {
+            ResourceHeader definition = profile;
+            while (definition != null && requiredProfiles.add(definition)) {
+                definition = definition.baseDefinition != null ? definitionsByUrl.get(definition.baseDefinition) :
+                        null;
+            }
+        }
+        Set<String> requiredTypes = new HashSet<>();
+        for (ResourceHeader profile : requiredProfiles) {
+            if (profile.type != null) {
+                requiredTypes.add(profile.type);
+            }
+        }
+
+        Path stagingDirectory = Files.createTempDirectory("health-tool-specification");
+        int skippedCount = 0;
+        try {
+            for (Path specificationFile : specificationFiles) {
+                ResourceHeader header = headers.get(specificationFile);
+                if (header != null && !isRequired(header, requiredProfiles, requiredTypes)) {
+                    skippedCount++;
+                    continue;
+                }
+                Path stagedFile = stagingDirectory.resolve(specificationDirectory.relativize(specificationFile));
+                Files.createDirectories(stagedFile.getParent());
+                try {
+                    Files.createLink(stagedFile, specificationFile);
+                } catch (IOException | UnsupportedOperationException e) {
+                    // e.g. the temporary directory is on another file system
+                    Files.copy(specificationFile, stagedFile);
+                }
+            }
+        } catch (IOException e) {
+            delete(stagingDirectory);
+            throw e;
+        }
+        LOG.debug("Ended: Specification filtering, " + skippedCount + " of " + specificationFiles.size() +
+                " files left out");
+        return stagingDirectory;
+    }
+
+    /**
+     * Delete a staged specification directory.
+     *
+     * @param stagingDirectory staged specification directory
+     */
+    public static void delete(Path stagingDirectory) {
+        if (stagingDirectory == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(stagingDirectory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            LOG.debug("Unable to delete the staged specification: " + stagingDirectory, e);
+        }
+    }
+
+    private Set<ResourceHeader> selectProfiles(List<ResourceHeader> resourceProfiles) {
+        Set<ResourceHeader> selectedProfiles = new LinkedHashSet<>();
+        if (!includedProfiles.isEmpty()) {
+            for (ResourceHeader profile : resourceProfiles) {
+                if (includedProfiles.contains(profile.url)) {
+                    selectedProfiles.add(profile);
+                }
+            }
+        } else {
+            for (ResourceHeader profile : resourceProfiles) {
+                if (!excludedProfiles.contains(profile.url)) {
+                    selectedProfiles.add(profile);
+                }
+            }
+        }
+        if (selectedProfiles.isEmpty()) {
+            // nothing included, templates are generated for all the profiles
+            selectedProfiles.addAll(resourceProfiles);
+        }
+        if (!resourceTypes.isEmpty()) {
+            Set<ResourceHeader> typedProfiles = new LinkedHashSet<>();
+            for (ResourceHeader profile : selectedProfiles) {
+                if (resourceTypes.contains(profile.type)) {
+                    typedProfiles.add(profile);
+                }
+            }
+            if (!typedProfiles.isEmpty()) {
+                return typedProfiles;
+            }
+        }
+        return selectedProfiles;
+    }
+
+    private static boolean isRequired(ResourceHeader header, Set<ResourceHeader> requiredProfiles,
+                                      Set<String> requiredTypes) {
+        if (STRUCTURE_DEFINITION.equals(header.resourceType)) {
+            return !RESOURCE_KIND.equals(header.kind) || requiredProfiles.contains(header) ||
+                    ServiceScope.EXCLUDED_RESOURCE_TYPES.contains(header.type);
+        }
+        if (SEARCH_PARAMETER.equals(header.resourceType) && !header.base.isEmpty()) {
+            return !Collections.disjoint(header.base, requiredTypes);
+        }
+        return true;
+    }
+
+    /**
+     * Read the fields of a structure definition or search parameter required for the selection, without parsing the
+     * whole file.
+     *
+     * @return header of the resource, or null if the file is not a structure definition or search parameter
+     */
+    private static ResourceHeader readHeader(Path path) {
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(path, StandardCharsets.UTF_8))) {
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                return null;
+            }
+            reader.beginObject();
+            ResourceHeader header = new ResourceHeader();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                JsonToken token = reader.peek();
+                if ("resourceType".equals(name) && token == JsonToken.STRING) {
+                    header.resourceType = reader.nextString();
+                    if (!STRUCTURE_DEFINITION.equals(header.resourceType) &&
+                            !SEARCH_PARAMETER.equals(header.resourceType)) {
+                        return null;
+                    }
+                } else if ("url".equals(name) && token == JsonToken.STRING) {
+                    header.url = reader.nextString();
+                } else if ("kind".equals(name) && token == JsonToken.STRING) {
+                    header.kind = reader.nextString();
+                } else if ("type".equals(name) && token == JsonToken.STRING) {
+                    header.type = reader.nextString();
+                } else if ("baseDefinition".equals(name) && token == JsonToken.STRING) {
+                    header.baseDefinition = reader.nextString();
+                } else if ("base".equals(name) && token == JsonToken.BEGIN_ARRAY) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        if (reader.peek() == JsonToken.STRING) {
+                            header.base.add(reader.nextString());
+                        } else {
+                            reader.skipValue();
+                        }
+                    }
+                    reader.endArray();
+                } else {
+                    // the snapshot and differential are skipped without being parsed
+                    reader.skipValue();
+                }
+                if (header.isComplete()) {
+                    break;
+                }
+            }
+            return header.resourceType != null ? header : null;
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            // unreadable files are staged as they are
+            return null;
+        }
+    }
+
+    private static Set<String> toSet(Collection<String> values) {
+        Set<String> set = new HashSet<>();
+        if (values != null) {
+            for (String value : values) {
+                if (value != null && !value.trim().isEmpty()) {
+                    set.add(value.trim());
+                }
+            }
+        }
+        return set;
+    }
+
+    private static class ResourceHeader {
+
+        private String resourceType;
+        private String url;
+        private String kind;
+        private String type;
+        private String baseDefinition;
+        private final List<String> base = new ArrayList<>();
+
+        private boolean isComplete() {
+            if (STRUCTURE_DEFINITION.equals(resourceType)) {
+                return url != null && kind != null && type != null && baseDefinition != null;
+            }
+            return SEARCH_PARAMETER.equals(resourceType) && !base.isEmpty();
+        }
+    }
+}
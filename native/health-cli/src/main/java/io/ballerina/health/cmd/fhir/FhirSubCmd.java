@@ -25,6 +25,7 @@ import io.ballerina.health.cmd.core.utils.HealthCmdConstants;
 import io.ballerina.health.cmd.core.utils.HealthCmdUtils;
 import io.ballerina.health.cmd.handler.Handler;
 import io.ballerina.health.cmd.handler.HandlerFactory;
+import org.wso2.healthcare.codegen.profile.GenerationProfiler;
 import picocli.CommandLine;
 
 import java.io.BufferedReader;
@@ -50,9 +51,11 @@ public class FhirSubCmd implements BLauncherCmd {
     private final PrintStream printStream;
     private final boolean exitWhenFinish;
     private final String toolName = "fhir";
-    private final Path executionPath = Paths.get(System.getProperty("user.dir"));
+    private final Path executionPath;
     private final String resourceHome;
     private Path targetOutputPath;
+    private boolean succeeded;
+    private boolean interactive = true;
 
     //resolved path from the input parameter
     private Path specificationPath;
@@ -99,13 +102,38 @@ public class FhirSubCmd implements BLauncherCmd {
     @CommandLine.Option(names = "--minimal", description = "Enable minimal generation mode to skip .choreo folder, OAS files, .gitignore, and Ballerina.toml. Only generates core service files")
     private boolean minimal;
 
+    @CommandLine.Option(names = "--parallel", description = "Enable parallel generation of the resource profiles in package mode and of the resource type templates in template mode")
+    private boolean parallel;
+
+    @CommandLine.Option(names = "--workers", description = "Number of workers to be used in parallel generation. Defaults to the number of available processors")
+    private Integer workers;
+
+    @CommandLine.Option(names = "--streaming", description = "Generate the resource profiles one at a time to bound the memory usage in package mode")
+    private boolean streaming;
+
+    @CommandLine.Option(names = "--full-rebuild", description = "Ignore the generation manifest of the existing package and regenerate all the profiles in package mode")
+    private boolean fullRebuild;
+
+    @CommandLine.Option(names = "--no-cache", description = "Parse the specification without using the specification cache")
+    private boolean noCache;
+
+    @CommandLine.Option(names = "--batch", description = "Batch manifest listing the packages to be generated in package mode")
+    private String batchManifestPath;
+
+    @CommandLine.Option(names = CMD_OPTION_PROFILE_REPORT, description = CMD_OPTION_PROFILE_REPORT_DESCRIPTION)
+    private String profileReportPath;
 
     @CommandLine.Parameters(description = "Custom arguments")
     private List<String> argList;
 
     public FhirSubCmd(PrintStream printStream, boolean exitWhenFinish) {
+        this(printStream, exitWhenFinish, Paths.get(System.getProperty("user.dir")));
+    }
+
+    public FhirSubCmd(PrintStream printStream, boolean exitWhenFinish, Path executionPath) {
         this.printStream = printStream;
         this.exitWhenFinish = exitWhenFinish;
+        this.executionPath = executionPath;
         this.resourceHome = HealthCmdUtils.getRuntimeResourcePath();
         LogManager.getLogManager().reset();
     }
@@ -113,6 +141,7 @@ public class FhirSubCmd implements BLauncherCmd {
     public FhirSubCmd() {
         this.printStream = System.out;
         this.exitWhenFinish = true;
+        this.executionPath = Paths.get(System.getProperty("user.dir"));
         this.resourceHome = HealthCmdUtils.getRuntimeResourcePath();
         LogManager.getLogManager().reset();
     }
@@ -139,30 +168,36 @@ public class FhirSubCmd implements BLauncherCmd {
             }
             printStream.println(HealthCmdConstants.PrintStrings.HELP_ERROR);
             HealthCmdUtils.exitError(exitWhenFinish);
+            return;
         }
-        if (!CMD_CONNECTOR.equals(mode) && (argList == null || argList.isEmpty())) {
+        boolean batch = CMD_MODE_PACKAGE.equals(mode) && batchManifestPath != null && !batchManifestPath.isEmpty();
+        if (!CMD_CONNECTOR.equals(mode) && !batch && (argList == null || argList.isEmpty())) {
             //at minimum arg count is 1 (spec path)
             printStream.println(HealthCmdConstants.PrintStrings.INVALID_NUM_OF_ARGS);
             printStream.println(HealthCmdConstants.PrintStrings.HELP_FOR_MORE_INFO);
             HealthCmdUtils.exitError(exitWhenFinish);
+            return;
         }
         if (mode == null || mode.isEmpty()) {
             //mode is required param
             printStream.println(HealthCmdConstants.PrintStrings.INVALID_MODE);
             printStream.println(HealthCmdConstants.PrintStrings.HELP_FOR_MORE_INFO);
             HealthCmdUtils.exitError(exitWhenFinish);
+            return;
         }
-        if (CMD_MODE_PACKAGE.equals(mode) && (packageName == null || packageName.isEmpty())) {
+        if (CMD_MODE_PACKAGE.equals(mode) && !batch && (packageName == null || packageName.isEmpty())) {
             // package name is a required param in package mode
             printStream.println(HealthCmdConstants.PrintStrings.PKG_NAME_REQUIRED);
             printStream.println(HealthCmdConstants.PrintStrings.HELP_FOR_MORE_INFO);
             HealthCmdUtils.exitError(exitWhenFinish);
+            return;
         }
         if (CMD_MODE_TEMPLATE.equals(mode) && (dependentPackage == null || dependentPackage.isEmpty())) {
             // dependent package is a required param in template mode
             printStream.println(HealthCmdConstants.PrintStrings.DEPENDENT_REQUIRED);
             printStream.println(HealthCmdConstants.PrintStrings.HELP_FOR_MORE_INFO);
             HealthCmdUtils.exitError(exitWhenFinish);
+            return;
         }
         if (!CMD_CONNECTOR.equals(mode) && dependentPackage != null && !dependentPackage.isEmpty()) {
             // regex matching ballerinax/health.fhir.r4
@@ -170,6 +205,7 @@ public class FhirSubCmd implements BLauncherCmd {
                 printStream.println(HealthCmdConstants.PrintStrings.DEPENDENT_INCORRECT);
                 printStream.println(HealthCmdConstants.PrintStrings.HELP_FOR_MORE_INFO);
                 HealthCmdUtils.exitError(exitWhenFinish);
+                return;
             }
         }
         if (CMD_MODE_TEMPLATE.equals(mode) && (dependentPackage == null || dependentPackage.isEmpty())) {
@@ -177,19 +213,23 @@ public class FhirSubCmd implements BLauncherCmd {
             printStream.println(HealthCmdConstants.PrintStrings.DEPENDENT_REQUIRED);
             printStream.println(HealthCmdConstants.PrintStrings.HELP_FOR_MORE_INFO);
             HealthCmdUtils.exitError(exitWhenFinish);
+            return;
         }
         if (includedProfiles != null && excludedProfiles != null) {
             printStream.println(HealthCmdConstants.PrintStrings.INCLUDED_EXCLUDED_TOGETHER);
             printStream.println(HealthCmdConstants.PrintStrings.HELP_FOR_MORE_INFO);
             HealthCmdUtils.exitError(exitWhenFinish);
+            return;
         }
         if (CMD_MODE_CONNECTOR.equals(mode) && (configPath == null || configPath.isEmpty())) {
             //configPath is required param
             printStream.println(HealthCmdConstants.PrintStrings.INVALID_CONFIG_PATH);
             printStream.println(HealthCmdConstants.PrintStrings.HELP_FOR_MORE_INFO);
             HealthCmdUtils.exitError(exitWhenFinish);
+            return;
         }
         if (this.engageSubCommand(mode, argList)) {
+            succeeded = true;
             if (CMD_MODE_TEMPLATE.equals(mode)) {
                 printStream.println(HealthCmdConstants.PrintStrings.TEMPLATE_GEN_SUCCESS_MESSAGE + targetOutputPath);
             } else if (CMD_MODE_CONNECTOR.equals(mode)) {
@@ -205,6 +245,26 @@ public class FhirSubCmd implements BLauncherCmd {
         HealthCmdUtils.exitError(exitWhenFinish);
     }
 
+    /**
+     * Set whether the command may prompt the user. A command run within a host process, e.g. the serve mode, has no
+     * user to answer a prompt, hence existing artifacts are overwritten without prompting.
+     *
+     * @param interactive whether the command may prompt the user
+     */
+    public void setInteractive(boolean interactive) {
+        this.interactive = interactive;
+    }
+
+    /**
+     * Whether the artifacts were generated by the last execution. Used when the command runs within the serve mode,
+     * where the command does not exit the process.
+     *
+     * @return true if the generation succeeded
+     */
+    public boolean isSucceeded() {
+        return succeeded;
+    }
+
     @Override
     public String getName() {
         return toolName;
@@ -238,9 +298,29 @@ public class FhirSubCmd implements BLauncherCmd {
         argsMap.put("--aggregate", aggregate);
         argsMap.put("--resources", resources);
         argsMap.put("--minimal", minimal);
+        argsMap.put(CMD_OPTION_PARALLEL, parallel);
+        argsMap.put(CMD_OPTION_WORKERS, workers);
+        argsMap.put(CMD_OPTION_STREAMING, streaming);
+        argsMap.put(CMD_OPTION_FULL_REBUILD, fullRebuild);
+        argsMap.put(CMD_OPTION_NO_CACHE, noCache);
+        argsMap.put(CMD_OPTION_BATCH, batchManifestPath);
+        argsMap.put(CMD_ARG_OVERWRITE, !interactive);
+        GenerationProfiler profiler = null;
+        if (profileReportPath != null && !profileReportPath.isEmpty()) {
+            profiler = new GenerationProfiler();
+            argsMap.put(GenerationProfiler.PROPERTY_NAME, profiler);
+        }
         getTargetOutputPath();
 
-        if (CMD_MODE_CONNECTOR.equals(mode)) {
+        if (CMD_MODE_PACKAGE.equals(mode) && batchManifestPath != null && !batchManifestPath.isEmpty()) {
+            // the batch manifest lists the specification paths of the packages
+            try {
+                specificationPath = HealthCmdUtils.getSpecificationPath(batchManifestPath, executionPath.toString());
+            } catch (BallerinaHealthException e) {
+                printStream.println(HealthCmdConstants.PrintStrings.INVALID_SPEC_PATH);
+                throw new BLauncherException();
+            }
+        } else if (CMD_MODE_CONNECTOR.equals(mode)) {
             try {
                 specificationPath = HealthCmdUtils.getSpecificationPath(configPath, executionPath.toString());
             } catch (BallerinaHealthException e) {
@@ -257,16 +337,23 @@ public class FhirSubCmd implements BLauncherCmd {
             }
         }
 
-        Handler toolHandler = null;
         try {
-            toolHandler = HandlerFactory.createHandler(toolName, mode, printStream, specificationPath.toString());
-        } catch (BallerinaHealthException e) {
-            printStream.println(e);
-            throw new BLauncherException();
-        }
+            Handler toolHandler = null;
+            try {
+                toolHandler = HandlerFactory.createHandler(toolName, mode, printStream, specificationPath.toString(),
+                        argsMap);
+            } catch (BallerinaHealthException e) {
+                printStream.println(e);
+                throw new BLauncherException();
+            }
 
-        toolHandler.setArgs(argsMap);
-        return toolHandler.execute(specificationPath.toString(), targetOutputPath.toString());
+            return toolHandler.execute(specificationPath.toString(), targetOutputPath.toString());
+        } finally {
+            if (profiler != null) {
+                HealthCmdUtils.writeProfileReport(profiler, profileReportPath, executionPath, toolName, mode,
+                        printStream);
+            }
+        }
     }
 
     /**
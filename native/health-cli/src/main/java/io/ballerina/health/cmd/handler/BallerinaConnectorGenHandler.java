@@ -12,6 +12,8 @@ import io.ballerina.health.cmd.core.exception.BallerinaHealthException;
 import io.ballerina.health.cmd.core.utils.ErrorMessages;
 import io.ballerina.health.cmd.core.utils.HealthCmdConstants;
 import io.ballerina.health.cmd.core.utils.HealthCmdUtils;
+import org.wso2.healthcare.codegen.profile.GenerationProfiler;
+import org.wso2.healthcare.codegen.profile.ProfilerAware;
 import org.wso2.healthcare.codegen.tool.framework.commons.config.ToolConfig;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.TemplateGenerator;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.Tool;
@@ -22,6 +24,7 @@ public class BallerinaConnectorGenHandler implements Handler {
 
     private JsonObject configJson;
     private PrintStream printStream;
+    private GenerationProfiler profiler = GenerationProfiler.disabled();
 
     @Override
     public void init(PrintStream printStream, String configFilePath) {
@@ -46,6 +49,7 @@ public class BallerinaConnectorGenHandler implements Handler {
     @Override
     public void setArgs(Map<String, Object> argsMap) {
 
+        this.profiler = GenerationProfiler.getProfiler(argsMap);
     }
 
     @Override
@@ -80,6 +84,9 @@ public class BallerinaConnectorGenHandler implements Handler {
                 String toolClassName = "org.wso2.healthcare.fhir.ballerina.connectorgen.tool.BallerinaConnectorGenTool";
                 Class<?> toolClazz = classLoader.loadClass(toolClassName);
                 tool = (Tool) toolClazz.getConstructor().newInstance();
+                if (tool instanceof ProfilerAware) {
+                    ((ProfilerAware) tool).setProfiler(profiler);
+                }
                 tool.initialize(toolConfigInstance);
 
                 // No tool context is needed for connector generation
@@ -101,6 +108,7 @@ public class BallerinaConnectorGenHandler implements Handler {
             if (connectorGenerator != null) {
                 try {
                     connectorGenerator.generate(null, connectorGenerator.getGeneratorProperties());
+                    HealthCmdUtils.printOutputSummary(connectorGenerator.getGeneratorProperties(), printStream);
                 } catch (CodeGenException e) {
                     printStream.println(ErrorMessages.UNKNOWN_ERROR + e.getMessage());
                     HealthCmdUtils.throwLauncherException(e);
@@ -33,6 +33,9 @@ import io.ballerina.health.cmd.core.exception.BallerinaHealthException;
 import io.ballerina.health.cmd.core.utils.ErrorMessages;
 import io.ballerina.health.cmd.core.utils.HealthCmdConstants;
 import io.ballerina.health.cmd.core.utils.HealthCmdUtils;
+import org.wso2.healthcare.codegen.output.GenerationCancelledException;
+import org.wso2.healthcare.codegen.profile.GenerationProfiler;
+import org.wso2.healthcare.codegen.profile.ProfilerAware;
 import org.wso2.healthcare.codegen.tool.framework.commons.config.ToolConfig;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.TemplateGenerator;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.Tool;
@@ -63,6 +66,8 @@ public class CrdTemplateGenHandler implements Handler {
     private InputStream cdsHooksJsonSchemaStream;
     private PrintStream printStream;
     private boolean minimal;
+    private boolean overwrite;
+    private GenerationProfiler profiler = GenerationProfiler.disabled();
 
     @Override
     public void init(PrintStream printStream, String cdsToolConfigFilePath) {
@@ -84,6 +89,8 @@ public class CrdTemplateGenHandler implements Handler {
         this.orgName = (String) argsMap.get(CMD_OPTION_ORG_NAME);
         this.packageVersion = (String) argsMap.get(CMD_OPTION_PACKAGE_VERSION);
         this.minimal = argsMap.get(CMD_OPTION_MINIMAL) != null && (boolean) argsMap.get(CMD_OPTION_MINIMAL);
+        this.overwrite = Boolean.TRUE.equals(argsMap.get(CMD_ARG_OVERWRITE));
+        this.profiler = GenerationProfiler.getProfiler(argsMap);
     }
 
     @Override
@@ -98,10 +105,16 @@ public class CrdTemplateGenHandler implements Handler {
         }
 
         if (toolExecConfigs != null) {
-            JsonElement cdsHooksJson = parseTomlToJson(cdsHookDefinitionFilePath);
-
-            // This method will validate the cds hooks json with the json schema
-            validateCdsHooks(cdsHooksJson);
+            JsonElement cdsHooksJson;
+            try (GenerationProfiler.Phase phase = profiler.start(GenerationProfiler.PHASE_SPEC_PARSE)) {
+                cdsHooksJson = parseTomlToJson(cdsHookDefinitionFilePath);
+
+                // This method will validate the cds hooks json with the json schema
+                validateCdsHooks(cdsHooksJson);
+                JsonElement cdsServices = cdsHooksJson.getAsJsonObject().get(CDS_SERVICES);
+                phase.addItems(cdsServices != null && cdsServices.isJsonArray() ?
+                        cdsServices.getAsJsonArray().size() : 0);
+            }
 
             JsonObject toolExecConfigsAsJsonObject = toolExecConfigs.getAsJsonObject();
             toolExecConfigsAsJsonObject.add(HOOKS, cdsHooksJson);
@@ -136,9 +149,15 @@ public class CrdTemplateGenHandler implements Handler {
                     JsonElement overrideConfig = new Gson().toJsonTree(minimal);
                     toolConfigInstance.overrideConfig("project.minimal", overrideConfig);
                 }
+                if (overwrite) {
+                    toolConfigInstance.overrideConfig("project.overwrite", new Gson().toJsonTree(true));
+                }
 
                 Class<?> toolClazz = classLoader.loadClass(CDS_TOOL_CLASS_NAME);
                 tool = (Tool) toolClazz.getConstructor().newInstance();
+                if (tool instanceof ProfilerAware) {
+                    ((ProfilerAware) tool).setProfiler(profiler);
+                }
                 tool.initialize(toolConfigInstance);
 
                 // Here don't have a ToolContext context object to pass
@@ -164,6 +183,10 @@ public class CrdTemplateGenHandler implements Handler {
             if (crdTemplateGenerator != null) {
                 try {
                     crdTemplateGenerator.generate(null, crdTemplateGenerator.getGeneratorProperties());
+                    HealthCmdUtils.printOutputSummary(crdTemplateGenerator.getGeneratorProperties(), printStream);
+                } catch (GenerationCancelledException e) {
+                    // the user kept the existing output, which is not a failure
+                    printStream.println(e.getMessage());
                 } catch (CodeGenException e) {
                     printStream.println(ErrorMessages.UNKNOWN_ERROR + e.getMessage());
                     HealthCmdUtils.throwLauncherException(e);
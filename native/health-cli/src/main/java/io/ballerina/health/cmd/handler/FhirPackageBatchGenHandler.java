@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.health.cmd.handler;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import io.ballerina.cli.launcher.BLauncherException;
+import io.ballerina.health.cmd.core.config.HealthCmdConfig;
+import io.ballerina.health.cmd.core.exception.BallerinaHealthException;
+import io.ballerina.health.cmd.core.utils.ErrorMessages;
+import io.ballerina.health.cmd.core.utils.HealthCmdConstants;
+import io.ballerina.health.cmd.core.utils.HealthCmdUtils;
+import io.ballerina.health.cmd.core.utils.SpecificationDataUtils;
+import org.wso2.healthcare.codegen.profile.GenerationProfiler;
+import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
+import org.wso2.healthcare.codegen.tool.framework.commons.model.JsonConfigType;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.AbstractFHIRSpecParser;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.FHIRSpecParserFactory;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.FHIRTool;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.common.FHIRSpecificationData;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.config.FHIRToolConfig;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRDataTypeDef;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Console;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Handler for batch package generation. Generates a package for each IG listed in a batch manifest:
+ * <pre>
+ * {
+ *   "packages": [
+ *     {"name": "uscore501", "specification": "./us-core", "org": "myorg", "version": "1.0.0",
+ *      "dependentIgs": ["http://hl7.org/fhir/us/core/=ballerinax/health.fhir.r4.uscore501"]},
+ *     {"name": "carinbb200", "specification": "./carin-bb"}
+ *   ]
+ * }
+ * </pre>
+ * Specification paths are relative to the manifest. The FHIR library is initialized once, hence the base
+ * definitions of the FHIR version are loaded once for the whole batch, and the IGs are parsed into the same
+ * specification data. A later IG replaces the data types of the same name parsed from an earlier one, hence the data
+ * types of each IG are copied right after it is parsed. The packages are then generated concurrently, each with its
+ * own tool config and generation session, scoped to its IG and its own copy of the data types.
+ */
+public class FhirPackageBatchGenHandler implements Handler {
+
+    private static final String MANIFEST_PACKAGES = "packages";
+    private static final String MANIFEST_NAME = "name";
+    private static final String MANIFEST_SPECIFICATION = "specification";
+    private static final String MANIFEST_ORG = "org";
+    private static final String MANIFEST_VERSION = "version";
+    private static final String MANIFEST_DEPENDENT_IGS = "dependentIgs";
+
+    private final List<BatchEntry> batchEntries = new ArrayList<>();
+    private String orgName;
+    private String packageVersion;
+    private boolean parallel;
+    private Integer workers;
+    private boolean streaming;
+    private boolean fullRebuild;
+    private boolean overwrite;
+    private GenerationProfiler profiler = GenerationProfiler.disabled();
+
+    private JsonObject configJson;
+    private PrintStream printStream;
+
+    private FHIRTool fhirToolLib;
+
+    @Override
+    public void init(PrintStream printStream, String manifestPath) {
+
+        this.printStream = printStream;
+        try {
+            configJson = HealthCmdConfig.getParsedConfigFromStream(HealthCmdUtils.getResourceFile(
+                    this.getClass(), HealthCmdConstants.CMD_CONFIG_FILENAME));
+            readManifest(Paths.get(manifestPath));
+        } catch (BallerinaHealthException e) {
+            printStream.println(HealthCmdConstants.PrintStrings.BATCH_MANIFEST_INVALID + e.getMessage());
+            HealthCmdUtils.throwLauncherException(e);
+        }
+
+        try {
+            String fhirVersion = null;
+            for (BatchEntry batchEntry : batchEntries) {
+                String specFhirVersion;
+                try (GenerationProfiler.Phase ignored = profiler.start(GenerationProfiler.PHASE_SPEC_DISCOVERY)) {
+                    specFhirVersion = HealthCmdUtils.getSpecFhirVersion(batchEntry.specificationPath);
+                }
+                if (specFhirVersion == null) {
+                    printStream.println(ErrorMessages.LIB_INITIALIZING_FAILED +
+                            "Unable to find FHIR version in the specification: " + batchEntry.specificationPath);
+                    HealthCmdUtils.throwLauncherException(new BallerinaHealthException(batchEntry.specificationPath));
+                } else if (fhirVersion == null) {
+                    fhirVersion = specFhirVersion;
+                } else if (!fhirVersion.equals(specFhirVersion)) {
+                    printStream.println(HealthCmdConstants.PrintStrings.BATCH_FHIR_VERSION_MISMATCH +
+                            batchEntry.specificationPath);
+                    HealthCmdUtils.throwLauncherException(new BallerinaHealthException(batchEntry.specificationPath));
+                }
+            }
+            parseSpecifications(fhirVersion);
+        } catch (IOException e) {
+            printStream.println(ErrorMessages.FHIR_VERSION_READ_ERROR + e.getMessage());
+            HealthCmdUtils.throwLauncherException(e);
+        } catch (CodeGenException e) {
+            printStream.println(ErrorMessages.LIB_INITIALIZING_FAILED + e.getMessage());
+            HealthCmdUtils.throwLauncherException(e);
+        }
+    }
+
+    @Override
+    public void setArgs(Map<String, Object> argsMap) {
+
+        this.orgName = (String) argsMap.get("--org-name");
+        this.packageVersion = (String) argsMap.get("--package-version");
+        this.parallel = Boolean.TRUE.equals(argsMap.get(HealthCmdConstants.CMD_OPTION_PARALLEL));
+        this.workers = (Integer) argsMap.get(HealthCmdConstants.CMD_OPTION_WORKERS);
+        this.streaming = Boolean.TRUE.equals(argsMap.get(HealthCmdConstants.CMD_OPTION_STREAMING));
+        this.fullRebuild = Boolean.TRUE.equals(argsMap.get(HealthCmdConstants.CMD_OPTION_FULL_REBUILD));
+        this.overwrite = Boolean.TRUE.equals(argsMap.get(HealthCmdConstants.CMD_ARG_OVERWRITE));
+        this.profiler = GenerationProfiler.getProfiler(argsMap);
+    }
+
+    /**
+     * @param manifestPath     The batch manifest listing the packages to be generated
+     * @param targetOutputPath The directory which will contain the generated Ballerina packages
+     * @return true if all the packages got generated successfully
+     */
+    @Override
+    public boolean execute(String manifestPath, String targetOutputPath) {
+
+        boolean overwrite = confirmOverwrite(targetOutputPath);
+        int poolSize = Math.min(batchEntries.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+        List<Future<Boolean>> results = new ArrayList<>();
+        List<ByteArrayOutputStream> outputs = new ArrayList<>();
+        try {
+            for (BatchEntry batchEntry : batchEntries) {
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                outputs.add(output);
+                results.add(executor.submit(() -> generatePackage(batchEntry, targetOutputPath, overwrite,
+                        new PrintStream(output, true, StandardCharsets.UTF_8))));
+            }
+
+            List<String> failedPackages = new ArrayList<>();
+            for (int i = 0; i < batchEntries.size(); i++) {
+                BatchEntry batchEntry = batchEntries.get(i);
+                boolean generated;
+                try {
+                    generated = results.get(i).get();
+                } catch (ExecutionException e) {
+                    printStream.println(e.getCause());
+                    generated = false;
+                }
+                printStream.print(outputs.get(i).toString(StandardCharsets.UTF_8));
+                if (generated) {
+                    printStream.println(HealthCmdConstants.PrintStrings.BATCH_PKG_GEN_SUCCESS + batchEntry.name);
+                } else {
+                    printStream.println(HealthCmdConstants.PrintStrings.BATCH_PKG_GEN_FAILED + batchEntry.name);
+                    failedPackages.add(batchEntry.name);
+                }
+            }
+            if (!failedPackages.isEmpty()) {
+                HealthCmdUtils.throwLauncherException(new BallerinaHealthException(
+                        "Failed to generate packages: " + failedPackages));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            HealthCmdUtils.throwLauncherException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+        return true;
+    }
+
+    private boolean generatePackage(BatchEntry batchEntry, String targetOutputPath, boolean overwrite,
+                                    PrintStream packagePrintStream) {
+
+        Map<String, Object> argsMap = new HashMap<>();
+        argsMap.put("--package-name", batchEntry.name);
+        argsMap.put("--org-name", batchEntry.org != null ? batchEntry.org : orgName);
+        argsMap.put("--package-version", batchEntry.version != null ? batchEntry.version : packageVersion);
+        argsMap.put("--dependent-ig", batchEntry.dependentIgs);
+        argsMap.put(HealthCmdConstants.CMD_OPTION_PARALLEL, parallel);
+        argsMap.put(HealthCmdConstants.CMD_OPTION_WORKERS, workers);
+        argsMap.put(HealthCmdConstants.CMD_OPTION_STREAMING, streaming);
+        argsMap.put(HealthCmdConstants.CMD_OPTION_FULL_REBUILD, fullRebuild);
+        argsMap.put(GenerationProfiler.PROPERTY_NAME, profiler);
+
+        FhirPackageGenHandler packageGenHandler = new FhirPackageGenHandler();
+        packageGenHandler.setArgs(argsMap);
+        packageGenHandler.initForBatch(packagePrintStream, configJson, fhirToolLib, batchEntry.igName,
+                batchEntry.dataTypes, overwrite);
+        try {
+            return packageGenHandler.execute(batchEntry.specificationPath, targetOutputPath);
+        } catch (BLauncherException e) {
+            // the cause is already printed by the package handler
+            return false;
+        }
+    }
+
+    /**
+     * Parse the specifications of the batch into the same specification data. The base definitions are loaded
+     * once when the library is initialized; each IG adds its own resources and data types on top of them. The data
+     * types of each IG, i.e. the base data types together with the ones parsed from the IG, are copied before the
+     * next IG is parsed, since the next IG may re-define data types of the same name.
+     */
+    private void parseSpecifications(String fhirVersion) throws CodeGenException {
+
+        FHIRToolConfig fhirToolConfig = new FHIRToolConfig();
+        FHIRSpecificationData specificationData;
+        try (GenerationProfiler.Phase ignored = profiler.start(GenerationProfiler.PHASE_BASE_DEFINITIONS)) {
+            fhirToolConfig.configure(new JsonConfigType(configJson));
+            fhirToolConfig.setSpecBasePath(batchEntries.get(0).specificationPath);
+            fhirToolLib = new FHIRTool(fhirVersion);
+            fhirToolLib.initialize(fhirToolConfig);
+
+            specificationData = (FHIRSpecificationData) fhirToolLib.getToolContext().getSpecificationData();
+            SpecificationDataUtils.resetToBaseDefinitions(fhirVersion, specificationData);
+        }
+        Map<String, FHIRDataTypeDef> baseDataTypes = new HashMap<>(specificationData.getDataTypes());
+        AbstractFHIRSpecParser specParser = FHIRSpecParserFactory.getParser(fhirVersion);
+        for (BatchEntry batchEntry : batchEntries) {
+            Set<String> previousIgs = new HashSet<>(specificationData.getFhirImplementationGuides().keySet());
+            // each IG is parsed on top of the base data types only
+            specificationData.getDataTypes().keySet().retainAll(baseDataTypes.keySet());
+            specificationData.getDataTypes().putAll(baseDataTypes);
+            try (GenerationProfiler.Phase phase = profiler.start(GenerationProfiler.PHASE_SPEC_PARSE)) {
+                int previousResources = SpecificationDataUtils.countResources(specificationData);
+                specParser.parseIG(fhirToolConfig, batchEntry.name, batchEntry.specificationPath);
+                phase.addItems(SpecificationDataUtils.countResources(specificationData) - previousResources);
+            }
+
+            Set<String> parsedIgs = new HashSet<>(specificationData.getFhirImplementationGuides().keySet());
+            parsedIgs.removeAll(previousIgs);
+            if (parsedIgs.size() != 1) {
+                throw new CodeGenException("Unable to identify the IG parsed from the specification: " +
+                        batchEntry.specificationPath);
+            }
+            batchEntry.igName = parsedIgs.iterator().next();
+            batchEntry.dataTypes.putAll(specificationData.getDataTypes());
+        }
+    }
+
+    private void readManifest(Path manifestPath) throws BallerinaHealthException {
+
+        JsonArray packages;
+        try {
+            JsonElement manifest = JsonParser.parseString(Files.readString(manifestPath, StandardCharsets.UTF_8));
+            packages = manifest.getAsJsonObject().getAsJsonArray(MANIFEST_PACKAGES);
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            throw new BallerinaHealthException(manifestPath + ": " + e.getMessage(), e);
+        }
+        if (packages == null || packages.isEmpty()) {
+            throw new BallerinaHealthException("No packages found in " + manifestPath);
+        }
+
+        Path manifestDirectory = manifestPath.toAbsolutePath().getParent();
+        Set<String> packageNames = new HashSet<>();
+        for (JsonElement packageElement : packages) {
+            JsonObject packageObject = packageElement.getAsJsonObject();
+            BatchEntry batchEntry = new BatchEntry();
+            batchEntry.name = getString(packageObject, MANIFEST_NAME);
+            String specification = getString(packageObject, MANIFEST_SPECIFICATION);
+            if (batchEntry.name == null || specification == null) {
+                throw new BallerinaHealthException("Each package requires a " + MANIFEST_NAME + " and a " +
+                        MANIFEST_SPECIFICATION);
+            }
+            if (!packageNames.add(batchEntry.name.toLowerCase())) {
+                throw new BallerinaHealthException("Duplicate package: " + batchEntry.name);
+            }
+            batchEntry.specificationPath = HealthCmdUtils.validateAndSetSpecificationPath(specification,
+                    manifestDirectory.toString()).toString();
+            batchEntry.org = getString(packageObject, MANIFEST_ORG);
+            batchEntry.version = getString(packageObject, MANIFEST_VERSION);
+            JsonArray dependentIgs = packageObject.getAsJsonArray(MANIFEST_DEPENDENT_IGS);
+            if (dependentIgs != null) {
+                batchEntry.dependentIgs = new String[dependentIgs.size()];
+                for (int i = 0; i < dependentIgs.size(); i++) {
+                    batchEntry.dependentIgs[i] = dependentIgs.get(i).getAsString();
+                }
+            }
+            batchEntries.add(batchEntry);
+        }
+    }
+
+    /**
+     * Ask once whether the existing packages of the batch are overwritten, instead of prompting for each package
+     * while the packages are generated concurrently.
+     */
+    private boolean confirmOverwrite(String targetOutputPath) {
+
+        if (overwrite) {
+            return true;
+        }
+        Console console = System.console();
+        if (console == null) {
+            return false;
+        }
+        long existingPackages = batchEntries.stream()
+                .filter(batchEntry -> Files.exists(Paths.get(targetOutputPath, batchEntry.name.toLowerCase())))
+                .count();
+        if (existingPackages == 0) {
+            return false;
+        }
+        String input = console.readLine(String.format(HealthCmdConstants.PrintStrings.BATCH_OVERWRITE_PROMPT,
+                existingPackages));
+        if (!"y".equalsIgnoreCase(input)) {
+            printStream.println(HealthCmdConstants.PrintStrings.BATCH_CANCELLED);
+            HealthCmdUtils.throwLauncherException(new BallerinaHealthException(
+                    HealthCmdConstants.PrintStrings.BATCH_CANCELLED));
+        }
+        return true;
+    }
+
+    private static String getString(JsonObject jsonObject, String memberName) {
+
+        JsonElement element = jsonObject.get(memberName);
+        return element != null && !element.isJsonNull() ? element.getAsString() : null;
+    }
+
+    /**
+     * Package of the batch manifest.
+     */
+    private static class BatchEntry {
+
+        private final Map<String, FHIRDataTypeDef> dataTypes = new HashMap<>();
+        private String name;
+        private String specificationPath;
+        private String org;
+        private String version;
+        private String[] dependentIgs;
+        private String igName;
+    }
+}
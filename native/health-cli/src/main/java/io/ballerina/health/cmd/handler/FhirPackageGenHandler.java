@@ -27,12 +27,17 @@ import io.ballerina.health.cmd.core.exception.BallerinaHealthException;
 import io.ballerina.health.cmd.core.utils.ErrorMessages;
 import io.ballerina.health.cmd.core.utils.HealthCmdConstants;
 import io.ballerina.health.cmd.core.utils.HealthCmdUtils;
+import org.wso2.healthcare.codegen.output.GenerationCancelledException;
+import org.wso2.healthcare.codegen.profile.GenerationProfiler;
+import org.wso2.healthcare.codegen.profile.ProfilerAware;
+import org.wso2.healthcare.codegen.scope.DataTypeScopeAware;
 import org.wso2.healthcare.codegen.tool.framework.commons.config.ToolConfig;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.TemplateGenerator;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.Tool;
 import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
 import org.wso2.healthcare.codegen.tool.framework.commons.model.JsonConfigType;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.FHIRTool;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.model.FHIRDataTypeDef;
 
 import java.io.PrintStream;
 import java.lang.reflect.InvocationTargetException;
@@ -48,11 +53,21 @@ public class FhirPackageGenHandler implements Handler {
     private String packageVersion;
     private String fhirVersion;
     private String[] dependentIgs;
+    private boolean parallel;
+    private Integer workers;
+    private boolean streaming;
+    private boolean fullRebuild;
+    private boolean overwrite;
+    private boolean coreContextBundle = true;
+    private String igName;
+    private Map<String, FHIRDataTypeDef> dataTypes;
 
     private JsonObject configJson;
     private PrintStream printStream;
 
     private FHIRTool fhirToolLib;
+    private boolean useCache = true;
+    private GenerationProfiler profiler = GenerationProfiler.disabled();
 
     @Override
     public void init(PrintStream printStream, String specificationPath) {
@@ -64,10 +79,35 @@ public class FhirPackageGenHandler implements Handler {
         } catch (BallerinaHealthException e) {
             throw new RuntimeException(e);
         }
-        fhirToolLib = (FHIRTool) initializeLib(HealthCmdConstants.CMD_SUB_FHIR, printStream, configJson, specificationPath);
+        fhirToolLib = (FHIRTool) initializeLib(HealthCmdConstants.CMD_SUB_FHIR, printStream, configJson, specificationPath,
+                useCache, profiler);
         fhirVersion = fhirToolLib.getFhirVersion();
     }
 
+    /**
+     * Initialize the handler to generate one package of a batch. The FHIR library is shared by the packages of the
+     * batch and holds the IGs of all of them, hence the IG of the package and the data types parsed for it are
+     * given.
+     *
+     * @param printStream       PrintStream to print the output
+     * @param configJson        parsed tool config
+     * @param fhirToolLib       initialized FHIR library
+     * @param igName            name of the IG the package is generated for
+     * @param dataTypes         data types of the IG, i.e. the base data types and the ones parsed from the IG
+     * @param overwrite         whether an existing package is overwritten without prompting
+     */
+    void initForBatch(PrintStream printStream, JsonObject configJson, FHIRTool fhirToolLib, String igName,
+                      Map<String, FHIRDataTypeDef> dataTypes, boolean overwrite) {
+
+        this.printStream = printStream;
+        this.configJson = configJson;
+        this.fhirToolLib = fhirToolLib;
+        this.fhirVersion = fhirToolLib.getFhirVersion();
+        this.igName = igName;
+        this.dataTypes = dataTypes;
+        this.overwrite = overwrite;
+    }
+
     @Override
     public void setArgs(Map<String, Object> argsMap) {
 
@@ -75,6 +115,14 @@ public class FhirPackageGenHandler implements Handler {
         this.orgName = (String) argsMap.get("--org-name");
         this.packageVersion = (String) argsMap.get("--package-version");
         this.dependentIgs = (String[]) argsMap.get("--dependent-ig");
+        this.parallel = Boolean.TRUE.equals(argsMap.get(HealthCmdConstants.CMD_OPTION_PARALLEL));
+        this.workers = (Integer) argsMap.get(HealthCmdConstants.CMD_OPTION_WORKERS);
+        this.streaming = Boolean.TRUE.equals(argsMap.get(HealthCmdConstants.CMD_OPTION_STREAMING));
+        this.fullRebuild = Boolean.TRUE.equals(argsMap.get(HealthCmdConstants.CMD_OPTION_FULL_REBUILD));
+        this.useCache = !Boolean.TRUE.equals(argsMap.get(HealthCmdConstants.CMD_OPTION_NO_CACHE));
+        this.overwrite = Boolean.TRUE.equals(argsMap.get(HealthCmdConstants.CMD_ARG_OVERWRITE));
+        this.coreContextBundle = !Boolean.FALSE.equals(argsMap.get(HealthCmdConstants.CMD_ARG_CORE_CONTEXT_BUNDLE));
+        this.profiler = GenerationProfiler.getProfiler(argsMap);
     }
 
     /**
@@ -83,6 +131,7 @@ public class FhirPackageGenHandler implements Handler {
      * @return true if tool got executed successfully
      */
     @Override
+    @SuppressWarnings("unchecked")
     public boolean execute(String specificationPath, String targetOutputPath) {
 
         // Holds the default configs
@@ -160,13 +209,43 @@ public class FhirPackageGenHandler implements Handler {
                     JsonElement overrideConfig = new Gson().toJsonTree(dependentIgJsonArray);
                     toolConfigInstance.overrideConfig("packageConfig.dependent.igs", overrideConfig);
                 }
+                if (parallel) {
+                    toolConfigInstance.overrideConfig("parallelGeneration", new Gson().toJsonTree(true));
+                }
+                if (workers != null) {
+                    toolConfigInstance.overrideConfig("workerCount", new Gson().toJsonTree(workers));
+                }
+                if (streaming) {
+                    toolConfigInstance.overrideConfig("streamingGeneration", new Gson().toJsonTree(true));
+                }
+                if (fullRebuild) {
+                    toolConfigInstance.overrideConfig("fullRebuild", new Gson().toJsonTree(true));
+                }
+                if (overwrite) {
+                    toolConfigInstance.overrideConfig("overwrite", new Gson().toJsonTree(true));
+                }
+                if (igName != null) {
+                    toolConfigInstance.overrideConfig("igName", new Gson().toJsonTree(igName));
+                }
+                if (!coreContextBundle) {
+                    toolConfigInstance.overrideConfig("coreContextBundle", new Gson().toJsonTree(false));
+                }
 
                 String toolClassName = "org.wso2.healthcare.fhir.ballerina.packagegen.tool.BallerinaPackageGenTool";
                 Class<?> toolClazz = classLoader.loadClass(toolClassName);
                 tool = (Tool) toolClazz.getConstructor().newInstance();
+                if (tool instanceof ProfilerAware) {
+                    ((ProfilerAware) tool).setProfiler(profiler);
+                }
+                if (dataTypes != null && tool instanceof DataTypeScopeAware) {
+                    ((DataTypeScopeAware<FHIRDataTypeDef>) tool).setDataTypes(dataTypes);
+                }
                 tool.initialize(toolConfigInstance);
 
-                fhirToolLib.getToolImplementations().putIfAbsent(HealthCmdConstants.CMD_MODE_PACKAGE, tool);
+                synchronized (fhirToolLib) {
+                    // packages of a batch are generated concurrently with the same library
+                    fhirToolLib.getToolImplementations().putIfAbsent(HealthCmdConstants.CMD_MODE_PACKAGE, tool);
+                }
                 mainTemplateGenerator = tool.execute(fhirToolLib.getToolContext());
             } catch (ClassNotFoundException e) {
                 printStream.println(ErrorMessages.TOOL_IMPL_NOT_FOUND + e.getMessage());
@@ -191,6 +270,10 @@ public class FhirPackageGenHandler implements Handler {
                             childTemplateGenerator,
                             fhirToolLib.getToolContext(),
                             mainTemplateGenerator.getGeneratorProperties());
+                    HealthCmdUtils.printOutputSummary(mainTemplateGenerator.getGeneratorProperties(), printStream);
+                } catch (GenerationCancelledException e) {
+                    // the user kept the existing output, which is not a failure
+                    printStream.println(e.getMessage());
                 } catch (CodeGenException e) {
                     printStream.println(ErrorMessages.UNKNOWN_ERROR + e.getMessage());
                     HealthCmdUtils.throwLauncherException(e);
@@ -27,6 +27,10 @@ import io.ballerina.health.cmd.core.exception.BallerinaHealthException;
 import io.ballerina.health.cmd.core.utils.ErrorMessages;
 import io.ballerina.health.cmd.core.utils.HealthCmdConstants;
 import io.ballerina.health.cmd.core.utils.HealthCmdUtils;
+import io.ballerina.health.cmd.core.utils.SpecificationFilter;
+import org.wso2.healthcare.codegen.output.GenerationCancelledException;
+import org.wso2.healthcare.codegen.profile.GenerationProfiler;
+import org.wso2.healthcare.codegen.profile.ProfilerAware;
 import org.wso2.healthcare.codegen.tool.framework.commons.config.ToolConfig;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.TemplateGenerator;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.Tool;
@@ -34,9 +38,13 @@ import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenExcep
 import org.wso2.healthcare.codegen.tool.framework.commons.model.JsonConfigType;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.FHIRTool;
 
+import java.io.IOException;
 import java.io.PrintStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -55,11 +63,16 @@ public class FhirTemplateGenHandler implements Handler {
     private boolean aggregate;
     private String resources;
     private boolean minimal;
+    private boolean parallel;
+    private Integer workers;
 
     private JsonObject configJson;
     private PrintStream printStream;
 
     private FHIRTool fhirToolLib;
+    private boolean useCache = true;
+    private boolean overwrite;
+    private GenerationProfiler profiler = GenerationProfiler.disabled();
 
     @Override
     public void init(PrintStream printStream, String specificationPath) {
@@ -71,8 +84,22 @@ public class FhirTemplateGenHandler implements Handler {
         } catch (BallerinaHealthException e) {
             throw new RuntimeException(e);
         }
-        fhirToolLib = (FHIRTool) initializeLib(
-                HealthCmdConstants.CMD_SUB_FHIR, printStream, configJson, specificationPath);
+        // only the profiles selected for the templates, and the definitions they need, are parsed
+        Path filteredSpecificationPath = null;
+        try {
+            try (GenerationProfiler.Phase ignored = profiler.start(GenerationProfiler.PHASE_SPEC_DISCOVERY)) {
+                filteredSpecificationPath = new SpecificationFilter(includedProfiles, excludedProfiles,
+                        getAggregatedResources()).stage(specificationPath);
+            } catch (IOException e) {
+                printStream.println(ErrorMessages.SPEC_FILTERING_FAILED + e.getMessage());
+            }
+            fhirToolLib = (FHIRTool) initializeLib(
+                    HealthCmdConstants.CMD_SUB_FHIR, printStream, configJson,
+                    filteredSpecificationPath != null ? filteredSpecificationPath.toString() : specificationPath,
+                    useCache, profiler);
+        } finally {
+            SpecificationFilter.delete(filteredSpecificationPath);
+        }
         fhirVersion = fhirToolLib.getFhirVersion();
     }
 
@@ -88,6 +115,11 @@ public class FhirTemplateGenHandler implements Handler {
         this.aggregate = (Boolean) argsMap.get("--aggregate");
         this.minimal = (Boolean) argsMap.get("--minimal");
         this.resources = (String) argsMap.get("--resources");
+        this.parallel = Boolean.TRUE.equals(argsMap.get(HealthCmdConstants.CMD_OPTION_PARALLEL));
+        this.workers = (Integer) argsMap.get(HealthCmdConstants.CMD_OPTION_WORKERS);
+        this.useCache = !Boolean.TRUE.equals(argsMap.get(HealthCmdConstants.CMD_OPTION_NO_CACHE));
+        this.overwrite = Boolean.TRUE.equals(argsMap.get(HealthCmdConstants.CMD_ARG_OVERWRITE));
+        this.profiler = GenerationProfiler.getProfiler(argsMap);
     }
 
     @Override
@@ -157,12 +189,11 @@ public class FhirTemplateGenHandler implements Handler {
                     JsonElement aggregateConfig = new Gson().toJsonTree(true);
                     toolConfigInstance.overrideConfig("project.enableAggregatedApi", aggregateConfig);
 
-                    if (resources != null && !resources.trim().isEmpty()) {
-                        // Parse comma-separated resources and create JSON array
-                        String[] resourceArray = resources.split(",");
+                    List<String> aggregatedResources = getAggregatedResources();
+                    if (!aggregatedResources.isEmpty()) {
                         JsonArray resourcesArray = new JsonArray();
-                        for (String resource : resourceArray) {
-                            resourcesArray.add(resource.trim());
+                        for (String resource : aggregatedResources) {
+                            resourcesArray.add(resource);
                         }
                         toolConfigInstance.overrideConfig("project.aggregatedApis", resourcesArray);
                     }
@@ -172,10 +203,22 @@ public class FhirTemplateGenHandler implements Handler {
                     JsonElement minimalConfig = new Gson().toJsonTree(true);
                     toolConfigInstance.overrideConfig("project.minimalGeneration", minimalConfig);
                 }
+                if (parallel) {
+                    toolConfigInstance.overrideConfig("project.parallelGeneration", new Gson().toJsonTree(true));
+                }
+                if (workers != null) {
+                    toolConfigInstance.overrideConfig("project.workerCount", new Gson().toJsonTree(workers));
+                }
+                if (overwrite) {
+                    toolConfigInstance.overrideConfig("project.overwrite", new Gson().toJsonTree(true));
+                }
 
                 Object toolFactory = toolClass.getConstructor().newInstance();
                 Method getToolMethod = toolClass.getMethod("getBallerinaProjectTool", String.class);
                 tool = (Tool) getToolMethod.invoke(toolFactory, fhirVersion);
+                if (tool instanceof ProfilerAware) {
+                    ((ProfilerAware) tool).setProfiler(profiler);
+                }
 
                 tool.initialize(toolConfigInstance);
                 fhirToolLib.getToolImplementations().putIfAbsent(HealthCmdConstants.CMD_MODE_PACKAGE, tool);
@@ -207,6 +250,10 @@ public class FhirTemplateGenHandler implements Handler {
                             childTemplateGenerator,
                             fhirToolLib.getToolContext(),
                             mainTemplateGenerator.getGeneratorProperties());
+                    HealthCmdUtils.printOutputSummary(mainTemplateGenerator.getGeneratorProperties(), printStream);
+                } catch (GenerationCancelledException e) {
+                    // the user kept the existing output, which is not a failure
+                    printStream.println(e.getMessage());
                 } catch (CodeGenException e) {
                     printStream.println(ErrorMessages.UNKNOWN_ERROR + e.getMessage());
                     HealthCmdUtils.throwLauncherException(e);
@@ -220,6 +267,21 @@ public class FhirTemplateGenHandler implements Handler {
         return false;
     }
 
+    /**
+     * Parse the comma-separated resources of the aggregated service.
+     *
+     * @return resource types, which is empty unless the aggregated API mode is enabled with resources
+     */
+    private List<String> getAggregatedResources() {
+        List<String> aggregatedResources = new ArrayList<>();
+        if (aggregate && resources != null && !resources.trim().isEmpty()) {
+            for (String resource : resources.split(",")) {
+                aggregatedResources.add(resource.trim());
+            }
+        }
+        return aggregatedResources;
+    }
+
     private JsonObject populateIGConfig(String name, String orgName, String[] includedProfiles,
                                         String[] excludedProfiles) {
 
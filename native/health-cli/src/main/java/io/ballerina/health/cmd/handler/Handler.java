@@ -19,15 +19,19 @@
 package io.ballerina.health.cmd.handler;
 
 import com.google.gson.JsonObject;
+import io.ballerina.health.cmd.core.cache.SpecificationCache;
 import io.ballerina.health.cmd.core.utils.ErrorMessages;
 import io.ballerina.health.cmd.core.utils.HealthCmdConstants;
 import io.ballerina.health.cmd.core.utils.HealthCmdUtils;
+import io.ballerina.health.cmd.core.utils.SpecificationDataUtils;
+import org.wso2.healthcare.codegen.profile.GenerationProfiler;
 import org.wso2.healthcare.codegen.tool.framework.commons.core.AbstractTool;
 import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
 import org.wso2.healthcare.codegen.tool.framework.commons.model.JsonConfigType;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.AbstractFHIRSpecParser;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.FHIRSpecParserFactory;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.FHIRTool;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.common.FHIRSpecificationData;
 import org.wso2.healthcare.codegen.tool.framework.fhir.core.config.FHIRToolConfig;
 
 import java.io.IOException;
@@ -48,6 +52,35 @@ public interface Handler {
      */
     default AbstractTool initializeLib(String libName, PrintStream printStream, JsonObject configJson, String specificationPath) {
 
+        return initializeLib(libName, printStream, configJson, specificationPath, true);
+    }
+
+    /**
+     * Initialize the protocol library. The parsed FHIR specification is restored from the specification cache when
+     * the specification files are unchanged since a previous run.
+     *
+     * @param printStream       PrintStream to print the output
+     * @param specificationPath Path to the specification
+     * @param useCache          whether the specification cache is used
+     */
+    default AbstractTool initializeLib(String libName, PrintStream printStream, JsonObject configJson,
+                                       String specificationPath, boolean useCache) {
+
+        return initializeLib(libName, printStream, configJson, specificationPath, useCache,
+                GenerationProfiler.disabled());
+    }
+
+    /**
+     * Initialize the protocol library, recording the time spent in each initialization phase with the given profiler.
+     *
+     * @param printStream       PrintStream to print the output
+     * @param specificationPath Path to the specification
+     * @param useCache          whether the specification cache is used
+     * @param profiler          profiler of the generation run
+     */
+    default AbstractTool initializeLib(String libName, PrintStream printStream, JsonObject configJson,
+                                       String specificationPath, boolean useCache, GenerationProfiler profiler) {
+
         if (HealthCmdConstants.CMD_SUB_FHIR.equals(libName)) {
             JsonConfigType toolConfig;
             FHIRTool fhirToolLib;
@@ -55,22 +88,55 @@ public interface Handler {
             String fhirVersion;
 
             try {
-                fhirVersion = HealthCmdUtils.getSpecFhirVersion(specificationPath);
+                try (GenerationProfiler.Phase ignored = profiler.start(GenerationProfiler.PHASE_SPEC_DISCOVERY)) {
+                    fhirVersion = HealthCmdUtils.getSpecFhirVersion(specificationPath);
+                }
 
                 if (fhirVersion == null) {
                     printStream.println(ErrorMessages.LIB_INITIALIZING_FAILED + "Unable to find FHIR version in the specification");
                     return null;
                 }
 
-                toolConfig = new JsonConfigType(configJson);
-                fhirToolLib = new FHIRTool(fhirVersion);
-                fhirToolConfig.configure(toolConfig);
+                FHIRSpecificationData specificationData;
+                try (GenerationProfiler.Phase ignored = profiler.start(GenerationProfiler.PHASE_BASE_DEFINITIONS)) {
+                    toolConfig = new JsonConfigType(configJson);
+                    fhirToolLib = new FHIRTool(fhirVersion);
+                    fhirToolConfig.configure(toolConfig);
 
-                fhirToolConfig.setSpecBasePath(specificationPath);
-                fhirToolLib.initialize(fhirToolConfig);
+                    fhirToolConfig.setSpecBasePath(specificationPath);
+                    fhirToolLib.initialize(fhirToolConfig);
 
-                AbstractFHIRSpecParser specParser = FHIRSpecParserFactory.getParser(fhirVersion);
-                specParser.parseIG(fhirToolConfig, HealthCmdConstants.CMD_DEFAULT_IG_NAME, specificationPath);
+                    specificationData = (FHIRSpecificationData) fhirToolLib.getToolContext().getSpecificationData();
+                    SpecificationDataUtils.resetToBaseDefinitions(fhirVersion, specificationData);
+                }
+                SpecificationCache specificationCache = null;
+                String cacheKey = null;
+                if (useCache) {
+                    specificationCache = SpecificationCache.getDefaultCache();
+                    if (!specificationCache.isSupported()) {
+                        specificationCache = null;
+                    }
+                }
+                if (specificationCache != null) {
+                    try (GenerationProfiler.Phase phase = profiler.start(GenerationProfiler.PHASE_SPEC_CACHE)) {
+                        cacheKey = specificationCache.computeKey(specificationPath, fhirVersion, configJson.toString());
+                        if (specificationCache.restore(cacheKey, specificationData)) {
+                            phase.addItems(SpecificationDataUtils.countResources(specificationData));
+                            return fhirToolLib;
+                        }
+                    }
+                }
+
+                try (GenerationProfiler.Phase phase = profiler.start(GenerationProfiler.PHASE_SPEC_PARSE)) {
+                    AbstractFHIRSpecParser specParser = FHIRSpecParserFactory.getParser(fhirVersion);
+                    specParser.parseIG(fhirToolConfig, HealthCmdConstants.CMD_DEFAULT_IG_NAME, specificationPath);
+                    phase.addItems(SpecificationDataUtils.countResources(specificationData));
+                }
+                if (specificationCache != null) {
+                    try (GenerationProfiler.Phase ignored = profiler.start(GenerationProfiler.PHASE_SPEC_CACHE)) {
+                        specificationCache.store(cacheKey, specificationData);
+                    }
+                }
                 return fhirToolLib;
 
             } catch (IOException e) {
@@ -22,6 +22,7 @@ import io.ballerina.health.cmd.core.exception.BallerinaHealthException;
 import io.ballerina.health.cmd.core.utils.ErrorMessages;
 
 import java.io.PrintStream;
+import java.util.Map;
 
 import static io.ballerina.health.cmd.core.utils.HealthCmdConstants.*;
 
@@ -33,27 +34,45 @@ public class HandlerFactory {
     public static Handler createHandler(String subCommand, String mode, PrintStream printStream, String specificationPath)
             throws BallerinaHealthException {
 
+        return createHandler(subCommand, mode, printStream, specificationPath, null);
+    }
+
+    /**
+     * Create a handler with the given arguments. The arguments are set before the handler is initialized, hence
+     * they can affect the initialization, e.g. the use of the specification cache. Arguments are not set if the
+     * given map is null.
+     */
+    public static Handler createHandler(String subCommand, String mode, PrintStream printStream, String specificationPath,
+                                        Map<String, Object> argsMap) throws BallerinaHealthException {
+
         switch (subCommand + SEMICOLON + mode) {
             case CMD_FHIR_MODE_TEMPLATE:
                 Handler templateHandler = new FhirTemplateGenHandler();
+                setArgs(templateHandler, argsMap);
                 templateHandler.init(printStream, specificationPath);
                 return templateHandler;
 
             case CMD_FHIR_MODE_CLIENT:
-                return new FhirClientGenHandler();
+                Handler clientHandler = new FhirClientGenHandler();
+                setArgs(clientHandler, argsMap);
+                return clientHandler;
 
             case CMD_FHIR_MODE_PACKAGE:
-                Handler packageHandler = new FhirPackageGenHandler();
+                Handler packageHandler = argsMap != null && argsMap.get(CMD_OPTION_BATCH) != null ?
+                        new FhirPackageBatchGenHandler() : new FhirPackageGenHandler();
+                setArgs(packageHandler, argsMap);
                 packageHandler.init(printStream, specificationPath);
                 return packageHandler;
 
             case CMD_CDS_MODE_TEMPLATE:
                 Handler crdTemplateGenHandler = new CrdTemplateGenHandler();
+                setArgs(crdTemplateGenHandler, argsMap);
                 crdTemplateGenHandler.init(printStream, specificationPath);
                 return crdTemplateGenHandler;
 
             case CMD_FHIR_MODE_CONNECTOR:
                 Handler connectorHandler = new BallerinaConnectorGenHandler();
+                setArgs(connectorHandler, argsMap);
                 connectorHandler.init(printStream, specificationPath);
                 return connectorHandler;
 
@@ -61,4 +80,11 @@ public class HandlerFactory {
                 throw new BallerinaHealthException(ErrorMessages.INVALID_MODE);
         }
     }
+
+    private static void setArgs(Handler handler, Map<String, Object> argsMap) {
+
+        if (argsMap != null) {
+            handler.setArgs(argsMap);
+        }
+    }
 }
@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.health.cmd.serve;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import io.ballerina.cli.launcher.BLauncherException;
+import io.ballerina.health.cmd.cds.CdsSubCmd;
+import io.ballerina.health.cmd.core.utils.HealthCmdConstants;
+import io.ballerina.health.cmd.fhir.FhirSubCmd;
+import picocli.CommandLine;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Resident generation server of the health tool. Generation requests are accepted on the loopback interface and run
+ * within the same JVM, hence the requests do not pay for the JVM startup and class loading.
+ * <p>
+ * The protocol is line delimited JSON over TCP; a connection carries a single request and its response. A request
+ * line longer than {@value #MAX_REQUEST_LENGTH} characters is rejected without being read further.
+ * <pre>
+ * request:  {"token": "...", "command": "fhir", "workingDirectory": "/abs/path", "args": ["--mode", "package", ...]}
+ * response: {"exitCode": 0, "output": "..."}
+ * </pre>
+ * Supported commands are {@code fhir} and {@code cds}, which take the arguments of the respective sub commands, and
+ * {@code ping} and {@code shutdown}. Requests must carry the token of the server, which is written together with
+ * the port to a state file readable only by the user who started the server.
+ * <p>
+ * The commands are run without prompting, since there is no user to answer a prompt: existing artifacts in the
+ * output directory are overwritten and a failing generation is reported as a failure response instead of exiting
+ * the process.
+ * <p>
+ * Requests are accepted concurrently, but FHIR requests are serialised: the framework and the FHIR generators keep
+ * process wide state, hence FHIR requests are run one at a time, while CDS requests run alongside them. Each FHIR
+ * request still initializes the framework, which loads the base definitions of the FHIR version, and resets the
+ * specification data to them; the parsed definitions are not kept between requests. A parsed specification is at
+ * most restored from the on-disk specification cache, hence a request spares the JVM startup but otherwise does the
+ * work of a CLI run.
+ */
+public class HealthToolServer {
+
+    private static final String COMMAND_PING = "ping";
+    private static final String COMMAND_SHUTDOWN = "shutdown";
+    private static final int EXIT_CODE_SUCCESS = 0;
+    private static final int EXIT_CODE_FAILURE = 1;
+    private static final int EXIT_CODE_INVALID_REQUEST = 2;
+    private static final int TOKEN_LENGTH = 32;
+    // a request only carries the command line arguments, the specification is read from the file system
+    private static final int MAX_REQUEST_LENGTH = 1024 * 1024;
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor;
+    private final Path stateFile;
+    private final String token;
+    private final ReentrantLock fhirLock = new ReentrantLock(true);
+    private final ReentrantLock cdsLock = new ReentrantLock(true);
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private volatile boolean running;
+
+    public HealthToolServer(int port, int threads, Path stateFile) throws IOException {
+        this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        this.executor = Executors.newFixedThreadPool(threads);
+        this.stateFile = stateFile;
+        byte[] tokenBytes = new byte[TOKEN_LENGTH];
+        new SecureRandom().nextBytes(tokenBytes);
+        this.token = HexFormat.of().formatHex(tokenBytes);
+    }
+
+    /**
+     * Publish the connection details and start accepting requests.
+     *
+     * @throws IOException if the state file cannot be written
+     */
+    public void start() throws IOException {
+        writeStateFile();
+        running = true;
+        Thread acceptor = new Thread(this::acceptConnections, "health-tool-server");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::stop));
+    }
+
+    /**
+     * Block until the server is stopped.
+     *
+     * @throws InterruptedException if the calling thread is interrupted
+     */
+    public void awaitTermination() throws InterruptedException {
+        stopped.await();
+    }
+
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            serverSocket.close();
+        } catch (IOException ignored) {
+            // the server is going down
+        }
+        executor.shutdown();
+        try {
+            Files.deleteIfExists(stateFile);
+        } catch (IOException ignored) {
+            // a stale state file is detected by the clients through a failing connection
+        }
+        stopped.countDown();
+    }
+
+    public String getHost() {
+        return serverSocket.getInetAddress().getHostAddress();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    private void acceptConnections() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                executor.execute(() -> handleConnection(socket));
+            } catch (SocketException e) {
+                // thrown once the server socket is closed
+                break;
+            } catch (IOException e) {
+                if (!running) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private void handleConnection(Socket socket) {
+        try (Socket connection = socket;
+             BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(),
+                     StandardCharsets.UTF_8));
+             BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(connection.getOutputStream(),
+                     StandardCharsets.UTF_8))) {
+            JsonObject response;
+            try {
+                String requestLine = readRequestLine(reader);
+                if (requestLine == null) {
+                    return;
+                }
+                response = handleRequest(JsonParser.parseString(requestLine).getAsJsonObject());
+            } catch (RequestTooLongException e) {
+                response = createResponse(EXIT_CODE_INVALID_REQUEST, "[ERROR] Invalid request: the request exceeds "
+                        + MAX_REQUEST_LENGTH + " characters.");
+            } catch (JsonParseException | IllegalStateException | UnsupportedOperationException e) {
+                response = createResponse(EXIT_CODE_INVALID_REQUEST, "[ERROR] Invalid request: " + e.getMessage());
+            }
+            writer.write(response.toString());
+            writer.write('\n');
+            writer.flush();
+        } catch (IOException ignored) {
+            // the client went away, nothing to respond to
+        }
+    }
+
+    /**
+     * Read the request line, reading at most {@link #MAX_REQUEST_LENGTH} characters of it.
+     *
+     * @return request line, or null if the client closed the connection without sending a request
+     * @throws RequestTooLongException if the request line exceeds the maximum length
+     * @throws IOException             if the request cannot be read
+     */
+    private static String readRequestLine(BufferedReader reader) throws IOException {
+        StringBuilder requestLine = new StringBuilder();
+        int character;
+        while ((character = reader.read()) != -1) {
+            if (character == '\n') {
+                return requestLine.toString();
+            }
+            if (requestLine.length() == MAX_REQUEST_LENGTH) {
+                throw new RequestTooLongException();
+            }
+            requestLine.append((char) character);
+        }
+        return requestLine.length() > 0 ? requestLine.toString() : null;
+    }
+
+    private JsonObject handleRequest(JsonObject request) {
+        JsonElement requestToken = request.get("token");
+        if (requestToken == null || !MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+                requestToken.getAsString().getBytes(StandardCharsets.UTF_8))) {
+            return createResponse(EXIT_CODE_INVALID_REQUEST, "[ERROR] Invalid token.");
+        }
+        String command = request.has("command") ? request.get("command").getAsString() : "";
+        switch (command) {
+            case COMMAND_PING:
+                return createResponse(EXIT_CODE_SUCCESS, "pong");
+            case COMMAND_SHUTDOWN:
+                // respond before the server goes down
+                new Thread(this::stop, "health-tool-server-shutdown").start();
+                return createResponse(EXIT_CODE_SUCCESS, HealthCmdConstants.PrintStrings.SERVE_STOPPED);
+            case HealthCmdConstants.CMD_SUB_FHIR:
+            case HealthCmdConstants.CMD_SUB_CDS:
+                break;
+            default:
+                return createResponse(EXIT_CODE_INVALID_REQUEST, "[ERROR] Unknown command: " + command);
+        }
+
+        JsonElement workingDirectoryElement = request.get("workingDirectory");
+        if (workingDirectoryElement == null || !Path.of(workingDirectoryElement.getAsString()).isAbsolute()) {
+            return createResponse(EXIT_CODE_INVALID_REQUEST, "[ERROR] An absolute working directory is required.");
+        }
+        List<String> args = new ArrayList<>();
+        JsonElement argsElement = request.get("args");
+        if (argsElement != null) {
+            JsonArray argsArray = argsElement.getAsJsonArray();
+            for (JsonElement arg : argsArray) {
+                args.add(arg.getAsString());
+            }
+        }
+        return runCommand(command, Path.of(workingDirectoryElement.getAsString()), args);
+    }
+
+    private JsonObject runCommand(String command, Path workingDirectory, List<String> args) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream printStream = new PrintStream(output, true, StandardCharsets.UTF_8);
+        ReentrantLock lock = HealthCmdConstants.CMD_SUB_FHIR.equals(command) ? fhirLock : cdsLock;
+        int exitCode;
+        lock.lock();
+        try {
+            if (HealthCmdConstants.CMD_SUB_FHIR.equals(command)) {
+                FhirSubCmd fhirSubCmd = new FhirSubCmd(printStream, false, workingDirectory);
+                fhirSubCmd.setInteractive(false);
+                new CommandLine(fhirSubCmd).parseArgs(args.toArray(new String[0]));
+                fhirSubCmd.execute();
+                exitCode = fhirSubCmd.isSucceeded() ? EXIT_CODE_SUCCESS : EXIT_CODE_FAILURE;
+            } else {
+                CdsSubCmd cdsSubCmd = new CdsSubCmd(printStream, false, workingDirectory);
+                cdsSubCmd.setInteractive(false);
+                new CommandLine(cdsSubCmd).parseArgs(args.toArray(new String[0]));
+                cdsSubCmd.execute();
+                exitCode = cdsSubCmd.isSucceeded() ? EXIT_CODE_SUCCESS : EXIT_CODE_FAILURE;
+            }
+        } catch (CommandLine.ParameterException e) {
+            printStream.println("[ERROR] " + e.getMessage());
+            printStream.println(HealthCmdConstants.PrintStrings.HELP_FOR_MORE_INFO);
+            exitCode = EXIT_CODE_INVALID_REQUEST;
+        } catch (BLauncherException e) {
+            exitCode = EXIT_CODE_FAILURE;
+        } catch (RuntimeException e) {
+            printStream.println(HealthCmdConstants.PrintStrings.GEN_ERROR);
+            printStream.println(e);
+            exitCode = EXIT_CODE_FAILURE;
+        } finally {
+            lock.unlock();
+        }
+        printStream.flush();
+        return createResponse(exitCode, output.toString(StandardCharsets.UTF_8));
+    }
+
+    private void writeStateFile() throws IOException {
+        JsonObject state = new JsonObject();
+        state.addProperty("host", getHost());
+        state.addProperty("port", getPort());
+        state.addProperty("token", token);
+        state.addProperty("pid", ProcessHandle.current().pid());
+        state.addProperty("version", HealthToolServer.class.getPackage().getImplementationVersion());
+
+        Files.createDirectories(stateFile.getParent());
+        Path stagingFile = stateFile.resolveSibling("." + stateFile.getFileName() + ".tmp");
+        Files.deleteIfExists(stagingFile);
+        if (stagingFile.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            // the token grants the right to generate files as the user, hence keep it private
+            Files.createFile(stagingFile, PosixFilePermissions.asFileAttribute(
+                    PosixFilePermissions.fromString("rw-------")));
+        }
+        Files.writeString(stagingFile, state.toString(), StandardCharsets.UTF_8);
+        try {
+            Files.move(stagingFile, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(stagingFile, stateFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static JsonObject createResponse(int exitCode, String output) {
+        JsonObject response = new JsonObject();
+        response.addProperty("exitCode", exitCode);
+        response.addProperty("output", output);
+        return response;
+    }
+
+    private static class RequestTooLongException extends IOException {
+    }
+}
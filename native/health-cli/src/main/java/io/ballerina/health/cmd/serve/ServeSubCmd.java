@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.health.cmd.serve;
+
+import io.ballerina.cli.BLauncherCmd;
+import io.ballerina.health.cmd.core.utils.HealthCmdConstants;
+import io.ballerina.health.cmd.core.utils.HealthCmdUtils;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.LogManager;
+
+import static io.ballerina.health.cmd.core.utils.HealthCmdConstants.CMD_OPTION_HELP;
+import static io.ballerina.health.cmd.core.utils.HealthCmdConstants.CMD_OPTION_HELP_SHORTER_1;
+import static io.ballerina.health.cmd.core.utils.HealthCmdConstants.CMD_OPTION_HELP_SHORTER_2;
+import static io.ballerina.health.cmd.core.utils.HealthCmdConstants.CMD_OPTION_PORT;
+import static io.ballerina.health.cmd.core.utils.HealthCmdConstants.CMD_OPTION_THREADS;
+import static io.ballerina.health.cmd.core.utils.HealthCmdConstants.CMD_SUB_SERVE;
+import static io.ballerina.health.cmd.core.utils.HealthCmdConstants.SERVE_STATE_FILENAME;
+import static io.ballerina.health.cmd.core.utils.HealthCmdConstants.SERVE_SUB_TOOL_DESCRIPTION;
+
+/**
+ * Sub command which runs the resident generation server. See {@link HealthToolServer} for the protocol.
+ */
+@CommandLine.Command(name = CMD_SUB_SERVE, description = SERVE_SUB_TOOL_DESCRIPTION)
+public class ServeSubCmd implements BLauncherCmd {
+
+    private final PrintStream printStream;
+    private final boolean exitWhenFinish;
+    private final String toolName = CMD_SUB_SERVE;
+
+    @CommandLine.Option(names = {CMD_OPTION_HELP, CMD_OPTION_HELP_SHORTER_1, CMD_OPTION_HELP_SHORTER_2}, usageHelp = true, hidden = true)
+    private boolean helpFlag;
+
+    @CommandLine.Option(names = {CMD_OPTION_PORT}, description = "Loopback port to listen on. A free port is picked by default")
+    private int port;
+
+    @CommandLine.Option(names = {CMD_OPTION_THREADS}, description = "Maximum number of requests served concurrently")
+    private Integer threads;
+
+    public ServeSubCmd(PrintStream printStream, boolean exitWhenFinish) {
+        this.printStream = printStream;
+        this.exitWhenFinish = exitWhenFinish;
+        LogManager.getLogManager().reset();
+    }
+
+    public ServeSubCmd() {
+        this.printStream = System.out;
+        this.exitWhenFinish = true;
+        LogManager.getLogManager().reset();
+    }
+
+    @Override
+    public void execute() {
+        if (helpFlag) {
+            CommandLine.usage(this, printStream);
+            return;
+        }
+        int threadCount = threads != null && threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        Path stateFile = getStateFilePath();
+        HealthToolServer server;
+        try {
+            server = new HealthToolServer(port, threadCount, stateFile);
+            server.start();
+        } catch (IOException e) {
+            printStream.println(HealthCmdConstants.PrintStrings.SERVE_START_FAILED + e.getMessage());
+            HealthCmdUtils.exitError(exitWhenFinish);
+            return;
+        }
+        printStream.println(String.format(HealthCmdConstants.PrintStrings.SERVE_STARTED, server.getHost(),
+                server.getPort(), stateFile));
+        try {
+            server.awaitTermination();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            server.stop();
+        }
+        printStream.println(HealthCmdConstants.PrintStrings.SERVE_STOPPED);
+    }
+
+    /**
+     * Returns the file the connection details of the running server are written to.
+     *
+     * @return state file path
+     */
+    public static Path getStateFilePath() {
+        return Paths.get(System.getProperty("user.home"), ".ballerina", "health-tool", SERVE_STATE_FILENAME);
+    }
+
+    @Override
+    public String getName() {
+        return toolName;
+    }
+
+    @Override
+    public void printLongDesc(StringBuilder stringBuilder) {
+
+    }
+
+    @Override
+    public void printUsage(StringBuilder stringBuilder) {
+
+    }
+
+    @Override
+    public void setParentCmdParser(CommandLine commandLine) {
+
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.ballerina.health.cmd.core.utils.HealthCmdConstants;
+import io.ballerina.health.cmd.handler.Handler;
+import io.ballerina.health.cmd.handler.HandlerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Generates the package of the USCore (r4) or EuropeBase (r5) profiles in the ways which must not change the
+ * generated package, and checks that the generated packages are byte-identical:
+ * <ul>
+ *     <li>sequential and parallel resource context generation</li>
+ *     <li>sequential and parallel generation of the resource type templates in template mode</li>
+ *     <li>resource contexts derived upfront and streamed, which register the extension data types at different points</li>
+ *     <li>a full rebuild and an incremental regeneration after a profile of the specification is changed</li>
+ *     <li>the bundled and the processed contexts of the FHIR core data types and extensions</li>
+ * </ul>
+ */
+public class OutputEquivalenceTest {
+
+    private static final String ORG_NAME = "ballerinax";
+    private static final String PACKAGE_VERSION = "1.1.0";
+    private static final String GENERATION_MANIFEST_FILE = ".fhir-package-manifest.json";
+
+    private final String packageName;
+    private final Path specificationPath;
+    private final Path outputPath;
+
+    private OutputEquivalenceTest(String packageName, Path specificationPath, Path outputPath) {
+        this.packageName = packageName;
+        this.specificationPath = specificationPath;
+        this.outputPath = outputPath;
+    }
+
+    public static void main(String[] args) throws Exception {
+        /// Uncomment if directly running the OutputEquivalenceTest.java
+        // System.setProperty("fhirVersion", "r4");
+        Path testClassesPath = Paths.get(Objects.requireNonNull(
+                OutputEquivalenceTest.class.getClassLoader().getResource("io")).toURI()).getParent().getParent()
+                .resolve("test-classes");
+        OutputEquivalenceTest test;
+        if ("r4".equalsIgnoreCase(System.getProperty("fhirVersion"))) {
+            test = new OutputEquivalenceTest("health.fhir.r4.uscore501", testClassesPath.resolve("profiles.USCore"),
+                    testClassesPath.resolve("output-equivalence").resolve("r4"));
+        } else {
+            test = new OutputEquivalenceTest("health.fhir.r5.europebase",
+                    testClassesPath.resolve("profiles.EuropeBase"),
+                    testClassesPath.resolve("output-equivalence").resolve("r5"));
+        }
+        deleteDirectory(test.outputPath);
+        test.checkParallelGeneration();
+        test.checkParallelTemplateGeneration();
+        test.checkStreamingGeneration();
+        test.checkIncrementalGeneration();
+        test.checkCoreContextBundle();
+        deleteDirectory(test.outputPath);
+    }
+
+    private void checkParallelGeneration() throws Exception {
+        Path sequentialPath = generate("sequential", specificationPath, new HashMap<>());
+        Map<String, Object> parallelArgs = new HashMap<>();
+        parallelArgs.put(HealthCmdConstants.CMD_OPTION_PARALLEL, true);
+        Path parallelPath = generate("parallel", specificationPath, parallelArgs);
+        assertIdentical(sequentialPath, parallelPath, "sequential and parallel generation");
+    }
+
+    private void checkParallelTemplateGeneration() throws Exception {
+        Path sequentialPath = generateTemplates("sequential-templates", new HashMap<>());
+        Map<String, Object> parallelArgs = new HashMap<>();
+        parallelArgs.put(HealthCmdConstants.CMD_OPTION_PARALLEL, true);
+        Path parallelPath = generateTemplates("parallel-templates", parallelArgs);
+        assertIdentical(sequentialPath, parallelPath, "sequential and parallel template generation");
+    }
+
+    private void checkStreamingGeneration() throws Exception {
+        Path upfrontPath = generate("upfront", specificationPath, new HashMap<>());
+        Map<String, Object> streamingArgs = new HashMap<>();
+        streamingArgs.put(HealthCmdConstants.CMD_OPTION_STREAMING, true);
+        Path streamingPath = generate("streaming", specificationPath, streamingArgs);
+        assertIdentical(upfrontPath, streamingPath, "upfront and streaming generation");
+    }
+
+    private void checkIncrementalGeneration() throws Exception {
+        Path specificationCopy = outputPath.resolve("specification");
+        copyDirectory(specificationPath, specificationCopy);
+        Path incrementalPath = generate("incremental", specificationCopy, new HashMap<>());
+        if (!Files.isRegularFile(incrementalPath.resolve(GENERATION_MANIFEST_FILE))) {
+            throw new AssertionError("Generation manifest not written, incremental generation is disabled");
+        }
+        Path changedProfile = changeProfile(specificationCopy);
+        System.out.println("Changed profile: " + specificationCopy.relativize(changedProfile));
+        generate("incremental", specificationCopy, new HashMap<>());
+
+        Map<String, Object> fullRebuildArgs = new HashMap<>();
+        fullRebuildArgs.put(HealthCmdConstants.CMD_OPTION_FULL_REBUILD, true);
+        Path fullRebuildPath = generate("full", specificationCopy, fullRebuildArgs);
+        assertIdentical(fullRebuildPath, incrementalPath, "full and incremental regeneration");
+
+        // package level files are only generated in a full generation, hence their changes must be detected
+        Path balTomlPath = incrementalPath.resolve("Ballerina.toml");
+        Files.writeString(balTomlPath, Files.readString(balTomlPath, StandardCharsets.UTF_8) + "# edited\n",
+                StandardCharsets.UTF_8);
+        Files.delete(incrementalPath.resolve("variables.bal"));
+        generate("incremental", specificationCopy, new HashMap<>());
+        assertIdentical(fullRebuildPath, incrementalPath, "full and incremental regeneration of edited files");
+    }
+
+    private void checkCoreContextBundle() throws Exception {
+        Path bundledPath = generate("bundled", specificationPath, new HashMap<>());
+        Map<String, Object> processedArgs = new HashMap<>();
+        processedArgs.put(HealthCmdConstants.CMD_ARG_CORE_CONTEXT_BUNDLE, false);
+        Path processedPath = generate("processed", specificationPath, processedArgs);
+        assertIdentical(processedPath, bundledPath, "processed and bundled core contexts");
+    }
+
+    /**
+     * Change the description of the first resource profile of the specification.
+     *
+     * @return path of the changed profile
+     */
+    private static Path changeProfile(Path specification) throws Exception {
+        for (Path file : listFiles(specification)) {
+            Path profilePath = specification.resolve(file);
+            if (!file.toString().endsWith(".json")) {
+                continue;
+            }
+            JsonElement element = JsonParser.parseString(Files.readString(profilePath, StandardCharsets.UTF_8));
+            if (!element.isJsonObject()) {
+                continue;
+            }
+            JsonObject profile = element.getAsJsonObject();
+            if (!"StructureDefinition".equals(getString(profile, "resourceType")) ||
+                    !"resource".equals(getString(profile, "kind"))) {
+                continue;
+            }
+            String description = getString(profile, "description");
+            profile.addProperty("description", (description != null ? description + " " : "") +
+                    "Changed by the output equivalence test.");
+            Files.writeString(profilePath, new GsonBuilder().setPrettyPrinting().create().toJson(profile),
+                    StandardCharsets.UTF_8);
+            return profilePath;
+        }
+        throw new AssertionError("No resource profile found in " + specification);
+    }
+
+    private static String getString(JsonObject jsonObject, String memberName) {
+        JsonElement element = jsonObject.get(memberName);
+        return element != null && element.isJsonPrimitive() ? element.getAsString() : null;
+    }
+
+    /**
+     * Generate the package into the output directory of the given variant.
+     *
+     * @return path of the generated package
+     */
+    private Path generate(String variant, Path specification, Map<String, Object> options) throws Exception {
+        Map<String, Object> argsMap = new HashMap<>(options);
+        argsMap.put("--package-name", packageName);
+        argsMap.put("--package-version", PACKAGE_VERSION);
+        argsMap.put("--org-name", ORG_NAME);
+        argsMap.put(HealthCmdConstants.CMD_OPTION_NO_CACHE, true);
+        argsMap.put(HealthCmdConstants.CMD_ARG_OVERWRITE, true);
+
+        Path variantPath = outputPath.resolve(variant);
+        Files.createDirectories(variantPath);
+        System.out.println("Generating " + packageName + ": " + variant);
+        Handler toolHandler = HandlerFactory.createHandler(HealthCmdConstants.CMD_SUB_FHIR,
+                HealthCmdConstants.CMD_MODE_PACKAGE, System.out, specification.toString(), argsMap);
+        if (!toolHandler.execute(specification.toString(), variantPath.toString())) {
+            throw new AssertionError("Generation failed: " + variant);
+        }
+        return variantPath.resolve(packageName);
+    }
+
+    /**
+     * Generate the templates of all the resource types into the output directory of the given variant.
+     *
+     * @return path of the generated templates
+     */
+    private Path generateTemplates(String variant, Map<String, Object> options) throws Exception {
+        Map<String, Object> argsMap = new HashMap<>(options);
+        argsMap.put("--package-version", PACKAGE_VERSION);
+        argsMap.put("--org-name", ORG_NAME);
+        argsMap.put("--dependent-package", ORG_NAME + "/" + packageName);
+        argsMap.put("--aggregate", false);
+        argsMap.put("--minimal", false);
+        argsMap.put(HealthCmdConstants.CMD_OPTION_NO_CACHE, true);
+        argsMap.put(HealthCmdConstants.CMD_ARG_OVERWRITE, true);
+
+        Path variantPath = outputPath.resolve(variant);
+        Files.createDirectories(variantPath);
+        System.out.println("Generating the templates of " + packageName + ": " + variant);
+        Handler toolHandler = HandlerFactory.createHandler(HealthCmdConstants.CMD_SUB_FHIR,
+                HealthCmdConstants.CMD_MODE_TEMPLATE, System.out, specificationPath.toString(), argsMap);
+        if (!toolHandler.execute(specificationPath.toString(), variantPath.toString())) {
+            throw new AssertionError("Template generation failed: " + variant);
+        }
+        return variantPath;
+    }
+
+    /**
+     * Compare the files of two generated packages byte by byte.
+     */
+    private static void assertIdentical(Path expectedPath, Path actualPath, String comparison) throws Exception {
+        List<Path> expectedFiles = listFiles(expectedPath);
+        List<Path> actualFiles = listFiles(actualPath);
+        if (expectedFiles.isEmpty()) {
+            throw new AssertionError("Nothing generated for " + comparison + ": " + expectedPath);
+        }
+        if (!expectedFiles.equals(actualFiles)) {
+            List<Path> missingFiles = new ArrayList<>(expectedFiles);
+            missingFiles.removeAll(actualFiles);
+            List<Path> extraFiles = new ArrayList<>(actualFiles);
+            extraFiles.removeAll(expectedFiles);
+            throw new AssertionError("Generated files differ for " + comparison + ", missing: " + missingFiles +
+                    ", extra: " + extraFiles);
+        }
+        for (Path file : expectedFiles) {
+            if (!Arrays.equals(Files.readAllBytes(expectedPath.resolve(file)),
+                    Files.readAllBytes(actualPath.resolve(file)))) {
+                throw new AssertionError("Generated file differs for " + comparison + ": " + file);
+            }
+        }
+        System.out.println("Output equivalence check passed for " + comparison + ": " + expectedFiles.size() +
+                " files");
+    }
+
+    private static List<Path> listFiles(Path directory) throws Exception {
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(Files::isRegularFile).map(directory::relativize).sorted().toList();
+        }
+    }
+
+    private static void copyDirectory(Path source, Path target) throws Exception {
+        for (Path file : listFiles(source)) {
+            Path targetFile = target.resolve(file.toString());
+            Files.createDirectories(targetFile.getParent());
+            Files.copy(source.resolve(file), targetFile);
+        }
+    }
+
+    private static void deleteDirectory(Path directory) throws Exception {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import com.google.gson.JsonObject;
+import io.ballerina.health.cmd.core.cache.SpecificationCache;
+import io.ballerina.health.cmd.core.config.HealthCmdConfig;
+import io.ballerina.health.cmd.core.utils.HealthCmdConstants;
+import io.ballerina.health.cmd.core.utils.HealthCmdUtils;
+import io.ballerina.health.cmd.core.utils.SpecificationDataUtils;
+import org.wso2.healthcare.codegen.tool.framework.commons.model.JsonConfigType;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.FHIRSpecParserFactory;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.FHIRTool;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.common.FHIRSpecificationData;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.config.FHIRToolConfig;
+
+import java.io.File;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Stores the parsed USCore specification in a specification cache, restores it into a freshly initialized framework
+ * and checks that the restored specification is the one which was parsed. Fails if the parsed specification cannot
+ * be serialized, since the cache would then be disabled for every run.
+ */
+public class SpecificationCacheTest {
+
+    private static final String FHIR_VERSION = "r4";
+
+    public static void main(String[] args) throws Exception {
+        Path testClassesPath = Paths.get(Objects.requireNonNull(
+                SpecificationCacheTest.class.getClassLoader().getResource("io")).toURI()).getParent().getParent()
+                .resolve("test-classes");
+        String specificationPath = testClassesPath.resolve("profiles.USCore").toString();
+        Path cacheDirectory = testClassesPath.resolve("specification-cache");
+        System.out.println("Spec Path: " + specificationPath);
+        System.out.println("Cache Path: " + cacheDirectory);
+
+        JsonObject configJson = HealthCmdConfig.getParsedConfigFromStream(HealthCmdUtils.getResourceFile(
+                SpecificationCacheTest.class, HealthCmdConstants.CMD_CONFIG_FILENAME));
+        deleteDirectory(cacheDirectory);
+        SpecificationCache specificationCache = new SpecificationCache(cacheDirectory);
+        check(specificationCache.isSupported(), "The empty specification cache is disabled");
+
+        // cold run: parse and store
+        FHIRToolConfig parsedToolConfig = new FHIRToolConfig();
+        FHIRSpecificationData parsedData = initialize(configJson, specificationPath, parsedToolConfig);
+        String key = specificationCache.computeKey(specificationPath, FHIR_VERSION, configJson.toString());
+        check(!specificationCache.restore(key, parsedData), "Cache hit on an empty specification cache");
+        FHIRSpecParserFactory.getParser(FHIR_VERSION).parseIG(parsedToolConfig,
+                HealthCmdConstants.CMD_DEFAULT_IG_NAME, specificationPath);
+        specificationCache.store(key, parsedData);
+        check(specificationCache.isSupported(), "The parsed specification is not serializable");
+        check(Files.isRegularFile(cacheDirectory.resolve(key + ".bin")),
+                "The specification cache entry is not stored");
+        // the framework keeps the specification data process wide, hence it is copied before the next initialization
+        Set<String> parsedGuides = new HashSet<>(parsedData.getFhirImplementationGuides().keySet());
+        Set<String> parsedDataTypes = new HashSet<>(parsedData.getDataTypes().keySet());
+        int parsedResourceCount = SpecificationDataUtils.countResources(parsedData);
+
+        // warm run: the key is unchanged and the entry is restored
+        String warmKey = specificationCache.computeKey(specificationPath, FHIR_VERSION, configJson.toString());
+        check(key.equals(warmKey), "The cache key of an unchanged specification changed");
+        FHIRSpecificationData restoredData = initialize(configJson, specificationPath, new FHIRToolConfig());
+        check(specificationCache.restore(warmKey, restoredData), "Cache miss on an unchanged specification");
+
+        check(parsedGuides.equals(restoredData.getFhirImplementationGuides().keySet()),
+                "Restored implementation guides differ");
+        check(parsedDataTypes.equals(restoredData.getDataTypes().keySet()), "Restored data types differ");
+        check(parsedResourceCount == SpecificationDataUtils.countResources(restoredData),
+                "Restored resource definitions differ");
+
+        // an entry holding a class outside of the specification model is discarded without being read
+        String rejectedKey = "rejected";
+        Path rejectedEntry = cacheDirectory.resolve(rejectedKey + ".bin");
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(Files.newOutputStream(rejectedEntry))) {
+            outputStream.writeUTF(rejectedKey);
+            outputStream.writeObject(new HashMap<>(Map.of("guide", new File(specificationPath))));
+            outputStream.writeObject(new HashMap<>());
+        }
+        check(!specificationCache.restore(rejectedKey, initialize(configJson, specificationPath,
+                new FHIRToolConfig())), "An entry holding a class outside of the specification model is restored");
+        check(!Files.exists(rejectedEntry), "The rejected specification cache entry is not discarded");
+
+        deleteDirectory(cacheDirectory);
+        System.out.println("Specification cache test passed: " +
+                SpecificationDataUtils.countResources(restoredData) + " resource definitions restored");
+    }
+
+    private static FHIRSpecificationData initialize(JsonObject configJson, String specificationPath,
+                                                    FHIRToolConfig fhirToolConfig) throws Exception {
+        FHIRTool fhirToolLib = new FHIRTool(FHIR_VERSION);
+        fhirToolConfig.configure(new JsonConfigType(configJson));
+        fhirToolConfig.setSpecBasePath(specificationPath);
+        fhirToolLib.initialize(fhirToolConfig);
+        FHIRSpecificationData specificationData =
+                (FHIRSpecificationData) fhirToolLib.getToolContext().getSpecificationData();
+        SpecificationDataUtils.resetToBaseDefinitions(FHIR_VERSION, specificationData);
+        return specificationData;
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    private static void deleteDirectory(Path directory) throws Exception {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.wso2.healthcare.codegen.output.TemplateCache;
+import org.wso2.healthcare.codegen.output.TemplateRenderContext;
+import org.wso2.healthcare.codegen.tool.framework.commons.core.TemplateContext;
+import org.wso2.healthcare.codegen.tool.framework.commons.core.ToolContext;
+import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
+import org.wso2.healthcare.codegen.tool.framework.fhir.core.AbstractFHIRTemplateGenerator;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Renders the package variables template through the shared engine of the {@link TemplateCache} and through the
+ * template engine of the framework generators, which the generators used before, and checks that the rendered
+ * sources are identical. The template covers loops, conditionals, ranges and line gobbling of the directives.
+ */
+public class TemplateCacheTest {
+
+    private static final String TEMPLATE_PATH = "templates/variables.vm";
+    private static final int SEARCH_PARAMETER_COUNT = 150;
+
+    public static void main(String[] args) throws Exception {
+        Path outputDirectory = Files.createTempDirectory("template-cache-test");
+        try {
+            for (boolean isBasePackage : new boolean[]{true, false}) {
+                Map<String, Object> properties = createProperties(isBasePackage);
+
+                TemplateRenderContext renderContext = new TemplateRenderContext();
+                properties.forEach(renderContext::setProperty);
+                String cachedContent = TemplateCache.render(TEMPLATE_PATH, renderContext);
+
+                Path outputFile = outputDirectory.resolve("variables-" + isBasePackage + ".bal");
+                new FrameworkTemplateGenerator(outputDirectory.toString()).render(properties, outputFile);
+                String frameworkContent = Files.readString(outputFile, StandardCharsets.UTF_8);
+
+                check(!cachedContent.isEmpty(), "The template rendered nothing");
+                check(cachedContent.equals(frameworkContent), "The shared engine rendered " + TEMPLATE_PATH +
+                        " differently from the framework engine, base package: " + isBasePackage);
+            }
+        } finally {
+            try (Stream<Path> paths = Files.walk(outputDirectory)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+        System.out.println("Template cache test passed: " + TEMPLATE_PATH + " rendered identically");
+    }
+
+    private static Map<String, Object> createProperties(boolean isBasePackage) {
+        List<Map<String, SearchParameter>> searchParams = new ArrayList<>();
+        for (int i = 0; i < SEARCH_PARAMETER_COUNT; i++) {
+            Map<String, SearchParameter> searchParamTypes = new LinkedHashMap<>();
+            searchParamTypes.put("Patient", new SearchParameter("param-" + i, "TOKEN",
+                    Arrays.asList("Patient", "Practitioner"), "Patient.identifier"));
+            if (i % 3 == 0) {
+                searchParamTypes.put("Observation", new SearchParameter("param-" + i, "REFERENCE",
+                        List.of("Observation"), "Observation.subject"));
+            }
+            searchParams.add(searchParamTypes);
+        }
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("licenseYear", "2025");
+        properties.put("newline", System.lineSeparator());
+        properties.put("isBasePackage", isBasePackage);
+        properties.put("importIdentifier", isBasePackage ? "" : "r4:");
+        properties.put("imports", new LinkedHashSet<>(List.of("ballerinax/health.fhir.r4")));
+        properties.put("igCode", "USCORE");
+        properties.put("searchParams", searchParams);
+        properties.put("searchParameterMaps", Math.floor(SEARCH_PARAMETER_COUNT / 100d));
+        return properties;
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    /**
+     * Renders a template through the template engine the framework sets up for each generator.
+     */
+    private static class FrameworkTemplateGenerator extends AbstractFHIRTemplateGenerator {
+
+        FrameworkTemplateGenerator(String targetDir) throws CodeGenException {
+            super(targetDir);
+        }
+
+        @Override
+        public void generate(ToolContext toolContext, Map<String, Object> generatorProperties) {
+        }
+
+        void render(Map<String, Object> properties, Path outputFile) throws CodeGenException {
+            TemplateContext templateContext = this.getNewTemplateContext();
+            properties.forEach(templateContext::setProperty);
+            this.getTemplateEngine().generateOutputAsFile(TEMPLATE_PATH, templateContext, "",
+                    outputFile.toString());
+        }
+    }
+
+    /**
+     * Search parameter as read by the variables template.
+     */
+    public static class SearchParameter {
+
+        private final String name;
+        private final String type;
+        private final List<String> base;
+        private final String expression;
+
+        public SearchParameter(String name, String type, List<String> base, String expression) {
+            this.name = name;
+            this.type = type;
+            this.base = base;
+            this.expression = expression;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public List<String> getBase() {
+            return base;
+        }
+
+        public String getExpression() {
+            return expression;
+        }
+    }
+}
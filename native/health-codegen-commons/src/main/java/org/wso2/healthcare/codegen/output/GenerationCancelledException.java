@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.healthcare.codegen.output;
+
+import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
+
+/**
+ * Thrown by a generator when the user declines to overwrite the existing output. The generation is stopped and the
+ * existing output is kept; it is not a failure, hence the commands print the message and complete successfully.
+ */
+public class GenerationCancelledException extends CodeGenException {
+
+    public GenerationCancelledException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.codegen.output;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.healthcare.codegen.profile.GenerationProfiler;
+import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Output layer shared by the template generators. Files are only written when their content differs from the
+ * existing file, hence unchanged files keep their modification time and downstream build caches stay valid.
+ * <p>
+ * A sink is created per generation run and handed to the generators through the generator properties. It is safe
+ * to be used by concurrent generators.
+ */
+public class OutputSink {
+
+    public static final String PROPERTY_NAME = "outputSink";
+    public static final String SUMMARY_FORMAT = "[INFO] Generated files: %d written, %d unchanged, %d deleted.";
+
+    private static final Log LOG = LogFactory.getLog(OutputSink.class);
+    private static final String STAGING_FILE_SUFFIX = ".tmp";
+
+    private final GenerationProfiler profiler;
+    private final Set<Path> emittedFiles = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger writtenCount = new AtomicInteger();
+    private final AtomicInteger skippedCount = new AtomicInteger();
+    private final AtomicInteger deletedCount = new AtomicInteger();
+
+    public OutputSink() {
+        this(GenerationProfiler.disabled());
+    }
+
+    /**
+     * @param profiler profiler of the generation run, template rendering and file writes are reported to it
+     */
+    public OutputSink(GenerationProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Returns the sink of the generation run, or a new sink if the caller did not provide one.
+     *
+     * @param generatorProperties generator properties
+     * @return output sink
+     */
+    public static OutputSink getOutputSink(Map<String, Object> generatorProperties) {
+        Object outputSink = generatorProperties.get(PROPERTY_NAME);
+        if (outputSink instanceof OutputSink) {
+            return (OutputSink) outputSink;
+        }
+        return new OutputSink();
+    }
+
+    /**
+     * Render a template to the given file. The template is rendered with the parsed template of the
+     * {@link TemplateCache} and the file is only written if the content differs.
+     *
+     * @param templatePath    classpath path of the template
+     * @param templateContext template context
+     * @param outputDirectory output directory, empty if the file name is a complete path
+     * @param fileName        output file name
+     * @throws CodeGenException if the template cannot be rendered or the file cannot be written
+     */
+    public void generateOutputAsFile(String templatePath, TemplateRenderContext templateContext,
+                                     String outputDirectory, String fileName) throws CodeGenException {
+        String content;
+        try (GenerationProfiler.Phase phase = profiler.start(GenerationProfiler.PHASE_TEMPLATE_RENDER)) {
+            content = TemplateCache.render(templatePath, templateContext);
+            phase.addItems(1);
+        }
+        writeFile(Paths.get(outputDirectory, fileName), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Write the given content to the file if it differs from the existing content.
+     *
+     * @param filePath file path
+     * @param content  file content
+     * @throws CodeGenException if the file cannot be written
+     */
+    public void writeFile(String filePath, String content) throws CodeGenException {
+        writeFile(Paths.get(filePath), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Write the given content to the file if it differs from the existing content.
+     *
+     * @param filePath file path
+     * @param content  file content
+     * @throws CodeGenException if the file cannot be written
+     */
+    public void writeFile(Path filePath, byte[] content) throws CodeGenException {
+        Path targetPath = filePath.toAbsolutePath().normalize();
+        emittedFiles.add(targetPath);
+        try (GenerationProfiler.Phase phase = profiler.start(GenerationProfiler.PHASE_FILE_WRITE)) {
+            phase.addItems(1);
+            if (Files.isRegularFile(targetPath) && Files.size(targetPath) == content.length
+                    && Arrays.equals(Files.readAllBytes(targetPath), content)) {
+                skippedCount.incrementAndGet();
+                return;
+            }
+            createParentDirectories(targetPath);
+            Path stagingPath = getStagingPath(targetPath);
+            try {
+                Files.write(stagingPath, content);
+                replace(targetPath, stagingPath);
+            } finally {
+                deleteQuietly(stagingPath);
+            }
+            writtenCount.incrementAndGet();
+        } catch (IOException e) {
+            throw new CodeGenException("Error occurred while writing the file: " + targetPath, e);
+        }
+    }
+
+    /**
+     * Write the content of the stream to the file if it differs from the existing content.
+     *
+     * @param filePath    file path
+     * @param inputStream content stream, not closed by this method
+     * @throws CodeGenException if the stream cannot be read or the file cannot be written
+     */
+    public void writeFile(Path filePath, InputStream inputStream) throws CodeGenException {
+        try {
+            writeFile(filePath, inputStream.readAllBytes());
+        } catch (IOException e) {
+            throw new CodeGenException("Error occurred while reading the content of the file: " + filePath, e);
+        }
+    }
+
+    /**
+     * Write the content produced by the given writer to the file if it differs from the existing content. The
+     * content is streamed to a staging file and compared with the existing file on disk, hence it is never held in
+     * memory as a whole.
+     *
+     * @param filePath      file path
+     * @param contentWriter writer of the file content
+     * @throws CodeGenException if the content cannot be produced or the file cannot be written
+     */
+    public void writeFile(Path filePath, ContentWriter contentWriter) throws CodeGenException {
+        Path targetPath = filePath.toAbsolutePath().normalize();
+        emittedFiles.add(targetPath);
+        try (GenerationProfiler.Phase phase = profiler.start(GenerationProfiler.PHASE_FILE_WRITE)) {
+            phase.addItems(1);
+            createParentDirectories(targetPath);
+            Path stagingPath = getStagingPath(targetPath);
+            try {
+                try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(stagingPath))) {
+                    contentWriter.write(outputStream);
+                }
+                if (Files.isRegularFile(targetPath) && Files.mismatch(targetPath, stagingPath) == -1L) {
+                    skippedCount.incrementAndGet();
+                    return;
+                }
+                replace(targetPath, stagingPath);
+            } finally {
+                deleteQuietly(stagingPath);
+            }
+            writtenCount.incrementAndGet();
+        } catch (IOException e) {
+            throw new CodeGenException("Error occurred while writing the file: " + targetPath, e);
+        }
+    }
+
+    /**
+     * Mark an existing file as part of the current output without writing it, e.g. a file which is known to be
+     * up to date. Retained files are not removed by {@link #deleteStaleFiles(String, String)}.
+     *
+     * @param filePath file path
+     */
+    public void retain(String filePath) {
+        Path targetPath = Paths.get(filePath).toAbsolutePath().normalize();
+        if (emittedFiles.add(targetPath) && Files.isRegularFile(targetPath)) {
+            skippedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Delete the files of the directory matching the given glob which are not part of the current output, i.e.
+     * files left behind by previous generations.
+     *
+     * @param directory directory to be cleaned, sub directories are not visited
+     * @param glob      glob of the generated file names
+     * @throws CodeGenException if the directory cannot be cleaned
+     */
+    public void deleteStaleFiles(String directory, String glob) throws CodeGenException {
+        Path directoryPath = Paths.get(directory).toAbsolutePath().normalize();
+        if (!Files.isDirectory(directoryPath)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directoryPath, glob)) {
+            for (Path file : files) {
+                if (Files.isRegularFile(file) && !emittedFiles.contains(file)) {
+                    Files.delete(file);
+                    deletedCount.incrementAndGet();
+                    LOG.debug("Deleted stale file: " + file);
+                }
+            }
+        } catch (IOException e) {
+            throw new CodeGenException("Error occurred while deleting stale files in: " + directoryPath, e);
+        }
+    }
+
+    public int getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public int getSkippedCount() {
+        return skippedCount.get();
+    }
+
+    public int getDeletedCount() {
+        return deletedCount.get();
+    }
+
+    public String getSummary() {
+        return String.format(SUMMARY_FORMAT, getWrittenCount(), getSkippedCount(), getDeletedCount());
+    }
+
+    /**
+     * Writer of the content of a file which is streamed to the {@link OutputSink}.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+
+        void write(OutputStream outputStream) throws IOException;
+    }
+
+    private static void replace(Path filePath, Path stagingPath) throws IOException {
+        try {
+            Files.move(stagingPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(stagingPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static Path getStagingPath(Path filePath) {
+        return filePath.resolveSibling("." + filePath.getFileName() + STAGING_FILE_SUFFIX);
+    }
+
+    private static void createParentDirectories(Path filePath) throws CodeGenException {
+        Path parent = filePath.getParent();
+        if (parent == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(parent);
+        } catch (IOException e) {
+            throw new CodeGenException("Error occurred while creating the directory: " + parent, e);
+        }
+    }
+
+    private static void deleteQuietly(Path filePath) {
+        try {
+            Files.deleteIfExists(filePath);
+        } catch (IOException e) {
+            LOG.debug("Unable to delete the staging file: " + filePath, e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.codegen.output;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.velocity.Template;
+import org.apache.velocity.app.VelocityEngine;
+import org.apache.velocity.exception.VelocityException;
+import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader;
+import org.wso2.healthcare.codegen.tool.framework.commons.exception.CodeGenException;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process wide cache of the parsed Velocity templates of the generators. Templates are loaded from the classpath and
+ * parsed once per process by a shared engine; subsequent renders of a template only merge the context into the
+ * cached syntax tree, which also keeps the method introspection cached on the tree nodes.
+ * <p>
+ * Parsed templates are immutable and are safe to be rendered concurrently with distinct contexts.
+ */
+public final class TemplateCache {
+
+    private static final Log LOG = LogFactory.getLog(TemplateCache.class);
+    private static final String RESOURCE_LOADER_NAME = "class";
+
+    private static final VelocityEngine VELOCITY_ENGINE = createVelocityEngine();
+    private static final Map<String, Template> TEMPLATES = new ConcurrentHashMap<>();
+
+    private TemplateCache() {
+    }
+
+    /**
+     * Returns the parsed template of the given classpath path, parsing it on first use.
+     *
+     * @param templatePath classpath path of the template
+     * @return parsed template
+     * @throws CodeGenException if the template cannot be found or parsed
+     */
+    public static Template getTemplate(String templatePath) throws CodeGenException {
+        Template template = TEMPLATES.get(templatePath);
+        if (template != null) {
+            return template;
+        }
+        try {
+            return TEMPLATES.computeIfAbsent(templatePath, TemplateCache::parseTemplate);
+        } catch (VelocityException e) {
+            throw new CodeGenException("Error occurred while loading the template: " + templatePath, e);
+        }
+    }
+
+    /**
+     * Render the given template with the given context.
+     *
+     * @param templatePath    classpath path of the template
+     * @param templateContext template context
+     * @return rendered content
+     * @throws CodeGenException if the template cannot be loaded or rendered
+     */
+    public static String render(String templatePath, TemplateRenderContext templateContext) throws CodeGenException {
+        Template template = getTemplate(templatePath);
+        StringWriter writer = new StringWriter();
+        try {
+            template.merge(templateContext.getVelocityContext(), writer);
+        } catch (VelocityException e) {
+            throw new CodeGenException("Error occurred while rendering the template: " + templatePath, e);
+        }
+        return writer.toString();
+    }
+
+    private static Template parseTemplate(String templatePath) {
+        LOG.debug("Parsing template: " + templatePath);
+        return VELOCITY_ENGINE.getTemplate(templatePath, StandardCharsets.UTF_8.name());
+    }
+
+    private static VelocityEngine createVelocityEngine() {
+        VelocityEngine velocityEngine = new VelocityEngine();
+        velocityEngine.setProperty(RuntimeConstants.RESOURCE_LOADERS, RESOURCE_LOADER_NAME);
+        velocityEngine.setProperty("resource.loader." + RESOURCE_LOADER_NAME + ".class",
+                ClasspathResourceLoader.class.getName());
+        velocityEngine.setProperty("resource.loader." + RESOURCE_LOADER_NAME + ".cache", true);
+        // templates are packaged with the tool, hence never reloaded
+        velocityEngine.setProperty("resource.loader." + RESOURCE_LOADER_NAME + ".modification_check_interval", -1);
+        velocityEngine.init();
+        return velocityEngine;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.codegen.output;
+
+import org.apache.velocity.VelocityContext;
+
+/**
+ * Properties of a single render of a cached template. See {@link TemplateCache}.
+ */
+public class TemplateRenderContext {
+
+    private final VelocityContext velocityContext = new VelocityContext();
+
+    public void setProperty(String key, Object value) {
+        velocityContext.put(key, value);
+    }
+
+    public Object getProperty(String key) {
+        return velocityContext.get(key);
+    }
+
+    VelocityContext getVelocityContext() {
+        return velocityContext;
+    }
+}
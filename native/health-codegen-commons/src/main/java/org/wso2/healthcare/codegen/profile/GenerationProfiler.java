@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.codegen.profile;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the wall time, CPU time, allocated bytes and item counts of the phases of a generation run.
+ * <p>
+ * A profiler is created per generation run and handed to the tools and generators, like the output sink. Phases are
+ * measured on the thread running them, hence phases run on several threads, e.g. in parallel generation, add up
+ * the time and allocations of all the threads; the wall time of such phases can exceed the elapsed time of the
+ * run. Phases may be nested, in which case the time of the inner phase is included in the outer one.
+ * <pre>
+ * try (GenerationProfiler.Phase phase = profiler.start(GenerationProfiler.PHASE_RESOURCE_CONTEXT)) {
+ *     ...
+ *     phase.addItems(resourceCount);
+ * }
+ * </pre>
+ * A disabled profiler, which is used when profiling is not requested, records nothing.
+ */
+public class GenerationProfiler {
+
+    public static final String PROPERTY_NAME = "profiler";
+
+    public static final String PHASE_SPEC_DISCOVERY = "specDiscovery";
+    public static final String PHASE_BASE_DEFINITIONS = "baseDefinitions";
+    public static final String PHASE_SPEC_CACHE = "specCache";
+    public static final String PHASE_SPEC_PARSE = "specParse";
+    public static final String PHASE_DATATYPE_CONTEXT = "datatypeContext";
+    public static final String PHASE_EXTENSION_CONTEXT = "extensionContext";
+    public static final String PHASE_RESOURCE_CONTEXT = "resourceContext";
+    public static final String PHASE_SEARCH_PARAMETERS = "searchParameters";
+    public static final String PHASE_SERVICE_CONTEXT = "serviceContext";
+    public static final String PHASE_TEMPLATE_RENDER = "templateRender";
+    public static final String PHASE_FILE_WRITE = "fileWrite";
+
+    private static final long UNSUPPORTED = -1L;
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final GenerationProfiler DISABLED = new GenerationProfiler(false);
+    private static final Phase DISABLED_PHASE = new Phase(null, null);
+
+    private final boolean enabled;
+    private final long startNanos;
+    private final boolean cpuTimeSupported;
+    private final boolean allocatedBytesSupported;
+    // ordered by the first start of the phases
+    private final Map<String, PhaseStats> phases = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    public GenerationProfiler() {
+        this(true);
+    }
+
+    private GenerationProfiler(boolean enabled) {
+        this.enabled = enabled;
+        this.startNanos = System.nanoTime();
+        this.cpuTimeSupported = enabled && enableCpuTime();
+        this.allocatedBytesSupported = enabled && enableAllocatedBytes();
+    }
+
+    /**
+     * Returns a profiler which records nothing.
+     *
+     * @return disabled profiler
+     */
+    public static GenerationProfiler disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Returns the profiler of the generation run, or the disabled profiler if the caller did not provide one.
+     *
+     * @param properties generator properties or command arguments
+     * @return profiler
+     */
+    public static GenerationProfiler getProfiler(Map<String, Object> properties) {
+        Object profiler = properties != null ? properties.get(PROPERTY_NAME) : null;
+        if (profiler instanceof GenerationProfiler) {
+            return (GenerationProfiler) profiler;
+        }
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Start measuring a phase on the current thread. The measurement is recorded once the returned phase is closed.
+     *
+     * @param phaseName phase name
+     * @return phase to be closed on the same thread once the phase is done
+     */
+    public Phase start(String phaseName) {
+        if (!enabled) {
+            return DISABLED_PHASE;
+        }
+        PhaseStats stats = phases.computeIfAbsent(phaseName, key -> new PhaseStats());
+        return new Phase(this, stats);
+    }
+
+    /**
+     * Build the report of the phases recorded so far.
+     *
+     * @return report
+     */
+    public JsonObject toJson() {
+        JsonObject report = new JsonObject();
+        report.addProperty("wallTimeMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        report.addProperty("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.addProperty("javaVersion", System.getProperty("java.version"));
+
+        List<Map.Entry<String, PhaseStats>> phaseEntries;
+        synchronized (phases) {
+            phaseEntries = new ArrayList<>(phases.entrySet());
+        }
+        JsonArray phaseArray = new JsonArray();
+        for (Map.Entry<String, PhaseStats> phaseEntry : phaseEntries) {
+            PhaseStats stats = phaseEntry.getValue();
+            JsonObject phase = new JsonObject();
+            phase.addProperty("name", phaseEntry.getKey());
+            phase.addProperty("invocations", stats.invocations.sum());
+            phase.addProperty("items", stats.items.sum());
+            phase.addProperty("wallTimeMs", TimeUnit.NANOSECONDS.toMillis(stats.wallNanos.sum()));
+            phase.addProperty("cpuTimeMs", cpuTimeSupported ?
+                    TimeUnit.NANOSECONDS.toMillis(stats.cpuNanos.sum()) : UNSUPPORTED);
+            phase.addProperty("allocatedBytes", allocatedBytesSupported ? stats.allocatedBytes.sum() : UNSUPPORTED);
+            phaseArray.add(phase);
+        }
+        report.add("phases", phaseArray);
+        return report;
+    }
+
+    private long currentThreadCpuTime() {
+        return cpuTimeSupported ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : 0L;
+    }
+
+    private long currentThreadAllocatedBytes() {
+        return allocatedBytesSupported ?
+                ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).getCurrentThreadAllocatedBytes() : 0L;
+    }
+
+    private static boolean enableCpuTime() {
+        if (!THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()) {
+            return false;
+        }
+        try {
+            if (!THREAD_MX_BEAN.isThreadCpuTimeEnabled()) {
+                THREAD_MX_BEAN.setThreadCpuTimeEnabled(true);
+            }
+            return true;
+        } catch (UnsupportedOperationException | SecurityException e) {
+            return false;
+        }
+    }
+
+    private static boolean enableAllocatedBytes() {
+        if (!(THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean)) {
+            return false;
+        }
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) THREAD_MX_BEAN;
+        if (!threadMXBean.isThreadAllocatedMemorySupported()) {
+            return false;
+        }
+        try {
+            if (!threadMXBean.isThreadAllocatedMemoryEnabled()) {
+                threadMXBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return true;
+        } catch (UnsupportedOperationException | SecurityException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Measurement of a single run of a phase on the current thread.
+     */
+    public static final class Phase implements AutoCloseable {
+
+        private final GenerationProfiler profiler;
+        private final PhaseStats stats;
+        private final long startWallNanos;
+        private final long startCpuNanos;
+        private final long startAllocatedBytes;
+        private long items;
+
+        private Phase(GenerationProfiler profiler, PhaseStats stats) {
+            this.profiler = profiler;
+            this.stats = stats;
+            if (stats != null) {
+                this.startWallNanos = System.nanoTime();
+                this.startCpuNanos = profiler.currentThreadCpuTime();
+                this.startAllocatedBytes = profiler.currentThreadAllocatedBytes();
+            } else {
+                this.startWallNanos = 0L;
+                this.startCpuNanos = 0L;
+                this.startAllocatedBytes = 0L;
+            }
+        }
+
+        /**
+         * Count the items, e.g. profiles or files, processed by the phase.
+         *
+         * @param count item count
+         */
+        public void addItems(long count) {
+            if (stats != null) {
+                items += count;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (stats == null) {
+                return;
+            }
+            stats.wallNanos.add(System.nanoTime() - startWallNanos);
+            stats.cpuNanos.add(profiler.currentThreadCpuTime() - startCpuNanos);
+            stats.allocatedBytes.add(profiler.currentThreadAllocatedBytes() - startAllocatedBytes);
+            stats.items.add(items);
+            stats.invocations.increment();
+        }
+    }
+
+    /**
+     * Totals of a phase over all its runs.
+     */
+    private static final class PhaseStats {
+
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder items = new LongAdder();
+        private final LongAdder wallNanos = new LongAdder();
+        private final LongAdder cpuNanos = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+    }
+}
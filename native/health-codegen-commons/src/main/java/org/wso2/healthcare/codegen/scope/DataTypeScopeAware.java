@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.codegen.scope;
+
+import java.util.Map;
+
+/**
+ * Implemented by the tools which can generate from data type definitions given to them instead of the data types of
+ * the shared specification data, e.g. the packages of a batch, whose implementation guides may define data types of
+ * the same name. The data types are set before the tool is executed.
+ *
+ * @param <T> data type definition
+ */
+public interface DataTypeScopeAware<T> {
+
+    void setDataTypes(Map<String, T> dataTypes);
+}
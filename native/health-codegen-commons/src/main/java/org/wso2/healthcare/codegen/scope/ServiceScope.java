@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.healthcare.codegen.scope;
+
+import java.util.List;
+
+/**
+ * Scope of the services generated by the template tools, shared with the health tool which narrows the specification
+ * down to the profiles the templates are generated for.
+ */
+public final class ServiceScope {
+
+    /**
+     * Resource types for which no service is generated, whichever profiles are included.
+     */
+    public static final List<String> EXCLUDED_RESOURCE_TYPES = List.of("Bundle", "CodeSystem", "DomainResource",
+            "OperationOutcome", "Resource", "ValueSet");
+
+    private ServiceScope() {
+    }
+}